@@ -11,6 +11,7 @@ import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeFilter;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -277,6 +278,11 @@ public class VersionBackend {
         storeDeserializerCache,
         compressor.get());
 
+    ComputeFilter filter = computeRequestWrapper.getFilter();
+    if (reusableValueRecord != null && filter != null && !filter.evaluate(reusableValueRecord)) {
+      // The values which don't match the filter are returned like missing ones
+      return null;
+    }
     return ComputeUtils.computeResult(
         computeRequestWrapper.getOperations(),
         computeRequestWrapper.getOperationResultFields(),
@@ -301,6 +307,10 @@ public class VersionBackend {
         new StreamingCallback<GenericRecord, GenericRecord>() {
           @Override
           public void onRecordReceived(GenericRecord key, GenericRecord value) {
+            ComputeFilter filter = computeRequestWrapper.getFilter();
+            if (filter != null && value != null && !filter.evaluate(value)) {
+              return;
+            }
             GenericRecord computeResult = ComputeUtils.computeResult(
                 computeRequestWrapper.getOperations(),
                 computeRequestWrapper.getOperationResultFields(),
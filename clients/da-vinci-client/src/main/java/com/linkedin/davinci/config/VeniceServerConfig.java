@@ -73,6 +73,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_CHANNEL_OPTION_WRITE_BUFFER_WATERMARK_HIGH_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_RESULT_CACHE_CAPACITY_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_RESULT_CACHE_STORE_ALLOWLIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POLL_TRACKER_STALE_THRESHOLD_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_ALLOCATION_STRATEGY;
@@ -101,6 +103,13 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DISK_FULL_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_SERVICE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_LAG_THRESHOLD_PER_CONSUMER;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_MAX_EXTRA_CONSUMERS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_MAX_PARTITIONS_MOVED_PER_RESIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_MAX_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_MIN_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ELASTIC_CONSUMER_POOL_RESIZE_INTERVAL_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
 import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_LIST;
@@ -122,6 +131,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_LAZY_KME_DESERIALIZATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEADER_COMPLETE_STATE_CHECK_IN_FOLLOWER_VALID_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INTERVAL_IN_MINUTES;
@@ -173,11 +183,15 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SEP_RT_LEADER_QUOTA_RECORDS_
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_NON_EXISTING_TOPIC_CLEANUP_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_DIRECT_BUFFER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_DIRECT_BUFFER_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_SKIP_CHECK_AFTER_UNSUB_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_MULTI_GET_BATCH_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_MULTI_GET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERVAL_SECOND;
@@ -192,13 +206,22 @@ import static com.linkedin.venice.ConfigKeys.SERVER_THROTTLER_FACTORS_FOR_NON_CU
 import static com.linkedin.venice.ConfigKeys.SERVER_THROTTLER_FACTORS_FOR_SEP_RT_LEADER;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
 import static com.linkedin.venice.ConfigKeys.SERVER_USE_HEARTBEAT_LAG_FOR_READY_TO_SERVE_CHECK_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_EXECUTOR_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_MAX_CONCURRENCY;
 import static com.linkedin.venice.ConfigKeys.SERVER_ZSTD_DICT_COMPRESSION_LEVEL;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_QUEUE_TYPE;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_SLOT_COUNT;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_STORE_WEIGHT_MAP;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_WEIGHTED_FAIR_QUANTUM;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_WEIGHTED_FAIR_SCHEDULING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_REBALANCE_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_REBALANCE_UTILIZATION_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED;
 import static com.linkedin.venice.ConfigKeys.UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED;
@@ -329,6 +352,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  /**
+   * The type of the queue of each drainer, and its number of slots if it is a ring buffer.
+   */
+  private final BlockingQueueType storeWriterBufferQueueType;
+  private final int storeWriterBufferSlotCount;
+
+  /**
+   * Whether the drainers share their time across the stores by weight, with the bytes drained per turn by a store of
+   * weight 1, and the weights of the stores.
+   */
+  private final boolean storeWriterBufferWeightedFairSchedulingEnabled;
+  private final long storeWriterBufferWeightedFairQuantum;
+  private final Map<String, Integer> storeWriterBufferStoreWeightMap;
+
+  /**
+   * How often the topic-partitions are moved from the busiest drainer to the least busy one, if at all.
+   */
+  private final long storeWriterRebalanceIntervalMs;
+  private final double storeWriterRebalanceUtilizationThreshold;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -448,6 +491,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean enableParallelBatchGet;
 
   private final int parallelBatchGetChunkSize;
+  private final boolean singleGetDirectBufferEnabled;
+  private final int singleGetDirectBufferSize;
+  private final boolean storageMultiGetEnabled;
+  private final int storageMultiGetBatchSize;
+  private final boolean virtualThreadExecutorEnabled;
+  private final int virtualThreadMaxConcurrency;
+  private final Set<String> computeResultCacheStoreAllowlist;
+  private final long computeResultCacheCapacityInBytes;
 
   private final boolean keyValueProfilingEnabled;
 
@@ -508,6 +559,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean schemaPresenceCheckEnabled;
   private final boolean systemSchemaInitializationAtStartTimeEnabled;
   private final boolean isKMERegistrationFromMessageHeaderEnabled;
+  private final boolean lazyKMEDeserializationEnabled;
   private final String localControllerUrl;
   private final String localControllerD2ServiceName;
   private final String localD2ZkHost;
@@ -576,6 +628,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int consumerPoolSizeForNonCurrentVersionAAWCLeader;
   private final int consumerPoolSizeForCurrentVersionNonAAWCLeader;
   private final int consumerPoolSizeForNonCurrentVersionNonAAWCLeader;
+  private final boolean elasticConsumerPoolEnabled;
+  private final int elasticConsumerPoolMinSize;
+  private final int elasticConsumerPoolMaxSize;
+  private final int elasticConsumerPoolResizeIntervalSecond;
+  private final long elasticConsumerPoolLagThresholdPerConsumer;
+  private final int elasticConsumerPoolMaxPartitionsMovedPerResize;
+  private final int elasticConsumerPoolMaxExtraConsumersPerHost;
   private final List<Double> throttlerFactorsForCurrentVersionAAWCLeader;
   private final List<Double> throttlerFactorsForCurrentVersionNonAAWCLeader;
   private final List<Double> throttlerFactorsForCurrentVersionSepRTLeader;
@@ -705,6 +764,28 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    String storeWriterBufferQueueTypeStr =
+        serverProperties.getString(STORE_WRITER_BUFFER_QUEUE_TYPE, BlockingQueueType.LINKED_BLOCKING_QUEUE.name());
+    if (!storeWriterBufferQueueTypeStr.equals(BlockingQueueType.LINKED_BLOCKING_QUEUE.name())
+        && !storeWriterBufferQueueTypeStr.equals(BlockingQueueType.MEMORY_BOUND_RING_BUFFER.name())) {
+      throw new VeniceException(
+          "Valid store writer buffer queue options: " + BlockingQueueType.LINKED_BLOCKING_QUEUE + ", "
+              + BlockingQueueType.MEMORY_BOUND_RING_BUFFER);
+    }
+    storeWriterBufferQueueType = BlockingQueueType.valueOf(storeWriterBufferQueueTypeStr);
+    storeWriterBufferSlotCount = serverProperties.getInt(STORE_WRITER_BUFFER_SLOT_COUNT, 16 * 1024);
+    storeWriterBufferWeightedFairSchedulingEnabled =
+        serverProperties.getBoolean(STORE_WRITER_BUFFER_WEIGHTED_FAIR_SCHEDULING_ENABLED, false);
+    storeWriterBufferWeightedFairQuantum =
+        serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_WEIGHTED_FAIR_QUANTUM, 64 * 1024);
+    Map<String, String> storeWriterBufferStoreWeightMapProp =
+        serverProperties.getMap(STORE_WRITER_BUFFER_STORE_WEIGHT_MAP, Collections.emptyMap());
+    storeWriterBufferStoreWeightMap = new HashMap<>();
+    storeWriterBufferStoreWeightMapProp.forEach(
+        (storeName, weightStr) -> storeWriterBufferStoreWeightMap.put(storeName, Integer.parseInt(weightStr.trim())));
+    storeWriterRebalanceIntervalMs = serverProperties.getLong(STORE_WRITER_REBALANCE_INTERVAL_MS, 0);
+    storeWriterRebalanceUtilizationThreshold =
+        serverProperties.getDouble(STORE_WRITER_REBALANCE_UTILIZATION_THRESHOLD, 0.2);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -782,6 +863,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    singleGetDirectBufferEnabled = serverProperties.getBoolean(SERVER_SINGLE_GET_DIRECT_BUFFER_ENABLED, false);
+    singleGetDirectBufferSize = (int) serverProperties.getSizeInBytes(SERVER_SINGLE_GET_DIRECT_BUFFER_SIZE, 16 * 1024);
+    storageMultiGetEnabled = serverProperties.getBoolean(SERVER_STORAGE_MULTI_GET_ENABLED, false);
+    storageMultiGetBatchSize = serverProperties.getInt(SERVER_STORAGE_MULTI_GET_BATCH_SIZE, 64);
+    virtualThreadExecutorEnabled = serverProperties.getBoolean(SERVER_VIRTUAL_THREAD_EXECUTOR_ENABLED, false);
+    virtualThreadMaxConcurrency = serverProperties.getInt(SERVER_VIRTUAL_THREAD_MAX_CONCURRENCY, 256);
+    computeResultCacheStoreAllowlist =
+        new HashSet<>(serverProperties.getList(SERVER_COMPUTE_RESULT_CACHE_STORE_ALLOWLIST, Collections.emptyList()));
+    computeResultCacheCapacityInBytes =
+        serverProperties.getSizeInBytes(SERVER_COMPUTE_RESULT_CACHE_CAPACITY_IN_BYTES, 64 * 1024 * 1024);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -812,6 +903,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     } catch (IllegalArgumentException e) {
       throw new VeniceException("Valid blocking queue options: " + Arrays.toString(BlockingQueueType.values()));
     }
+    if (blockingQueueType == BlockingQueueType.MEMORY_BOUND_RING_BUFFER) {
+      throw new VeniceException(
+          BlockingQueueType.MEMORY_BOUND_RING_BUFFER + " is only supported by " + STORE_WRITER_BUFFER_QUEUE_TYPE);
+    }
 
     restServiceEpollEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false);
     // Disable it by default, and when router connection warming is enabled, we need to adjust this config.
@@ -898,6 +993,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED, false);
     isKMERegistrationFromMessageHeaderEnabled =
         serverProperties.getBoolean(KME_REGISTRATION_FROM_MESSAGE_HEADER_ENABLED, false);
+    lazyKMEDeserializationEnabled = serverProperties.getBoolean(SERVER_LAZY_KME_DESERIALIZATION_ENABLED, false);
     localControllerUrl = serverProperties.getString(LOCAL_CONTROLLER_URL, "");
     localControllerD2ServiceName = serverProperties.getString(LOCAL_CONTROLLER_D2_SERVICE_NAME, "");
     localD2ZkHost = serverProperties.getString(LOCAL_D2_ZK_HOST, "");
@@ -1009,6 +1105,24 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getInt(SERVER_DEDICATED_CONSUMER_POOL_SIZE_FOR_AA_WC_LEADER, 5);
     dedicatedConsumerPoolSizeForSepRTLeader =
         serverProperties.getInt(SERVER_DEDICATED_CONSUMER_POOL_SIZE_FOR_SEP_RT_LEADER, 3);
+    elasticConsumerPoolEnabled = serverProperties.getBoolean(SERVER_ELASTIC_CONSUMER_POOL_ENABLED, false);
+    elasticConsumerPoolMinSize = serverProperties.getInt(SERVER_ELASTIC_CONSUMER_POOL_MIN_SIZE, 1);
+    elasticConsumerPoolMaxSize = serverProperties.getInt(SERVER_ELASTIC_CONSUMER_POOL_MAX_SIZE, 20);
+    if (elasticConsumerPoolEnabled && (elasticConsumerPoolMinSize < 1
+        || elasticConsumerPoolMinSize > elasticConsumerPoolMaxSize)) {
+      throw new VeniceException(
+          "Config for " + SERVER_ELASTIC_CONSUMER_POOL_MIN_SIZE + ": " + elasticConsumerPoolMinSize
+              + " should be positive and equal to or smaller than " + SERVER_ELASTIC_CONSUMER_POOL_MAX_SIZE + ": "
+              + elasticConsumerPoolMaxSize);
+    }
+    elasticConsumerPoolResizeIntervalSecond =
+        serverProperties.getInt(SERVER_ELASTIC_CONSUMER_POOL_RESIZE_INTERVAL_SECOND, 60);
+    elasticConsumerPoolLagThresholdPerConsumer =
+        serverProperties.getLong(SERVER_ELASTIC_CONSUMER_POOL_LAG_THRESHOLD_PER_CONSUMER, 100000L);
+    elasticConsumerPoolMaxPartitionsMovedPerResize =
+        serverProperties.getInt(SERVER_ELASTIC_CONSUMER_POOL_MAX_PARTITIONS_MOVED_PER_RESIZE, 10);
+    elasticConsumerPoolMaxExtraConsumersPerHost =
+        serverProperties.getInt(SERVER_ELASTIC_CONSUMER_POOL_MAX_EXTRA_CONSUMERS_PER_HOST, 10);
 
     useDaVinciSpecificExecutionStatusForError =
         serverProperties.getBoolean(USE_DA_VINCI_SPECIFIC_EXECUTION_STATUS_FOR_ERROR, false);
@@ -1300,6 +1414,34 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public BlockingQueueType getStoreWriterBufferQueueType() {
+    return this.storeWriterBufferQueueType;
+  }
+
+  public int getStoreWriterBufferSlotCount() {
+    return this.storeWriterBufferSlotCount;
+  }
+
+  public boolean isStoreWriterBufferWeightedFairSchedulingEnabled() {
+    return this.storeWriterBufferWeightedFairSchedulingEnabled;
+  }
+
+  public long getStoreWriterBufferWeightedFairQuantum() {
+    return this.storeWriterBufferWeightedFairQuantum;
+  }
+
+  public Map<String, Integer> getStoreWriterBufferStoreWeightMap() {
+    return this.storeWriterBufferStoreWeightMap;
+  }
+
+  public long getStoreWriterRebalanceIntervalMs() {
+    return this.storeWriterRebalanceIntervalMs;
+  }
+
+  public double getStoreWriterRebalanceUtilizationThreshold() {
+    return this.storeWriterRebalanceUtilizationThreshold;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -1432,6 +1574,38 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isSingleGetDirectBufferEnabled() {
+    return singleGetDirectBufferEnabled;
+  }
+
+  public int getSingleGetDirectBufferSize() {
+    return singleGetDirectBufferSize;
+  }
+
+  public boolean isStorageMultiGetEnabled() {
+    return storageMultiGetEnabled;
+  }
+
+  public int getStorageMultiGetBatchSize() {
+    return storageMultiGetBatchSize;
+  }
+
+  public boolean isVirtualThreadExecutorEnabled() {
+    return virtualThreadExecutorEnabled;
+  }
+
+  public int getVirtualThreadMaxConcurrency() {
+    return virtualThreadMaxConcurrency;
+  }
+
+  public Set<String> getComputeResultCacheStoreAllowlist() {
+    return computeResultCacheStoreAllowlist;
+  }
+
+  public long getComputeResultCacheCapacityInBytes() {
+    return computeResultCacheCapacityInBytes;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1712,6 +1886,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return isKMERegistrationFromMessageHeaderEnabled;
   }
 
+  public boolean isLazyKMEDeserializationEnabled() {
+    return lazyKMEDeserializationEnabled;
+  }
+
   public long getMetaStoreWriterCloseTimeoutInMS() {
     return metaStoreWriterCloseTimeoutInMS;
   }
@@ -1844,6 +2022,34 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return consumerPoolSizeForNonCurrentVersionNonAAWCLeader;
   }
 
+  public boolean isElasticConsumerPoolEnabled() {
+    return elasticConsumerPoolEnabled;
+  }
+
+  public int getElasticConsumerPoolMinSize() {
+    return elasticConsumerPoolMinSize;
+  }
+
+  public int getElasticConsumerPoolMaxSize() {
+    return elasticConsumerPoolMaxSize;
+  }
+
+  public int getElasticConsumerPoolResizeIntervalSecond() {
+    return elasticConsumerPoolResizeIntervalSecond;
+  }
+
+  public long getElasticConsumerPoolLagThresholdPerConsumer() {
+    return elasticConsumerPoolLagThresholdPerConsumer;
+  }
+
+  public int getElasticConsumerPoolMaxPartitionsMovedPerResize() {
+    return elasticConsumerPoolMaxPartitionsMovedPerResize;
+  }
+
+  public int getElasticConsumerPoolMaxExtraConsumersPerHost() {
+    return elasticConsumerPoolMaxExtraConsumersPerHost;
+  }
+
   public int getTopicManagerMetadataFetcherConsumerPoolSize() {
     return topicManagerMetadataFetcherConsumerPoolSize;
   }
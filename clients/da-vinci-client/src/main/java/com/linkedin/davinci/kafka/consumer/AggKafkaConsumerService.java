@@ -38,6 +38,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
@@ -74,6 +76,7 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
 
   private final Map<String, StoreIngestionTask> versionTopicStoreIngestionTaskMapping = new VeniceConcurrentHashMap<>();
   private ScheduledExecutorService stuckConsumerRepairExecutorService;
+  private ScheduledExecutorService consumerPoolResizeExecutorService;
   private final Function<String, Boolean> isAAOrWCEnabledFunc;
   private final ReadOnlyStoreRepository metadataRepository;
 
@@ -135,6 +138,21 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
           TimeUnit.SECONDS);
       LOGGER.info("Started stuck consumer repair service with checking interval: {} seconds", intervalInSeconds);
     }
+    if (serverConfig.isElasticConsumerPoolEnabled()) {
+      this.consumerPoolResizeExecutorService = Executors.newSingleThreadScheduledExecutor(
+          new DaemonThreadFactory(this.getClass().getName() + "-ConsumerPoolResize", serverConfig.getRegionName()));
+      int intervalInSeconds = serverConfig.getElasticConsumerPoolResizeIntervalSecond();
+      this.consumerPoolResizeExecutorService.scheduleAtFixedRate(
+          getConsumerPoolResizeRunnable(
+              kafkaServerToConsumerServiceMap,
+              versionTopicStoreIngestionTaskMapping,
+              serverConfig.getElasticConsumerPoolLagThresholdPerConsumer(),
+              serverConfig.getElasticConsumerPoolMaxExtraConsumersPerHost()),
+          intervalInSeconds,
+          intervalInSeconds,
+          TimeUnit.SECONDS);
+      LOGGER.info("Started consumer pool resizing with checking interval: {} seconds", intervalInSeconds);
+    }
     this.isAAOrWCEnabledFunc = isAAOrWCEnabledFunc;
     this.pubSubPropertiesSupplier = pubSubPropertiesSupplier;
     LOGGER.info("Successfully initialized AggKafkaConsumerService");
@@ -157,6 +175,43 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
     if (this.stuckConsumerRepairExecutorService != null) {
       this.stuckConsumerRepairExecutorService.shutdownNow();
     }
+    if (this.consumerPoolResizeExecutorService != null) {
+      this.consumerPoolResizeExecutorService.shutdownNow();
+    }
+  }
+
+  /**
+   * The consumers added by the pools of all the clusters share the given budget, so that the number of consumers and
+   * threads of the host stays bounded. The partitions moved by the pools are resubscribed by their ingestion task.
+   */
+  protected static Runnable getConsumerPoolResizeRunnable(
+      Map<String, AbstractKafkaConsumerService> kafkaServerToConsumerServiceMap,
+      Map<String, StoreIngestionTask> versionTopicStoreIngestionTaskMapping,
+      long lagThresholdPerConsumer,
+      int maxExtraConsumersPerHost) {
+    BiConsumer<PubSubTopic, PubSubTopicPartition> partitionResubscriber = (versionTopic, topicPartition) -> {
+      StoreIngestionTask storeIngestionTask = versionTopicStoreIngestionTaskMapping.get(versionTopic.getName());
+      if (storeIngestionTask == null || !storeIngestionTask.isRunning()) {
+        LOGGER.warn("No running ingestion task to resubscribe: {} of version topic: {}", topicPartition, versionTopic);
+        return;
+      }
+      storeIngestionTask.resubscribePartition(topicPartition);
+    };
+    return () -> {
+      int extraActiveConsumerCount = 0;
+      for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
+        if (consumerService instanceof KafkaConsumerServiceDelegator) {
+          extraActiveConsumerCount += ((KafkaConsumerServiceDelegator) consumerService).getExtraActiveConsumerCount();
+        }
+      }
+      AtomicInteger extraConsumerBudget = new AtomicInteger(maxExtraConsumersPerHost - extraActiveConsumerCount);
+      for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
+        if (consumerService instanceof KafkaConsumerServiceDelegator) {
+          ((KafkaConsumerServiceDelegator) consumerService)
+              .resizeConsumerPools(lagThresholdPerConsumer, extraConsumerBudget, partitionResubscriber);
+        }
+      }
+    };
   }
 
   protected static Runnable getStuckConsumerDetectionAndRepairRunnable(
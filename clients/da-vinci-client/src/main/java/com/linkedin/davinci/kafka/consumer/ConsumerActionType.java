@@ -9,7 +9,12 @@ public enum ConsumerActionType {
    * KILL action has higher priority than others, so that once KILL action is added to the action queue,
    * we will process it immediately to avoid doing throw-away works.
    */
-  KILL(2), STANDBY_TO_LEADER(1), LEADER_TO_STANDBY(1);
+  KILL(2), STANDBY_TO_LEADER(1), LEADER_TO_STANDBY(1),
+  /**
+   * RESUBSCRIBE action moves the subscription of a partition to another shared consumer, e.g. when a consumer pool
+   * gets resized, and is a no-op for partitions which aren't subscribed anymore.
+   */
+  RESUBSCRIBE(1);
 
   /**
    * Higher number means higher priority; ConsumerAction with higher priority will be in the front
@@ -65,6 +65,12 @@ class ConsumptionTask implements Runnable {
 
   private volatile boolean running = true;
 
+  /**
+   * Whether {@link #run()} has been invoked. The task of a consumer which is preallocated by an elastic pool may never
+   * be started, and should not be reported as stuck meanwhile.
+   */
+  private volatile boolean started = false;
+
   /**
    * Timestamp of the last poll. Initialized at construction time, in case the consumer task thread gets stuck from
    * the get-go.
@@ -100,6 +106,8 @@ class ConsumptionTask implements Runnable {
 
   @Override
   public void run() {
+    lastSuccessfulPollTimestamp = System.currentTimeMillis();
+    started = true;
     boolean addSomeDelay = false;
 
     // Pre-allocate some variables to clobber in the loop
@@ -231,7 +239,7 @@ class ConsumptionTask implements Runnable {
   }
 
   long getLastSuccessfulPollTimestamp() {
-    return lastSuccessfulPollTimestamp;
+    return started ? lastSuccessfulPollTimestamp : System.currentTimeMillis();
   }
 
   int getTaskId() {
@@ -26,6 +26,9 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -36,6 +39,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
@@ -59,6 +63,9 @@ import org.apache.logging.log4j.Logger;
  *    a) {@link SharedKafkaConsumer}
  *    b) {@link ConsumptionTask}
  *    c) {@link ConsumerSubscriptionCleaner}
+ *    When {@link VeniceServerConfig#isElasticConsumerPoolEnabled()}, the pool is allocated up to its max size, but
+ *    only the first {@link #getActiveConsumerCount()} units get partition assignments, and the thread of a unit is
+ *    only started once it gets activated, see {@link #resizeBasedOnOffsetLag(long, boolean, BiConsumer)}.
  * 2. Receive various calls to interrogate or mutate consumer state, and delegate them to the correct unit, by
  *    maintaining a mapping of which unit belongs to which version-topic and subscribed topic-partition. Notably,
  *    the {@link #startConsumptionIntoDataReceiver(PartitionReplicaIngestionContext, long, ConsumedDataReceiver)} function allows the
@@ -92,6 +99,30 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       new RedundantExceptionFilter(8 * 1024 * 1024 * 4, TimeUnit.MINUTES.toMillis(10));
   private final VeniceServerConfig serverConfig;
   protected final ConsumerPollTracker consumerPollTracker;
+  private final int minConsumerCount;
+  private final int maxPartitionsMovedPerResize;
+
+  /**
+   * The number of consumers, starting from index 0 in {@link #consumerToConsumptionTask}, which can be picked for new
+   * partition assignments. The other consumers keep ingesting the partitions they were assigned before being retired,
+   * until these partitions get moved to the active consumers.
+   */
+  private volatile int activeConsumerCount;
+
+  /**
+   * The number of consumers, starting from index 0 in {@link #consumerToConsumptionTask}, whose consumption task has
+   * been submitted to {@link #consumerExecutor}. The tasks are submitted in index order, so that each of them runs on
+   * the thread with the same number.
+   */
+  private volatile int startedConsumerCount = 0;
+  private boolean consumptionStarted = false;
+
+  /**
+   * The consumers picked by {@link #resizeBasedOnOffsetLag} for the partitions it asked to resubscribe, by version
+   * topic. Guarded by this instance.
+   */
+  private final Map<PubSubTopic, Map<PubSubTopicPartition, SharedKafkaConsumer>> pendingPartitionMoves =
+      new HashMap<>();
 
   /**
    * @param statsOverride injection of stats, for test purposes
@@ -122,12 +153,22 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
         KafkaConsumerService.class.getSimpleName() + " [" + kafkaUrlForLogger + "-" + poolType.getStatSuffix() + "]");
     this.poolType = poolType;
     this.serverConfig = serverConfig;
+    this.activeConsumerCount = numOfConsumersPerKafkaCluster;
+    final int maxConsumerCount;
+    if (serverConfig.isElasticConsumerPoolEnabled()) {
+      this.minConsumerCount = Math.min(numOfConsumersPerKafkaCluster, serverConfig.getElasticConsumerPoolMinSize());
+      maxConsumerCount = Math.max(numOfConsumersPerKafkaCluster, serverConfig.getElasticConsumerPoolMaxSize());
+    } else {
+      this.minConsumerCount = numOfConsumersPerKafkaCluster;
+      maxConsumerCount = numOfConsumersPerKafkaCluster;
+    }
+    this.maxPartitionsMovedPerResize = serverConfig.getElasticConsumerPoolMaxPartitionsMovedPerResize();
 
     // Initialize consumers and consumerExecutor
     String consumerNamePrefix = "venice-shared-consumer-for-" + kafkaUrl + '-' + poolType.getStatSuffix();
     threadFactory = new RandomAccessDaemonThreadFactory(consumerNamePrefix, serverConfig.getRegionName());
-    consumerExecutor = Executors.newFixedThreadPool(numOfConsumersPerKafkaCluster, threadFactory);
-    this.consumerToConsumptionTask = new IndexedHashMap<>(numOfConsumersPerKafkaCluster);
+    consumerExecutor = Executors.newFixedThreadPool(maxConsumerCount, threadFactory);
+    this.consumerToConsumptionTask = new IndexedHashMap<>(maxConsumerCount);
     this.aggStats = statsOverride != null
         ? statsOverride
         : createAggKafkaConsumerServiceStats(
@@ -144,7 +185,7 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
             .setIsOffsetCollectionEnabled(isKafkaConsumerOffsetCollectionEnabled)
             .setPubSubPositionTypeRegistry(serverConfig.getPubSubPositionTypeRegistry());
     this.consumerPollTracker = new ConsumerPollTracker(time);
-    for (int i = 0; i < numOfConsumersPerKafkaCluster; ++i) {
+    for (int i = 0; i < maxConsumerCount; ++i) {
       /**
        * We need to assign a unique client id across all the storage nodes, otherwise, they will fail into the same throttling bucket.
        */
@@ -188,7 +229,10 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       consumerToLocks.put(pubSubConsumer, new ReentrantLock());
     }
 
-    LOGGER.info("KafkaConsumerService was initialized with {} consumers.", numOfConsumersPerKafkaCluster);
+    LOGGER.info(
+        "KafkaConsumerService was initialized with {} consumers, {} of which are active.",
+        maxConsumerCount,
+        numOfConsumersPerKafkaCluster);
   }
 
   /** May be overridden to clean up state in sub-classes */
@@ -218,8 +262,68 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
   public SharedKafkaConsumer assignConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition topicPartition) {
     Map<PubSubTopicPartition, SharedKafkaConsumer> topicPartitionToConsumerMap =
         versionTopicToTopicPartitionToConsumer.computeIfAbsent(versionTopic, k -> new VeniceConcurrentHashMap<>());
-    return topicPartitionToConsumerMap
-        .computeIfAbsent(topicPartition, k -> pickConsumerForPartition(versionTopic, topicPartition));
+    return topicPartitionToConsumerMap.computeIfAbsent(topicPartition, k -> {
+      SharedKafkaConsumer movedToConsumer = pickConsumerForMovedPartition(versionTopic, topicPartition);
+      return movedToConsumer != null ? movedToConsumer : pickConsumerForPartition(versionTopic, topicPartition);
+    });
+  }
+
+  /**
+   * @return the consumer picked by {@link #resizeBasedOnOffsetLag} when it asked to resubscribe the given partition, or
+   *         null if there is none or if the consumer can't take the partition anymore
+   */
+  private synchronized SharedKafkaConsumer pickConsumerForMovedPartition(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    Map<PubSubTopicPartition, SharedKafkaConsumer> partitionMoves = pendingPartitionMoves.get(versionTopic);
+    if (partitionMoves == null) {
+      return null;
+    }
+    SharedKafkaConsumer consumer = partitionMoves.remove(topicPartition);
+    if (partitionMoves.isEmpty()) {
+      pendingPartitionMoves.remove(versionTopic);
+    }
+    if (consumer == null || !isActiveConsumer(consumer)
+        || !canMovePartitionTo(consumer, versionTopic, topicPartition)) {
+      return null;
+    }
+    recordPartitionMovedTo(consumer, versionTopic, topicPartition);
+    LOGGER.info(
+        "Moved: {} of version topic: {} to consumer with index: {}",
+        topicPartition,
+        versionTopic,
+        consumerToConsumptionTask.indexOf(consumer));
+    return consumer;
+  }
+
+  /**
+   * Whether {@link #resizeBasedOnOffsetLag} can move partitions between the consumers. Strategies which assign the
+   * partitions in groups should return false, in which case the pool is resized based on the offset lag only, and the
+   * new consumers only get new assignments.
+   */
+  protected boolean supportsPartitionMoves() {
+    return true;
+  }
+
+  /**
+   * Whether the given consumer can take over the subscription of the given partition from another consumer, without
+   * going through {@link #pickConsumerForPartition}.
+   */
+  protected boolean canMovePartitionTo(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    return !consumer.hasSubscription(topicPartition);
+  }
+
+  /**
+   * Records the assignment of the given partition to the given consumer, like {@link #pickConsumerForPartition} does
+   * for the consumers it picks.
+   */
+  protected void recordPartitionMovedTo(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
   }
 
   protected abstract SharedKafkaConsumer pickConsumerForPartition(
@@ -322,15 +426,32 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
 
   @Override
   public boolean startInner() {
-    consumerToConsumptionTask.values().forEach(consumerExecutor::submit);
-    consumerExecutor.shutdown();
+    synchronized (this) {
+      consumptionStarted = true;
+      startActiveConsumptionTasks();
+    }
     LOGGER.info("KafkaConsumerService started for {}", kafkaUrl);
     return true;
   }
 
+  /**
+   * Submits the consumption tasks of the consumers which are activated for the first time. The threads of the
+   * consumers which never get activated are never created.
+   */
+  private synchronized void startActiveConsumptionTasks() {
+    if (!consumptionStarted) {
+      return;
+    }
+    for (int i = startedConsumerCount; i < activeConsumerCount; i++) {
+      consumerExecutor.submit(consumerToConsumptionTask.getByIndex(i).getValue());
+      startedConsumerCount = i + 1;
+    }
+  }
+
   @Override
   public void stopInner() throws Exception {
     consumerToConsumptionTask.values().forEach(ConsumptionTask::stop);
+    consumerExecutor.shutdown();
     long beginningTime = System.currentTimeMillis();
     boolean gracefulShutdownSuccess = consumerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECOND, TimeUnit.SECONDS);
     long gracefulShutdownDuration = System.currentTimeMillis() - beginningTime;
@@ -501,13 +622,17 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     int maxPartitionsPerConsumer = Integer.MIN_VALUE;
 
     int subscribedPartitionCount;
-    for (SharedKafkaConsumer consumer: consumerToConsumptionTask.keySet()) {
-      subscribedPartitionCount = consumer.getAssignmentSize();
+    int activeConsumers = activeConsumerCount;
+    for (int i = 0; i < consumerToConsumptionTask.size(); i++) {
+      subscribedPartitionCount = consumerToConsumptionTask.getByIndex(i).getKey().getAssignmentSize();
       totalPartitions += subscribedPartitionCount;
-      minPartitionsPerConsumer = Math.min(minPartitionsPerConsumer, subscribedPartitionCount);
+      // Retired consumers are only draining their remaining partitions
+      if (i < activeConsumers) {
+        minPartitionsPerConsumer = Math.min(minPartitionsPerConsumer, subscribedPartitionCount);
+      }
       maxPartitionsPerConsumer = Math.max(maxPartitionsPerConsumer, subscribedPartitionCount);
     }
-    int avgPartitionsPerConsumer = totalPartitions / consumerToConsumptionTask.size();
+    int avgPartitionsPerConsumer = totalPartitions / activeConsumers;
 
     aggStats.recordTotalAvgPartitionsPerConsumer(avgPartitionsPerConsumer);
     aggStats.recordTotalMaxPartitionsPerConsumer(maxPartitionsPerConsumer);
@@ -515,6 +640,200 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     aggStats.recordTotalSubscribedPartitionsNum(totalPartitions);
   }
 
+  int getActiveConsumerCount() {
+    return activeConsumerCount;
+  }
+
+  int getMinConsumerCount() {
+    return minConsumerCount;
+  }
+
+  int getMaxConsumerCount() {
+    return consumerToConsumptionTask.size();
+  }
+
+  /**
+   * @return whether the consumer can be picked for new partition assignments
+   */
+  protected boolean isActiveConsumer(SharedKafkaConsumer consumer) {
+    return consumerToConsumptionTask.indexOf(consumer) < activeConsumerCount;
+  }
+
+  /**
+   * @return the offset lag of all the partitions assigned in this pool, including the ones still assigned to retired
+   *         consumers, sorted from the most lagging one. The lag which is not known yet is counted as 0.
+   */
+  List<PartitionLag> getPartitionLags() {
+    List<PartitionLag> partitionLags = new ArrayList<>();
+    versionTopicToTopicPartitionToConsumer.forEach((versionTopic, topicPartitionToConsumer) -> {
+      topicPartitionToConsumer.forEach((topicPartition, consumer) -> {
+        long offsetLag = Math.max(0, consumer.getOffsetLag(topicPartition));
+        partitionLags.add(new PartitionLag(versionTopic, topicPartition, consumer, offsetLag));
+      });
+    });
+    partitionLags.sort(Comparator.comparingLong((PartitionLag partitionLag) -> partitionLag.offsetLag).reversed());
+    return partitionLags;
+  }
+
+  /**
+   * Resizes the pool by at most one consumer, within its bounds, and moves a bounded number of partitions between the
+   * consumers:
+   *
+   * - It grows when the offset lag per active consumer is above the threshold, and only if the new consumer can take
+   *   over at least half of the threshold from the others: the most lagging partitions are moved to it, up to its
+   *   fair share of the lag, while leaving at least one partition to each active consumer.
+   * - It shrinks when the lag per consumer would remain below half of the threshold without the last consumer.
+   * - Otherwise, the partitions still assigned to retired consumers are moved to the active ones.
+   *
+   * The partitions are moved by asking their ingestion task to resubscribe them, which goes through
+   * {@link #assignConsumerFor} once they have been unsubscribed and all their buffered records processed, like upon
+   * version role changes. The consumer picked for a partition moved to a new consumer is remembered until the next
+   * resizing, and the other partitions go to the consumers picked by {@link #pickConsumerForPartition}, which are
+   * always active ones.
+   *
+   * @param canGrow whether the host still has room for one more consumer
+   * @param partitionResubscriber asks the ingestion task of the given version topic to resubscribe the given partition
+   * @return the number of active consumers after the resizing
+   */
+  int resizeBasedOnOffsetLag(
+      long lagThresholdPerConsumer,
+      boolean canGrow,
+      BiConsumer<PubSubTopic, PubSubTopicPartition> partitionResubscriber) {
+    List<PartitionLag> partitionsToMove;
+    int newCount;
+    synchronized (this) {
+      // The moves which haven't been picked up since the previous resizing are not relevant anymore
+      pendingPartitionMoves.clear();
+      int currentCount = activeConsumerCount;
+      List<PartitionLag> partitionLags = getPartitionLags();
+      long totalOffsetLag = 0;
+      for (PartitionLag partitionLag: partitionLags) {
+        totalOffsetLag += partitionLag.offsetLag;
+      }
+      newCount = currentCount;
+      partitionsToMove = Collections.emptyList();
+      if (canGrow && totalOffsetLag > lagThresholdPerConsumer * currentCount && currentCount < getMaxConsumerCount()) {
+        SharedKafkaConsumer newConsumer = consumerToConsumptionTask.getByIndex(currentCount).getKey();
+        if (supportsPartitionMoves()) {
+          partitionsToMove = pickPartitionsToMoveTo(newConsumer, partitionLags, totalOffsetLag / (currentCount + 1));
+        }
+        long movedOffsetLag = 0;
+        for (PartitionLag partitionLag: partitionsToMove) {
+          movedOffsetLag += partitionLag.offsetLag;
+        }
+        if (!supportsPartitionMoves() || movedOffsetLag >= lagThresholdPerConsumer / 2) {
+          newCount = currentCount + 1;
+          Map<PubSubTopicPartition, SharedKafkaConsumer> partitionMoves;
+          for (PartitionLag partitionLag: partitionsToMove) {
+            partitionMoves = pendingPartitionMoves.computeIfAbsent(partitionLag.versionTopic, k -> new HashMap<>());
+            partitionMoves.put(partitionLag.topicPartition, newConsumer);
+          }
+        } else {
+          // The new consumer would be retired right away
+          partitionsToMove = Collections.emptyList();
+        }
+      } else if (totalOffsetLag < lagThresholdPerConsumer / 2 * (currentCount - 1) && currentCount > minConsumerCount) {
+        newCount = currentCount - 1;
+      }
+      if (newCount != currentCount) {
+        activeConsumerCount = newCount;
+        LOGGER.info(
+            "Resized the active consumers from {} to {} for total offset lag: {} and threshold per consumer: {}",
+            currentCount,
+            newCount,
+            totalOffsetLag,
+            lagThresholdPerConsumer);
+        startActiveConsumptionTasks();
+        recordPartitionsPerConsumerSensor();
+      }
+      if (partitionsToMove.isEmpty() && supportsPartitionMoves()) {
+        partitionsToMove = pickPartitionsToMoveFromRetiredConsumers(partitionLags, newCount);
+      }
+    }
+    aggStats.recordTotalActiveConsumerNum(newCount);
+
+    // Requested outside of the lock, since the ingestion tasks synchronize on themselves
+    for (PartitionLag partitionLag: partitionsToMove) {
+      try {
+        partitionResubscriber.accept(partitionLag.versionTopic, partitionLag.topicPartition);
+      } catch (Exception e) {
+        LOGGER.error(
+            "Failed to request the resubscription of: {} of version topic: {}",
+            partitionLag.topicPartition,
+            partitionLag.versionTopic,
+            e);
+      }
+    }
+    return newCount;
+  }
+
+  /**
+   * Picks the most lagging partitions which the new consumer can take over, until their lag reaches the given fair
+   * share. The most lagging partition is always picked if possible, even above the fair share.
+   */
+  private List<PartitionLag> pickPartitionsToMoveTo(
+      SharedKafkaConsumer newConsumer,
+      List<PartitionLag> partitionLags,
+      long fairShareOfOffsetLag) {
+    Map<SharedKafkaConsumer, Integer> consumerToPartitionCount = new HashMap<>();
+    for (PartitionLag partitionLag: partitionLags) {
+      consumerToPartitionCount.merge(partitionLag.consumer, 1, Integer::sum);
+    }
+    List<PartitionLag> partitionsToMove = new ArrayList<>();
+    long movedOffsetLag = 0;
+    for (PartitionLag partitionLag: partitionLags) {
+      if (partitionsToMove.size() >= maxPartitionsMovedPerResize || partitionLag.offsetLag == 0) {
+        break;
+      }
+      if (!partitionsToMove.isEmpty() && movedOffsetLag + partitionLag.offsetLag > fairShareOfOffsetLag) {
+        continue;
+      }
+      // Moving the only partition of an active consumer would just swap their roles
+      int partitionCount = consumerToPartitionCount.get(partitionLag.consumer);
+      if (partitionLag.consumer == newConsumer || (isActiveConsumer(partitionLag.consumer) && partitionCount <= 1)
+          || !canMovePartitionTo(newConsumer, partitionLag.versionTopic, partitionLag.topicPartition)) {
+        continue;
+      }
+      consumerToPartitionCount.put(partitionLag.consumer, partitionCount - 1);
+      partitionsToMove.add(partitionLag);
+      movedOffsetLag += partitionLag.offsetLag;
+    }
+    return partitionsToMove;
+  }
+
+  private List<PartitionLag> pickPartitionsToMoveFromRetiredConsumers(
+      List<PartitionLag> partitionLags,
+      int activeConsumers) {
+    List<PartitionLag> partitionsToMove = new ArrayList<>();
+    for (PartitionLag partitionLag: partitionLags) {
+      if (partitionsToMove.size() >= maxPartitionsMovedPerResize) {
+        break;
+      }
+      if (consumerToConsumptionTask.indexOf(partitionLag.consumer) >= activeConsumers) {
+        partitionsToMove.add(partitionLag);
+      }
+    }
+    return partitionsToMove;
+  }
+
+  static final class PartitionLag {
+    final PubSubTopic versionTopic;
+    final PubSubTopicPartition topicPartition;
+    final SharedKafkaConsumer consumer;
+    final long offsetLag;
+
+    PartitionLag(
+        PubSubTopic versionTopic,
+        PubSubTopicPartition topicPartition,
+        SharedKafkaConsumer consumer,
+        long offsetLag) {
+      this.versionTopic = versionTopic;
+      this.topicPartition = topicPartition;
+      this.consumer = consumer;
+      this.offsetLag = offsetLag;
+    }
+  }
+
   public long getOffsetLagBasedOnMetrics(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
     return getSomeOffsetFor(
         versionTopic,
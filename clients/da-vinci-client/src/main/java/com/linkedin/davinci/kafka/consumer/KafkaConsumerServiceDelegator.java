@@ -13,6 +13,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -259,6 +261,42 @@ public class KafkaConsumerServiceDelegator extends AbstractKafkaConsumerService
     return consolidatedMap;
   }
 
+  /**
+   * @return the number of active consumers above the minimum size of each consumer pool
+   */
+  int getExtraActiveConsumerCount() {
+    int extraActiveConsumerCount = 0;
+    for (KafkaConsumerService kafkaConsumerService: consumerServices) {
+      extraActiveConsumerCount +=
+          kafkaConsumerService.getActiveConsumerCount() - kafkaConsumerService.getMinConsumerCount();
+    }
+    return extraActiveConsumerCount;
+  }
+
+  /**
+   * Grows or shrinks each consumer pool by at most one consumer, based on the offset lag of its partitions, see
+   * {@link KafkaConsumerService#resizeBasedOnOffsetLag(long, boolean, BiConsumer)}. The pools are sized independently,
+   * so that a lagging pool, e.g. the one of the current version leaders, can grow while the others stay idle.
+   *
+   * @param extraConsumerBudget the number of consumers which can still be added on this host, updated as the pools
+   *                            grow or shrink
+   */
+  void resizeConsumerPools(
+      long lagThresholdPerConsumer,
+      AtomicInteger extraConsumerBudget,
+      BiConsumer<PubSubTopic, PubSubTopicPartition> partitionResubscriber) {
+    for (KafkaConsumerService kafkaConsumerService: consumerServices) {
+      try {
+        int previousCount = kafkaConsumerService.getActiveConsumerCount();
+        int newCount = kafkaConsumerService
+            .resizeBasedOnOffsetLag(lagThresholdPerConsumer, extraConsumerBudget.get() > 0, partitionResubscriber);
+        extraConsumerBudget.addAndGet(previousCount - newCount);
+      } catch (Exception e) {
+        LOGGER.error("Failed to resize the consumer pool: {}", kafkaConsumerService.poolType, e);
+      }
+    }
+  }
+
   @Override
   public boolean startInner() throws Exception {
     consumerServices.forEach(KafkaConsumerService::start);
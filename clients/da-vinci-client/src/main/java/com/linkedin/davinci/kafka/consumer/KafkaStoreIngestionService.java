@@ -350,7 +350,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
           serverConfig.getRegionName(),
           metricsRepository,
-          true);
+          true,
+          StoreBufferService.DrainerConfig.fromServerConfig(serverConfig));
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
 
@@ -399,7 +400,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     PubSubMessageDeserializer pubSubDeserializer = new PubSubMessageDeserializer(
         kafkaValueSerializer,
         new LandFillObjectPool<>(KafkaMessageEnvelope::new),
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+        serverConfig.isLazyKMEDeserializationEnabled());
 
     aggKafkaConsumerService = new AggKafkaConsumerService(
         pubSubClientsFactory.getConsumerAdapterFactory(),
@@ -131,16 +131,21 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
   protected synchronized SharedKafkaConsumer pickConsumerForPartition(
       PubSubTopic versionTopic,
       PubSubTopicPartition topicPartition) {
-    // Basic case, round-robin search to find next consumer for this partition.
+    // Basic case, round-robin search among the active consumers to find next consumer for this partition.
     boolean seekNewConsumer = true;
     int consumerIndex = -1;
     int consumersChecked = 0;
+    int activeConsumerCount = getActiveConsumerCount();
     SharedKafkaConsumer consumer = null;
+    if (shareConsumerIndex >= activeConsumerCount) {
+      // Some consumers have been retired since the last pick
+      shareConsumerIndex = 0;
+    }
 
     while (seekNewConsumer) {
 
       // Safeguard logic, avoid infinite loops for searching consumer.
-      if (consumersChecked == consumerToConsumptionTask.size()) {
+      if (consumersChecked == activeConsumerCount) {
         throw new VeniceException(
             "Can not find consumer for topic: " + topicPartition.getPubSubTopic().getName() + " and partition: "
                 + topicPartition.getPartitionNumber() + " from the ingestion task belonging to version topic: "
@@ -150,7 +155,7 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
       consumer = consumerToConsumptionTask.getByIndex(shareConsumerIndex).getKey();
       consumerIndex = shareConsumerIndex;
       shareConsumerIndex++;
-      if (shareConsumerIndex == consumerToConsumptionTask.size()) {
+      if (shareConsumerIndex == activeConsumerCount) {
         shareConsumerIndex = 0;
       }
       seekNewConsumer = false;
@@ -184,6 +189,26 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
     return consumer;
   }
 
+  @Override
+  protected boolean canMovePartitionTo(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    return super.canMovePartitionTo(consumer, versionTopic, topicPartition)
+        && !(topicPartition.getPubSubTopic().isRealTime()
+            && alreadySubscribedRealtimeTopicPartition(consumer, topicPartition));
+  }
+
+  @Override
+  protected void recordPartitionMovedTo(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    if (topicPartition.getPubSubTopic().isRealTime()) {
+      rtTopicPartitionToConsumerMap.computeIfAbsent(topicPartition, key -> new HashSet<>()).add(consumer);
+    }
+  }
+
   protected boolean alreadySubscribedRealtimeTopicPartition(
       SharedKafkaConsumer consumer,
       PubSubTopicPartition topicPartition) {
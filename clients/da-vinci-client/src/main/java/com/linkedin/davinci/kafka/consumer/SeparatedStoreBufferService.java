@@ -34,7 +34,8 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
             serverConfig.getRegionName(),
             metricsRepository,
-            true),
+            true,
+            StoreBufferService.DrainerConfig.fromServerConfig(serverConfig)),
         new StoreBufferService(
             serverConfig.getDrainerPoolSizeUnsortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
@@ -42,7 +43,8 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
             serverConfig.getRegionName(),
             metricsRepository,
-            false));
+            false,
+            StoreBufferService.DrainerConfig.fromServerConfig(serverConfig)));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
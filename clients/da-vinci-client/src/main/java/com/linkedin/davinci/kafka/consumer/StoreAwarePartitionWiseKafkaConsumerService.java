@@ -84,6 +84,9 @@ public class StoreAwarePartitionWiseKafkaConsumerService extends PartitionWiseKa
     int minLoad = Integer.MAX_VALUE;
     SharedKafkaConsumer minLoadConsumer = null;
     for (SharedKafkaConsumer consumer: getConsumerToConsumptionTask().keySet()) {
+      if (!isActiveConsumer(consumer)) {
+        continue;
+      }
       int index = getConsumerToConsumptionTask().indexOf(consumer);
       if (topicPartition.getPubSubTopic().isRealTime()
           && alreadySubscribedRealtimeTopicPartition(consumer, topicPartition)) {
@@ -119,6 +122,15 @@ public class StoreAwarePartitionWiseKafkaConsumerService extends PartitionWiseKa
     return minLoadConsumer;
   }
 
+  @Override
+  protected void recordPartitionMovedTo(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    super.recordPartitionMovedTo(consumer, versionTopic, topicPartition);
+    increaseConsumerStoreLoad(consumer, versionTopic.getStoreName());
+  }
+
   @Override
   void handleUnsubscription(
       SharedKafkaConsumer consumer,
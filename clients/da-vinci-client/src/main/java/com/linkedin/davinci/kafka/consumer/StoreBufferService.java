@@ -7,6 +7,8 @@ import static java.util.stream.Collectors.toList;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
 import com.linkedin.davinci.stats.StoreBufferServiceStats;
 import com.linkedin.davinci.utils.LockAssistedCompletableFuture;
 import com.linkedin.davinci.validation.PartitionTracker;
@@ -22,10 +24,17 @@ import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.collections.MemoryBoundBlockingQueue;
+import com.linkedin.venice.utils.collections.MemoryBoundQueue;
+import com.linkedin.venice.utils.collections.MemoryBoundRingBuffer;
+import com.linkedin.venice.utils.collections.WeightedFairMemoryBoundQueue;
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,8 +44,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -54,6 +66,14 @@ import org.apache.logging.log4j.Logger;
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
+ * 6. The {@link BlockingQueue} is either a {@link MemoryBoundBlockingQueue}, or a preallocated and lock-free
+ * {@link MemoryBoundRingBuffer} when {@link BlockingQueueType#MEMORY_BOUND_RING_BUFFER} is configured, which lowers the
+ * contention between the consumer threads putting records into the same drainer queue;
+ * 7. Optionally, a few hot topic+partitions hashed onto the same drainer can leave it saturated while others sit idle.
+ * When a rebalance interval is configured, the drainer of each topic+partition is tracked in
+ * {@link #partitionAssignments}, and {@link #rebalanceDrainers()} periodically moves a topic+partition from the busiest
+ * drainer to the least busy one.
+ * A topic+partition only moves while none of its records are queued or being processed, which keeps them in order;
  *
  * For now, the assumption is that one-consumer-polling-thread should be fast enough to catch up with Kafka MM replication,
  * and data processing is the slowest part. If we find that polling is also slow later on, we may consider to adopt a consumer
@@ -62,7 +82,7 @@ import org.apache.logging.log4j.Logger;
 public class StoreBufferService extends AbstractStoreBufferService {
   private static final Logger LOGGER = LogManager.getLogger(StoreBufferService.class);
   private final int drainerNum;
-  private final ArrayList<MemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
+  private final ArrayList<MemoryBoundQueue<QueueNode>> blockingQueueArr;
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
@@ -76,6 +96,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
   private volatile boolean isStarted = false;
   private final String regionName;
 
+  private final long rebalanceIntervalMs;
+  private final double rebalanceUtilizationThreshold;
+
+  private final boolean weightedFairSchedulingEnabled;
+  /**
+   * The drainer of each topic-partition with records in flight or processed recently, which is only tracked when
+   * rebalancing is enabled, and null otherwise.
+   */
+  private final ConcurrentMap<PubSubTopicPartition, PartitionAssignment> partitionAssignments;
+  private ScheduledExecutorService rebalanceExecutor;
+  private long lastRebalanceTimeNs;
+  private long[] lastRebalanceBusyTimeNs;
+
   public StoreBufferService(
       int drainerNum,
       long bufferCapacityPerDrainer,
@@ -84,6 +117,26 @@ public class StoreBufferService extends AbstractStoreBufferService {
       String regionName,
       MetricsRepository metricsRepository,
       boolean sorted) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        regionName,
+        metricsRepository,
+        sorted,
+        new DrainerConfig());
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      String regionName,
+      MetricsRepository metricsRepository,
+      boolean sorted,
+      DrainerConfig drainerConfig) {
     this(
         drainerNum,
         bufferCapacityPerDrainer,
@@ -92,7 +145,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
         null,
         regionName,
         metricsRepository,
-        sorted);
+        sorted,
+        drainerConfig);
   }
 
   /**
@@ -105,7 +159,37 @@ public class StoreBufferService extends AbstractStoreBufferService {
       boolean queueLeaderWrites,
       StoreBufferServiceStats stats,
       String regionName) {
-    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, stats, regionName, null, true);
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        stats,
+        regionName,
+        new DrainerConfig());
+  }
+
+  /**
+   * Package-private constructor for testing the drainer options
+   */
+  StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      StoreBufferServiceStats stats,
+      String regionName,
+      DrainerConfig drainerConfig) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        stats,
+        regionName,
+        null,
+        true,
+        drainerConfig);
   }
 
   /**
@@ -123,13 +207,27 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreBufferServiceStats stats,
       String regionName,
       MetricsRepository metricsRepository,
-      boolean sorted) {
+      boolean sorted,
+      DrainerConfig drainerConfig) {
     this.regionName = regionName;
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
+    this.weightedFairSchedulingEnabled = drainerConfig.storeWeightFunction != null;
     for (int cur = 0; cur < drainerNum; ++cur) {
-      this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      this.blockingQueueArr.add(
+          weightedFairSchedulingEnabled
+              ? new WeightedFairMemoryBoundQueue<>(
+                  bufferCapacityPerDrainer,
+                  bufferNotifyDelta,
+                  drainerConfig.weightedFairQuantum,
+                  StoreBufferService::getStoreName,
+                  drainerConfig.storeWeightFunction)
+              : createBlockingQueue(
+                  drainerConfig.bufferQueueType,
+                  drainerConfig.bufferSlotCount,
+                  bufferCapacityPerDrainer,
+                  bufferNotifyDelta));
     }
     this.isSorted = sorted;
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
@@ -148,9 +246,49 @@ public class StoreBufferService extends AbstractStoreBufferService {
      * the same drainer handling both topics would help with concurrency. Normalizing the topic name fixes this issue.
      */
     this.hashCodeCache = Caffeine.newBuilder().maximumSize(2000).build(Utils::calculateTopicHashCode);
+    this.rebalanceIntervalMs = drainerConfig.rebalanceIntervalMs;
+    this.rebalanceUtilizationThreshold = drainerConfig.rebalanceUtilizationThreshold;
+    this.partitionAssignments = rebalanceIntervalMs > 0 && drainerNum > 1 ? new ConcurrentHashMap<>() : null;
+    for (int cur = 0; cur < drainerNum; ++cur) {
+      int drainerIndex = cur;
+      this.storeBufferServiceStats.registerDrainerSensors(
+          drainerIndex,
+          () -> isStarted ? drainerList.get(drainerIndex).sampleUtilization() : 0,
+          () -> blockingQueueArr.get(drainerIndex).size());
+    }
+  }
+
+  /**
+   * @return the weight of each store for the weighted fair scheduling, or null if it is disabled
+   */
+  static ToIntFunction<String> getStoreWeightFunction(VeniceServerConfig serverConfig) {
+    if (!serverConfig.isStoreWriterBufferWeightedFairSchedulingEnabled()) {
+      return null;
+    }
+    Map<String, Integer> storeWeightMap = serverConfig.getStoreWriterBufferStoreWeightMap();
+    return storeName -> storeWeightMap.getOrDefault(storeName, 1);
+  }
+
+  private static String getStoreName(QueueNode node) {
+    return node.getConsumerRecord().getTopicPartition().getPubSubTopic().getStoreName();
   }
 
-  protected MemoryBoundBlockingQueue<QueueNode> getDrainerForConsumerRecord(
+  private static MemoryBoundQueue<QueueNode> createBlockingQueue(
+      BlockingQueueType bufferQueueType,
+      int bufferSlotCount,
+      long bufferCapacity,
+      long bufferNotifyDelta) {
+    switch (bufferQueueType) {
+      case LINKED_BLOCKING_QUEUE:
+        return new MemoryBoundBlockingQueue<>(bufferCapacity, bufferNotifyDelta);
+      case MEMORY_BOUND_RING_BUFFER:
+        return new MemoryBoundRingBuffer<>(bufferSlotCount, bufferCapacity, bufferNotifyDelta);
+      default:
+        throw new VeniceException("Unsupported store writer buffer queue type: " + bufferQueueType);
+    }
+  }
+
+  protected MemoryBoundQueue<QueueNode> getDrainerForConsumerRecord(
       DefaultPubSubMessage consumerRecord,
       int partition) {
     int drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, partition);
@@ -158,6 +296,16 @@ public class StoreBufferService extends AbstractStoreBufferService {
   }
 
   protected int getDrainerIndexForConsumerRecord(DefaultPubSubMessage consumerRecord, int partition) {
+    if (partitionAssignments != null) {
+      PartitionAssignment assignment = partitionAssignments.get(consumerRecord.getTopicPartition());
+      if (assignment != null) {
+        return assignment.drainerIndex;
+      }
+    }
+    return getHashedDrainerIndex(consumerRecord, partition);
+  }
+
+  private int getHashedDrainerIndex(DefaultPubSubMessage consumerRecord, int partition) {
     /**
      * This will guarantee that 'topicHash' will be a positive integer, whose maximum value is
      * {@link Integer.MAX_VALUE} / 2 + 1, which could make sure 'topicHash + consumerRecord.partition()' should be
@@ -186,13 +334,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, partition).put(
+      putNode(
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
-              recordFuture));
+              recordFuture),
+          partition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -228,13 +377,51 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, partition).put(
+    putNode(
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+            leaderProducedRecordContext),
+        partition);
+  }
+
+  /**
+   * Queues the node into the queue of the drainer its topic-partition is assigned to. When rebalancing is enabled, the
+   * node holds the assignment until it is drained, so that the topic-partition doesn't move in the meantime.
+   */
+  private void putNode(QueueNode node, int partition) throws InterruptedException {
+    if (weightedFairSchedulingEnabled) {
+      node.queuedTimestampNs = System.nanoTime();
+    }
+    if (partitionAssignments == null) {
+      getDrainerForConsumerRecord(node.getConsumerRecord(), partition).put(node);
+      return;
+    }
+    PartitionAssignment assignment = acquirePartitionAssignment(node.getConsumerRecord(), partition);
+    node.partitionAssignment = assignment;
+    boolean queued = false;
+    try {
+      blockingQueueArr.get(assignment.drainerIndex).put(node);
+      queued = true;
+    } finally {
+      if (!queued) {
+        assignment.release(0);
+      }
+    }
+  }
+
+  private PartitionAssignment acquirePartitionAssignment(DefaultPubSubMessage consumerRecord, int partition) {
+    while (true) {
+      PartitionAssignment assignment = partitionAssignments.computeIfAbsent(
+          consumerRecord.getTopicPartition(),
+          topicPartition -> new PartitionAssignment(topicPartition, getHashedDrainerIndex(consumerRecord, partition)));
+      // A retired assignment is about to be removed from the map, after which a new one will be created
+      if (assignment.tryAcquire()) {
+        return assignment;
+      }
+    }
   }
 
   private static void processRecord(
@@ -331,7 +518,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     CommandQueueNode syncOffsetCmd =
         new CommandQueueNode(CommandQueueNode.CommandType.SYNC_OFFSET, fakeRecord, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncOffsetCmd);
+    putNode(syncOffsetCmd, topicPartition.getPartitionNumber());
     return syncOffsetCmd.getCmdExecutedFuture();
   }
 
@@ -341,7 +528,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask) throws InterruptedException {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     SyncVtDivNode syncDivNode = new SyncVtDivNode(fakeRecord, vtDivSnapshot, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncDivNode);
+    putNode(syncDivNode, topicPartition.getPartitionNumber());
   }
 
   @Override
@@ -358,6 +545,20 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
     this.executorService.shutdown();
     isStarted = true;
+
+    if (partitionAssignments != null) {
+      this.lastRebalanceTimeNs = System.nanoTime();
+      this.lastRebalanceBusyTimeNs = new long[drainerNum];
+      this.rebalanceExecutor = Executors.newSingleThreadScheduledExecutor(
+          new DaemonThreadFactory(
+              isSorted ? "Store-writer-sorted-rebalancer" : "Store-writer-hybrid-rebalancer",
+              regionName));
+      this.rebalanceExecutor.scheduleWithFixedDelay(
+          this::rebalanceDrainersQuietly,
+          rebalanceIntervalMs,
+          rebalanceIntervalMs,
+          TimeUnit.MILLISECONDS);
+    }
     return true;
   }
 
@@ -365,6 +566,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
   public void stopInner() throws Exception {
     // Graceful shutdown
     isStarted = false;
+    if (this.rebalanceExecutor != null) {
+      this.rebalanceExecutor.shutdownNow();
+    }
     drainerList.forEach(drainer -> drainer.stop());
     if (this.executorService != null) {
       this.executorService.shutdownNow();
@@ -375,7 +579,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalMemoryUsage() {
     long totalUsage = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       totalUsage += queue.getMemoryUsage();
     }
     return totalUsage;
@@ -384,7 +588,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalRemainingMemory() {
     long totalRemaining = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       totalRemaining += queue.remainingMemoryCapacityInByte();
     }
     return totalRemaining;
@@ -399,7 +603,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return maxUsage;
     }
 
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       maxUsage = Math.max(maxUsage, queue.getMemoryUsage());
       if (queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer) {
         slowDrainerExists = true;
@@ -410,7 +614,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreBufferDrainer drainer = drainerList.get(index);
       // print drainer info when there is a slow drainer.
       if (slowDrainerExists) {
-        MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(index);
+        MemoryBoundQueue<QueueNode> queue = blockingQueueArr.get(index);
         int count = queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer ? 5 : 1;
         List<Map.Entry<PubSubTopicPartition, Long>> slowestEntries = drainer.topicToTimeSpent.entrySet()
             .stream()
@@ -428,6 +632,86 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return maxUsage;
   }
 
+  private void rebalanceDrainersQuietly() {
+    try {
+      rebalanceDrainers();
+    } catch (Exception e) {
+      LOGGER.error("Failed to rebalance the store buffer drainers", e);
+    }
+  }
+
+  /**
+   * Moves at most one topic-partition from the busiest drainer to the least busy one, if their utilization since the
+   * previous call differs by at least {@link #rebalanceUtilizationThreshold}. The topic-partition is the one whose
+   * processing time narrows the gap between the two drainers the most. It may not move if it still has records in
+   * flight, which is typically the case of the hottest topic-partitions, in which case the next candidate is tried, so
+   * that the other topic-partitions end up moving away from the hot ones. The assignments of topic-partitions without
+   * any processed record since the previous call are dropped.
+   *
+   * @return whether a topic-partition was moved
+   */
+  synchronized boolean rebalanceDrainers() {
+    if (partitionAssignments == null || !isStarted) {
+      return false;
+    }
+    long currentTimeNs = System.nanoTime();
+    long elapsedTimeNs = Math.max(1, currentTimeNs - lastRebalanceTimeNs);
+    lastRebalanceTimeNs = currentTimeNs;
+
+    long[] busyTimeNs = new long[drainerNum];
+    int busiestDrainer = 0;
+    int idlestDrainer = 0;
+    for (int cur = 0; cur < drainerNum; ++cur) {
+      long totalBusyTimeNs = drainerList.get(cur).busyTimeNs.get();
+      busyTimeNs[cur] = totalBusyTimeNs - lastRebalanceBusyTimeNs[cur];
+      lastRebalanceBusyTimeNs[cur] = totalBusyTimeNs;
+      if (busyTimeNs[cur] > busyTimeNs[busiestDrainer]) {
+        busiestDrainer = cur;
+      }
+      if (busyTimeNs[cur] < busyTimeNs[idlestDrainer]) {
+        idlestDrainer = cur;
+      }
+    }
+
+    List<PartitionAssignment> candidates = new ArrayList<>();
+    Iterator<PartitionAssignment> iterator = partitionAssignments.values().iterator();
+    while (iterator.hasNext()) {
+      PartitionAssignment assignment = iterator.next();
+      long totalBusyTimeNs = assignment.busyTimeNs.get();
+      assignment.recentBusyTimeNs = totalBusyTimeNs - assignment.lastSampledBusyTimeNs;
+      assignment.lastSampledBusyTimeNs = totalBusyTimeNs;
+      if (assignment.recentBusyTimeNs == 0) {
+        if (assignment.tryRetire()) {
+          iterator.remove();
+        }
+      } else if (assignment.drainerIndex == busiestDrainer) {
+        candidates.add(assignment);
+      }
+    }
+
+    long gapNs = busyTimeNs[busiestDrainer] - busyTimeNs[idlestDrainer];
+    if ((double) gapNs / elapsedTimeNs < rebalanceUtilizationThreshold) {
+      return false;
+    }
+    // Moving a topic-partition which took x out of the busiest drainer's time turns the gap into |gap - 2x|
+    candidates.removeIf(assignment -> assignment.recentBusyTimeNs >= gapNs);
+    candidates.sort(Comparator.comparingLong(assignment -> Math.abs(gapNs - 2 * assignment.recentBusyTimeNs)));
+    for (PartitionAssignment candidate: candidates) {
+      if (candidate.tryReassign(idlestDrainer)) {
+        storeBufferServiceStats.recordPartitionReassignment();
+        LOGGER.info(
+            "Moved {} from drainer {} to drainer {}, drainer utilizations: {} and {}",
+            candidate.topicPartition,
+            busiestDrainer,
+            idlestDrainer,
+            (double) busyTimeNs[busiestDrainer] / elapsedTimeNs,
+            (double) busyTimeNs[idlestDrainer] / elapsedTimeNs);
+        return true;
+      }
+    }
+    return false;
+  }
+
   /** Used for testing */
   Map<PubSubTopicPartition, Long> getTopicToTimeSpentMap(int i) {
     return drainerList.get(i).topicToTimeSpent;
@@ -436,7 +720,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getMinMemoryUsagePerDrainer() {
     long minUsage = Long.MAX_VALUE;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       minUsage = Math.min(minUsage, queue.getMemoryUsage());
     }
     return minUsage;
@@ -445,12 +729,79 @@ public class StoreBufferService extends AbstractStoreBufferService {
   /**
    * Queue node type in {@link BlockingQueue} of each drainer thread.
    */
+  /**
+   * The optional drainer and queue options of {@link StoreBufferService}, which default to a
+   * {@link MemoryBoundBlockingQueue} per drainer without rebalancing or weighted fair scheduling.
+   */
+  public static class DrainerConfig {
+    private long rebalanceIntervalMs = 0;
+    private double rebalanceUtilizationThreshold = 0;
+    private BlockingQueueType bufferQueueType = BlockingQueueType.LINKED_BLOCKING_QUEUE;
+    private int bufferSlotCount = 0;
+    private ToIntFunction<String> storeWeightFunction = null;
+    private long weightedFairQuantum = 0;
+
+    public static DrainerConfig fromServerConfig(VeniceServerConfig serverConfig) {
+      return new DrainerConfig()
+          .setRebalance(
+              serverConfig.getStoreWriterRebalanceIntervalMs(),
+              serverConfig.getStoreWriterRebalanceUtilizationThreshold())
+          .setBufferQueue(serverConfig.getStoreWriterBufferQueueType(), serverConfig.getStoreWriterBufferSlotCount())
+          .setWeightedFairScheduling(
+              getStoreWeightFunction(serverConfig),
+              serverConfig.getStoreWriterBufferWeightedFairQuantum());
+    }
+
+    /**
+     * @param rebalanceIntervalMs how often to move a topic-partition from the busiest drainer to the least busy one,
+     *                            or 0 to disable rebalancing
+     * @param rebalanceUtilizationThreshold the min utilization gap between the two drainers to move a topic-partition
+     */
+    public DrainerConfig setRebalance(long rebalanceIntervalMs, double rebalanceUtilizationThreshold) {
+      this.rebalanceIntervalMs = rebalanceIntervalMs;
+      this.rebalanceUtilizationThreshold = rebalanceUtilizationThreshold;
+      return this;
+    }
+
+    /**
+     * @param bufferQueueType {@link BlockingQueueType#MEMORY_BOUND_RING_BUFFER} to buffer the records of each drainer
+     *                        in a {@link MemoryBoundRingBuffer}, or {@link BlockingQueueType#LINKED_BLOCKING_QUEUE} to
+     *                        buffer them in a {@link MemoryBoundBlockingQueue}
+     * @param bufferSlotCount the max number of records buffered by each {@link MemoryBoundRingBuffer}
+     */
+    public DrainerConfig setBufferQueue(BlockingQueueType bufferQueueType, int bufferSlotCount) {
+      this.bufferQueueType = bufferQueueType;
+      this.bufferSlotCount = bufferSlotCount;
+      return this;
+    }
+
+    /**
+     * @param storeWeightFunction the weight of each store, for each drainer to hand out the buffered records of the
+     *                            different stores with a {@link WeightedFairMemoryBoundQueue} instead of the buffer
+     *                            queue, or null to disable the weighted fair scheduling
+     * @param weightedFairQuantum the bytes drained per round-robin turn by a store of weight 1
+     */
+    public DrainerConfig setWeightedFairScheduling(ToIntFunction<String> storeWeightFunction, long weightedFairQuantum) {
+      this.storeWeightFunction = storeWeightFunction;
+      this.weightedFairQuantum = weightedFairQuantum;
+      return this;
+    }
+  }
+
   static class QueueNode implements Measurable {
     private static final int SHALLOW_CLASS_OVERHEAD = ClassSizeEstimator.getClassOverhead(QueueNode.class);
     private final DefaultPubSubMessage consumerRecord;
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    /**
+     * The assignment held by this node while it is in flight, if rebalancing is enabled.
+     */
+    private PartitionAssignment partitionAssignment;
+    /**
+     * When the node was queued, if weighted fair scheduling is enabled, to measure how long it waited for its turn.
+     */
+    private long queuedTimestampNs;
 
     public QueueNode(
         DefaultPubSubMessage consumerRecord,
@@ -487,6 +838,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestampNs;
     }
 
+    void onDrained(long processingTimeNs) {
+      if (partitionAssignment != null) {
+        partitionAssignment.release(processingTimeNs);
+      }
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -719,6 +1076,60 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The drainer a topic-partition is assigned to when rebalancing is enabled. Each queued node of the topic-partition
+   * holds the assignment until it is drained, and the assignment may only change or be retired while it isn't held, so
+   * that the records of a topic-partition are never spread across two drainers.
+   */
+  private static class PartitionAssignment {
+    private final PubSubTopicPartition topicPartition;
+    private final AtomicLong busyTimeNs = new AtomicLong();
+    private volatile int drainerIndex;
+    /** Guarded by this */
+    private int inFlightNodeCount = 0;
+    /** Guarded by this */
+    private boolean retired = false;
+    /** Only accessed by {@link #rebalanceDrainers()} */
+    private long lastSampledBusyTimeNs = 0;
+    private long recentBusyTimeNs = 0;
+
+    PartitionAssignment(PubSubTopicPartition topicPartition, int drainerIndex) {
+      this.topicPartition = topicPartition;
+      this.drainerIndex = drainerIndex;
+    }
+
+    synchronized boolean tryAcquire() {
+      if (retired) {
+        return false;
+      }
+      inFlightNodeCount++;
+      return true;
+    }
+
+    void release(long processingTimeNs) {
+      busyTimeNs.addAndGet(processingTimeNs);
+      synchronized (this) {
+        inFlightNodeCount--;
+      }
+    }
+
+    synchronized boolean tryReassign(int newDrainerIndex) {
+      if (inFlightNodeCount > 0 || retired) {
+        return false;
+      }
+      drainerIndex = newDrainerIndex;
+      return true;
+    }
+
+    synchronized boolean tryRetire() {
+      if (inFlightNodeCount > 0) {
+        return false;
+      }
+      retired = true;
+      return true;
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
@@ -730,6 +1141,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final int drainerIndex;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
     private final StoreBufferServiceStats stats;
+    private final AtomicLong busyTimeNs = new AtomicLong();
+    /** Only accessed by {@link #sampleUtilization()} */
+    private long lastSampleTimeNs = System.nanoTime();
+    private long lastSampleBusyTimeNs = 0;
 
     public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, StoreBufferServiceStats stats) {
       this.blockingQueue = blockingQueue;
@@ -741,6 +1156,21 @@ public class StoreBufferService extends AbstractStoreBufferService {
       isRunning.set(false);
     }
 
+    /**
+     * @return the fraction of time spent processing records since the previous call
+     */
+    synchronized double sampleUtilization() {
+      long currentTimeNs = System.nanoTime();
+      long currentBusyTimeNs = busyTimeNs.get();
+      double utilization = currentTimeNs == lastSampleTimeNs
+          ? 0
+          : (double) (currentBusyTimeNs - lastSampleBusyTimeNs) / (currentTimeNs - lastSampleTimeNs);
+      lastSampleTimeNs = currentTimeNs;
+      lastSampleBusyTimeNs = currentBusyTimeNs;
+      // The processing time of a record is only accounted for once it completes, which may overflow the interval
+      return Math.min(utilization, 1);
+    }
+
     @Override
     public void run() {
       LOGGER.info("Starting StoreBufferDrainer Thread for drainer: {}....", drainerIndex);
@@ -749,9 +1179,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
       LeaderProducedRecordContext leaderProducedRecordContext = null;
       StoreIngestionTask ingestionTask = null;
       CompletableFuture<Void> recordPersistedFuture = null;
+      long processingStartTimeNs = 0;
       while (isRunning.get()) {
+        node = null;
         try {
           node = blockingQueue.take();
+          processingStartTimeNs = System.nanoTime();
 
           consumerRecord = node.getConsumerRecord();
           int partitionNum = consumerRecord.getTopicPartition().getPartitionNumber();
@@ -760,6 +1193,13 @@ public class StoreBufferService extends AbstractStoreBufferService {
           recordPersistedFuture = node.getQueuedRecordPersistedFuture();
 
           long startTime = System.currentTimeMillis();
+          if (node.queuedTimestampNs > 0) {
+            HostLevelIngestionStats hostLevelIngestionStats = ingestionTask.getHostLevelIngestionStats();
+            hostLevelIngestionStats.recordStoreBufferQueueWaitLatency(
+                LatencyUtils.getElapsedTimeFromNSToMS(node.queuedTimestampNs),
+                startTime);
+            hostLevelIngestionStats.recordStoreBufferDrainedBytes(node.getHeapSize(), startTime);
+          }
 
           if (node instanceof CommandQueueNode) {
             processCommand(
@@ -838,6 +1278,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
           } else {
             break;
           }
+        } finally {
+          if (node != null) {
+            long processingTimeNs = System.nanoTime() - processingStartTimeNs;
+            busyTimeNs.addAndGet(processingTimeNs);
+            node.onDrained(processingTimeNs);
+          }
         }
       }
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
@@ -4,6 +4,7 @@ import static com.linkedin.davinci.ingestion.LagType.HEARTBEAT_LAG;
 import static com.linkedin.davinci.ingestion.LagType.OFFSET_LAG;
 import static com.linkedin.davinci.kafka.consumer.ConsumerActionType.DROP_PARTITION;
 import static com.linkedin.davinci.kafka.consumer.ConsumerActionType.RESET_OFFSET;
+import static com.linkedin.davinci.kafka.consumer.ConsumerActionType.RESUBSCRIBE;
 import static com.linkedin.davinci.kafka.consumer.ConsumerActionType.SUBSCRIBE;
 import static com.linkedin.davinci.kafka.consumer.ConsumerActionType.UNSUBSCRIBE;
 import static com.linkedin.davinci.kafka.consumer.LeaderFollowerStateType.LEADER;
@@ -802,6 +803,20 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     consumerActionsQueue.add(new ConsumerAction(RESET_OFFSET, topicPartition, nextSeqNum(), false));
   }
 
+  /**
+   * Adds an asynchronous request to resubscribe the partition, so that it moves to the consumer picked by the
+   * {@link AggKafkaConsumerService} for the new subscription.
+   *
+   * @param topicPartition the topic-partition currently subscribed, which can be a real-time topic partition
+   */
+  public synchronized void resubscribePartition(PubSubTopicPartition topicPartition) {
+    throwIfNotRunning();
+    partitionToPendingConsumerActionCountMap
+        .computeIfAbsent(topicPartition.getPartitionNumber(), x -> new AtomicInteger(0))
+        .incrementAndGet();
+    consumerActionsQueue.add(new ConsumerAction(RESUBSCRIBE, topicPartition, nextSeqNum(), false));
+  }
+
   public String getStoreName() {
     return storeName;
   }
@@ -2280,6 +2295,20 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       case DROP_PARTITION:
         dropPartitionSynchronously(topicPartition);
         break;
+      case RESUBSCRIBE:
+        PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(partition);
+        /**
+         * The partition might have been unsubscribed, or might have switched to another topic since the request, in
+         * which case its new subscription was already assigned by the consumer service.
+         */
+        if (partitionConsumptionState != null
+            && consumerHasSubscription(topicPartition.getPubSubTopic(), partitionConsumptionState)) {
+          LOGGER.info("Resubscribing to move the subscription of: {} to another consumer", topicPartition);
+          resubscribe(partitionConsumptionState);
+        } else {
+          LOGGER.info("Skipping the resubscription of: {} since it is not subscribed anymore", topicPartition);
+        }
+        break;
       default:
         throw new UnsupportedOperationException(operation.name() + " is not supported in " + getClass().getName());
     }
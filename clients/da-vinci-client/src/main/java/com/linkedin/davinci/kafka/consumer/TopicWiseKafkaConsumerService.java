@@ -101,6 +101,9 @@ public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
       boolean freshConsumer = false;
       int minAssignmentPerConsumer = Integer.MAX_VALUE;
       for (SharedKafkaConsumer consumer: consumerToConsumptionTask.keySet()) {
+        if (!isActiveConsumer(consumer)) {
+          continue;
+        }
         /**
          * A Venice server host may consume from 2 version topics that belongs to the same store because each store has 2
          * versions. We need to make sure multiple store versions won't share the same consumer. Because for Hybrid stores,
@@ -177,6 +180,14 @@ public class TopicWiseKafkaConsumerService extends KafkaConsumerService {
     super.unsubscribeAll(versionTopic);
   }
 
+  /**
+   * All the partitions of a version topic are assigned to the same consumer.
+   */
+  @Override
+  protected boolean supportsPartitionMoves() {
+    return false;
+  }
+
   /**
    * This function will check a consumer is assigned topic or not. Since we may not have too many consumers and this
    * function will be only called when {@link #pickConsumerForPartition(PubSubTopic, PubSubTopicPartition)} is called the first
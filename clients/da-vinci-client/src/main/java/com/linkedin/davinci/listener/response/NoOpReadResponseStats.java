@@ -66,6 +66,16 @@ public class NoOpReadResponseStats implements ReadResponseStats {
 
   }
 
+  @Override
+  public void incrementComputeResultCacheHitCount(int count) {
+
+  }
+
+  @Override
+  public void incrementComputeResultCacheMissCount(int count) {
+
+  }
+
   @Override
   public void setStorageExecutionSubmissionWaitTime(double storageExecutionSubmissionWaitTime) {
 
@@ -40,6 +40,10 @@ public interface ReadResponseStats {
 
   void incrementHadamardProductCount(int count);
 
+  void incrementComputeResultCacheHitCount(int count);
+
+  void incrementComputeResultCacheMissCount(int count);
+
   void setStorageExecutionSubmissionWaitTime(double storageExecutionSubmissionWaitTime);
 
   void setStorageExecutionQueueLen(int storageExecutionQueueLen);
@@ -84,6 +84,10 @@ public class AggKafkaConsumerServiceStats extends AbstractVeniceAggStoreStats<Ka
     totalStats.recordSubscribedPartitionsNum(count);
   }
 
+  public void recordTotalActiveConsumerNum(int count) {
+    totalStats.recordActiveConsumerNum(count);
+  }
+
   public void recordTotalOffsetLagIsAbsent() {
     totalStats.recordOffsetLagIsAbsent();
   }
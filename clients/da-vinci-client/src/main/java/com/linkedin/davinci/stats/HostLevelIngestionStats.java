@@ -57,6 +57,12 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
 
   /** To measure 'put' latency of consumer records blocking queue */
   private final Sensor consumerRecordsQueuePutLatencySensor;
+  /**
+   * To measure the time records wait in the queue of their drainer, and the bytes drained, which is the share of the
+   * drainers taken by each store when weighted fair scheduling is enabled.
+   */
+  private final Sensor storeBufferQueueWaitLatencySensor;
+  private final Sensor storeBufferDrainedBytesSensor;
   private final Sensor keySizeSensor;
   private final Sensor valueSizeSensor;
   private final Sensor assembledRecordSizeSensor;
@@ -338,6 +344,18 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         () -> totalStats.consumerRecordsQueuePutLatencySensor,
         avgAndMax());
 
+    this.storeBufferQueueWaitLatencySensor = registerPerStoreAndTotalSensor(
+        "store_buffer_queue_wait_latency",
+        totalStats,
+        () -> totalStats.storeBufferQueueWaitLatencySensor,
+        avgAndMax());
+
+    this.storeBufferDrainedBytesSensor = registerPerStoreAndTotalSensor(
+        "store_buffer_drained_bytes",
+        totalStats,
+        () -> totalStats.storeBufferDrainedBytesSensor,
+        new Rate());
+
     this.unexpectedMessageSensor = registerPerStoreAndTotalSensor(
         "unexpected_message",
         totalStats,
@@ -557,6 +575,14 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     consumerRecordsQueuePutLatencySensor.record(latency, currentTimeMs);
   }
 
+  public void recordStoreBufferQueueWaitLatency(double latency, long currentTimeMs) {
+    storeBufferQueueWaitLatencySensor.record(latency, currentTimeMs);
+  }
+
+  public void recordStoreBufferDrainedBytes(long bytes, long currentTimeMs) {
+    storeBufferDrainedBytesSensor.record(bytes, currentTimeMs);
+  }
+
   public void recordViewProducerLatency(double latency) {
     viewProducerLatencySensor.record(latency);
   }
@@ -38,6 +38,7 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
   private final Sensor minPartitionsPerConsumer;
   private final Sensor avgPartitionsPerConsumer;
   private final Sensor subscribedPartitionsNum;
+  private final Sensor activeConsumerNum;
   private final Sensor getOffsetLagIsAbsentSensor;
   private final Sensor getOffsetLagIsPresentSensor;
   private final Sensor getLatestOffsetIsAbsentSensor;
@@ -108,6 +109,7 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
     maxPartitionsPerConsumer = registerSensor("max_partitions_per_consumer", new Gauge());
     avgPartitionsPerConsumer = registerSensor("avg_partitions_per_consumer", new Gauge());
     subscribedPartitionsNum = registerSensor("subscribed_partitions_num", new Gauge());
+    activeConsumerNum = registerSensor("active_consumer_num", new Gauge());
 
     Sensor getOffsetLagSensor = registerSensor("getOffsetLag", new OccurrenceRate());
     Sensor[] offsetLagParent = new Sensor[] { getOffsetLagSensor };
@@ -198,4 +200,8 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
   public void recordSubscribedPartitionsNum(int count) {
     subscribedPartitionsNum.record(count);
   }
+
+  public void recordActiveConsumerNum(int count) {
+    activeConsumerNum.record(count);
+  }
 }
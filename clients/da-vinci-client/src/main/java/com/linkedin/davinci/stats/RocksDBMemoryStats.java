@@ -1,5 +1,6 @@
 package com.linkedin.davinci.stats;
 
+import com.linkedin.davinci.store.NegativeLookupFilter;
 import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.stats.AbstractVeniceStats;
@@ -111,6 +112,34 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
       }
       return -1;
     }, "memory_usage"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      long total = 0;
+      synchronized (hostedRocksDBPartitions) {
+        for (RocksDBStoragePartition dbPartition: hostedRocksDBPartitions.values()) {
+          NegativeLookupFilter filter = dbPartition.getNegativeLookupFilter();
+          if (filter != null) {
+            total += filter.getMemoryUsageInBytes();
+          }
+        }
+      }
+      return total;
+    }, "negative_lookup_filter_memory_usage"));
+    // Fraction of the lookups of missing keys which were not short-circuited by the negative lookup filters
+    registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      long falsePositives = 0;
+      long negativeLookups = 0;
+      synchronized (hostedRocksDBPartitions) {
+        for (RocksDBStoragePartition dbPartition: hostedRocksDBPartitions.values()) {
+          NegativeLookupFilter filter = dbPartition.getNegativeLookupFilter();
+          if (filter != null) {
+            falsePositives += filter.getFalsePositiveCount();
+            negativeLookups += filter.getNegativeLookupCount();
+          }
+        }
+      }
+      long missingKeyLookups = falsePositives + negativeLookups;
+      return missingKeyLookups == 0 ? 0 : (double) falsePositives / missingKeyLookups;
+    }, "negative_lookup_filter_false_positive_rate"));
   }
 
   public void setMemoryLimit(long memoryLimit) {
@@ -7,6 +7,7 @@ import io.tehuti.metrics.stats.AsyncGauge;
 import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.function.DoubleSupplier;
 import java.util.function.LongSupplier;
 
 
@@ -17,6 +18,7 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   private final Sensor minMemoryUsagePerWriterSensor;
   private final Sensor internalProcessingLatencySensor;
   private final Sensor internalProcessingErrorSensor;
+  private final Sensor partitionReassignmentSensor;
 
   public StoreBufferServiceStats(
       MetricsRepository metricsRepository,
@@ -41,6 +43,25 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
 
     internalProcessingLatencySensor = registerSensor("internal_processing_latency", new Avg(), new Max());
     internalProcessingErrorSensor = registerSensor("internal_processing_error", new OccurrenceRate());
+    partitionReassignmentSensor = registerSensor("partition_reassignment", new OccurrenceRate());
+  }
+
+  /**
+   * Registers the gauges of a single drainer: the fraction of time it spent processing records since the previous
+   * measurement, and the number of records waiting in its queue.
+   */
+  public void registerDrainerSensors(
+      int drainerIndex,
+      DoubleSupplier utilizationSupplier,
+      LongSupplier queueDepthSupplier) {
+    registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> utilizationSupplier.getAsDouble(),
+            "drainer_" + drainerIndex + "_utilization"));
+    registerSensor(
+        new AsyncGauge(
+            (ignored, ignored2) -> queueDepthSupplier.getAsLong(),
+            "drainer_" + drainerIndex + "_queue_depth"));
   }
 
   public void recordInternalProcessingError() {
@@ -50,4 +71,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   public void recordInternalProcessingLatency(long latency) {
     internalProcessingLatencySensor.record(latency);
   }
+
+  public void recordPartitionReassignment() {
+    partitionReassignmentSensor.record();
+  }
 }
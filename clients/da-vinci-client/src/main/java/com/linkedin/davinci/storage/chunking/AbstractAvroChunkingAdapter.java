@@ -16,6 +16,9 @@ import com.linkedin.venice.utils.ByteUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -186,6 +189,45 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Batched variant of {@link #get(StorageEngine, int, byte[], ByteBuffer, Object, BinaryDecoder, boolean,
+   * ReadResponseStats, int, StoreDeserializerCache, VeniceCompressor)} for keys of the same partition, see
+   * {@link ChunkingUtils#getFromStorageInBatch}. Since each value is deserialized before the callback is invoked,
+   * {@param valueArrayProvider} can hand out the same array for all values.
+   */
+  public void getInBatch(
+      StorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      int maxBatchSize,
+      MultiGetDirectBuffers buffers,
+      IntFunction<byte[]> valueArrayProvider,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponseStats responseStats,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<T> callback) {
+    ChunkingUtils.getFromStorageInBatch(
+        this,
+        store,
+        partition,
+        keys,
+        isChunked,
+        maxBatchSize,
+        buffers,
+        valueArrayProvider,
+        responseStats,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        callback);
+  }
+
   public void getByPartialKey(
       StorageEngine store,
       int userPartition,
@@ -6,6 +6,8 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 
 /**
@@ -68,4 +70,36 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Batched variant of {@link #get(StorageEngine, int, ByteBuffer, boolean, ReadResponseStats)} for keys of the same
+   * partition, see {@link ChunkingUtils#getFromStorageInBatch}.
+   */
+  public static void getInBatch(
+      StorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      int maxBatchSize,
+      MultiGetDirectBuffers buffers,
+      ReadResponseStats response,
+      ObjIntConsumer<MultiGetResponseRecordV1> callback) {
+    // Each value is wrapped by its record, so it needs its own array
+    ChunkingUtils.getFromStorageInBatch(
+        BATCH_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        keys,
+        isChunked,
+        maxBatchSize,
+        buffers,
+        byte[]::new,
+        response,
+        null,
+        null,
+        -1,
+        null,
+        null,
+        callback);
+  }
 }
@@ -19,7 +19,10 @@ import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -251,6 +254,79 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * Batched variant of the lookup above, for keys which all belong to the same partition. The keys are looked up via
+   * {@link StorageEngine#multiGet(int, List, List)} in batches of up to {@param maxBatchSize}, using the re-usable
+   * direct buffers held by {@param buffers}, which lets the storage engine coalesce block reads across keys.
+   *
+   * Each value is then handled exactly like in the per-key path, which means that chunked values are re-assembled by
+   * looking up their chunks one by one. If {@param reusedValue} is provided, each deserialized value is passed back
+   * for reuse by the next one, like the callers of the per-key path do, so the callback must be done with a value
+   * before it returns.
+   *
+   * @param keys the keys to look up, without the chunking suffix
+   * @param valueArrayProvider provides the heap array, of at least the given size, into which each value is copied
+   * @param callback invoked with each value, or null if the key does not exist, along with the index of its key
+   */
+  static <VALUE, CHUNKS_CONTAINER> void getFromStorageInBatch(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      StorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      int maxBatchSize,
+      MultiGetDirectBuffers buffers,
+      IntFunction<byte[]> valueArrayProvider,
+      ReadResponseStats responseStats,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<VALUE> callback) {
+    byte[] keySuffix = isChunked ? KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.getSerializedNonChunkKeySuffix() : null;
+    int keyCount = keys.size();
+    for (int batchStartPos = 0; batchStartPos < keyCount; batchStartPos += maxBatchSize) {
+      int batchEndPos = Math.min(batchStartPos + maxBatchSize, keyCount);
+      List<ByteBuffer> keyBuffers = buffers.prepareKeys(keys.subList(batchStartPos, batchEndPos), keySuffix);
+      List<ByteBuffer> valueBuffers = buffers.prepareValues(batchEndPos - batchStartPos);
+
+      long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+      List<ByteBuffer> values = store.multiGet(partition, keyBuffers, valueBuffers);
+      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+
+      for (int i = 0; i < values.size(); i++) {
+        ByteBuffer value = values.get(i);
+        VALUE result = null;
+        if (value != null) {
+          int valueLength = value.remaining();
+          byte[] valueBytes = valueArrayProvider.apply(valueLength);
+          value.get(valueBytes, 0, valueLength);
+          // The latency of the batch lookup is recorded above, so only the time spent on this value is added here
+          result = getFromStorage(
+              valueBytes,
+              valueLength,
+              responseStats.getCurrentTimeInNanos(),
+              adapter,
+              store::get,
+              store.getStoreVersionName(),
+              partition,
+              responseStats,
+              reusedValue,
+              reusedDecoder,
+              readerSchemaId,
+              storeDeserializerCache,
+              compressor,
+              null);
+          if (result != null && reusedValue != null) {
+            reusedValue = result;
+          }
+        }
+        callback.accept(result, batchStartPos + i);
+      }
+    }
+  }
+
   static <VALUE, CHUNKS_CONTAINER> ByteBufferValueRecord<VALUE> getValueAndSchemaIdFromStorage(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       StorageEngine store,
@@ -0,0 +1,75 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.davinci.store.StorageEngine;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Holds the direct buffers passed to {@link StorageEngine#multiGet(int, List, List)}, so that they can be re-used
+ * across batches instead of being allocated for each lookup.
+ *
+ * A value which doesn't fit into its buffer is looked up again by the storage engine into a larger buffer, which then
+ * replaces the original one in the list, so that the buffers adapt to the value sizes of the store. Buffers larger than
+ * {@link #MAX_RETAINED_VALUE_BUFFER_SIZE} are not retained for the next batch, to bound the memory held by each thread.
+ *
+ * This class is not thread-safe, and each thread is expected to hold its own instance.
+ */
+public class MultiGetDirectBuffers {
+  static final int INITIAL_KEY_BUFFER_SIZE = 256;
+  static final int INITIAL_VALUE_BUFFER_SIZE = 1024;
+  static final int MAX_RETAINED_VALUE_BUFFER_SIZE = 64 * 1024;
+
+  private final List<ByteBuffer> keyBuffers = new ArrayList<>();
+  private final List<ByteBuffer> valueBuffers = new ArrayList<>();
+
+  /**
+   * Copies the given keys into direct buffers, appending {@param keySuffix} to each of them if it is not null.
+   *
+   * @return a view containing one direct buffer per key, ready to be read
+   */
+  List<ByteBuffer> prepareKeys(List<ByteBuffer> keys, byte[] keySuffix) {
+    int keyCount = keys.size();
+    int suffixLength = keySuffix == null ? 0 : keySuffix.length;
+    for (int i = 0; i < keyCount; i++) {
+      ByteBuffer key = keys.get(i);
+      int keyLength = key.remaining() + suffixLength;
+      ByteBuffer keyBuffer = i < keyBuffers.size() ? keyBuffers.get(i) : null;
+      if (keyBuffer == null || keyBuffer.capacity() < keyLength) {
+        keyBuffer = ByteBuffer.allocateDirect(Math.max(keyLength, INITIAL_KEY_BUFFER_SIZE));
+        setOrAdd(keyBuffers, i, keyBuffer);
+      }
+      keyBuffer.clear();
+      keyBuffer.put(key.duplicate());
+      if (keySuffix != null) {
+        keyBuffer.put(keySuffix);
+      }
+      keyBuffer.flip();
+    }
+    return keyBuffers.subList(0, keyCount);
+  }
+
+  /**
+   * @return a view containing {@param valueCount} cleared direct buffers to be populated by the storage engine
+   */
+  List<ByteBuffer> prepareValues(int valueCount) {
+    for (int i = 0; i < valueCount; i++) {
+      ByteBuffer valueBuffer = i < valueBuffers.size() ? valueBuffers.get(i) : null;
+      if (valueBuffer == null || valueBuffer.capacity() > MAX_RETAINED_VALUE_BUFFER_SIZE) {
+        valueBuffer = ByteBuffer.allocateDirect(INITIAL_VALUE_BUFFER_SIZE);
+        setOrAdd(valueBuffers, i, valueBuffer);
+      }
+      valueBuffer.clear();
+    }
+    return valueBuffers.subList(0, valueCount);
+  }
+
+  private static void setOrAdd(List<ByteBuffer> buffers, int index, ByteBuffer buffer) {
+    if (index < buffers.size()) {
+      buffers.set(index, buffer);
+    } else {
+      buffers.add(buffer);
+    }
+  }
+}
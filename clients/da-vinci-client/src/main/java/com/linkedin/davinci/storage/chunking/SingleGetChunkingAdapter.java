@@ -3,7 +3,10 @@ package com.linkedin.davinci.storage.chunking;
 import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
@@ -51,6 +54,57 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils.getFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
 
+  /**
+   * Variant of {@link #get(StorageEngine, int, byte[], boolean, ReadResponseStats)} for non-chunked values, which asks
+   * the storage engine to populate a direct buffer obtained from {@param allocator}, and returns a {@link ValueRecord}
+   * sliced out of it, so that the value never goes through the heap.
+   *
+   * The returned {@link ValueRecord} owns the buffer, which gets released once the response is written out. If the
+   * value is larger than {@param directBufferSize}, the storage engine falls back to a heap buffer and the direct one is
+   * released right away.
+   */
+  public static ValueRecord getIntoDirectBuffer(
+      StorageEngine store,
+      int partition,
+      byte[] key,
+      ByteBufAllocator allocator,
+      int directBufferSize,
+      ReadResponseStats responseStats) {
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    ByteBuf directBuffer = allocator.directBuffer(directBufferSize);
+    ByteBuf data = null;
+    try {
+      ByteBuffer directNioBuffer = directBuffer.nioBuffer(0, directBuffer.capacity());
+      ByteBuffer value = store.get(partition, key, directNioBuffer);
+      if (value == null) {
+        return null;
+      }
+      int valueLength = value.remaining();
+      if (valueLength < ValueRecord.SCHEMA_HEADER_LENGTH) {
+        throw new VeniceException(
+            "Invalid value of size " + valueLength + " in store: " + store.getStoreVersionName() + ", partition: "
+                + partition);
+      }
+      int schemaId = value.getInt(value.position());
+      if (schemaId <= 0) {
+        throw new VeniceException("Found a record with invalid schema ID: " + schemaId);
+      }
+      int dataLength = valueLength - ValueRecord.SCHEMA_HEADER_LENGTH;
+      if (value == directNioBuffer) {
+        data = directBuffer.slice(ValueRecord.SCHEMA_HEADER_LENGTH, dataLength);
+      } else {
+        data = Unpooled.wrappedBuffer(value.array(), value.position() + ValueRecord.SCHEMA_HEADER_LENGTH, dataLength);
+      }
+      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      responseStats.addValueSize(valueLength);
+      return ValueRecord.create(schemaId, data);
+    } finally {
+      if (data == null || !data.isDirect()) {
+        directBuffer.release();
+      }
+    }
+  }
+
   public static ValueRecord getReplicationMetadata(
       StorageEngine store,
       int partition,
@@ -26,6 +26,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -68,6 +69,8 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
   private boolean suppressLogs = false;
 
+  private volatile Consumer<byte[]> keyWriteListener = null;
+
   /**
    * This lock is used to guard the re-opening logic in {@link #adjustStoragePartition} since
    * {@link #getPartitionOrThrow} is not synchronized and it could be invoked during the execution
@@ -183,8 +186,12 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     ReadWriteLock readWriteLock = getRWLockForPartitionOrThrow(partitionId);
     readWriteLock.writeLock().lock();
     try {
+      NegativeLookupFilter negativeLookupFilter = partition.getNegativeLookupFilter();
       closePartition(partitionId);
       addStoragePartition(partitionConfig);
+      if (negativeLookupFilter != null) {
+        getPartitionOrThrow(partitionId).setNegativeLookupFilter(negativeLookupFilter);
+      }
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -466,6 +473,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
     });
+    notifyKeyWriteListener(key);
   }
 
   @Override
@@ -474,6 +482,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
     });
+    notifyKeyWriteListener(key);
   }
 
   @Override
@@ -483,6 +492,19 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.putWithReplicationMetadata(key, value, replicationMetadata);
     });
+    notifyKeyWriteListener(key);
+  }
+
+  @Override
+  public void setKeyWriteListener(Consumer<byte[]> keyWriteListener) {
+    this.keyWriteListener = keyWriteListener;
+  }
+
+  private void notifyKeyWriteListener(byte[] key) {
+    Consumer<byte[]> listener = keyWriteListener;
+    if (listener != null) {
+      listener.accept(key);
+    }
   }
 
   @Override
@@ -493,11 +515,19 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  /**
+   * The lookups of keys which are not in the {@link NegativeLookupFilter} of the partition return null without
+   * touching the partition.
+   */
   @Override
   public byte[] get(int partitionId, byte[] key) throws VeniceException {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
-      return partition.get(key);
+      NegativeLookupFilter filter = partition.getNegativeLookupFilter();
+      if (filter != null && !filter.mightContain(key)) {
+        return null;
+      }
+      return recordFalsePositiveIfMissing(filter, partition.get(key));
     });
   }
 
@@ -505,7 +535,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
   public ByteBuffer get(int partitionId, byte[] key, ByteBuffer valueToBePopulated) throws VeniceException {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
-      return partition.get(key, valueToBePopulated);
+      NegativeLookupFilter filter = partition.getNegativeLookupFilter();
+      if (filter != null && !filter.mightContain(key)) {
+        return null;
+      }
+      return recordFalsePositiveIfMissing(filter, partition.get(key, valueToBePopulated));
     });
   }
 
@@ -513,7 +547,27 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
   public byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
-      return partition.get(keyBuffer);
+      NegativeLookupFilter filter = partition.getNegativeLookupFilter();
+      if (filter != null && !filter.mightContain(keyBuffer)) {
+        return null;
+      }
+      return recordFalsePositiveIfMissing(filter, partition.get(keyBuffer));
+    });
+  }
+
+  private static <T> T recordFalsePositiveIfMissing(NegativeLookupFilter filter, T value) {
+    if (value == null && filter != null) {
+      filter.recordFalsePositive();
+    }
+    return value;
+  }
+
+  @Override
+  public List<ByteBuffer> multiGet(int partitionId, List<ByteBuffer> keys, List<ByteBuffer> values)
+      throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys, values);
     });
   }
 
@@ -531,6 +585,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.delete(key);
     });
+    notifyKeyWriteListener(key);
   }
 
   @Override
@@ -540,6 +595,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.deleteWithReplicationMetadata(key, replicationMetadata);
     });
+    notifyKeyWriteListener(key);
   }
 
   @Override
@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -46,7 +48,27 @@ public abstract class AbstractStoragePartition {
 
   public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
     // Naive default impl is not optimized... only storage engines that support the optimization implement it.
-    return ByteBuffer.wrap(get(key));
+    byte[] value = get(key);
+    return value == null ? null : ByteBuffer.wrap(value);
+  }
+
+  /**
+   * Looks up a batch of keys, populating the values into the passed in buffers where supported.
+   *
+   * @param keys the keys to look up
+   * @param values one buffer per key, which may be populated with the corresponding value
+   * @return a list of the same size as {@param keys}, containing the value of each key, or null if it does not exist
+   */
+  public List<ByteBuffer> multiGet(List<ByteBuffer> keys, List<ByteBuffer> values) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    List<ByteBuffer> resultList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      byte[] keyBytes = new byte[key.remaining()];
+      key.duplicate().get(keyBytes);
+      byte[] value = get(keyBytes);
+      resultList.add(value == null ? null : ByteBuffer.wrap(value));
+    }
+    return resultList;
   }
 
   /**
@@ -181,6 +203,19 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getRmdByteUsage");
   }
 
+  /**
+   * @return the filter of the keys of this partition, or null if there is none, see {@link NegativeLookupFilter}
+   */
+  public NegativeLookupFilter getNegativeLookupFilter() {
+    return null;
+  }
+
+  /**
+   * Hands over the filter of a previous instance of this partition, which is re-opened in a different mode.
+   */
+  public void setNegativeLookupFilter(NegativeLookupFilter negativeLookupFilter) {
+  }
+
   public AbstractStorageIterator getIterator() {
     throw new UnsupportedOperationException("Method not supported for storage engine");
   }
@@ -0,0 +1,148 @@
+package com.linkedin.davinci.store;
+
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * An in-memory bloom filter of the keys of a storage partition, which lets lookups of missing keys return without
+ * touching the storage engine. A key which was never added is reported as absent with a probability of roughly
+ * 1 - false positive rate, while a key which was added is always reported as possibly present, so the filter must
+ * see every key before it is written to the partition. Deleted keys are not removed, they only add false positives.
+ *
+ * This is a blocked bloom filter: all the bits of a key live in the same 512-bit block, so that a lookup costs a
+ * single cache miss, at the price of a slightly higher false positive rate than a regular bloom filter. Bits are set
+ * with CAS, so that keys can be added concurrently with lookups and with each other.
+ */
+public class NegativeLookupFilter {
+  private static final int BLOCK_SIZE_IN_LONGS = 8;
+  private static final int BLOCK_SIZE_IN_BITS = BLOCK_SIZE_IN_LONGS * Long.SIZE;
+  private static final int BIT_INDEX_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(BLOCK_SIZE_IN_BITS);
+  /**
+   * Different from the seed of {@link XxHash64VenicePartitioner}, so that the bits of a key are independent of its
+   * partition.
+   */
+  private static final long HASH_SEED = 0x5DEECE66DL;
+
+  private final AtomicLongArray bits;
+  private final int blockCount;
+  private final int hashFunctionCount;
+  private final LongAdder negativeLookupCount = new LongAdder();
+  private final LongAdder falsePositiveCount = new LongAdder();
+
+  /**
+   * @param expectedKeyCount the number of keys the filter is sized for
+   * @param bitsPerKey the number of bits allocated per expected key, which drives the false positive rate
+   */
+  public NegativeLookupFilter(long expectedKeyCount, int bitsPerKey) {
+    if (bitsPerKey <= 0) {
+      throw new IllegalArgumentException("bitsPerKey should be positive, but got: " + bitsPerKey);
+    }
+    long blocks = (Math.max(expectedKeyCount, 1) * bitsPerKey + BLOCK_SIZE_IN_BITS - 1) / BLOCK_SIZE_IN_BITS;
+    if (blocks > Integer.MAX_VALUE / BLOCK_SIZE_IN_LONGS) {
+      throw new IllegalArgumentException("Too many keys for a negative lookup filter: " + expectedKeyCount);
+    }
+    this.blockCount = (int) blocks;
+    this.bits = new AtomicLongArray(blockCount * BLOCK_SIZE_IN_LONGS);
+    // The optimal number of hash functions is bitsPerKey * ln(2)
+    this.hashFunctionCount = Math.max(1, Math.min(16, (int) Math.round(bitsPerKey * Math.log(2))));
+  }
+
+  public static long hash(byte[] key, int offset, int length) {
+    return XxHash64VenicePartitioner.hash(key, offset, length, HASH_SEED);
+  }
+
+  /**
+   * Adds the key, which must happen before the key is written to the storage engine.
+   */
+  public void add(byte[] key) {
+    add(hash(key, 0, key.length));
+  }
+
+  public void add(long keyHash) {
+    int blockOffset = getBlockOffset(keyHash);
+    int h1 = (int) keyHash;
+    int h2 = getSecondHash(keyHash);
+    for (int i = 0; i < hashFunctionCount; i++) {
+      int bitIndex = (h1 + i * h2) >>> BIT_INDEX_SHIFT;
+      int index = blockOffset + (bitIndex >>> 6);
+      long mask = 1L << bitIndex;
+      long word = bits.get(index);
+      while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+        word = bits.get(index);
+      }
+    }
+  }
+
+  /**
+   * @return false if the key is definitely absent, which is recorded as a negative lookup, or true if it may be present
+   */
+  public boolean mightContain(byte[] key) {
+    return mightContain(hash(key, 0, key.length));
+  }
+
+  public boolean mightContain(ByteBuffer keyBuffer) {
+    if (!keyBuffer.hasArray()) {
+      return true;
+    }
+    return mightContain(
+        hash(keyBuffer.array(), keyBuffer.arrayOffset() + keyBuffer.position(), keyBuffer.remaining()));
+  }
+
+  public boolean mightContain(long keyHash) {
+    int blockOffset = getBlockOffset(keyHash);
+    int h1 = (int) keyHash;
+    int h2 = getSecondHash(keyHash);
+    for (int i = 0; i < hashFunctionCount; i++) {
+      int bitIndex = (h1 + i * h2) >>> BIT_INDEX_SHIFT;
+      if ((bits.get(blockOffset + (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+        negativeLookupCount.increment();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records that a key reported as possibly present by {@link #mightContain} turned out to be missing.
+   */
+  public void recordFalsePositive() {
+    falsePositiveCount.increment();
+  }
+
+  /**
+   * @return the fraction of the lookups of missing keys which were not filtered out, or 0 if there was none
+   */
+  public double getFalsePositiveRate() {
+    long falsePositives = falsePositiveCount.sum();
+    long missingKeyLookups = falsePositives + negativeLookupCount.sum();
+    return missingKeyLookups == 0 ? 0 : (double) falsePositives / missingKeyLookups;
+  }
+
+  public long getNegativeLookupCount() {
+    return negativeLookupCount.sum();
+  }
+
+  public long getFalsePositiveCount() {
+    return falsePositiveCount.sum();
+  }
+
+  public long getMemoryUsageInBytes() {
+    return (long) bits.length() * Long.BYTES;
+  }
+
+  /**
+   * The upper bits of the hash select the block, so the probe stride within the block is derived from all of them
+   * instead, otherwise the keys of a block would share similar strides.
+   */
+  private static int getSecondHash(long keyHash) {
+    return (int) ((keyHash * 0x9E3779B97F4A7C15L) >>> 32) | 1;
+  }
+
+  private int getBlockOffset(long keyHash) {
+    // Multiply-shift maps the upper bits of the hash to [0, blockCount) without a division
+    return (int) (((keyHash >>> 32) * blockCount) >>> 32) * BLOCK_SIZE_IN_LONGS;
+  }
+}
@@ -7,9 +7,11 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 
@@ -108,12 +110,27 @@ public interface StorageEngine<Partition extends AbstractStoragePartition> exten
 
   byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException;
 
+  /**
+   * Looks up a batch of keys belonging to the same partition.
+   *
+   * @see AbstractStoragePartition#multiGet(List, List)
+   */
+  List<ByteBuffer> multiGet(int partitionId, List<ByteBuffer> keys, List<ByteBuffer> values) throws VeniceException;
+
   void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback);
 
   void delete(int partitionId, byte[] key) throws VeniceException;
 
   void deleteWithReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata) throws VeniceException;
 
+  /**
+   * Registers the listener to be notified of the key of each put or delete, once the new value is visible to the
+   * readers, so that the results derived from the previous value can be invalidated. Only the latest listener is kept,
+   * and the engines which don't serve reads ignore it.
+   */
+  default void setKeyWriteListener(Consumer<byte[]> keyWriteListener) {
+  }
+
   byte[] getReplicationMetadata(int partitionId, ByteBuffer key);
 
   /**
@@ -63,7 +63,22 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putWithReplicationMetadataInternal(key, value, metadata);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putWithReplicationMetadataInternal(key, value, metadata);
+      }
+    }
+  }
+
+  private void putWithReplicationMetadataInternal(byte[] key, byte[] value, byte[] metadata) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -74,7 +89,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       if (deferredWrite) {
         super.put(key, value);
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if (concurrentWriteEnabled) {
+        addToNegativeLookupFilter(key);
+        WriteBatch writeBatch = getReusableWriteBatch();
+        writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+        writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
+        rocksDB.write(writeOptions, writeBatch);
       } else {
+        addToNegativeLookupFilter(key);
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
           writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
@@ -87,7 +109,22 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized void putReplicationMetadata(byte[] key, byte[] metadata) {
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putReplicationMetadataInternal(key, metadata);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putReplicationMetadataInternal(key, metadata);
+      }
+    }
+  }
+
+  private void putReplicationMetadataInternal(byte[] key, byte[] metadata) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -121,7 +158,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * TODO: Rewrite this implementation after we adopt the thread-local direct bytebuffer approach.
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
     byte[] valueBytes = ByteUtils.extractByteArray(value);
     putWithReplicationMetadata(key, valueBytes, metadata);
   }
@@ -148,7 +185,22 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
   @Override
-  public synchronized void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        deleteWithReplicationMetadataInternal(key, replicationMetadata);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        deleteWithReplicationMetadataInternal(key, replicationMetadata);
+      }
+    }
+  }
+
+  private void deleteWithReplicationMetadataInternal(byte[] key, byte[] replicationMetadata) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -158,6 +210,11 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       if (deferredWrite) {
         // Just update the RMD for deletion during repush
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+      } else if (concurrentWriteEnabled) {
+        WriteBatch writeBatch = getReusableWriteBatch();
+        writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
+        rocksDB.write(writeOptions, writeBatch);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
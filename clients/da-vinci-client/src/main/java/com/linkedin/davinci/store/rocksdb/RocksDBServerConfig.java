@@ -203,6 +203,21 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_PUT_REUSE_BYTE_BUFFER = "rocksdb.put.reuse.byte.buffer";
   public static final String ROCKSDB_EMIT_DUPLICATE_KEY_METRIC = "rocksdb.emit.duplicate.key.metric";
 
+  /**
+   * Whether to build a {@link com.linkedin.davinci.store.NegativeLookupFilter} for each partition at the end of its
+   * batch ingestion, which lets lookups of missing keys return without touching RocksDB. The filter is kept up to date
+   * with the subsequent writes, but it is not rebuilt after a restart, nor when the batch ingestion resumed from a
+   * checkpoint.
+   */
+  public static final String ROCKSDB_NEGATIVE_LOOKUP_FILTER_ENABLED = "rocksdb.negative.lookup.filter.enabled";
+
+  /**
+   * Bits per key of the negative lookup filter, sized for the number of keys of the batch ingestion plus some headroom
+   * for the subsequent writes. 10 bits per key gives a false positive rate of about 1%.
+   */
+  public static final String ROCKSDB_NEGATIVE_LOOKUP_FILTER_BITS_PER_KEY =
+      "rocksdb.negative.lookup.filter.bits.per.key";
+
   /**
    * Every time, when RocksDB tries to open a database, it will spin up multiple threads to load the file metadata
    * in parallel, and the application could hit the thread limit issue if there are many RocksDB open operations
@@ -222,6 +237,14 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_SEPARATE_RMD_CACHE_ENABLED = "rocksdb.separate.rmd.cache.enabled";
   public static final String ROCKSDB_BLOCK_BASE_FORMAT_VERSION = "rocksdb.block.base.format.version";
 
+  /**
+   * Whether to allow concurrent writes to the same non-deferred-write partition. When enabled, put/delete no longer
+   * synchronize on the partition and only share the read lock with {@link RocksDBStoragePartition#get}, while
+   * lifecycle operations (close/reopen/drop) take the write lock. Per-key ordering is still guaranteed by the
+   * key-level locking in the ingestion path.
+   */
+  public static final String ROCKSDB_CONCURRENT_WRITE_ENABLED = "rocksdb.concurrent.write.enabled";
+
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
   public static final String RECORD_TRANSFORMER_VALUE_SCHEMA = "record.transformer.value.schema";
@@ -303,9 +326,12 @@ public class RocksDBServerConfig {
 
   private final boolean putReuseByteBufferEnabled;
   private final boolean emitDuplicateKeyMetricEnabled;
+  private final boolean negativeLookupFilterEnabled;
+  private final int negativeLookupFilterBitsPerKey;
 
   private final boolean atomicFlushEnabled;
   private final boolean separateRMDCacheEnabled;
+  private final boolean concurrentWriteEnabled;
   private int blockBaseFormatVersion;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
@@ -431,8 +457,11 @@ public class RocksDBServerConfig {
 
     this.putReuseByteBufferEnabled = props.getBoolean(ROCKSDB_PUT_REUSE_BYTE_BUFFER, false);
     this.emitDuplicateKeyMetricEnabled = props.getBoolean(ROCKSDB_EMIT_DUPLICATE_KEY_METRIC, false);
+    this.negativeLookupFilterEnabled = props.getBoolean(ROCKSDB_NEGATIVE_LOOKUP_FILTER_ENABLED, false);
+    this.negativeLookupFilterBitsPerKey = props.getInt(ROCKSDB_NEGATIVE_LOOKUP_FILTER_BITS_PER_KEY, 10);
     this.atomicFlushEnabled = props.getBoolean(ROCKSDB_ATOMIC_FLUSH_ENABLED, true);
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
+    this.concurrentWriteEnabled = props.getBoolean(ROCKSDB_CONCURRENT_WRITE_ENABLED, false);
 
     this.blockBaseFormatVersion = props.getInt(ROCKSDB_BLOCK_BASE_FORMAT_VERSION, 2);
 
@@ -642,6 +671,14 @@ public class RocksDBServerConfig {
     return emitDuplicateKeyMetricEnabled;
   }
 
+  public boolean isNegativeLookupFilterEnabled() {
+    return negativeLookupFilterEnabled;
+  }
+
+  public int getNegativeLookupFilterBitsPerKey() {
+    return negativeLookupFilterBitsPerKey;
+  }
+
   public boolean isAtomicFlushEnabled() {
     return atomicFlushEnabled;
   }
@@ -650,6 +687,10 @@ public class RocksDBServerConfig {
     return separateRMDCacheEnabled;
   }
 
+  public boolean isConcurrentWriteEnabled() {
+    return concurrentWriteEnabled;
+  }
+
   public int getBlockBaseFormatVersion() {
     return blockBaseFormatVersion;
   }
@@ -4,6 +4,7 @@ import static com.linkedin.venice.store.rocksdb.RocksDBUtils.extractTempSSTFileN
 import static com.linkedin.venice.store.rocksdb.RocksDBUtils.isTempSSTFile;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.davinci.store.NegativeLookupFilter;
 import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
@@ -11,6 +12,7 @@ import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -86,6 +88,12 @@ public class RocksDBSstFileWriter {
   private final Options options;
   private final boolean isRMD;
   private final RocksDBServerConfig rocksDBServerConfig;
+  /**
+   * Hashes of the keys written since the beginning of the batch ingestion, from which the
+   * {@link NegativeLookupFilter} is built once the total number of keys is known. Null when the filter is disabled, or
+   * when the ingestion resumed from a checkpoint, since the keys written before the restart are unknown.
+   */
+  private LongArrayList keyHashes;
 
   @VisibleForTesting
   protected Checkpoint createCheckpoint(RocksDB rocksDB) {
@@ -144,6 +152,9 @@ public class RocksDBSstFileWriter {
     } else {
       currentSSTFileWriter.put(key, ByteUtils.extractByteArray(valueBuffer));
     }
+    if (keyHashes != null) {
+      keyHashes.add(NegativeLookupFilter.hash(key, 0, key.length));
+    }
     ++recordNumInCurrentSSTFile;
     ++recordNumInAllSSTFiles;
   }
@@ -224,6 +235,38 @@ public class RocksDBSstFileWriter {
       throw new VeniceException("Failed to open file: " + fullPathForCurrentSSTFile + " with SstFileWriter");
     }
     this.expectedChecksumSupplier = expectedChecksumSupplier;
+    boolean ingestionFromBeginning = currentSSTFileNo == 0;
+    if (!isRMD && ingestionFromBeginning && rocksDBServerConfig.isNegativeLookupFilterEnabled()) {
+      this.keyHashes = new LongArrayList();
+    } else {
+      this.keyHashes = null;
+    }
+  }
+
+  /**
+   * Builds a {@link NegativeLookupFilter} containing all the keys written during the batch ingestion, with some
+   * headroom for the keys written afterwards.
+   *
+   * @return the filter, or null if it is disabled or if the keys written before a restart are unknown
+   */
+  public NegativeLookupFilter buildNegativeLookupFilter() {
+    if (keyHashes == null) {
+      return null;
+    }
+    long expectedKeyCount = keyHashes.size() + keyHashes.size() / 2;
+    NegativeLookupFilter filter =
+        new NegativeLookupFilter(expectedKeyCount, rocksDBServerConfig.getNegativeLookupFilterBitsPerKey());
+    for (int i = 0; i < keyHashes.size(); i++) {
+      filter.add(keyHashes.getLong(i));
+    }
+    LOGGER.info(
+        "Built negative lookup filter of {} bytes for {} keys of store: {}, partition id: {}",
+        filter.getMemoryUsageInBytes(),
+        keyHashes.size(),
+        storeName,
+        partitionId);
+    keyHashes = null;
+    return filter;
   }
 
   public void close() {
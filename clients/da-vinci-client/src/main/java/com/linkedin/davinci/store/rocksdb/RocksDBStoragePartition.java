@@ -8,6 +8,7 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.NegativeLookupFilter;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.DiskLimitExhaustedException;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
@@ -16,6 +17,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -56,6 +58,7 @@ import org.rocksdb.SstFileManager;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -67,6 +70,10 @@ import org.rocksdb.WriteOptions;
  *
  * If the ingestion is unsorted, this class is using the regular RocksDB interface to support update
  * operations.
+ *
+ * By default, all the update operations are synchronized on the partition. When
+ * {@link RocksDBServerConfig#ROCKSDB_CONCURRENT_WRITE_ENABLED} is on and the partition is not in deferred-write mode,
+ * update operations could be invoked concurrently and are only guarded by the read lock of {@link #readCloseRWLock}.
  */
 @NotThreadSafe
 public class RocksDBStoragePartition extends AbstractStoragePartition {
@@ -77,6 +84,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
 
   private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
+  private static final ThreadLocal<ByteBuffer> DIRECT_KEY_BUFFER =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(1024));
 
   /**
    * Here RocksDB disables WAL, but relies on the 'flush', which will be invoked through {@link #sync()}
@@ -102,12 +111,31 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   private boolean isClosed = false;
   /**
-   * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
-   * to guard RocksDB closing behavior.
-   * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * Since all the modification functions are synchronized by default, we don't need any other synchronization for the
+   * update path to guard RocksDB closing behavior.
+   * The following {@link #readCloseRWLock} is used to guard {@link #get} since we don't want to synchronize get requests,
+   * and it also guards the update path when {@link #concurrentWriteEnabled} is true.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
+  /**
+   * When enabled, put/delete won't synchronize on this partition, and the lifecycle operations (close/reopen/drop)
+   * will be guarded by the write lock of {@link #readCloseRWLock}.
+   * The per-key ordering is guaranteed by the caller, such as the key-level locks in the leader processing path.
+   */
+  protected final boolean concurrentWriteEnabled;
+
+  /**
+   * {@link WriteBatch} is not thread-safe, so each writer thread will reuse its own instance in concurrent write mode.
+   * All the created instances are tracked here to be released in {@link #close()}.
+   */
+  private final Set<WriteBatch> reusableWriteBatches = VeniceConcurrentHashMap.newKeySet();
+  private final ThreadLocal<WriteBatch> threadLocalWriteBatch = ThreadLocal.withInitial(() -> {
+    WriteBatch writeBatch = new WriteBatch();
+    reusableWriteBatches.add(writeBatch);
+    return writeBatch;
+  });
+
   /**
    * The passed in {@link Options} instance.
    * For now, the RocksDB version being used right now doesn't support shared block cache unless
@@ -159,6 +187,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final List<ColumnFamilyHandle> columnFamilyHandleList = new ArrayList<>();
   protected final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
   private RocksDBSstFileWriter rocksDBSstFileWriter = null;
+  /**
+   * Built at the end of the batch ingestion, and then updated by each write, see {@link NegativeLookupFilter}.
+   */
+  private volatile NegativeLookupFilter negativeLookupFilter;
 
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
@@ -201,6 +233,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
     this.readWriteLeaderForDefaultCF = storagePartitionConfig.isReadWriteLeaderForDefaultCF();
     this.readWriteLeaderForRMDCF = storagePartitionConfig.isReadWriteLeaderForRMDCF();
+    // RocksDBSstFileWriter is not thread-safe, so deferred-write mode always serializes the writes.
+    this.concurrentWriteEnabled = rocksDBServerConfig.isConcurrentWriteEnabled() && !this.deferredWrite;
     this.fullPathForPartitionDB = RocksDBUtils.composePartitionDbDir(dbDir, storeNameAndVersion, partitionId);
     this.options = options;
     /**
@@ -482,6 +516,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       LOGGER.info("'beginBatchWrite' will do nothing since 'deferredWrite' is disabled");
       return;
     }
+    // The keys written in deferred-write mode only become visible once ingested, and are added to a new filter then
+    negativeLookupFilter = null;
     rocksDBSstFileWriter.open(checkpointedInfo, expectedChecksumSupplier);
   }
 
@@ -496,6 +532,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      * Sync all the SST files before ingestion.
      */
     sync();
+    NegativeLookupFilter filter = rocksDBSstFileWriter.buildNegativeLookupFilter();
     /**
      * Ingest all the generated sst files into RocksDB database.
      *
@@ -503,6 +540,28 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      * the last SST file written is finished.
      */
     rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
+    negativeLookupFilter = filter;
+  }
+
+  @Override
+  public NegativeLookupFilter getNegativeLookupFilter() {
+    return negativeLookupFilter;
+  }
+
+  @Override
+  public void setNegativeLookupFilter(NegativeLookupFilter negativeLookupFilter) {
+    this.negativeLookupFilter = negativeLookupFilter;
+  }
+
+  /**
+   * Must be invoked before the key is written to the database, so that a reader never finds the value of a key which is
+   * missing from the filter.
+   */
+  protected void addToNegativeLookupFilter(byte[] key) {
+    NegativeLookupFilter filter = negativeLookupFilter;
+    if (filter != null) {
+      filter.add(key);
+    }
   }
 
   @Override
@@ -535,18 +594,44 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Returns a cleared {@link WriteBatch} owned by the current thread, which should only be used in
+   * {@link #concurrentWriteEnabled} mode while holding the read lock of {@link #readCloseRWLock}.
+   */
+  protected WriteBatch getReusableWriteBatch() {
+    WriteBatch writeBatch = threadLocalWriteBatch.get();
+    writeBatch.clear();
+    return writeBatch;
+  }
+
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putInternal(key, valueBuffer);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putInternal(key, valueBuffer);
+      }
+    }
+  }
+
+  private void putInternal(byte[] key, ByteBuffer valueBuffer) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
           "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
     }
+    addToNegativeLookupFilter(key);
     try {
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, valueBuffer);
@@ -584,8 +669,17 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * When {@param valueToBePopulated} is a direct buffer, the value is read straight into it starting from its current
+   * position, without any intermediate heap copy. If the value doesn't fit into the remaining space, a new heap buffer
+   * containing the value is returned instead, so the caller should check whether the returned instance is the passed
+   * in one.
+   */
   @Override
   public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    if (valueToBePopulated.isDirect()) {
+      return getIntoDirectBuffer(key, valueToBePopulated);
+    }
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
@@ -610,6 +704,47 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  private ByteBuffer getIntoDirectBuffer(byte[] key, ByteBuffer valueToBePopulated) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      ByteBuffer keyBuffer = getDirectKeyBuffer(key);
+      int startPosition = valueToBePopulated.position();
+      int size = rocksDB.get(READ_OPTIONS_DEFAULT, keyBuffer, valueToBePopulated);
+      if (size == RocksDB.NOT_FOUND) {
+        return null;
+      } else if (size > valueToBePopulated.limit() - startPosition) {
+        valueToBePopulated.position(startPosition);
+        // The key might have been deleted since the first read
+        byte[] value = rocksDB.get(key);
+        return value == null ? null : ByteBuffer.wrap(value);
+      }
+      valueToBePopulated.position(startPosition);
+      valueToBePopulated.limit(startPosition + size);
+      return valueToBePopulated;
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * The direct {@link RocksDB#get(ReadOptions, ByteBuffer, ByteBuffer)} API requires the key to be in a direct buffer
+   * as well, so the key is copied into a per-thread buffer which is only re-allocated for larger keys.
+   */
+  private static ByteBuffer getDirectKeyBuffer(byte[] key) {
+    ByteBuffer keyBuffer = DIRECT_KEY_BUFFER.get();
+    if (keyBuffer.capacity() < key.length) {
+      keyBuffer = ByteBuffer.allocateDirect(key.length);
+      DIRECT_KEY_BUFFER.set(keyBuffer);
+    }
+    keyBuffer.clear();
+    keyBuffer.put(key);
+    keyBuffer.flip();
+    return keyBuffer;
+  }
+
   @Override
   public <K, V> V get(K key) {
     throw new UnsupportedOperationException("Method not implemented!!");
@@ -640,6 +775,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Both keys and values need to be direct buffers. A value which does not fit into its buffer is looked up again, and
+   * the passed in list is updated with a new buffer large enough to hold it, so that the caller can re-use it.
+   */
+  @Override
   public List<ByteBuffer> multiGet(List<ByteBuffer> keys, List<ByteBuffer> values) {
     readCloseRWLock.readLock().lock();
 
@@ -769,7 +909,22 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void delete(byte[] key) {
+  public void delete(byte[] key) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        deleteInternal(key);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        deleteInternal(key);
+      }
+    }
+  }
+
+  private void deleteInternal(byte[] key) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -912,6 +1067,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     if (keyStatistics != null) {
       keyStatistics.close();
     }
+    reusableWriteBatches.forEach(WriteBatch::close);
+    reusableWriteBatches.clear();
     options.close();
     if (writeOptions != null) {
       writeOptions.close();
@@ -12,6 +12,7 @@ import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -214,6 +215,12 @@ public class DeepCopyStorageEngine implements StorageEngine<AbstractStorageParti
     return this.delegate.get(partitionId, keyBuffer);
   }
 
+  @Override
+  public List<ByteBuffer> multiGet(int partitionId, List<ByteBuffer> keys, List<ByteBuffer> values)
+      throws VeniceException {
+    return this.delegate.multiGet(partitionId, keys, values);
+  }
+
   @Override
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     this.delegate.getByKeyPrefix(partitionId, partialKey, bytesStreamingCallback);
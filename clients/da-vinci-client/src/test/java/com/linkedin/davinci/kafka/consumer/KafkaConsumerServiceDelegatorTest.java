@@ -3,7 +3,10 @@ package com.linkedin.davinci.kafka.consumer;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.utils.TestUtils.waitForNonDeterministicAssertion;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -45,6 +48,8 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -348,6 +353,41 @@ public class KafkaConsumerServiceDelegatorTest {
     verify(mockDedicatedConsumerService, never()).unSubscribe(versionTopic, topicPartitionForRT);
   }
 
+  @Test
+  public void resizeConsumerPoolsTest() {
+    VeniceServerConfig mockConfig = mock(VeniceServerConfig.class);
+    doReturn(KafkaConsumerServiceDelegator.ConsumerPoolStrategyType.AA_OR_WC_LEADER_DEDICATED).when(mockConfig)
+        .getConsumerPoolStrategyType();
+    Map<ConsumerPoolType, KafkaConsumerService> poolTypeToConsumerService = new HashMap<>();
+    KafkaConsumerServiceDelegator.KafkaConsumerServiceBuilder consumerServiceBuilder =
+        (ignored, poolType) -> poolTypeToConsumerService
+            .computeIfAbsent(poolType, type -> mock(KafkaConsumerService.class));
+
+    KafkaConsumerServiceDelegator delegator =
+        new KafkaConsumerServiceDelegator(mockConfig, consumerServiceBuilder, vt -> true);
+    assertEquals(poolTypeToConsumerService.size(), 3);
+    BiConsumer<PubSubTopic, PubSubTopicPartition> resubscriber = (vt, tp) -> {};
+    // A failure to resize one pool shouldn't prevent resizing the others
+    when(
+        poolTypeToConsumerService.get(ConsumerPoolType.REGULAR_POOL)
+            .resizeBasedOnOffsetLag(anyLong(), anyBoolean(), any()))
+        .thenThrow(new IllegalStateException());
+    // The pools which grow use up the budget of the host, and the ones which shrink give it back
+    doReturn(1).when(poolTypeToConsumerService.get(ConsumerPoolType.AA_WC_LEADER_POOL)).getActiveConsumerCount();
+    doReturn(2).when(poolTypeToConsumerService.get(ConsumerPoolType.AA_WC_LEADER_POOL))
+        .resizeBasedOnOffsetLag(anyLong(), anyBoolean(), any());
+    doReturn(2).when(poolTypeToConsumerService.get(ConsumerPoolType.SEP_RT_LEADER_POOL)).getActiveConsumerCount();
+    doReturn(2).when(poolTypeToConsumerService.get(ConsumerPoolType.SEP_RT_LEADER_POOL))
+        .resizeBasedOnOffsetLag(anyLong(), anyBoolean(), any());
+
+    AtomicInteger extraConsumerBudget = new AtomicInteger(1);
+    delegator.resizeConsumerPools(100L, extraConsumerBudget, resubscriber);
+    for (KafkaConsumerService consumerService: poolTypeToConsumerService.values()) {
+      verify(consumerService).resizeBasedOnOffsetLag(eq(100L), anyBoolean(), eq(resubscriber));
+    }
+    assertEquals(extraConsumerBudget.get(), 0);
+  }
+
   @Test
   public void startConsumptionIntoDataReceiverTest() {
     KafkaConsumerService mockDefaultConsumerService = mock(KafkaConsumerService.class);
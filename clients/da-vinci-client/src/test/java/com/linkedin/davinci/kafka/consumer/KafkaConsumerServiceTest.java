@@ -39,6 +39,8 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -46,6 +48,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -440,6 +443,123 @@ public class KafkaConsumerServiceTest {
     Assert.assertEquals(consumerForT1P3, consumerForT2P1);
   }
 
+  @Test
+  public void testElasticConsumerPool() {
+    doReturn(true).when(mockVeniceServerConfig).isElasticConsumerPoolEnabled();
+    doReturn(1).when(mockVeniceServerConfig).getElasticConsumerPoolMinSize();
+    doReturn(3).when(mockVeniceServerConfig).getElasticConsumerPoolMaxSize();
+    doReturn(2).when(mockVeniceServerConfig).getElasticConsumerPoolMaxPartitionsMovedPerResize();
+
+    ApacheKafkaConsumerAdapter consumer1 = mock(ApacheKafkaConsumerAdapter.class);
+    ApacheKafkaConsumerAdapter consumer2 = mock(ApacheKafkaConsumerAdapter.class);
+    ApacheKafkaConsumerAdapter consumer3 = mock(ApacheKafkaConsumerAdapter.class);
+    PubSubConsumerAdapterFactory factory = mock(PubSubConsumerAdapterFactory.class);
+    when(factory.create(any(PubSubConsumerAdapterContext.class))).thenReturn(consumer1, consumer2, consumer3);
+
+    Properties properties = new Properties();
+    properties.put(KAFKA_BOOTSTRAP_SERVERS, "test_kafka_url");
+    MetricsRepository mockMetricsRepository = mock(MetricsRepository.class);
+    doReturn(mock(Sensor.class)).when(mockMetricsRepository).sensor(anyString(), any());
+    PartitionWiseKafkaConsumerService consumerService = new PartitionWiseKafkaConsumerService(
+        ConsumerPoolType.REGULAR_POOL,
+        factory,
+        properties,
+        1000L,
+        2,
+        mock(IngestionThrottler.class),
+        mock(KafkaClusterBasedRecordThrottler.class),
+        mockMetricsRepository,
+        "test_kafka_cluster_alias",
+        TimeUnit.MINUTES.toMillis(1),
+        mock(StaleTopicChecker.class),
+        false,
+        pubSubDeserializer,
+        SystemTime.INSTANCE,
+        null,
+        false,
+        mock(ReadOnlyStoreRepository.class),
+        false,
+        mockVeniceServerConfig);
+    IndexedMap<SharedKafkaConsumer, ConsumptionTask> consumers = consumerService.getConsumerToConsumptionTask();
+    SharedKafkaConsumer sharedConsumer1 = consumers.getByIndex(0).getKey();
+    SharedKafkaConsumer sharedConsumer2 = consumers.getByIndex(1).getKey();
+    SharedKafkaConsumer sharedConsumer3 = consumers.getByIndex(2).getKey();
+    Assert.assertEquals(consumerService.getMaxConsumerCount(), 3);
+    Assert.assertEquals(consumerService.getMinConsumerCount(), 1);
+    Assert.assertEquals(consumerService.getActiveConsumerCount(), 2);
+
+    // Only the active consumers get new assignments
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic("test_store", 1));
+    Set<SharedKafkaConsumer> assignedConsumers = new HashSet<>();
+    for (int partition = 0; partition < 4; partition++) {
+      assignedConsumers
+          .add(consumerService.assignConsumerFor(versionTopic, new PubSubTopicPartitionImpl(versionTopic, partition)));
+    }
+    Assert.assertEquals(assignedConsumers, new HashSet<>(Arrays.asList(sharedConsumer1, sharedConsumer2)));
+
+    // Grows when the lag per active consumer is above the threshold, if the new consumer can take over enough of it
+    PubSubTopicPartition p0 = new PubSubTopicPartitionImpl(versionTopic, 0);
+    doReturn(300L).when(consumer1).getOffsetLag(p0);
+    doReturn(150L).when(consumer2).getOffsetLag(new PubSubTopicPartitionImpl(versionTopic, 1));
+    doReturn(100L).when(consumer1).getOffsetLag(new PubSubTopicPartitionImpl(versionTopic, 2));
+    doReturn(50L).when(consumer2).getOffsetLag(new PubSubTopicPartitionImpl(versionTopic, 3));
+    List<PubSubTopicPartition> resubscribed = new ArrayList<>();
+    BiConsumer<PubSubTopic, PubSubTopicPartition> resubscriber = (vt, tp) -> resubscribed.add(tp);
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(300L, true, resubscriber), 2);
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(200L, false, resubscriber), 2);
+    Assert.assertTrue(resubscribed.isEmpty());
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(200L, true, resubscriber), 3);
+    // Only the most lagging partition is moved, since it's above the fair share of the lag on its own
+    Assert.assertEquals(resubscribed, Collections.singletonList(p0));
+    consumerService.versionTopicToTopicPartitionToConsumer.get(versionTopic).remove(p0);
+    Assert.assertEquals(consumerService.assignConsumerFor(versionTopic, p0), sharedConsumer3);
+    doReturn(300L).when(consumer3).getOffsetLag(p0);
+    resubscribed.clear();
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(100L, true, resubscriber), 3);
+    Assert.assertTrue(resubscribed.isEmpty());
+    assignedConsumers.clear();
+    for (int partition = 4; partition < 7; partition++) {
+      assignedConsumers
+          .add(consumerService.assignConsumerFor(versionTopic, new PubSubTopicPartitionImpl(versionTopic, partition)));
+    }
+    Assert.assertEquals(
+        assignedConsumers,
+        new HashSet<>(Arrays.asList(sharedConsumer1, sharedConsumer2, sharedConsumer3)));
+
+    // Shrinks when the lag per consumer remains below half of the threshold without one consumer, down to the min size
+    doReturn(10L).when(consumer1).getOffsetLag(any());
+    doReturn(-1L).when(consumer2).getOffsetLag(any());
+    doReturn(0L).when(consumer3).getOffsetLag(any());
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(10L, true, resubscriber), 3);
+    Assert.assertTrue(resubscribed.isEmpty());
+    // The partitions of the retired consumers are moved to the active ones, a bounded number at a time
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(100L, true, resubscriber), 2);
+    Assert.assertEquals(
+        new HashSet<>(resubscribed),
+        new HashSet<>(Arrays.asList(p0, new PubSubTopicPartitionImpl(versionTopic, 6))));
+    resubscribed.clear();
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(100L, true, resubscriber), 1);
+    Assert.assertEquals(resubscribed.size(), 2);
+    for (PubSubTopicPartition topicPartition: resubscribed) {
+      Assert.assertNotEquals(
+          consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition),
+          sharedConsumer1);
+    }
+    Assert.assertEquals(consumerService.resizeBasedOnOffsetLag(100L, true, resubscriber), 1);
+
+    // The retired consumers keep their partitions until they are moved, but don't get new assignments
+    Assert.assertEquals(
+        consumerService.getConsumerAssignedToVersionTopicPartition(
+            versionTopic,
+            new PubSubTopicPartitionImpl(versionTopic, 6)),
+        sharedConsumer3);
+    for (int partition = 7; partition < 10; partition++) {
+      Assert.assertEquals(
+          consumerService.assignConsumerFor(versionTopic, new PubSubTopicPartitionImpl(versionTopic, partition)),
+          sharedConsumer1);
+    }
+  }
+
   @Test
   public void testStoreAwarePartitionWiseGetConsumer() {
     String storeName1 = Utils.getUniqueString("test_consumer_service1");
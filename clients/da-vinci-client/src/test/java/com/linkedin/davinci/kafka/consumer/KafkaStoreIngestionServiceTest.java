@@ -63,6 +63,7 @@ import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import io.tehuti.metrics.MetricsRepository;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
@@ -146,6 +147,7 @@ public abstract class KafkaStoreIngestionServiceTest {
         .getConsumerPoolStrategyType();
     doReturn(2).when(mockVeniceServerConfig).getAaWCIngestionStorageLookupThreadPoolSize();
     doReturn(1).when(mockVeniceServerConfig).getStoreWriterNumber();
+    doReturn(BlockingQueueType.LINKED_BLOCKING_QUEUE).when(mockVeniceServerConfig).getStoreWriterBufferQueueType();
     doReturn(5).when(mockVeniceServerConfig).getIdleIngestionTaskCleanupIntervalInSeconds();
 
     // Consumer related configs for preparing kafka consumer service.
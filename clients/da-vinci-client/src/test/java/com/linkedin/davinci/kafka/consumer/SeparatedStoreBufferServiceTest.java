@@ -4,6 +4,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import io.tehuti.metrics.MetricsRepository;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -18,6 +19,7 @@ public class SeparatedStoreBufferServiceTest {
     doReturn(8).when(serverConfig).getDrainerPoolSizeSortedInput();
     doReturn(8).when(serverConfig).getDrainerPoolSizeUnsortedInput();
     doReturn(1000l).when(serverConfig).getStoreWriterBufferNotifyDelta();
+    doReturn(BlockingQueueType.LINKED_BLOCKING_QUEUE).when(serverConfig).getStoreWriterBufferQueueType();
     doReturn(1000l).when(serverConfig).getStoreWriterBufferMemoryCapacity();
     SeparatedStoreBufferService separatedStoreBufferService =
         new SeparatedStoreBufferService(serverConfig, metricsRepo);
@@ -1,13 +1,18 @@
 package com.linkedin.davinci.kafka.consumer;
 
+import static java.util.concurrent.TimeUnit.HOURS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
@@ -16,6 +21,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
 import com.linkedin.davinci.stats.StoreBufferServiceStats;
 import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -33,13 +39,17 @@ import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -108,6 +118,102 @@ public class StoreBufferServiceTest {
         () -> bufferService.drainBufferedRecordsFromTopicPartition(pubSubTopicPartition1));
   }
 
+  @Test
+  public void testRunWithRingBuffer() throws Exception {
+    // The slot count is lower than the number of records, so that the producer has to wait for the drainer
+    StoreBufferService bufferService = new StoreBufferService(
+        2,
+        10000,
+        1000,
+        false,
+        mockedStats,
+        null,
+        new StoreBufferService.DrainerConfig().setBufferQueue(BlockingQueueType.MEMORY_BOUND_RING_BUFFER, 2));
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    String kafkaUrl = "blah";
+
+    bufferService.start();
+    List<DefaultPubSubMessage> records = new ArrayList<>();
+    for (int partition = 0; partition < 4; partition++) {
+      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partition);
+      for (int i = 0; i < 5; i++) {
+        DefaultPubSubMessage record =
+            new ImmutablePubSubMessage(key, value, topicPartition, mock(PubSubPosition.class), 0, 0);
+        records.add(record);
+        bufferService.putConsumerRecord(record, mockTask, null, partition, kafkaUrl, 0L);
+      }
+      bufferService.drainBufferedRecordsFromTopicPartition(topicPartition);
+    }
+    InOrder inOrder = inOrder(mockTask);
+    for (DefaultPubSubMessage record: records) {
+      inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS))
+          .processConsumerRecord(record, null, record.getPartition(), kafkaUrl, 0L);
+    }
+    bufferService.stop();
+  }
+
+  @Test
+  public void testRunWithWeightedFairScheduling() throws Exception {
+    String storeA = Utils.getUniqueString("store_a");
+    String storeB = Utils.getUniqueString("store_b");
+    StoreBufferService bufferService = new StoreBufferService(
+        1,
+        10000,
+        1000,
+        false,
+        mockedStats,
+        null,
+        new StoreBufferService.DrainerConfig()
+            .setWeightedFairScheduling(storeName -> storeName.equals(storeA) ? 3 : 1, 100));
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    HostLevelIngestionStats mockHostLevelIngestionStats = mock(HostLevelIngestionStats.class);
+    doReturn(mockHostLevelIngestionStats).when(mockTask).getHostLevelIngestionStats();
+    String kafkaUrl = "blah";
+
+    List<PubSubTopicPartition> topicPartitions = new ArrayList<>();
+    List<DefaultPubSubMessage> records = new ArrayList<>();
+    for (String storeName: Arrays.asList(storeA, storeB)) {
+      PubSubTopicPartition topicPartition =
+          new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(storeName + "_v1"), 0);
+      topicPartitions.add(topicPartition);
+      for (int i = 0; i < 5; i++) {
+        DefaultPubSubMessage record =
+            new ImmutablePubSubMessage(key, value, topicPartition, mock(PubSubPosition.class), 0, 0);
+        records.add(record);
+        bufferService.putConsumerRecord(record, mockTask, null, 0, kafkaUrl, 0L);
+      }
+    }
+    bufferService.start();
+    for (PubSubTopicPartition topicPartition: topicPartitions) {
+      bufferService.drainBufferedRecordsFromTopicPartition(topicPartition);
+    }
+    // The records of each store are processed in order, while the stores take turns
+    for (List<DefaultPubSubMessage> storeRecords: Arrays.asList(records.subList(0, 5), records.subList(5, 10))) {
+      InOrder inOrder = inOrder(mockTask);
+      for (DefaultPubSubMessage record: storeRecords) {
+        inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(record, null, 0, kafkaUrl, 0L);
+      }
+    }
+    verify(mockHostLevelIngestionStats, timeout(TIMEOUT_IN_MS).times(10))
+        .recordStoreBufferQueueWaitLatency(anyDouble(), anyLong());
+    verify(mockHostLevelIngestionStats, timeout(TIMEOUT_IN_MS).times(10))
+        .recordStoreBufferDrainedBytes(anyLong(), anyLong());
+    bufferService.stop();
+  }
+
+  @Test
+  public void testGetStoreWeightFunction() {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    Assert.assertNull(StoreBufferService.getStoreWeightFunction(serverConfig));
+
+    doReturn(true).when(serverConfig).isStoreWriterBufferWeightedFairSchedulingEnabled();
+    doReturn(Collections.singletonMap("store", 4)).when(serverConfig).getStoreWriterBufferStoreWeightMap();
+    ToIntFunction<String> storeWeightFunction = StoreBufferService.getStoreWeightFunction(serverConfig);
+    Assert.assertEquals(storeWeightFunction.applyAsInt("store"), 4);
+    Assert.assertEquals(storeWeightFunction.applyAsInt("other_store"), 1);
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites, mockedStats, null);
@@ -210,6 +316,7 @@ public class StoreBufferServiceTest {
     doReturn(8).when(serverConfig).getDrainerPoolSizeSortedInput();
     doReturn(8).when(serverConfig).getDrainerPoolSizeUnsortedInput();
     doReturn(1000l).when(serverConfig).getStoreWriterBufferNotifyDelta();
+    doReturn(BlockingQueueType.LINKED_BLOCKING_QUEUE).when(serverConfig).getStoreWriterBufferQueueType();
     doReturn(10000l).when(serverConfig).getStoreWriterBufferMemoryCapacity();
     doReturn(queueLeaderWrites).when(serverConfig).isStoreWriterBufferAfterLeaderLogicEnabled();
     SeparatedStoreBufferService bufferService = new SeparatedStoreBufferService(serverConfig, mockMetricRepo);
@@ -330,6 +437,7 @@ public class StoreBufferServiceTest {
     doReturn(8).when(serverConfig).getDrainerPoolSizeSortedInput();
     doReturn(8).when(serverConfig).getDrainerPoolSizeUnsortedInput();
     doReturn(1000l).when(serverConfig).getStoreWriterBufferNotifyDelta();
+    doReturn(BlockingQueueType.LINKED_BLOCKING_QUEUE).when(serverConfig).getStoreWriterBufferQueueType();
     doReturn(10000l).when(serverConfig).getStoreWriterBufferMemoryCapacity();
     doReturn(queueLeaderWrites).when(serverConfig).isStoreWriterBufferAfterLeaderLogicEnabled();
     StoreBufferService sortedSBS = mock(StoreBufferService.class);
@@ -375,4 +483,86 @@ public class StoreBufferServiceTest {
     bufferService.putConsumerRecord(cr4, mockTask, null, partition1, kafkaUrl, 0);
     verify(unsortedSBS).putConsumerRecord(cr4, mockTask, null, partition1, kafkaUrl, 0);
   }
+
+  @Test
+  public void testRebalanceDrainers() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(
+        2,
+        10000,
+        1000,
+        false,
+        mockedStats,
+        null,
+        new StoreBufferService.DrainerConfig().setRebalance(HOURS.toMillis(1), 0.01));
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    String kafkaUrl = "blah";
+
+    // Find two partitions sharing the same drainer
+    List<PubSubTopicPartition> topicPartitions = new ArrayList<>();
+    int sharedDrainerIndex = -1;
+    for (int partition = 0; topicPartitions.size() < 2; ++partition) {
+      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partition);
+      int drainerIndex = bufferService.getDrainerIndexForConsumerRecord(
+          new ImmutablePubSubMessage(key, value, topicPartition, mockPosition, 0, 0),
+          partition);
+      if (sharedDrainerIndex == -1 || drainerIndex == sharedDrainerIndex) {
+        sharedDrainerIndex = drainerIndex;
+        topicPartitions.add(topicPartition);
+      }
+    }
+    doAnswer(invocation -> {
+      Thread.sleep(20);
+      return null;
+    }).when(mockTask).processConsumerRecord(any(), any(), anyInt(), anyString(), anyLong());
+
+    bufferService.start();
+    List<DefaultPubSubMessage> records = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      for (PubSubTopicPartition topicPartition: topicPartitions) {
+        DefaultPubSubMessage record =
+            new ImmutablePubSubMessage(key, value, topicPartition, mock(PubSubPosition.class), 0, 0);
+        records.add(record);
+        bufferService.putConsumerRecord(record, mockTask, null, topicPartition.getPartitionNumber(), kafkaUrl, 0L);
+      }
+    }
+    for (DefaultPubSubMessage record: records) {
+      verify(mockTask, timeout(TIMEOUT_IN_MS))
+          .processConsumerRecord(record, null, record.getTopicPartition().getPartitionNumber(), kafkaUrl, 0L);
+    }
+
+    // All the load is on one drainer, so one of the partitions should move to the other one
+    Assert.assertTrue(bufferService.rebalanceDrainers());
+    verify(mockedStats).recordPartitionReassignment();
+    int movedPartitionCount = 0;
+    PubSubTopicPartition movedTopicPartition = null;
+    for (PubSubTopicPartition topicPartition: topicPartitions) {
+      int drainerIndex = bufferService.getDrainerIndexForConsumerRecord(
+          new ImmutablePubSubMessage(key, value, topicPartition, mockPosition, 0, 0),
+          topicPartition.getPartitionNumber());
+      if (drainerIndex != sharedDrainerIndex) {
+        movedPartitionCount++;
+        movedTopicPartition = topicPartition;
+      }
+    }
+    Assert.assertEquals(movedPartitionCount, 1);
+
+    // The records of the moved partition are still processed in order by the new drainer
+    List<DefaultPubSubMessage> movedRecords = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      DefaultPubSubMessage record =
+          new ImmutablePubSubMessage(key, value, movedTopicPartition, mock(PubSubPosition.class), 0, 0);
+      movedRecords.add(record);
+      bufferService.putConsumerRecord(record, mockTask, null, movedTopicPartition.getPartitionNumber(), kafkaUrl, 0L);
+    }
+    InOrder inOrder = inOrder(mockTask);
+    for (DefaultPubSubMessage record: movedRecords) {
+      inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS))
+          .processConsumerRecord(record, null, movedTopicPartition.getPartitionNumber(), kafkaUrl, 0L);
+    }
+
+    // Without any load imbalance, nothing moves
+    Assert.assertFalse(bufferService.rebalanceDrainers());
+    bufferService.stop();
+  }
 }
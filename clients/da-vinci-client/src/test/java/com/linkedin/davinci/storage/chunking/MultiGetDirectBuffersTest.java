@@ -0,0 +1,64 @@
+package com.linkedin.davinci.storage.chunking;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class MultiGetDirectBuffersTest {
+  @Test
+  public void testPrepareKeys() {
+    MultiGetDirectBuffers buffers = new MultiGetDirectBuffers();
+    byte[] suffix = new byte[] { 9, 9 };
+    byte[] largeKey = new byte[MultiGetDirectBuffers.INITIAL_KEY_BUFFER_SIZE + 1];
+    Arrays.fill(largeKey, (byte) 1);
+    List<ByteBuffer> keys = Arrays.asList(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), ByteBuffer.wrap(largeKey));
+
+    List<ByteBuffer> keyBuffers = buffers.prepareKeys(keys, suffix);
+    assertEquals(keyBuffers.size(), 2);
+    assertTrue(keyBuffers.get(0).isDirect());
+    assertEquals(keyBuffers.get(0), ByteBuffer.wrap(new byte[] { 1, 2, 3, 9, 9 }));
+    assertEquals(keyBuffers.get(1).remaining(), largeKey.length + suffix.length);
+    // The source keys must not be consumed
+    assertEquals(keys.get(0).remaining(), 3);
+
+    ByteBuffer firstKeyBuffer = keyBuffers.get(0);
+    keyBuffers = buffers.prepareKeys(Arrays.asList(ByteBuffer.wrap(new byte[] { 4 })), null);
+    assertEquals(keyBuffers.size(), 1);
+    assertSame(keyBuffers.get(0), firstKeyBuffer);
+    assertEquals(keyBuffers.get(0), ByteBuffer.wrap(new byte[] { 4 }));
+  }
+
+  @Test
+  public void testPrepareValues() {
+    MultiGetDirectBuffers buffers = new MultiGetDirectBuffers();
+    List<ByteBuffer> valueBuffers = buffers.prepareValues(2);
+    assertEquals(valueBuffers.size(), 2);
+    ByteBuffer smallBuffer = valueBuffers.get(0);
+    assertTrue(smallBuffer.isDirect());
+    assertEquals(smallBuffer.remaining(), MultiGetDirectBuffers.INITIAL_VALUE_BUFFER_SIZE);
+
+    // Mimic the storage engine replacing buffers which are too small for their value
+    ByteBuffer retainedBuffer = ByteBuffer.allocateDirect(MultiGetDirectBuffers.MAX_RETAINED_VALUE_BUFFER_SIZE);
+    ByteBuffer oversizedBuffer = ByteBuffer.allocateDirect(MultiGetDirectBuffers.MAX_RETAINED_VALUE_BUFFER_SIZE + 1);
+    smallBuffer.put((byte) 1).flip();
+    valueBuffers.set(0, retainedBuffer);
+    valueBuffers.set(1, oversizedBuffer);
+
+    valueBuffers = buffers.prepareValues(3);
+    assertEquals(valueBuffers.size(), 3);
+    assertSame(valueBuffers.get(0), retainedBuffer);
+    assertNotSame(valueBuffers.get(1), oversizedBuffer);
+    assertEquals(valueBuffers.get(1).capacity(), MultiGetDirectBuffers.INITIAL_VALUE_BUFFER_SIZE);
+    for (ByteBuffer valueBuffer: valueBuffers) {
+      assertEquals(valueBuffer.position(), 0);
+      assertEquals(valueBuffer.remaining(), valueBuffer.capacity());
+    }
+  }
+}
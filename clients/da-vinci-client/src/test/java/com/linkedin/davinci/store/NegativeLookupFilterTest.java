@@ -0,0 +1,92 @@
+package com.linkedin.davinci.store;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
+
+public class NegativeLookupFilterTest {
+  private static byte[] key(int i) {
+    return ("key_" + i).getBytes();
+  }
+
+  @Test
+  public void testNoFalseNegatives() {
+    int keyCount = 100_000;
+    NegativeLookupFilter filter = new NegativeLookupFilter(keyCount, 10);
+    for (int i = 0; i < keyCount; i++) {
+      filter.add(key(i));
+    }
+    for (int i = 0; i < keyCount; i++) {
+      assertTrue(filter.mightContain(key(i)));
+      assertTrue(filter.mightContain(ByteBuffer.wrap(key(i))));
+    }
+    assertEquals(filter.getNegativeLookupCount(), 0);
+
+    // The false positive rate of a blocked bloom filter is a bit higher than the ~1% of a regular one
+    int falsePositives = 0;
+    for (int i = keyCount; i < 2 * keyCount; i++) {
+      if (filter.mightContain(key(i))) {
+        falsePositives++;
+        filter.recordFalsePositive();
+      }
+    }
+    assertTrue(falsePositives < keyCount * 0.03, "Too many false positives: " + falsePositives);
+    assertEquals(filter.getNegativeLookupCount(), keyCount - falsePositives);
+    assertEquals(filter.getFalsePositiveRate(), (double) falsePositives / keyCount, 1e-9);
+    assertEquals(filter.getMemoryUsageInBytes(), keyCount * 10 / 8, 64);
+  }
+
+  @Test
+  public void testKeyWithOffset() {
+    NegativeLookupFilter filter = new NegativeLookupFilter(10, 10);
+    filter.add(key(1));
+    byte[] paddedKey = ("__" + "key_1").getBytes();
+    ByteBuffer keyBuffer = ByteBuffer.wrap(paddedKey, 2, paddedKey.length - 2).slice();
+    assertTrue(filter.mightContain(keyBuffer));
+    // Direct buffers are not hashed, and are always reported as possibly present
+    assertTrue(filter.mightContain(ByteBuffer.allocateDirect(4)));
+    assertFalse(filter.mightContain(new byte[0]) && filter.mightContain(key(2)) && filter.mightContain(key(3)));
+  }
+
+  @Test
+  public void testConcurrentAdds() throws Exception {
+    int threadCount = 4;
+    int keysPerThread = 50_000;
+    NegativeLookupFilter filter = new NegativeLookupFilter(threadCount * keysPerThread, 10);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        int start = t * keysPerThread;
+        futures.add(executor.submit(() -> {
+          for (int i = start; i < start + keysPerThread; i++) {
+            filter.add(key(i));
+          }
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    for (int i = 0; i < threadCount * keysPerThread; i++) {
+      assertTrue(filter.mightContain(key(i)));
+    }
+  }
+
+  @Test
+  public void testInvalidBitsPerKey() {
+    assertThrows(IllegalArgumentException.class, () -> new NegativeLookupFilter(10, 0));
+  }
+}
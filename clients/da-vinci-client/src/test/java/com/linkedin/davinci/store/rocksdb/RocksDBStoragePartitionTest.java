@@ -4,6 +4,7 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLO
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILE_STARTING_LEVEL;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_CACHE_IMPLEMENTATION;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_CONCURRENT_WRITE_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_COMPACTION_TUNING_FOR_READ_WRITE_LEADER_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_FOR_READ_WRITE_LEADER;
@@ -17,6 +18,7 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MAX_MEMTABLE_COUNT;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MIN_BLOB_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_NEGATIVE_LOOKUP_FILTER_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
@@ -33,6 +35,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.NegativeLookupFilter;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.DiskLimitExhaustedException;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
@@ -58,6 +61,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.RandomStringUtils;
@@ -1233,4 +1240,179 @@ public class RocksDBStoragePartitionTest {
       removeDir(storeDir);
     }
   }
+
+  @Test
+  public void testConcurrentWrites() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    Properties extraProps = new Properties();
+    extraProps.setProperty(ROCKSDB_CONCURRENT_WRITE_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, extraProps);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    int threadCnt = 4;
+    int recordCntPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCnt);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threadCnt; ++t) {
+        int startIdx = t * recordCntPerThread;
+        futures.add(executor.submit(() -> {
+          for (int i = startIdx; i < startIdx + recordCntPerThread; ++i) {
+            storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+            if (i % 10 == 0) {
+              storagePartition.delete((KEY_PREFIX + i).getBytes());
+            }
+          }
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+      for (int i = 0; i < threadCnt * recordCntPerThread; ++i) {
+        byte[] value = storagePartition.get((KEY_PREFIX + i).getBytes());
+        if (i % 10 == 0) {
+          Assert.assertNull(value);
+        } else {
+          Assert.assertEquals(new String(value), VALUE_PREFIX + i);
+        }
+      }
+
+      storagePartition.close();
+      Assert.assertThrows(VeniceException.class, () -> storagePartition.put("new_key".getBytes(), "value".getBytes()));
+    } finally {
+      executor.shutdownNow();
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  @Test
+  public void testGetIntoDirectBuffer() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    try {
+      byte[] key = (KEY_PREFIX + 1).getBytes();
+      byte[] value = (VALUE_PREFIX + 1).getBytes();
+      storagePartition.put(key, value);
+
+      // The value is populated in place, starting from the current position of the direct buffer
+      ByteBuffer directBuffer = ByteBuffer.allocateDirect(1024);
+      directBuffer.position(4);
+      ByteBuffer result = storagePartition.get(key, directBuffer);
+      Assert.assertSame(result, directBuffer);
+      Assert.assertEquals(result.position(), 4);
+      Assert.assertEquals(result.remaining(), value.length);
+      byte[] resultBytes = new byte[result.remaining()];
+      result.get(resultBytes);
+      Assert.assertEquals(resultBytes, value);
+
+      // A value larger than the direct buffer is returned in a heap buffer
+      ByteBuffer smallDirectBuffer = ByteBuffer.allocateDirect(value.length - 1);
+      result = storagePartition.get(key, smallDirectBuffer);
+      Assert.assertNotSame(result, smallDirectBuffer);
+      Assert.assertFalse(result.isDirect());
+      Assert.assertEquals(ByteUtils.extractByteArray(result), value);
+
+      Assert.assertNull(storagePartition.get((KEY_PREFIX + 2).getBytes(), ByteBuffer.allocateDirect(1024)));
+    } finally {
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
+
+  @Test
+  public void testNegativeLookupFilter() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(true);
+    Properties extraProps = new Properties();
+    extraProps.put(ROCKSDB_NEGATIVE_LOOKUP_FILTER_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, extraProps);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    try {
+      int recordCount = 1000;
+      Map<String, String> inputRecords = generateInput(recordCount, true, 0);
+      storagePartition.beginBatchWrite(new HashMap<>(), Optional.empty());
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+      }
+      Assert.assertNull(storagePartition.getNegativeLookupFilter());
+      storagePartition.endBatchWrite();
+      NegativeLookupFilter filter = storagePartition.getNegativeLookupFilter();
+      Assert.assertNotNull(filter);
+      for (String key: inputRecords.keySet()) {
+        Assert.assertTrue(filter.mightContain(key.getBytes()));
+      }
+
+      // The filter is handed over to the partition re-opened for streaming writes, which keep it up to date
+      storagePartition.close();
+      partitionConfig.setDeferredWrite(false);
+      storagePartition = new RocksDBStoragePartition(
+          partitionConfig,
+          factory,
+          DATA_BASE_DIR,
+          null,
+          ROCKSDB_THROTTLER,
+          rocksDBServerConfig);
+      Assert.assertNull(storagePartition.getNegativeLookupFilter());
+      storagePartition.setNegativeLookupFilter(filter);
+      int newKeyIndex = recordCount;
+      while (filter.mightContain((KEY_PREFIX + newKeyIndex).getBytes())) {
+        newKeyIndex++;
+      }
+      byte[] newKey = (KEY_PREFIX + newKeyIndex).getBytes();
+      byte[] newValue = (VALUE_PREFIX + newKeyIndex).getBytes();
+      storagePartition.put(newKey, newValue);
+      Assert.assertTrue(filter.mightContain(newKey));
+      Assert.assertEquals(storagePartition.get(newKey), newValue);
+      Assert.assertTrue(filter.getNegativeLookupCount() > 0);
+      Assert.assertTrue(filter.getMemoryUsageInBytes() > 0);
+    } finally {
+      storagePartition.drop();
+      removeDir(storeDir);
+    }
+  }
 }
@@ -0,0 +1,138 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class derives the long tail retry threshold of one request type from the latencies of the recent original
+ * requests, so the retry is sent once a request is slower than the configured percentile of its peers, instead of after
+ * a fixed threshold which is hard to tune for every store.
+ *
+ * The latencies are kept in a sliding window histogram with log-linear buckets, similar to HdrHistogram: the buckets
+ * double in width every {@link #SUB_BUCKET_COUNT} buckets, which bounds the relative error of the percentile to about
+ * 6%, and the recording is a single atomic increment. The threshold is recomputed periodically by
+ * {@link #refreshThreshold()}, and the static threshold is used until the window contains enough samples.
+ */
+class AdaptiveLongTailRetryThreshold {
+  static final int MIN_SAMPLE_COUNT = 100;
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  // Enough buckets for any latency up to Integer.MAX_VALUE micro seconds
+  private static final int BUCKET_COUNT = (Integer.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+  private static final int SLICE_COUNT = 6;
+
+  private final int staticThresholdInMicroSeconds;
+  private final double percentile;
+  private final long sliceDurationInMs;
+  private final Slice[] slices = new Slice[SLICE_COUNT];
+  private final FastClientStats clientStats;
+  private volatile int thresholdInMicroSeconds;
+
+  AdaptiveLongTailRetryThreshold(
+      int staticThresholdInMicroSeconds,
+      double percentile,
+      long windowInMs,
+      FastClientStats clientStats) {
+    this.staticThresholdInMicroSeconds = staticThresholdInMicroSeconds;
+    this.percentile = percentile;
+    this.sliceDurationInMs = Math.max(1, windowInMs / SLICE_COUNT);
+    for (int i = 0; i < SLICE_COUNT; i++) {
+      slices[i] = new Slice();
+    }
+    this.clientStats = clientStats;
+    this.thresholdInMicroSeconds = staticThresholdInMicroSeconds;
+    clientStats.updateLongTailRetryThreshold(thresholdInMicroSeconds);
+  }
+
+  int getThresholdInMicroSeconds() {
+    return thresholdInMicroSeconds;
+  }
+
+  /**
+   * Records the latency of an original request, which started at the given time.
+   */
+  void recordLatency(long startTimeInNs) {
+    long latencyInMicroSeconds = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNs);
+    long epoch = System.currentTimeMillis() / sliceDurationInMs;
+    Slice slice = slices[(int) (epoch % SLICE_COUNT)];
+    if (slice.epoch != epoch) {
+      synchronized (slice) {
+        if (slice.epoch != epoch) {
+          // The slice was last used a whole window ago
+          for (int i = 0; i < BUCKET_COUNT; i++) {
+            slice.counts.set(i, 0);
+          }
+          slice.epoch = epoch;
+        }
+      }
+    }
+    slice.counts.incrementAndGet(getBucketIndex(latencyInMicroSeconds));
+  }
+
+  /**
+   * Recomputes the threshold from the latencies recorded within the window.
+   */
+  void refreshThreshold() {
+    long currentEpoch = System.currentTimeMillis() / sliceDurationInMs;
+    long[] counts = new long[BUCKET_COUNT];
+    long sampleCount = 0;
+    for (Slice slice: slices) {
+      if (currentEpoch - slice.epoch >= SLICE_COUNT) {
+        // Out of the window
+        continue;
+      }
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        long count = slice.counts.get(i);
+        counts[i] += count;
+        sampleCount += count;
+      }
+    }
+    if (sampleCount < MIN_SAMPLE_COUNT) {
+      thresholdInMicroSeconds = staticThresholdInMicroSeconds;
+    } else {
+      long targetCount = (long) Math.ceil(sampleCount * percentile);
+      long cumulativeCount = 0;
+      int bucketIndex = 0;
+      for (; bucketIndex < BUCKET_COUNT - 1; bucketIndex++) {
+        cumulativeCount += counts[bucketIndex];
+        if (cumulativeCount >= targetCount) {
+          break;
+        }
+      }
+      thresholdInMicroSeconds = (int) Math.max(1, Math.min(Integer.MAX_VALUE, getBucketUpperBound(bucketIndex)));
+    }
+    clientStats.updateLongTailRetryThreshold(thresholdInMicroSeconds);
+  }
+
+  static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) Math.max(0, value);
+    }
+    if (value > Integer.MAX_VALUE) {
+      return BUCKET_COUNT - 1;
+    }
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucketIndex = (int) (value >> shift) - SUB_BUCKET_COUNT;
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucketIndex;
+  }
+
+  /**
+   * @return the largest value of the given bucket, so the percentile is never under-estimated
+   */
+  static long getBucketUpperBound(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+    long subBucketValue = SUB_BUCKET_COUNT + bucketIndex % SUB_BUCKET_COUNT;
+    return ((subBucketValue + 1) << shift) - 1;
+  }
+
+  private static class Slice {
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    // The time slice covered by this slice, which is reset when it is reused for a later time slice
+    private volatile long epoch = -SLICE_COUNT;
+  }
+}
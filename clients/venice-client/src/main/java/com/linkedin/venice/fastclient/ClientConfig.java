@@ -2,6 +2,7 @@ package com.linkedin.venice.fastclient;
 
 import com.linkedin.d2.balancer.D2Client;
 import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.davinci.consumer.VeniceChangelogConsumer;
 import com.linkedin.r2.transport.common.Client;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
@@ -100,6 +101,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final double storeLoadControllerMaxRejectionRatio;
   private final double storeLoadControllerAcceptMultiplier;
 
+  private final boolean requestCoalescingEnabled;
+  private final int requestCoalescingMaxInFlightKeyCount;
+
+  private final int singleGetBatchingWindowInMicroSeconds;
+  private final int singleGetBatchingMaxBatchSize;
+
+  private final boolean nearCacheEnabled;
+  private final int nearCacheMaxEntryCount;
+  private final long nearCacheTtlInMs;
+  private final VeniceChangelogConsumer<K, V> nearCacheChangelogConsumer;
+  private final boolean nearCacheBatchOnlyStore;
+
+  private final boolean longTailRetryAdaptiveThresholdEnabled;
+  private final double longTailRetryAdaptiveThresholdPercentile;
+  private final long longTailRetryAdaptiveThresholdWindowInMs;
+
   private ClientConfig(ClientConfigBuilder builder) {
     if (builder.storeName == null || builder.storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
@@ -227,6 +244,52 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
         builder.storeLoadControllerRejectionRatioUpdateIntervalInSec;
     this.storeLoadControllerMaxRejectionRatio = builder.storeLoadControllerMaxRejectionRatio;
     this.storeLoadControllerAcceptMultiplier = builder.storeLoadControllerAcceptMultiplier;
+    this.requestCoalescingEnabled = builder.requestCoalescingEnabled;
+    this.requestCoalescingMaxInFlightKeyCount = builder.requestCoalescingMaxInFlightKeyCount;
+    if (requestCoalescingEnabled && requestCoalescingMaxInFlightKeyCount <= 0) {
+      throw new VeniceClientException(
+          "Invalid requestCoalescingMaxInFlightKeyCount value: " + requestCoalescingMaxInFlightKeyCount
+              + ", should be positive");
+    }
+    this.singleGetBatchingWindowInMicroSeconds = builder.singleGetBatchingWindowInMicroSeconds;
+    this.singleGetBatchingMaxBatchSize = builder.singleGetBatchingMaxBatchSize;
+    if (singleGetBatchingWindowInMicroSeconds > 0 && singleGetBatchingMaxBatchSize <= 1) {
+      throw new VeniceClientException(
+          "Invalid singleGetBatchingMaxBatchSize value: " + singleGetBatchingMaxBatchSize + ", should be above 1");
+    }
+    this.nearCacheEnabled = builder.nearCacheEnabled;
+    this.nearCacheMaxEntryCount = builder.nearCacheMaxEntryCount;
+    this.nearCacheTtlInMs = builder.nearCacheTtlInMs;
+    this.nearCacheChangelogConsumer = builder.nearCacheChangelogConsumer;
+    this.nearCacheBatchOnlyStore = builder.nearCacheBatchOnlyStore;
+    if (nearCacheEnabled && nearCacheMaxEntryCount <= 0) {
+      throw new VeniceClientException(
+          "Invalid nearCacheMaxEntryCount value: " + nearCacheMaxEntryCount + ", should be positive");
+    }
+    /**
+     * Without either, the values of a hybrid store would be cached for the whole version, and the nearline writes
+     * would never be seen.
+     */
+    if (nearCacheEnabled && nearCacheTtlInMs <= 0 && nearCacheChangelogConsumer == null && !nearCacheBatchOnlyStore) {
+      throw new VeniceClientException(
+          "Near cache of store: " + storeName + " requires either nearCacheTtlInMs or nearCacheChangelogConsumer, "
+              + "unless nearCacheBatchOnlyStore is set");
+    }
+    this.longTailRetryAdaptiveThresholdEnabled = builder.longTailRetryAdaptiveThresholdEnabled;
+    this.longTailRetryAdaptiveThresholdPercentile = builder.longTailRetryAdaptiveThresholdPercentile;
+    this.longTailRetryAdaptiveThresholdWindowInMs = builder.longTailRetryAdaptiveThresholdWindowInMs;
+    if (longTailRetryAdaptiveThresholdEnabled) {
+      if (longTailRetryAdaptiveThresholdPercentile <= 0.0 || longTailRetryAdaptiveThresholdPercentile >= 1.0) {
+        throw new VeniceClientException(
+            "Invalid longTailRetryAdaptiveThresholdPercentile value: " + longTailRetryAdaptiveThresholdPercentile
+                + ", should be in (0.0, 1.0)");
+      }
+      if (longTailRetryAdaptiveThresholdWindowInMs <= 0) {
+        throw new VeniceClientException(
+            "Invalid longTailRetryAdaptiveThresholdWindowInMs value: " + longTailRetryAdaptiveThresholdWindowInMs
+                + ", should be positive");
+      }
+    }
   }
 
   public String getStoreName() {
@@ -395,6 +458,58 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return storeLoadControllerAcceptMultiplier;
   }
 
+  public boolean isRequestCoalescingEnabled() {
+    return requestCoalescingEnabled;
+  }
+
+  public int getRequestCoalescingMaxInFlightKeyCount() {
+    return requestCoalescingMaxInFlightKeyCount;
+  }
+
+  public boolean isSingleGetBatchingEnabled() {
+    return singleGetBatchingWindowInMicroSeconds > 0;
+  }
+
+  public int getSingleGetBatchingWindowInMicroSeconds() {
+    return singleGetBatchingWindowInMicroSeconds;
+  }
+
+  public int getSingleGetBatchingMaxBatchSize() {
+    return singleGetBatchingMaxBatchSize;
+  }
+
+  public boolean isNearCacheEnabled() {
+    return nearCacheEnabled;
+  }
+
+  public int getNearCacheMaxEntryCount() {
+    return nearCacheMaxEntryCount;
+  }
+
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
+  public VeniceChangelogConsumer<K, V> getNearCacheChangelogConsumer() {
+    return nearCacheChangelogConsumer;
+  }
+
+  public boolean isNearCacheBatchOnlyStore() {
+    return nearCacheBatchOnlyStore;
+  }
+
+  public boolean isLongTailRetryAdaptiveThresholdEnabled() {
+    return longTailRetryAdaptiveThresholdEnabled;
+  }
+
+  public double getLongTailRetryAdaptiveThresholdPercentile() {
+    return longTailRetryAdaptiveThresholdPercentile;
+  }
+
+  public long getLongTailRetryAdaptiveThresholdWindowInMs() {
+    return longTailRetryAdaptiveThresholdWindowInMs;
+  }
+
   public static class ClientConfigBuilder<K, V, T extends SpecificRecord> {
     private MetricsRepository metricsRepository;
     private String statsPrefix = "";
@@ -450,6 +565,18 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private int storeLoadControllerRejectionRatioUpdateIntervalInSec = 3;
     private double storeLoadControllerMaxRejectionRatio = 0.9;
     private double storeLoadControllerAcceptMultiplier = 2.0;
+    private boolean requestCoalescingEnabled = false;
+    private int requestCoalescingMaxInFlightKeyCount = 10000;
+    private int singleGetBatchingWindowInMicroSeconds = 0; // disabled
+    private int singleGetBatchingMaxBatchSize = 100;
+    private boolean nearCacheEnabled = false;
+    private int nearCacheMaxEntryCount = 100000;
+    private long nearCacheTtlInMs = -1; // no expiration
+    private VeniceChangelogConsumer<K, V> nearCacheChangelogConsumer;
+    private boolean nearCacheBatchOnlyStore = false;
+    private boolean longTailRetryAdaptiveThresholdEnabled = false;
+    private double longTailRetryAdaptiveThresholdPercentile = 0.95;
+    private long longTailRetryAdaptiveThresholdWindowInMs = 60000; // 1 minute
 
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
@@ -663,6 +790,116 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    /**
+     * Whether the concurrent reads of the same key should share a single request to the storage nodes, and thus the
+     * same deserialized value, so the values returned by this client should not be modified when it is enabled.
+     */
+    public ClientConfigBuilder<K, V, T> setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+      this.requestCoalescingEnabled = requestCoalescingEnabled;
+      return this;
+    }
+
+    /**
+     * The maximum number of keys tracked for request coalescing. The reads of other keys are sent as is once it is
+     * reached.
+     */
+    public ClientConfigBuilder<K, V, T> setRequestCoalescingMaxInFlightKeyCount(
+        int requestCoalescingMaxInFlightKeyCount) {
+      this.requestCoalescingMaxInFlightKeyCount = requestCoalescingMaxInFlightKeyCount;
+      return this;
+    }
+
+    /**
+     * When positive, the single gets routed to the same replica within this window are sent together as one batch get
+     * request, which trades some latency for less per-request overhead. Batching is disabled by default.
+     */
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingWindowInMicroSeconds(
+        int singleGetBatchingWindowInMicroSeconds) {
+      this.singleGetBatchingWindowInMicroSeconds = singleGetBatchingWindowInMicroSeconds;
+      return this;
+    }
+
+    /**
+     * The maximum number of single gets sent in one batch, and a batch is sent right away once it is full.
+     */
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingMaxBatchSize(int singleGetBatchingMaxBatchSize) {
+      this.singleGetBatchingMaxBatchSize = singleGetBatchingMaxBatchSize;
+      return this;
+    }
+
+    /**
+     * Whether the values returned by this client should be kept in a client-side cache, which is invalidated whenever
+     * the current version of the store changes. The cached values are shared, so they should not be modified.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheEnabled(boolean nearCacheEnabled) {
+      this.nearCacheEnabled = nearCacheEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxEntryCount(int nearCacheMaxEntryCount) {
+      this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+      return this;
+    }
+
+    /**
+     * How long a value can be served from the near cache, which bounds the staleness of the values of hybrid stores.
+     * A non-positive value means the values are kept until they are evicted or invalidated.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+      this.nearCacheTtlInMs = nearCacheTtlInMs;
+      return this;
+    }
+
+    /**
+     * An optional change capture consumer of the store, used to invalidate the keys updated by nearline writes as soon
+     * as they are consumed. The near cache subscribes it to all the partitions and closes it with the client.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheChangelogConsumer(
+        VeniceChangelogConsumer<K, V> nearCacheChangelogConsumer) {
+      this.nearCacheChangelogConsumer = nearCacheChangelogConsumer;
+      return this;
+    }
+
+    /**
+     * Declares that the store is batch-only, so that the near cache may keep the values until the current version
+     * changes without {@link #setNearCacheTtlInMs} or {@link #setNearCacheChangelogConsumer}, which are otherwise
+     * required to see the nearline writes of hybrid stores.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheBatchOnlyStore(boolean nearCacheBatchOnlyStore) {
+      this.nearCacheBatchOnlyStore = nearCacheBatchOnlyStore;
+      return this;
+    }
+
+    /**
+     * Derive the long tail retry thresholds from the recent latencies of each request type instead of using the
+     * configured thresholds, which are only used until enough latencies are recorded. The long tail retries are still
+     * subject to the retry budget.
+     */
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdEnabled(
+        boolean longTailRetryAdaptiveThresholdEnabled) {
+      this.longTailRetryAdaptiveThresholdEnabled = longTailRetryAdaptiveThresholdEnabled;
+      return this;
+    }
+
+    /**
+     * The latency percentile used as the adaptive long tail retry threshold, e.g. 0.95 to retry the requests slower
+     * than 95% of the recent requests.
+     */
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdPercentile(
+        double longTailRetryAdaptiveThresholdPercentile) {
+      this.longTailRetryAdaptiveThresholdPercentile = longTailRetryAdaptiveThresholdPercentile;
+      return this;
+    }
+
+    /**
+     * The sliding time window of the latencies used to compute the adaptive long tail retry threshold.
+     */
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdWindowInMs(
+        long longTailRetryAdaptiveThresholdWindowInMs) {
+      this.longTailRetryAdaptiveThresholdWindowInMs = longTailRetryAdaptiveThresholdWindowInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -703,7 +940,19 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setStoreLoadControllerWindowSizeInSec(storeLoadControllerWindowSizeInSec)
           .setStoreLoadControllerRejectionRatioUpdateIntervalInSec(storeLoadControllerRejectionRatioUpdateIntervalInSec)
           .setStoreLoadControllerMaxRejectionRatio(storeLoadControllerMaxRejectionRatio)
-          .setStoreLoadControllerAcceptMultiplier(storeLoadControllerAcceptMultiplier);
+          .setStoreLoadControllerAcceptMultiplier(storeLoadControllerAcceptMultiplier)
+          .setRequestCoalescingEnabled(requestCoalescingEnabled)
+          .setRequestCoalescingMaxInFlightKeyCount(requestCoalescingMaxInFlightKeyCount)
+          .setSingleGetBatchingWindowInMicroSeconds(singleGetBatchingWindowInMicroSeconds)
+          .setSingleGetBatchingMaxBatchSize(singleGetBatchingMaxBatchSize)
+          .setNearCacheEnabled(nearCacheEnabled)
+          .setNearCacheMaxEntryCount(nearCacheMaxEntryCount)
+          .setNearCacheTtlInMs(nearCacheTtlInMs)
+          .setNearCacheChangelogConsumer(nearCacheChangelogConsumer)
+          .setNearCacheBatchOnlyStore(nearCacheBatchOnlyStore)
+          .setLongTailRetryAdaptiveThresholdEnabled(longTailRetryAdaptiveThresholdEnabled)
+          .setLongTailRetryAdaptiveThresholdPercentile(longTailRetryAdaptiveThresholdPercentile)
+          .setLongTailRetryAdaptiveThresholdWindowInMs(longTailRetryAdaptiveThresholdWindowInMs);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -0,0 +1,219 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * This class deduplicates the concurrent reads of the same key: while a key is being read, by either {@link #get} or
+ * {@link #streamingBatchGet}, other requests for that key wait for the in-flight read instead of sending their own, so
+ * the concurrent callers share a single request to the storage nodes, including its retries when this layer wraps
+ * {@link RetriableAvroGenericStoreClient}, and a single deserialized value.
+ *
+ * Since the values are shared, they should not be modified by the callers. The number of tracked keys is bounded by
+ * {@link ClientConfig#getRequestCoalescingMaxInFlightKeyCount()}, and the reads of other keys are sent as is once it is
+ * reached. Compute requests are not coalesced.
+ */
+public class CoalescingAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private final Map<K, CompletableFuture<V>> inFlightReads = new VeniceConcurrentHashMap<>();
+  private final int maxInFlightKeyCount;
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForStreamingBatchGet;
+
+  public CoalescingAvroGenericStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig) {
+    super(delegate, clientConfig);
+    this.maxInFlightKeyCount = clientConfig.getRequestCoalescingMaxInFlightKeyCount();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForStreamingBatchGet = clientConfig.getStats(RequestType.MULTI_GET_STREAMING);
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext<K> requestContext, K key) throws VeniceClientException {
+    CompletableFuture<V> inFlightRead = inFlightReads.get(key);
+    if (inFlightRead == null) {
+      if (inFlightReads.size() >= maxInFlightKeyCount) {
+        return super.get(requestContext, key);
+      }
+      CompletableFuture<V> read = new CompletableFuture<>();
+      inFlightRead = inFlightReads.putIfAbsent(key, read);
+      if (inFlightRead == null) {
+        CompletableFuture<V> future;
+        try {
+          future = super.get(requestContext, key);
+        } catch (RuntimeException e) {
+          completeRead(key, read, null, e);
+          throw e;
+        }
+        future.whenComplete((value, throwable) -> completeRead(key, read, value, throwable));
+        return future;
+      }
+    }
+
+    clientStatsForSingleGet.recordCoalescedRequest(1);
+    CompletableFuture<V> future = new CompletableFuture<>();
+    inFlightRead.whenComplete((value, throwable) -> {
+      if (throwable != null) {
+        future.completeExceptionally(throwable);
+      } else {
+        if (value != null) {
+          requestContext.successRequestKeyCount.incrementAndGet();
+        }
+        future.complete(value);
+      }
+    });
+    return future;
+  }
+
+  @Override
+  protected void streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      StreamingCallback<K, V> callback) {
+    Map<K, CompletableFuture<V>> ownedReads = new HashMap<>();
+    Map<K, CompletableFuture<V>> sharedReads = new HashMap<>();
+    for (K key: keys) {
+      CompletableFuture<V> inFlightRead = inFlightReads.get(key);
+      if (inFlightRead == null && inFlightReads.size() < maxInFlightKeyCount) {
+        CompletableFuture<V> read = new CompletableFuture<>();
+        inFlightRead = inFlightReads.putIfAbsent(key, read);
+        if (inFlightRead == null) {
+          ownedReads.put(key, read);
+        }
+      }
+      if (inFlightRead != null) {
+        sharedReads.put(key, inFlightRead);
+      }
+    }
+    if (sharedReads.isEmpty() && ownedReads.isEmpty()) {
+      super.streamingBatchGet(requestContext, keys, callback);
+      return;
+    }
+
+    Set<K> keysToSend = keys;
+    if (!sharedReads.isEmpty()) {
+      clientStatsForStreamingBatchGet.recordCoalescedRequest(sharedReads.size());
+      keysToSend = new HashSet<>(keys);
+      keysToSend.removeAll(sharedReads.keySet());
+    }
+
+    BatchCompletionTracker tracker = new BatchCompletionTracker(
+        requestContext,
+        callback,
+        sharedReads.size() + (keysToSend.isEmpty() ? 0 : 1));
+    for (Map.Entry<K, CompletableFuture<V>> entry: sharedReads.entrySet()) {
+      K key = entry.getKey();
+      entry.getValue().whenComplete((value, throwable) -> {
+        if (throwable == null) {
+          callback.onRecordReceived(key, value);
+        }
+        tracker.onSharedReadCompletion(throwable);
+      });
+    }
+    if (keysToSend.isEmpty()) {
+      return;
+    }
+
+    StreamingCallback<K, V> delegateCallback = new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        callback.onRecordReceived(key, value);
+        CompletableFuture<V> read = ownedReads.get(key);
+        if (read != null) {
+          completeRead(key, read, value, null);
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        // The reads of the keys which did not get any value failed, whether partial success is allowed or not
+        for (Map.Entry<K, CompletableFuture<V>> entry: ownedReads.entrySet()) {
+          if (!entry.getValue().isDone()) {
+            Throwable readException = exception.isPresent()
+                ? exception.get()
+                : requestContext.getPartialResponseException()
+                    .orElseGet(() -> new VeniceClientException("No value received for key: " + entry.getKey()));
+            completeRead(entry.getKey(), entry.getValue(), null, readException);
+          }
+        }
+        tracker.onDelegateCompletion(exception);
+      }
+    };
+    try {
+      super.streamingBatchGet(requestContext, keysToSend, delegateCallback);
+    } catch (RuntimeException e) {
+      delegateCallback.onCompletion(Optional.of(e));
+    }
+  }
+
+  private void completeRead(K key, CompletableFuture<V> read, V value, Throwable throwable) {
+    // Stop sharing the read before completing it, so the later requests would fetch the latest value
+    inFlightReads.remove(key, read);
+    if (throwable != null) {
+      read.completeExceptionally(throwable);
+    } else {
+      read.complete(value);
+    }
+  }
+
+  /**
+   * Invokes {@link StreamingCallback#onCompletion} of a batch get once both the request for the keys it sent itself,
+   * if any, and the in-flight reads it shared with other requests are completed.
+   */
+  private static class BatchCompletionTracker {
+    private final MultiKeyRequestContext requestContext;
+    private final StreamingCallback callback;
+    private final AtomicInteger pendingCount;
+    private final AtomicReference<Exception> delegateException = new AtomicReference<>();
+    private final AtomicReference<Throwable> sharedReadException = new AtomicReference<>();
+
+    BatchCompletionTracker(MultiKeyRequestContext requestContext, StreamingCallback callback, int pendingCount) {
+      this.requestContext = requestContext;
+      this.callback = callback;
+      this.pendingCount = new AtomicInteger(pendingCount);
+    }
+
+    void onDelegateCompletion(Optional<Exception> exception) {
+      exception.ifPresent(delegateException::set);
+      onCompletion();
+    }
+
+    void onSharedReadCompletion(Throwable throwable) {
+      if (throwable != null) {
+        sharedReadException.compareAndSet(null, throwable);
+      }
+      onCompletion();
+    }
+
+    private void onCompletion() {
+      if (pendingCount.decrementAndGet() > 0) {
+        return;
+      }
+      if (delegateException.get() != null) {
+        callback.onCompletion(Optional.of(delegateException.get()));
+        return;
+      }
+      Throwable throwable = sharedReadException.get();
+      if (throwable == null) {
+        callback.onCompletion(Optional.empty());
+      } else if (requestContext.isPartialSuccessAllowed) {
+        requestContext.setPartialResponseExceptionIfNull(throwable);
+        requestContext.complete();
+        callback.onCompletion(Optional.empty());
+      } else {
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Failed to read the keys shared with other requests", throwable)));
+      }
+    }
+  }
+}
@@ -76,6 +76,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   private final ClientConfig config;
   private final TransportClient transportClient;
   private final Executor deserializationExecutor;
+  private final SingleGetBatcher singleGetBatcher;
 
   // Key serializer
   private RecordSerializer<K> keySerializer;
@@ -117,6 +118,12 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "BatchGet Transport Exception for " + storeName;
     COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "Compute Transport Exception for " + storeName;
     this.storeDeserializerCache = new AvroStoreDeserializerCache<>(metadata);
+    this.singleGetBatcher = config.isSingleGetBatchingEnabled()
+        ? new SingleGetBatcher(
+            transportClient,
+            config.getSingleGetBatchingWindowInMicroSeconds(),
+            config.getSingleGetBatchingMaxBatchSize())
+        : null;
   }
 
   protected StoreMetadata getStoreMetadata() {
@@ -208,7 +215,15 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     try {
       requestContext.requestSentTimestampNS = System.nanoTime();
       String url = requestContext.route + composeURIForSingleGet(requestContext);
-      CompletableFuture<TransportClientResponse> transportFuture = transportClient.get(url);
+      CompletableFuture<TransportClientResponse> transportFuture;
+      if (singleGetBatcher != null) {
+        String batchGetUrl = requestContext.route + URI_SEPARATOR + AbstractAvroStoreClient.TYPE_STORAGE
+            + URI_SEPARATOR + getResourceName(requestContext.getCurrentVersion());
+        transportFuture = singleGetBatcher
+            .get(batchGetUrl, url, requestContext.getPartitionId(), requestContext.serializedKey);
+      } else {
+        transportFuture = transportClient.get(url);
+      }
       routeRequestFuture =
           metadata
               .trackHealthBasedOnRequestToInstance(
@@ -527,7 +542,11 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         requestContext,
-        RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true),
+        RequestHeadersProvider.getStreamingComputeHeaderMap(
+            keys.size(),
+            computeRequest.getValueSchemaID(),
+            true,
+            computeRequest.getProtocolVersion()),
         (keysForRoutes) -> serializeComputeRequest(computeRequest, keysForRoutes),
         (MultiKeyStreamingRouteResponseHandler<K>) (keysForRoutes, response, throwable) -> {
           ComputeRecordStreamDecoder decoder = getComputeDecoderForRoute(
@@ -749,6 +768,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
   @Override
   public void close() {
+    if (singleGetBatcher != null) {
+      singleGetBatcher.close();
+    }
     try {
       metadata.close();
     } catch (Exception e) {
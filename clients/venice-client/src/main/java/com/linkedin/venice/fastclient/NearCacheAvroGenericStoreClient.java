@@ -0,0 +1,318 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.davinci.consumer.ChangeEvent;
+import com.linkedin.davinci.consumer.VeniceChangeCoordinate;
+import com.linkedin.davinci.consumer.VeniceChangelogConsumer;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.ClusterStats;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.BoundedHashMap;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.RedundantExceptionFilter;
+import com.linkedin.venice.utils.Utils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class keeps the values returned by {@link #get} and {@link #streamingBatchGet} in a bounded client-side cache,
+ * and serves the following reads of the same keys from it.
+ *
+ * The values of a version never change for batch-only stores, so the whole cache is invalidated whenever the current
+ * version in {@link StoreMetadata} changes, and the values read from a different version are never cached. The values
+ * of hybrid stores can be updated by nearline writes, so their staleness can be bounded with
+ * {@link ClientConfig#getNearCacheTtlInMs()}, or the updated keys can be invalidated as they are consumed by
+ * {@link ClientConfig#getNearCacheChangelogConsumer()}. One of them is required, unless the store is declared
+ * batch-only with {@link ClientConfig#isNearCacheBatchOnlyStore()}.
+ *
+ * A read might return the value of a key which gets invalidated while the read is in flight, so the readers capture
+ * {@link #getInvalidationStamp} before reading, and {@link #maybeCache} ignores the value if any key of the same stripe
+ * was invalidated in the meantime.
+ *
+ * Missing keys are not cached, and compute requests always go to the storage nodes.
+ */
+public class NearCacheAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(NearCacheAvroGenericStoreClient.class);
+  private static final RedundantExceptionFilter REDUNDANT_LOGGING_FILTER =
+      RedundantExceptionFilter.getRedundantExceptionFilter();
+  private static final String NEAR_CACHE_INVALIDATION_THREAD_PREFIX = "Fast-client-near-cache-invalidation-thread";
+  private static final int SEGMENT_COUNT = 16;
+  /**
+   * Each stripe belongs to a single segment, so that the stamps are only bumped under the lock of that segment.
+   */
+  private static final int INVALIDATION_STRIPE_COUNT = SEGMENT_COUNT * 64;
+  private static final long CHANGELOG_POLL_TIMEOUT_MS = 1000;
+
+  private final StoreMetadata metadata;
+  private final Segment<K, V>[] segments;
+  private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STRIPE_COUNT);
+  private final long ttlInMs;
+  private final VeniceChangelogConsumer<K, V> changelogConsumer;
+  private final ExecutorService changelogConsumerExecutor;
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForStreamingBatchGet;
+  private final ClusterStats clusterStats;
+  private final String changelogExceptionFilterMessage;
+  /**
+   * The version of the values in the cache, which is -1 until the version is known.
+   */
+  private volatile int cachedVersion = -1;
+  private volatile boolean isRunning = false;
+
+  public NearCacheAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata metadata) {
+    super(delegate, clientConfig);
+    this.metadata = metadata;
+    this.segments = new Segment[SEGMENT_COUNT];
+    int maxEntryCountPerSegment = Math.max(1, clientConfig.getNearCacheMaxEntryCount() / SEGMENT_COUNT);
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment<>(maxEntryCountPerSegment);
+    }
+    this.ttlInMs = clientConfig.getNearCacheTtlInMs();
+    this.changelogConsumer = clientConfig.getNearCacheChangelogConsumer();
+    this.changelogConsumerExecutor = changelogConsumer == null
+        ? null
+        : Executors.newSingleThreadExecutor(new DaemonThreadFactory(NEAR_CACHE_INVALIDATION_THREAD_PREFIX));
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForStreamingBatchGet = clientConfig.getStats(RequestType.MULTI_GET_STREAMING);
+    this.clusterStats = clientConfig.getClusterStats();
+    this.changelogExceptionFilterMessage = "Near cache changelog exception for " + clientConfig.getStoreName();
+  }
+
+  @Override
+  public void start() throws VeniceClientException {
+    super.start();
+    if (changelogConsumer != null) {
+      isRunning = true;
+      changelogConsumer.subscribeAll();
+      changelogConsumerExecutor.submit(this::consumeChangelog);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (changelogConsumer != null) {
+      isRunning = false;
+      changelogConsumerExecutor.shutdown();
+      try {
+        changelogConsumerExecutor.awaitTermination(2 * CHANGELOG_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      changelogConsumer.close();
+    }
+    invalidateAll();
+    super.close();
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext<K> requestContext, K key) throws VeniceClientException {
+    int currentVersion = refreshCachedVersion();
+    CachedValue<V> cachedValue = getCachedValue(key, currentVersion);
+    if (cachedValue != null) {
+      clientStatsForSingleGet.recordNearCacheHit(System.currentTimeMillis() - cachedValue.cachedTimeInMs);
+      requestContext.successRequestKeyCount.incrementAndGet();
+      return CompletableFuture.completedFuture(cachedValue.value);
+    }
+    clientStatsForSingleGet.recordNearCacheMissKeyCount(1);
+
+    long invalidationStamp = getInvalidationStamp(key);
+    CompletableFuture<V> future = super.get(requestContext, key);
+    future.whenComplete((value, throwable) -> {
+      if (throwable == null) {
+        maybeCache(key, value, requestContext.currentVersion, invalidationStamp);
+      }
+    });
+    return future;
+  }
+
+  @Override
+  protected void streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      StreamingCallback<K, V> callback) {
+    int currentVersion = refreshCachedVersion();
+    Map<K, Long> missedKeyToInvalidationStamp = new HashMap<>();
+    long nowInMs = System.currentTimeMillis();
+    for (K key: keys) {
+      CachedValue<V> cachedValue = getCachedValue(key, currentVersion);
+      if (cachedValue == null) {
+        missedKeyToInvalidationStamp.put(key, getInvalidationStamp(key));
+      } else {
+        clientStatsForStreamingBatchGet.recordNearCacheHit(nowInMs - cachedValue.cachedTimeInMs);
+        callback.onRecordReceived(key, cachedValue.value);
+      }
+    }
+    if (missedKeyToInvalidationStamp.isEmpty()) {
+      callback.onCompletion(Optional.empty());
+      return;
+    }
+    clientStatsForStreamingBatchGet.recordNearCacheMissKeyCount(missedKeyToInvalidationStamp.size());
+
+    super.streamingBatchGet(requestContext, missedKeyToInvalidationStamp.keySet(), new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        Long invalidationStamp = missedKeyToInvalidationStamp.get(key);
+        if (invalidationStamp != null) {
+          maybeCache(key, value, requestContext.currentVersion, invalidationStamp);
+        }
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        callback.onCompletion(exception);
+      }
+    });
+  }
+
+  /**
+   * Invalidates the whole cache if the current version has changed since the cached values were read.
+   * @return the current version, or -1 if it isn't known yet
+   */
+  private int refreshCachedVersion() {
+    if (!metadata.isReady()) {
+      return -1;
+    }
+    int currentVersion = metadata.getCurrentStoreVersion();
+    if (currentVersion != cachedVersion) {
+      synchronized (this) {
+        if (currentVersion != cachedVersion) {
+          boolean hadCachedVersion = cachedVersion != -1;
+          // Stop caching the values of the previous version before clearing the cache
+          cachedVersion = currentVersion;
+          invalidateAll();
+          if (hadCachedVersion) {
+            clusterStats.recordNearCacheVersionSwapInvalidation();
+          }
+        }
+      }
+    }
+    return currentVersion;
+  }
+
+  private CachedValue<V> getCachedValue(K key, int currentVersion) {
+    if (currentVersion == -1) {
+      return null;
+    }
+    Segment<K, V> segment = getSegment(key);
+    synchronized (segment) {
+      CachedValue<V> cachedValue = segment.entries.get(key);
+      if (cachedValue == null) {
+        return null;
+      }
+      if (cachedValue.version != currentVersion || isExpired(cachedValue)) {
+        segment.entries.remove(key);
+        return null;
+      }
+      return cachedValue;
+    }
+  }
+
+  /**
+   * @return the stamp to pass to {@link #maybeCache} for the value of the given key which is about to be read
+   */
+  private long getInvalidationStamp(K key) {
+    return invalidationStamps.get(getStripe(key));
+  }
+
+  private void maybeCache(K key, V value, int version, long invalidationStamp) {
+    if (value == null || version == -1 || version != cachedVersion) {
+      return;
+    }
+    Segment<K, V> segment = getSegment(key);
+    synchronized (segment) {
+      // The value might have been read before the invalidation of a nearline write
+      if (invalidationStamps.get(getStripe(key)) != invalidationStamp) {
+        return;
+      }
+      segment.entries.put(key, new CachedValue<>(value, version, System.currentTimeMillis()));
+    }
+  }
+
+  private boolean isExpired(CachedValue<V> cachedValue) {
+    return ttlInMs > 0 && System.currentTimeMillis() - cachedValue.cachedTimeInMs >= ttlInMs;
+  }
+
+  private void invalidate(K key) {
+    Segment<K, V> segment = getSegment(key);
+    synchronized (segment) {
+      invalidationStamps.incrementAndGet(getStripe(key));
+      segment.entries.remove(key);
+    }
+  }
+
+  private void invalidateAll() {
+    for (Segment<K, V> segment: segments) {
+      synchronized (segment) {
+        segment.entries.clear();
+      }
+    }
+  }
+
+  private Segment<K, V> getSegment(K key) {
+    // Consistent with the stripes, since the stripe count is a multiple of the segment count
+    return segments[(key.hashCode() & Integer.MAX_VALUE) % SEGMENT_COUNT];
+  }
+
+  private static int getStripe(Object key) {
+    return (key.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STRIPE_COUNT;
+  }
+
+  private void consumeChangelog() {
+    while (isRunning) {
+      try {
+        Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages =
+            changelogConsumer.poll(CHANGELOG_POLL_TIMEOUT_MS);
+        for (PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> message: messages) {
+          invalidate(message.getKey());
+          clusterStats.recordNearCacheInvalidatedKey();
+        }
+      } catch (Exception e) {
+        if (!REDUNDANT_LOGGING_FILTER.isRedundantException(changelogExceptionFilterMessage)) {
+          LOGGER.error("Failed to consume the changelog of store: {}", getStoreName(), e);
+        }
+        // Back off before polling again
+        if (!Utils.sleep(CHANGELOG_POLL_TIMEOUT_MS)) {
+          return;
+        }
+      }
+    }
+  }
+
+  private static class Segment<K, V> {
+    private final Map<K, CachedValue<V>> entries;
+
+    Segment(int maxEntryCount) {
+      this.entries = new BoundedHashMap<>(maxEntryCount, true);
+    }
+  }
+
+  private static class CachedValue<V> {
+    private final V value;
+    private final int version;
+    private final long cachedTimeInMs;
+
+    CachedValue(V value, int version, long cachedTimeInMs) {
+      this.value = value;
+      this.version = version;
+      this.cachedTimeInMs = cachedTimeInMs;
+    }
+  }
+}
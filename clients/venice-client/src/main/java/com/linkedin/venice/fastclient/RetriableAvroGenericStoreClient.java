@@ -7,7 +7,9 @@ import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
 import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -35,6 +37,7 @@ import org.apache.logging.log4j.Logger;
  */
 public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
   private static final String FAST_CLIENT_RETRY_MANAGER_THREAD_PREFIX = "Fast-client-retry-manager-thread";
+  private static final long ADAPTIVE_THRESHOLD_REFRESH_INTERVAL_MS = 1000;
   private final boolean longTailRetryEnabledForSingleGet;
   private final boolean longTailRetryEnabledForBatchGet;
   private final boolean longTailRetryEnabledForCompute;
@@ -51,6 +54,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   private RetryManager singleKeyLongTailRetryManager = null;
   private RetryManager multiKeyLongTailRetryManager = null;
+  /**
+   * The adaptive long tail retry thresholds, which are only set when
+   * {@link ClientConfig#isLongTailRetryAdaptiveThresholdEnabled()} and replace the static thresholds of the same
+   * request type. The retry budget above still applies to the long tail retries sent after the adaptive thresholds.
+   */
+  private AdaptiveLongTailRetryThreshold singleGetAdaptiveThreshold = null;
+  private AdaptiveLongTailRetryThreshold batchGetAdaptiveThreshold = null;
+  private AdaptiveLongTailRetryThreshold computeAdaptiveThreshold = null;
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
   public static final String SINGLE_KEY_LONG_TAIL_RETRY_STATS_PREFIX = "single-key-long-tail-retry-manager-";
   public static final String MULTI_KEY_LONG_TAIL_RETRY_STATS_PREFIX = "multi-key-long-tail-retry-manager-";
@@ -90,6 +101,56 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
           clientConfig.getRetryBudgetPercentage(),
           retryManagerExecutorService);
     }
+    if (clientConfig.isLongTailRetryAdaptiveThresholdEnabled()) {
+      if (longTailRetryEnabledForSingleGet) {
+        this.singleGetAdaptiveThreshold = createAdaptiveThreshold(
+            clientConfig,
+            longTailRetryThresholdForSingleGetInMicroSeconds,
+            clientConfig.getStats(RequestType.SINGLE_GET));
+      }
+      if (longTailRetryEnabledForBatchGet) {
+        this.batchGetAdaptiveThreshold = createAdaptiveThreshold(
+            clientConfig,
+            longTailRetryThresholdForBatchGetInMicroSeconds,
+            clientConfig.getStats(RequestType.MULTI_GET_STREAMING));
+      }
+      if (longTailRetryEnabledForCompute) {
+        this.computeAdaptiveThreshold = createAdaptiveThreshold(
+            clientConfig,
+            longTailRetryThresholdForComputeInMicroSeconds,
+            clientConfig.getStats(RequestType.COMPUTE_STREAMING));
+      }
+      retryManagerExecutorService.scheduleAtFixedRate(
+          this::refreshAdaptiveThresholds,
+          ADAPTIVE_THRESHOLD_REFRESH_INTERVAL_MS,
+          ADAPTIVE_THRESHOLD_REFRESH_INTERVAL_MS,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static AdaptiveLongTailRetryThreshold createAdaptiveThreshold(
+      ClientConfig clientConfig,
+      int staticThresholdInMicroSeconds,
+      FastClientStats clientStats) {
+    return new AdaptiveLongTailRetryThreshold(
+        staticThresholdInMicroSeconds,
+        clientConfig.getLongTailRetryAdaptiveThresholdPercentile(),
+        clientConfig.getLongTailRetryAdaptiveThresholdWindowInMs(),
+        clientStats);
+  }
+
+  void refreshAdaptiveThresholds() {
+    try {
+      for (AdaptiveLongTailRetryThreshold adaptiveThreshold: new AdaptiveLongTailRetryThreshold[] {
+          singleGetAdaptiveThreshold, batchGetAdaptiveThreshold, computeAdaptiveThreshold }) {
+        if (adaptiveThreshold != null) {
+          adaptiveThreshold.refreshThreshold();
+        }
+      }
+    } catch (Exception e) {
+      // Keep the periodic refresh going
+      LOGGER.error("Failed to refresh the adaptive long tail retry thresholds of store: {}", getStoreName(), e);
+    }
   }
 
   enum RetryType {
@@ -134,6 +195,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext<K> requestContext, K key) throws VeniceClientException {
+    final long startTimeInNs = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (!longTailRetryEnabledForSingleGet) {
       // if longTailRetry is not enabled for single get, simply return the original future
@@ -177,11 +239,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
         new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        singleGetAdaptiveThreshold == null
+            ? longTailRetryThresholdForSingleGetInMicroSeconds
+            : singleGetAdaptiveThreshold.getThresholdInMicroSeconds(),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        if (singleGetAdaptiveThreshold != null) {
+          singleGetAdaptiveThreshold.recordLatency(startTimeInNs);
+        }
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
@@ -236,6 +303,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         keys,
         callback,
         longTailRetryThresholdForBatchGetInMicroSeconds,
+        batchGetAdaptiveThreshold,
         (numKeysInRequest) -> requestContext.createRetryRequestContext(numKeysInRequest),
         super::streamingBatchGet);
   }
@@ -259,6 +327,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         keys,
         callback,
         longTailRetryThresholdForComputeInMicroSeconds,
+        computeAdaptiveThreshold,
         (numKeysInRequest) -> requestContext.createRetryRequestContext(numKeysInRequest),
         (requestContextInternal, internalKeys, internalCallback) -> {
           super.compute(
@@ -282,8 +351,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
       int longTailRetryThresholdInMicroSeconds,
+      AdaptiveLongTailRetryThreshold adaptiveThreshold,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
+    final long startTimeInNs = System.nanoTime();
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
 
     /** Track the final completion of the request. It will be completed normally if
@@ -340,8 +411,11 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       }
     };
 
+    int thresholdInMicroSeconds = adaptiveThreshold == null
+        ? longTailRetryThresholdInMicroSeconds
+        : adaptiveThreshold.getThresholdInMicroSeconds();
     TimeoutProcessor.TimeoutFuture scheduledRetryTask =
-        timeoutProcessor.schedule(retryTask, longTailRetryThresholdInMicroSeconds, TimeUnit.MICROSECONDS);
+        timeoutProcessor.schedule(retryTask, thresholdInMicroSeconds, TimeUnit.MICROSECONDS);
 
     /**
      * Retry for streaming multi-key request is done at the request level. This mean we will perform one retry for the
@@ -352,15 +426,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
      * 2. If no 429 exceptions are caught after longTailRetryThresholdInMicroSeconds when the retry task is running then
      * all incomplete keys whether due to long tail or errors (e.g. mis-routed) are retried.
      */
-    streamingRequestExecutor.trigger(
+    StreamingCallback<K, RESPONSE> originalRequestCallback = getStreamingCallback(
         requestContext,
-        keys,
-        getStreamingCallback(
-            requestContext,
-            finalRequestCompletionFuture,
-            savedException,
-            pendingKeysFuture,
-            scheduledRetryTask));
+        finalRequestCompletionFuture,
+        savedException,
+        pendingKeysFuture,
+        scheduledRetryTask);
+    if (adaptiveThreshold != null) {
+      originalRequestCallback = recordLatencyOnSuccess(originalRequestCallback, adaptiveThreshold, startTimeInNs);
+    }
+    streamingRequestExecutor.trigger(requestContext, keys, originalRequestCallback);
     if (multiKeyLongTailRetryManager != null) {
       multiKeyLongTailRetryManager.recordRequests(requestContext.numKeysInRequest);
     }
@@ -448,6 +523,30 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     };
   }
 
+  /**
+   * Records the latency of the original request in the adaptive long tail retry threshold once it completes without
+   * any exception.
+   */
+  private <RESPONSE> StreamingCallback<K, RESPONSE> recordLatencyOnSuccess(
+      StreamingCallback<K, RESPONSE> callback,
+      AdaptiveLongTailRetryThreshold adaptiveThreshold,
+      long startTimeInNs) {
+    return new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (!exception.isPresent()) {
+          adaptiveThreshold.recordLatency(startTimeInNs);
+        }
+        callback.onCompletion(exception);
+      }
+    };
+  }
+
   private boolean isExceptionCausedByTooManyRequests(Throwable e) {
     return ExceptionUtils.recursiveClassEquals(e, VeniceClientRateExceededException.class);
   }
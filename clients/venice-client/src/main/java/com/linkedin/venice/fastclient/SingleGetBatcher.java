@@ -0,0 +1,193 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.client.store.transport.TransportClient;
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.read.RequestHeadersProvider;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.io.ByteBufferOptimizedBinaryDecoder;
+
+
+/**
+ * This class merges the single gets routed to the same replica of the same version into one batch get request. A batch
+ * is sent once it reaches {@link ClientConfig#getSingleGetBatchingMaxBatchSize()} keys or once the batching window,
+ * started by its first key, has passed. The values in the batch get response are then handed back to each single get
+ * as its own {@link TransportClientResponse}, so the single gets are processed exactly as if they were sent on their
+ * own, and a batch containing a single key is sent as a regular single get.
+ */
+class SingleGetBatcher {
+  private static final String SINGLE_GET_BATCHER_THREAD_PREFIX = "Fast-client-single-get-batcher-thread";
+  private static final RecordSerializer<MultiGetRouterRequestKeyV1> MULTI_GET_REQUEST_SERIALIZER =
+      FastSerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+  private static final RecordDeserializer<MultiGetResponseRecordV1> MULTI_GET_RESPONSE_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class);
+
+  private final TransportClient transportClient;
+  private final int windowInMicroSeconds;
+  private final int maxBatchSize;
+  private final ScheduledThreadPoolExecutor scheduler;
+  /**
+   * The batches which are not sent yet, keyed by the batch get url, which identifies both the replica and the version.
+   */
+  private final Map<String, Batch> pendingBatches = new VeniceConcurrentHashMap<>();
+
+  SingleGetBatcher(TransportClient transportClient, int windowInMicroSeconds, int maxBatchSize) {
+    this.transportClient = transportClient;
+    this.windowInMicroSeconds = windowInMicroSeconds;
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory(SINGLE_GET_BATCHER_THREAD_PREFIX));
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * @param batchGetUrl the url of the batch get request, which should be the same for all the keys sharing a replica
+   *                    and a version
+   * @param singleGetUrl the url to use if the key ends up being sent on its own
+   * @return a future completed with the response for this key, or with null if the key doesn't exist
+   */
+  CompletableFuture<TransportClientResponse> get(
+      String batchGetUrl,
+      String singleGetUrl,
+      int partitionId,
+      byte[] serializedKey) {
+    PendingGet pendingGet = new PendingGet(singleGetUrl, partitionId, serializedKey);
+    Batch[] fullBatch = new Batch[1];
+    pendingBatches.compute(batchGetUrl, (url, batch) -> {
+      if (batch == null) {
+        batch = new Batch();
+        Batch newBatch = batch;
+        batch.flushFuture =
+            scheduler.schedule(() -> flush(url, newBatch), windowInMicroSeconds, TimeUnit.MICROSECONDS);
+      }
+      batch.pendingGets.add(pendingGet);
+      if (batch.pendingGets.size() >= maxBatchSize) {
+        fullBatch[0] = batch;
+        // Remove the full batch, so the next key would start a new one
+        return null;
+      }
+      return batch;
+    });
+    if (fullBatch[0] != null) {
+      fullBatch[0].flushFuture.cancel(false);
+      send(batchGetUrl, fullBatch[0].pendingGets);
+    }
+    return pendingGet.future;
+  }
+
+  private void flush(String batchGetUrl, Batch batch) {
+    // The batch might have been sent already if it became full
+    if (pendingBatches.remove(batchGetUrl, batch)) {
+      send(batchGetUrl, batch.pendingGets);
+    }
+  }
+
+  private void send(String batchGetUrl, List<PendingGet> pendingGets) {
+    try {
+      if (pendingGets.size() == 1) {
+        PendingGet pendingGet = pendingGets.get(0);
+        transportClient.get(pendingGet.singleGetUrl).whenComplete((response, throwable) -> {
+          if (throwable != null) {
+            pendingGet.future.completeExceptionally(throwable);
+          } else {
+            pendingGet.future.complete(response);
+          }
+        });
+        return;
+      }
+
+      List<MultiGetRouterRequestKeyV1> routerRequestKeys = new ArrayList<>(pendingGets.size());
+      for (int i = 0; i < pendingGets.size(); i++) {
+        PendingGet pendingGet = pendingGets.get(i);
+        MultiGetRouterRequestKeyV1 routerRequestKey = new MultiGetRouterRequestKeyV1();
+        routerRequestKey.keyBytes = ByteBuffer.wrap(pendingGet.serializedKey);
+        routerRequestKey.keyIndex = i;
+        routerRequestKey.partitionId = pendingGet.partitionId;
+        routerRequestKeys.add(routerRequestKey);
+      }
+      transportClient
+          .post(
+              batchGetUrl,
+              RequestHeadersProvider.getStreamingBatchGetHeaders(pendingGets.size()),
+              MULTI_GET_REQUEST_SERIALIZER.serializeObjects(routerRequestKeys))
+          .whenComplete((response, throwable) -> {
+            if (throwable != null) {
+              completeExceptionally(pendingGets, throwable);
+              return;
+            }
+            try {
+              if (response != null) {
+                for (MultiGetResponseRecordV1 record: MULTI_GET_RESPONSE_DESERIALIZER
+                    .deserializeObjects(new ByteBufferOptimizedBinaryDecoder(response.getBody()))) {
+                  pendingGets.get(record.keyIndex).future.complete(
+                      new TransportClientResponse(
+                          record.schemaId,
+                          response.getCompressionStrategy(),
+                          ByteUtils.extractByteArray(record.value)));
+                }
+              }
+              // The keys missing from the response don't exist
+              for (PendingGet pendingGet: pendingGets) {
+                pendingGet.future.complete(null);
+              }
+            } catch (Exception e) {
+              completeExceptionally(pendingGets, e);
+            }
+          });
+    } catch (Exception e) {
+      completeExceptionally(pendingGets, e);
+    }
+  }
+
+  private static void completeExceptionally(List<PendingGet> pendingGets, Throwable throwable) {
+    for (PendingGet pendingGet: pendingGets) {
+      pendingGet.future.completeExceptionally(throwable);
+    }
+  }
+
+  /**
+   * Sends all the pending batches right away and stops the batching thread.
+   */
+  void close() {
+    for (String batchGetUrl: pendingBatches.keySet()) {
+      Batch batch = pendingBatches.get(batchGetUrl);
+      if (batch != null) {
+        flush(batchGetUrl, batch);
+      }
+    }
+    scheduler.shutdownNow();
+  }
+
+  private static class Batch {
+    // Only modified while holding the entry of this batch in the pending batch map
+    private final List<PendingGet> pendingGets = new ArrayList<>();
+    private ScheduledFuture<?> flushFuture;
+  }
+
+  private static class PendingGet {
+    private final String singleGetUrl;
+    private final int partitionId;
+    private final byte[] serializedKey;
+    private final CompletableFuture<TransportClientResponse> future = new CompletableFuture<>();
+
+    PendingGet(String singleGetUrl, int partitionId, byte[] serializedKey) {
+      this.singleGetUrl = singleGetUrl;
+      this.partitionId = partitionId;
+      this.serializedKey = serializedKey;
+    }
+  }
+}
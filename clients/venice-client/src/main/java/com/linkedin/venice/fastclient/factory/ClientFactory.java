@@ -7,6 +7,8 @@ import com.linkedin.venice.client.store.AvroSpecificStoreClient;
 import com.linkedin.venice.client.store.transport.D2TransportClient;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.fastclient.CoalescingAvroGenericStoreClient;
+import com.linkedin.venice.fastclient.CoalescingAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.DispatchingAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DispatchingAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.DispatchingVsonStoreClient;
@@ -15,6 +17,8 @@ import com.linkedin.venice.fastclient.DualReadAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.InternalAvroStoreClient;
 import com.linkedin.venice.fastclient.LoadControlledAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.LoadControlledAvroSpecificStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroGenericStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.StatsAvroGenericStoreClient;
@@ -80,13 +84,23 @@ public class ClientFactory {
           storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor());
     }
 
-    InternalAvroStoreClient<K, V> loadControlClient = retryClient;
+    InternalAvroStoreClient<K, V> coalescingClient = retryClient;
+    if (clientConfig.isRequestCoalescingEnabled()) {
+      coalescingClient = new CoalescingAvroGenericStoreClient<>(retryClient, clientConfig);
+    }
+
+    InternalAvroStoreClient<K, V> loadControlClient = coalescingClient;
     if (clientConfig.isStoreLoadControllerEnabled()) {
-      loadControlClient = new LoadControlledAvroGenericStoreClient<>(retryClient, clientConfig);
+      loadControlClient = new LoadControlledAvroGenericStoreClient<>(coalescingClient, clientConfig);
+    }
+
+    InternalAvroStoreClient<K, V> nearCacheClient = loadControlClient;
+    if (clientConfig.isNearCacheEnabled()) {
+      nearCacheClient = new NearCacheAvroGenericStoreClient<>(loadControlClient, clientConfig, storeMetadata);
     }
 
     StatsAvroGenericStoreClient<K, V> statsStoreClient =
-        new StatsAvroGenericStoreClient<>(loadControlClient, clientConfig);
+        new StatsAvroGenericStoreClient<>(nearCacheClient, clientConfig);
 
     AvroGenericStoreClient<K, V> dualReadClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
@@ -112,13 +126,23 @@ public class ClientFactory {
           storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor());
     }
 
-    InternalAvroStoreClient<K, V> loadControlClient = retryClient;
+    InternalAvroStoreClient<K, V> coalescingClient = retryClient;
+    if (clientConfig.isRequestCoalescingEnabled()) {
+      coalescingClient = new CoalescingAvroSpecificStoreClient<>(retryClient, clientConfig);
+    }
+
+    InternalAvroStoreClient<K, V> loadControlClient = coalescingClient;
     if (clientConfig.isStoreLoadControllerEnabled()) {
-      loadControlClient = new LoadControlledAvroSpecificStoreClient<>(retryClient, clientConfig);
+      loadControlClient = new LoadControlledAvroSpecificStoreClient<>(coalescingClient, clientConfig);
+    }
+
+    InternalAvroStoreClient<K, V> nearCacheClient = loadControlClient;
+    if (clientConfig.isNearCacheEnabled()) {
+      nearCacheClient = new NearCacheAvroSpecificStoreClient<>(loadControlClient, clientConfig, storeMetadata);
     }
 
     StatsAvroSpecificStoreClient<K, V> statsStoreClient =
-        new StatsAvroSpecificStoreClient<>(loadControlClient, clientConfig);
+        new StatsAvroSpecificStoreClient<>(nearCacheClient, clientConfig);
     AvroSpecificStoreClient<K, V> dualReadClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
       dualReadClient = new DualReadAvroSpecificStoreClient<>(statsStoreClient, clientConfig);
@@ -57,6 +57,8 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
             : new HelixGroupRoutingStrategy(instanceHealthMonitor, clientConfig.getMetricsRepository(), getStoreName());
       case LEAST_LOADED:
         return new LeastLoadedClientRoutingStrategy(this.instanceHealthMonitor);
+      case LEAST_EXPECTED_LATENCY:
+        return new LeastExpectedLatencyClientRoutingStrategy(this.instanceHealthMonitor);
       default:
         throw new VeniceClientException("Unexpected routing strategy type: " + clientRoutingStrategyType);
     }
@@ -11,6 +11,7 @@ import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.meta.QueryAction;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyEwmaEstimator;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -39,14 +40,19 @@ import org.apache.logging.log4j.Logger;
  *    will be put into the unhealthy instance set. Otherwise, the instance will be removed from the suspicious
  *    and unhealthy instance set.
  * 5. Fast Client won't send user requests to the blocked instances and unhealthy instances.
+ * 6. It is also maintaining a response time estimate per instance, which is used by
+ *    {@link LeastExpectedLatencyClientRoutingStrategy} along with the pending request count.
  */
 public class InstanceHealthMonitor implements Closeable {
   private static final RedundantExceptionFilter REDUNDANT_EXCEPTION_FILTER =
       RedundantExceptionFilter.getRedundantExceptionFilter();
   private static final Logger LOGGER = LogManager.getLogger(InstanceHealthMonitor.class);
+  private static final double LATENCY_ESTIMATOR_SMOOTHING_FACTOR = 0.3;
+  private static final long LATENCY_ESTIMATOR_IDLE_DECAY_TIME_MS = TimeUnit.SECONDS.toMillis(10);
   private final InstanceHealthMonitorConfig config;
 
   private final Map<String, Integer> pendingRequestCounterMap = new VeniceConcurrentHashMap<>();
+  private final Map<String, LatencyEwmaEstimator> latencyEstimatorMap = new VeniceConcurrentHashMap<>();
   private final Set<String> unhealthyInstanceSet = new ConcurrentSkipListSet<>();
   private final Set<String> suspiciousInstanceSet = new ConcurrentSkipListSet<>();
 
@@ -148,7 +154,7 @@ public class InstanceHealthMonitor implements Closeable {
    * 1. increments {@link InstanceHealthMonitor#pendingRequestCounterMap} for each server instances
    *    per store. This is done in this function which is called before starting a get() request.
    * 2. whenComplete() of this completable future decrements the above counters once the response
-   *    for the get() request is received.
+   *    for the get() request is received, and records the response time of the instance.
    *
    * Using this we can track the number of pending requests for each server instance.
    */
@@ -156,6 +162,7 @@ public class InstanceHealthMonitor implements Closeable {
       String instance,
       CompletableFuture<TransportClientResponse> transportFuture) {
     CompletableFuture<Integer> requestFuture = new CompletableFuture<>();
+    long startTimeInNs = System.nanoTime();
     pendingRequestCounterMap.compute(instance, (k, v) -> {
       // currently tracking the number of requests as 1 for single get
       // and 1 for each route requests in batchGet scatter.
@@ -195,6 +202,8 @@ public class InstanceHealthMonitor implements Closeable {
             ? ((VeniceClientHttpException) throwable).getHttpStatus()
             : SC_SERVICE_UNAVAILABLE;
       }
+      // The timed out requests are recorded as well, since they are the strongest signal of a slow instance
+      getLatencyEstimator(instance).recordLatency(System.nanoTime() - startTimeInNs);
 
       if (httpStatus.equals(SC_GONE)) {
         /**
@@ -270,6 +279,20 @@ public class InstanceHealthMonitor implements Closeable {
     return pendingRequestCounter == null ? 0 : pendingRequestCounter;
   }
 
+  /**
+   * @return the expected time for a new request to be served by the given instance, which is estimated from its
+   *         recent response times and its pending request count
+   */
+  public double getExpectedLatencyCost(String instance) {
+    return getLatencyEstimator(instance).getCost(getPendingRequestCounter(instance));
+  }
+
+  private LatencyEwmaEstimator getLatencyEstimator(String instance) {
+    return latencyEstimatorMap.computeIfAbsent(
+        instance,
+        k -> new LatencyEwmaEstimator(LATENCY_ESTIMATOR_SMOOTHING_FACTOR, LATENCY_ESTIMATOR_IDLE_DECAY_TIME_MS));
+  }
+
   @Override
   public void close() throws IOException {
     if (timeoutProcessor != null) {
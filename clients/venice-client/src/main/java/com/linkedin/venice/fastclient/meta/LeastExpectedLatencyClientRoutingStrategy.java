@@ -0,0 +1,54 @@
+package com.linkedin.venice.fastclient.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * This strategy is trying to route the request to the instance expected to respond first, which is estimated by
+ * {@link InstanceHealthMonitor#getExpectedLatencyCost(String)} from both the pending request count and the recent
+ * response times of the instance, so a slow instance is avoided even when the pending request counts are too low to
+ * tell the instances apart.
+ * 1. It picks two random allowed instances and routes the request to the one with the lower cost (power of two
+ *    choices), which avoids sending all the requests to the same instance between two responses.
+ * 2. This strategy will skip any blocked or unhealthy instance, same as {@link LeastLoadedClientRoutingStrategy}.
+ */
+public class LeastExpectedLatencyClientRoutingStrategy extends AbstractClientRoutingStrategy {
+  private final InstanceHealthMonitor instanceHealthMonitor;
+
+  public LeastExpectedLatencyClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
+    this.instanceHealthMonitor = instanceHealthMonitor;
+  }
+
+  @Override
+  public String getReplicas(long requestId, int groupId, List<String> replicas) {
+    if (replicas.isEmpty()) {
+      return null;
+    }
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (instanceHealthMonitor.isRequestAllowed(replica)) {
+        availReplicas.add(replica);
+      }
+    }
+    int availReplicaCount = availReplicas.size();
+    if (availReplicaCount == 0) {
+      return null;
+    }
+    if (availReplicaCount == 1) {
+      return availReplicas.get(0);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int firstIndex = random.nextInt(availReplicaCount);
+    // Pick a different replica for the second choice
+    int secondIndex = random.nextInt(availReplicaCount - 1);
+    if (secondIndex >= firstIndex) {
+      ++secondIndex;
+    }
+    String firstReplica = availReplicas.get(firstIndex);
+    String secondReplica = availReplicas.get(secondIndex);
+    return instanceHealthMonitor.getExpectedLatencyCost(firstReplica) <= instanceHealthMonitor
+        .getExpectedLatencyCost(secondReplica) ? firstReplica : secondReplica;
+  }
+}
@@ -27,6 +27,8 @@ public class ClusterStats extends AbstractVeniceStats {
   private final Sensor unhealthyInstanceCountSensor;
   private final Sensor overloadedInstanceCountSensor;
   private final Sensor versionUpdateFailureSensor;
+  private final Sensor nearCacheInvalidatedKeyCountSensor;
+  private final Sensor nearCacheVersionSwapInvalidationSensor;
   /* This sensor tracks the version number that the client is at. This will help in case some clients are not able
   to switch to the latest version*/
   private final Sensor currentVersionNumberSensor;
@@ -39,6 +41,9 @@ public class ClusterStats extends AbstractVeniceStats {
     this.unhealthyInstanceCountSensor = registerSensor("unhealthy_instance_count", new Avg(), new Max());
     this.overloadedInstanceCountSensor = registerSensor("overloaded_instance_count", new Avg(), new Max());
     this.versionUpdateFailureSensor = registerSensor("version_update_failure", new OccurrenceRate());
+    this.nearCacheInvalidatedKeyCountSensor = registerSensor("near_cache_invalidated_key_count", new OccurrenceRate());
+    this.nearCacheVersionSwapInvalidationSensor =
+        registerSensor("near_cache_version_swap_invalidation", new OccurrenceRate());
     this.currentVersionNumberSensor =
         registerSensor(new AsyncGauge((ignored, ignored2) -> this.currentVersion, "current_version"));
   }
@@ -63,6 +68,14 @@ public class ClusterStats extends AbstractVeniceStats {
     versionUpdateFailureSensor.record();
   }
 
+  public void recordNearCacheInvalidatedKey() {
+    nearCacheInvalidatedKeyCountSensor.record();
+  }
+
+  public void recordNearCacheVersionSwapInvalidation() {
+    nearCacheVersionSwapInvalidationSensor.record();
+  }
+
   public List<Double> getMetricValues(String sensorName, String... stats) {
     String sensorFullName = getSensorFullName(sensorName);
     List<Double> collect = Arrays.stream(stats).map((stat) -> {
@@ -38,6 +38,12 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor leakedRequestCountSensor;
   private final Sensor rejectedRequestCountByLoadControllerSensor;
   private final Sensor rejectionRatioSensor;
+  private final Sensor coalescedRequestCountSensor;
+  private final Sensor coalescedKeyCountSensor;
+  private final Sensor nearCacheHitKeyCountSensor;
+  private final Sensor nearCacheMissKeyCountSensor;
+  private final Sensor nearCacheHitEntryAgeSensor;
+  private final Sensor longTailRetryThresholdSensor;
 
   private final Sensor retryRequestWinSensor;
   private final Sensor metadataStalenessSensor;
@@ -48,6 +54,7 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final MetricEntityStateOneEnum<RequestRetryType> longTailRetry;
   private final MetricEntityStateOneEnum<RequestRetryType> errorRetry;
   private long cacheTimeStampInMs = 0;
+  private volatile int longTailRetryThresholdInMicroSeconds = -1;
 
   public static FastClientStats getClientStats(
       MetricsRepository metricsRepository,
@@ -100,6 +107,15 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.rejectedRequestCountByLoadControllerSensor =
         registerSensor("rejected_request_count_by_load_controller", new OccurrenceRate());
     this.rejectionRatioSensor = registerSensor("rejection_ratio", new Avg(), new Max());
+    this.coalescedRequestCountSensor = registerSensor("coalesced_request_count", new OccurrenceRate());
+    this.coalescedKeyCountSensor = registerSensor("coalesced_key_count", new Rate());
+    this.nearCacheHitKeyCountSensor = registerSensor("near_cache_hit_key_count", new Rate());
+    this.nearCacheMissKeyCountSensor = registerSensor("near_cache_miss_key_count", new Rate());
+    this.nearCacheHitEntryAgeSensor = registerSensor("near_cache_hit_entry_age_ms", new Avg(), new Max());
+    this.longTailRetryThresholdSensor = registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      int threshold = this.longTailRetryThresholdInMicroSeconds;
+      return threshold < 0 ? Double.NaN : threshold;
+    }, "long_tail_retry_threshold_us"));
 
     this.longTailRetry = MetricEntityStateOneEnum.create(
         RETRY_COUNT.getMetricEntity(),
@@ -152,6 +168,13 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.cacheTimeStampInMs = cacheTimeStampInMs;
   }
 
+  /**
+   * Updates the effective long tail retry threshold, which is only reported when the adaptive threshold is enabled.
+   */
+  public void updateLongTailRetryThreshold(int longTailRetryThresholdInMicroSeconds) {
+    this.longTailRetryThresholdInMicroSeconds = longTailRetryThresholdInMicroSeconds;
+  }
+
   public void recordFanoutSize(int fanoutSize) {
     fanoutSizeSensor.record(fanoutSize);
   }
@@ -168,6 +191,24 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     rejectionRatioSensor.record(rejectionRatio);
   }
 
+  /**
+   * Records a request which shared the in-flight reads of some of its keys with other requests.
+   * @param coalescedKeyCount the number of keys which were not sent again
+   */
+  public void recordCoalescedRequest(int coalescedKeyCount) {
+    coalescedRequestCountSensor.record();
+    coalescedKeyCountSensor.record(coalescedKeyCount);
+  }
+
+  public void recordNearCacheHit(long entryAgeInMs) {
+    nearCacheHitKeyCountSensor.record();
+    nearCacheHitEntryAgeSensor.record(entryAgeInMs);
+  }
+
+  public void recordNearCacheMissKeyCount(int missKeyCount) {
+    nearCacheMissKeyCountSensor.record(missKeyCount);
+  }
+
   /**
    * This method is a utility method to build concise summaries useful in tests
    * and for logging. It generates a single string for all metrics for a sensor
@@ -0,0 +1,101 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.d2.balancer.D2Client;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.Utils;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveLongTailRetryThresholdTest {
+  private static final int STATIC_THRESHOLD_IN_MICRO_SECONDS = 1000;
+
+  private ClientConfig.ClientConfigBuilder createClientConfigBuilder() {
+    return new ClientConfig.ClientConfigBuilder<>().setStoreName("test_store")
+        .setR2Client(mock(Client.class))
+        .setD2Client(mock(D2Client.class))
+        .setClusterDiscoveryD2Service("test_server_discovery");
+  }
+
+  private static void recordLatency(AdaptiveLongTailRetryThreshold threshold, long latencyInMicroSeconds) {
+    threshold.recordLatency(System.nanoTime() - TimeUnit.MICROSECONDS.toNanos(latencyInMicroSeconds));
+  }
+
+  @Test
+  public void testBuckets() {
+    int previousBucketIndex = -1;
+    for (long value = 0; value < Integer.MAX_VALUE; value = value * 3 / 2 + 1) {
+      int bucketIndex = AdaptiveLongTailRetryThreshold.getBucketIndex(value);
+      assertTrue(bucketIndex >= previousBucketIndex);
+      long upperBound = AdaptiveLongTailRetryThreshold.getBucketUpperBound(bucketIndex);
+      assertTrue(upperBound >= value, "The bucket of " + value + " ends at " + upperBound);
+      assertTrue(upperBound - value <= value / 16, "The bucket of " + value + " ends at " + upperBound);
+      previousBucketIndex = bucketIndex;
+    }
+    assertEquals(
+        AdaptiveLongTailRetryThreshold.getBucketIndex(Long.MAX_VALUE),
+        AdaptiveLongTailRetryThreshold.getBucketIndex(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testThreshold() {
+    ClientConfig clientConfig = createClientConfigBuilder().build();
+    FastClientStats stats = clientConfig.getStats(RequestType.SINGLE_GET);
+    AdaptiveLongTailRetryThreshold threshold =
+        new AdaptiveLongTailRetryThreshold(STATIC_THRESHOLD_IN_MICRO_SECONDS, 0.9, 60000, stats);
+
+    // The static threshold is used until enough latencies are recorded
+    for (int i = 0; i < AdaptiveLongTailRetryThreshold.MIN_SAMPLE_COUNT - 1; i++) {
+      recordLatency(threshold, 100_000);
+    }
+    threshold.refreshThreshold();
+    assertEquals(threshold.getThresholdInMicroSeconds(), STATIC_THRESHOLD_IN_MICRO_SECONDS);
+
+    // 90% of the requests take 10ms or less
+    for (int i = 0; i < 900; i++) {
+      recordLatency(threshold, 10_000);
+    }
+    threshold.refreshThreshold();
+    int thresholdInMicroSeconds = threshold.getThresholdInMicroSeconds();
+    assertTrue(
+        thresholdInMicroSeconds >= 10_000 && thresholdInMicroSeconds <= 11_000,
+        "Unexpected threshold: " + thresholdInMicroSeconds);
+    assertEquals(
+        stats.getMetricValues("long_tail_retry_threshold_us", "Gauge").get(0),
+        (double) thresholdInMicroSeconds);
+  }
+
+  @Test
+  public void testLatenciesExpire() {
+    ClientConfig clientConfig = createClientConfigBuilder().build();
+    AdaptiveLongTailRetryThreshold threshold = new AdaptiveLongTailRetryThreshold(
+        STATIC_THRESHOLD_IN_MICRO_SECONDS,
+        0.5,
+        60,
+        clientConfig.getStats(RequestType.SINGLE_GET));
+    for (int i = 0; i < 1000; i++) {
+      recordLatency(threshold, 50);
+    }
+    threshold.refreshThreshold();
+    assertTrue(threshold.getThresholdInMicroSeconds() < STATIC_THRESHOLD_IN_MICRO_SECONDS);
+
+    // All the latencies are out of the window
+    Utils.sleep(100);
+    threshold.refreshThreshold();
+    assertEquals(threshold.getThresholdInMicroSeconds(), STATIC_THRESHOLD_IN_MICRO_SECONDS);
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class)
+  public void testInvalidPercentile() {
+    createClientConfigBuilder().setLongTailRetryAdaptiveThresholdEnabled(true)
+        .setLongTailRetryAdaptiveThresholdPercentile(1.0)
+        .build();
+  }
+}
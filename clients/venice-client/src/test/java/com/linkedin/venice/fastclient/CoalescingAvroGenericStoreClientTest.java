@@ -0,0 +1,181 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.d2.balancer.D2Client;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.read.RequestType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.testng.annotations.Test;
+
+
+public class CoalescingAvroGenericStoreClientTest {
+  private static final String STORE_NAME = "test_store";
+
+  private static ClientConfig createClientConfig(int maxInFlightKeyCount) {
+    return new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(mock(Client.class))
+        .setD2Client(mock(D2Client.class))
+        .setClusterDiscoveryD2Service("test_server_discovery")
+        .setRequestCoalescingEnabled(true)
+        .setRequestCoalescingMaxInFlightKeyCount(maxInFlightKeyCount)
+        .build();
+  }
+
+  private static double getCoalescedKeyCount(ClientConfig clientConfig, RequestType requestType) {
+    return clientConfig.getStats(requestType).getMetricValues("coalesced_key_count", "Rate").get(0);
+  }
+
+  @Test
+  public void testSingleGetCoalescing() throws ExecutionException, InterruptedException {
+    ClientConfig clientConfig = createClientConfig(100);
+    InternalAvroStoreClient<String, String> delegate = mock(InternalAvroStoreClient.class);
+    CompletableFuture<String> delegateFuture = new CompletableFuture<>();
+    doReturn(delegateFuture).when(delegate).get(any(GetRequestContext.class), eq("key"));
+    CoalescingAvroGenericStoreClient<String, String> client =
+        new CoalescingAvroGenericStoreClient<>(delegate, clientConfig);
+
+    GetRequestContext<String> leaderContext = new GetRequestContext<>();
+    CompletableFuture<String> leaderFuture = client.get(leaderContext, "key");
+    GetRequestContext<String> followerContext = new GetRequestContext<>();
+    CompletableFuture<String> followerFuture = client.get(followerContext, "key");
+    verify(delegate, times(1)).get(any(GetRequestContext.class), eq("key"));
+    assertFalse(followerFuture.isDone());
+
+    delegateFuture.complete("value");
+    assertEquals(leaderFuture.get(), "value");
+    assertEquals(followerFuture.get(), "value");
+    assertEquals(followerContext.successRequestKeyCount.get(), 1);
+    assertTrue(getCoalescedKeyCount(clientConfig, RequestType.SINGLE_GET) > 0);
+
+    // Once the read is completed, the next request fetches the key again
+    CompletableFuture<String> failedFuture = new CompletableFuture<>();
+    doReturn(failedFuture).when(delegate).get(any(GetRequestContext.class), eq("key"));
+    CompletableFuture<String> secondLeaderFuture = client.get(new GetRequestContext<>(), "key");
+    CompletableFuture<String> secondFollowerFuture = client.get(new GetRequestContext<>(), "key");
+    verify(delegate, times(2)).get(any(GetRequestContext.class), eq("key"));
+    failedFuture.completeExceptionally(new VeniceClientException("Read failed"));
+    assertTrue(secondLeaderFuture.isCompletedExceptionally());
+    ExecutionException e = expectThrows(ExecutionException.class, secondFollowerFuture::get);
+    assertTrue(e.getCause() instanceof VeniceClientException);
+  }
+
+  @Test
+  public void testMaxInFlightKeyCount() {
+    ClientConfig clientConfig = createClientConfig(1);
+    InternalAvroStoreClient<String, String> delegate = mock(InternalAvroStoreClient.class);
+    doAnswer(invocation -> new CompletableFuture<>()).when(delegate).get(any(GetRequestContext.class), any());
+    CoalescingAvroGenericStoreClient<String, String> client =
+        new CoalescingAvroGenericStoreClient<>(delegate, clientConfig);
+
+    client.get(new GetRequestContext<>(), "key1");
+    client.get(new GetRequestContext<>(), "key1");
+    // The reads of other keys are not tracked once the limit is reached
+    client.get(new GetRequestContext<>(), "key2");
+    client.get(new GetRequestContext<>(), "key2");
+    verify(delegate, times(1)).get(any(GetRequestContext.class), eq("key1"));
+    verify(delegate, times(2)).get(any(GetRequestContext.class), eq("key2"));
+  }
+
+  @Test
+  public void testBatchGetCoalescing() {
+    ClientConfig clientConfig = createClientConfig(100);
+    InternalAvroStoreClient<String, String> delegate = mock(InternalAvroStoreClient.class);
+    CompletableFuture<String> singleGetFuture = new CompletableFuture<>();
+    doReturn(singleGetFuture).when(delegate).get(any(GetRequestContext.class), eq("key1"));
+    List<Set<String>> sentKeys = new ArrayList<>();
+    List<StreamingCallback<String, String>> delegateCallbacks = new ArrayList<>();
+    doAnswer(invocation -> {
+      sentKeys.add(new HashSet<>(invocation.getArgument(1)));
+      delegateCallbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(delegate).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+    CoalescingAvroGenericStoreClient<String, String> client =
+        new CoalescingAvroGenericStoreClient<>(delegate, clientConfig);
+
+    CompletableFuture<String> singleGet = client.get(new GetRequestContext<>(), "key1");
+    Set<String> keys = new HashSet<>(Arrays.asList("key1", "key2", "key3"));
+    CompletableFuture<Map<String, String>> firstBatchGet =
+        client.batchGet(new BatchGetRequestContext<>(keys.size(), false), keys);
+    CompletableFuture<Map<String, String>> secondBatchGet =
+        client.batchGet(new BatchGetRequestContext<>(keys.size(), false), keys);
+
+    // Only the keys which are not in flight are sent
+    assertEquals(sentKeys, Collections.singletonList(new HashSet<>(Arrays.asList("key2", "key3"))));
+    assertTrue(getCoalescedKeyCount(clientConfig, RequestType.MULTI_GET_STREAMING) > 0);
+
+    StreamingCallback<String, String> delegateCallback = delegateCallbacks.get(0);
+    delegateCallback.onRecordReceived("key2", "value2");
+    delegateCallback.onRecordReceived("key3", null);
+    delegateCallback.onCompletion(Optional.empty());
+    assertFalse(firstBatchGet.isDone());
+    assertFalse(secondBatchGet.isDone());
+
+    singleGetFuture.complete("value1");
+    assertEquals(singleGet.join(), "value1");
+    for (CompletableFuture<Map<String, String>> batchGet: Arrays.asList(firstBatchGet, secondBatchGet)) {
+      Map<String, String> result = batchGet.join();
+      assertEquals(result.size(), 2);
+      assertEquals(result.get("key1"), "value1");
+      assertEquals(result.get("key2"), "value2");
+    }
+  }
+
+  @Test
+  public void testBatchGetFailure() {
+    ClientConfig clientConfig = createClientConfig(100);
+    InternalAvroStoreClient<String, String> delegate = mock(InternalAvroStoreClient.class);
+    List<StreamingCallback<String, String>> delegateCallbacks = new ArrayList<>();
+    doAnswer(invocation -> {
+      delegateCallbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(delegate).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+    CoalescingAvroGenericStoreClient<String, String> client =
+        new CoalescingAvroGenericStoreClient<>(delegate, clientConfig);
+
+    Set<String> keys = new HashSet<>(Arrays.asList("key1", "key2"));
+    CompletableFuture<Map<String, String>> leaderBatchGet =
+        client.batchGet(new BatchGetRequestContext<>(keys.size(), false), keys);
+    BatchGetRequestContext<String, String> partialSuccessContext = new BatchGetRequestContext<>(keys.size(), true);
+    CompletableFuture<Map<String, String>> partialSuccessBatchGet = client.batchGet(partialSuccessContext, keys);
+    CompletableFuture<Map<String, String>> failingBatchGet =
+        client.batchGet(new BatchGetRequestContext<>(keys.size(), false), keys);
+    assertEquals(delegateCallbacks.size(), 1);
+
+    StreamingCallback<String, String> delegateCallback = delegateCallbacks.get(0);
+    delegateCallback.onRecordReceived("key1", "value1");
+    delegateCallback.onCompletion(Optional.of(new VeniceClientException("key2 failed")));
+
+    assertTrue(leaderBatchGet.isCompletedExceptionally());
+    assertTrue(failingBatchGet.isCompletedExceptionally());
+    Map<String, String> partialResult = partialSuccessBatchGet.join();
+    assertEquals(partialResult, Collections.singletonMap("key1", "value1"));
+    assertTrue(partialSuccessContext.isCompletedSuccessfullyWithPartialResponse());
+
+    // The failed keys are not shared anymore
+    client.batchGet(new BatchGetRequestContext<>(keys.size(), false), keys);
+    assertEquals(delegateCallbacks.size(), 2);
+  }
+}
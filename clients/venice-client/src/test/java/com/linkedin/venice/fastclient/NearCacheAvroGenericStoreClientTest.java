@@ -0,0 +1,231 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.d2.balancer.D2Client;
+import com.linkedin.davinci.consumer.VeniceChangelogConsumer;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+
+public class NearCacheAvroGenericStoreClientTest {
+  private static final String STORE_NAME = "test_store";
+
+  private final AtomicInteger currentVersion = new AtomicInteger(1);
+
+  private ClientConfig.ClientConfigBuilder createClientConfigBuilder() {
+    return new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(mock(Client.class))
+        .setD2Client(mock(D2Client.class))
+        .setClusterDiscoveryD2Service("test_server_discovery")
+        .setNearCacheEnabled(true);
+  }
+
+  private StoreMetadata createStoreMetadata() {
+    StoreMetadata metadata = mock(StoreMetadata.class);
+    doReturn(true).when(metadata).isReady();
+    doAnswer(invocation -> currentVersion.get()).when(metadata).getCurrentStoreVersion();
+    return metadata;
+  }
+
+  /**
+   * The value of each key is the key itself followed by the version it was read from.
+   */
+  private InternalAvroStoreClient<String, String> createDelegate() {
+    InternalAvroStoreClient<String, String> delegate = mock(InternalAvroStoreClient.class);
+    doAnswer(invocation -> {
+      GetRequestContext<String> requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = currentVersion.get();
+      return CompletableFuture.completedFuture(invocation.getArgument(1) + "_v" + currentVersion.get());
+    }).when(delegate).get(any(GetRequestContext.class), any());
+    doAnswer(invocation -> {
+      BatchGetRequestContext<String, String> requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = currentVersion.get();
+      Set<String> keys = invocation.getArgument(1);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      for (String key: keys) {
+        callback.onRecordReceived(key, key.startsWith("missing") ? null : key + "_v" + currentVersion.get());
+      }
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(delegate).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+    return delegate;
+  }
+
+  @Test
+  public void testSingleGet() {
+    ClientConfig clientConfig = createClientConfigBuilder().setNearCacheBatchOnlyStore(true).build();
+    InternalAvroStoreClient<String, String> delegate = createDelegate();
+    NearCacheAvroGenericStoreClient<String, String> client =
+        new NearCacheAvroGenericStoreClient<>(delegate, clientConfig, createStoreMetadata());
+
+    assertEquals(client.get(new GetRequestContext<>(), "key").join(), "key_v1");
+    GetRequestContext<String> requestContext = new GetRequestContext<>();
+    assertEquals(client.get(requestContext, "key").join(), "key_v1");
+    assertEquals(requestContext.successRequestKeyCount.get(), 1);
+    verify(delegate, times(1)).get(any(GetRequestContext.class), eq("key"));
+    assertTrue(
+        clientConfig.getStats(RequestType.SINGLE_GET).getMetricValues("near_cache_hit_key_count", "Rate").get(0) > 0);
+
+    // The cache is invalidated once the current version changes
+    currentVersion.set(2);
+    assertEquals(client.get(new GetRequestContext<>(), "key").join(), "key_v2");
+    assertEquals(client.get(new GetRequestContext<>(), "key").join(), "key_v2");
+    verify(delegate, times(2)).get(any(GetRequestContext.class), eq("key"));
+    assertTrue(
+        clientConfig.getClusterStats()
+            .getMetricValues("near_cache_version_swap_invalidation", "OccurrenceRate")
+            .get(0) > 0);
+  }
+
+  @Test
+  public void testHybridStoreRequiresExpiryOrInvalidation() {
+    // Without a TTL or a changelog consumer, the nearline writes of a hybrid store would never be seen
+    assertThrows(VeniceClientException.class, () -> createClientConfigBuilder().build());
+    createClientConfigBuilder().setNearCacheTtlInMs(1000).build();
+    createClientConfigBuilder().setNearCacheChangelogConsumer(mock(VeniceChangelogConsumer.class)).build();
+  }
+
+  @Test
+  public void testTtl() {
+    ClientConfig clientConfig = createClientConfigBuilder().setNearCacheTtlInMs(10).build();
+    InternalAvroStoreClient<String, String> delegate = createDelegate();
+    NearCacheAvroGenericStoreClient<String, String> client =
+        new NearCacheAvroGenericStoreClient<>(delegate, clientConfig, createStoreMetadata());
+
+    client.get(new GetRequestContext<>(), "key").join();
+    Utils.sleep(20);
+    client.get(new GetRequestContext<>(), "key").join();
+    verify(delegate, times(2)).get(any(GetRequestContext.class), eq("key"));
+  }
+
+  @Test
+  public void testBatchGet() {
+    ClientConfig clientConfig = createClientConfigBuilder().setNearCacheBatchOnlyStore(true).build();
+    InternalAvroStoreClient<String, String> delegate = createDelegate();
+    NearCacheAvroGenericStoreClient<String, String> client =
+        new NearCacheAvroGenericStoreClient<>(delegate, clientConfig, createStoreMetadata());
+
+    client.get(new GetRequestContext<>(), "key1").join();
+    Set<String> keys = new HashSet<>(Arrays.asList("key1", "key2", "missing_key"));
+    Map<String, String> result = client.batchGet(keys).join();
+    assertEquals(result.size(), 2);
+    assertEquals(result.get("key1"), "key1_v1");
+    assertEquals(result.get("key2"), "key2_v1");
+    ArgumentCaptor<Set> sentKeys = ArgumentCaptor.forClass(Set.class);
+    verify(delegate).streamingBatchGet(any(BatchGetRequestContext.class), sentKeys.capture(), any());
+    assertEquals(sentKeys.getValue(), new HashSet<>(Arrays.asList("key2", "missing_key")));
+
+    // Missing keys are not cached
+    result = client.batchGet(keys).join();
+    assertEquals(result.size(), 2);
+    verify(delegate, times(2)).streamingBatchGet(any(BatchGetRequestContext.class), sentKeys.capture(), any());
+    assertEquals(sentKeys.getValue(), Collections.singleton("missing_key"));
+  }
+
+  @Test
+  public void testChangelogInvalidation() {
+    VeniceChangelogConsumer<String, String> changelogConsumer = mock(VeniceChangelogConsumer.class);
+    PubSubMessage message = mock(PubSubMessage.class);
+    doReturn("key").when(message).getKey();
+    AtomicInteger pollCount = new AtomicInteger();
+    doAnswer(invocation -> {
+      // Only return the update once the value has been cached
+      if (pollCount.incrementAndGet() == 5) {
+        return Collections.singletonList(message);
+      }
+      Utils.sleep(1);
+      return Collections.emptyList();
+    }).when(changelogConsumer).poll(anyLong());
+    ClientConfig clientConfig = createClientConfigBuilder().setNearCacheChangelogConsumer(changelogConsumer).build();
+    InternalAvroStoreClient<String, String> delegate = createDelegate();
+    NearCacheAvroGenericStoreClient<String, String> client =
+        new NearCacheAvroGenericStoreClient<>(delegate, clientConfig, createStoreMetadata());
+
+    client.get(new GetRequestContext<>(), "key").join();
+    client.start();
+    verify(changelogConsumer).subscribeAll();
+    TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+      client.get(new GetRequestContext<>(), "key").join();
+      verify(delegate, times(2)).get(any(GetRequestContext.class), eq("key"));
+    });
+    client.close();
+    verify(changelogConsumer).close();
+  }
+
+  @Test(timeOut = 10 * 1000)
+  public void testInvalidationDuringRead() throws InterruptedException {
+    VeniceChangelogConsumer<String, String> changelogConsumer = mock(VeniceChangelogConsumer.class);
+    PubSubMessage message = mock(PubSubMessage.class);
+    doReturn("key").when(message).getKey();
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+    AtomicInteger pollCount = new AtomicInteger();
+    doAnswer(invocation -> {
+      // The update is returned while the read is in flight
+      if (pollCount.incrementAndGet() == 1) {
+        readStarted.await();
+        return Collections.singletonList(message);
+      }
+      invalidated.countDown();
+      Utils.sleep(1);
+      return Collections.emptyList();
+    }).when(changelogConsumer).poll(anyLong());
+    ClientConfig clientConfig = createClientConfigBuilder().setNearCacheChangelogConsumer(changelogConsumer).build();
+    InternalAvroStoreClient<String, String> delegate = createDelegate();
+    CompletableFuture<String> pendingRead = new CompletableFuture<>();
+    AtomicInteger readCount = new AtomicInteger();
+    doAnswer(invocation -> {
+      GetRequestContext<String> requestContext = invocation.getArgument(0);
+      requestContext.currentVersion = currentVersion.get();
+      if (readCount.incrementAndGet() == 1) {
+        readStarted.countDown();
+        return pendingRead;
+      }
+      return CompletableFuture.completedFuture("key_v1_updated");
+    }).when(delegate).get(any(GetRequestContext.class), any());
+    NearCacheAvroGenericStoreClient<String, String> client =
+        new NearCacheAvroGenericStoreClient<>(delegate, clientConfig, createStoreMetadata());
+    client.start();
+
+    CompletableFuture<String> staleRead = client.get(new GetRequestContext<>(), "key");
+    invalidated.await();
+    pendingRead.complete("key_v1");
+    assertEquals(staleRead.join(), "key_v1");
+
+    // The value read before the invalidation isn't cached
+    assertEquals(client.get(new GetRequestContext<>(), "key").join(), "key_v1_updated");
+    assertEquals(client.get(new GetRequestContext<>(), "key").join(), "key_v1_updated");
+    verify(delegate, times(2)).get(any(GetRequestContext.class), eq("key"));
+    client.close();
+  }
+}
@@ -0,0 +1,121 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.client.store.transport.TransportClient;
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+
+public class SingleGetBatcherTest {
+  private static final String BATCH_GET_URL = "https://host1:1234/storage/test_store_v1";
+  private static final RecordSerializer<MultiGetResponseRecordV1> MULTI_GET_RESPONSE_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
+  private static final RecordDeserializer<MultiGetRouterRequestKeyV1> MULTI_GET_REQUEST_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetRouterRequestKeyV1.SCHEMA$, MultiGetRouterRequestKeyV1.class);
+
+  private static byte[] toBytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testFullBatchIsSentAsBatchGet() {
+    TransportClient transportClient = mock(TransportClient.class);
+    CompletableFuture<TransportClientResponse> postFuture = new CompletableFuture<>();
+    doReturn(postFuture).when(transportClient).post(eq(BATCH_GET_URL), anyMap(), any(byte[].class));
+    SingleGetBatcher batcher = new SingleGetBatcher(transportClient, 10_000_000, 2);
+
+    CompletableFuture<TransportClientResponse> future1 = batcher.get(BATCH_GET_URL, "url1", 1, toBytes("key1"));
+    CompletableFuture<TransportClientResponse> future2 = batcher.get(BATCH_GET_URL, "url2", 2, toBytes("key2"));
+    ArgumentCaptor<byte[]> requestBody = ArgumentCaptor.forClass(byte[].class);
+    verify(transportClient).post(eq(BATCH_GET_URL), anyMap(), requestBody.capture());
+    verify(transportClient, never()).get(anyString());
+    List<MultiGetRouterRequestKeyV1> requestKeys =
+        MULTI_GET_REQUEST_DESERIALIZER.deserializeObjects(requestBody.getValue());
+    assertEquals(requestKeys.size(), 2);
+    assertEquals(requestKeys.get(1).keyIndex, 1);
+    assertEquals(requestKeys.get(1).partitionId, 2);
+    assertEquals(requestKeys.get(1).keyBytes, ByteBuffer.wrap(toBytes("key2")));
+
+    // Only the first key exists
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = 0;
+    record.schemaId = 3;
+    record.value = ByteBuffer.wrap(toBytes("value1"));
+    postFuture.complete(
+        new TransportClientResponse(
+            1,
+            CompressionStrategy.GZIP,
+            MULTI_GET_RESPONSE_SERIALIZER.serializeObjects(Collections.singletonList(record))));
+    TransportClientResponse response1 = future1.join();
+    assertEquals(response1.getSchemaId(), 3);
+    assertEquals(response1.getCompressionStrategy(), CompressionStrategy.GZIP);
+    assertEquals(response1.getBody(), toBytes("value1"));
+    assertNull(future2.join());
+    batcher.close();
+  }
+
+  @Test
+  public void testSingleKeyIsSentAsSingleGet() {
+    TransportClient transportClient = mock(TransportClient.class);
+    TransportClientResponse response = new TransportClientResponse(1, CompressionStrategy.NO_OP, toBytes("value"));
+    doReturn(CompletableFuture.completedFuture(response)).when(transportClient).get("url1");
+    SingleGetBatcher batcher = new SingleGetBatcher(transportClient, 1000, 10);
+
+    CompletableFuture<TransportClientResponse> future = batcher.get(BATCH_GET_URL, "url1", 1, toBytes("key1"));
+    verify(transportClient, timeout(5000)).get("url1");
+    assertEquals(future.join(), response);
+    verify(transportClient, never()).post(anyString(), anyMap(), any(byte[].class));
+    batcher.close();
+  }
+
+  @Test
+  public void testBatchGetFailure() {
+    TransportClient transportClient = mock(TransportClient.class);
+    CompletableFuture<TransportClientResponse> postFuture = new CompletableFuture<>();
+    doReturn(postFuture).when(transportClient).post(anyString(), anyMap(), any(byte[].class));
+    SingleGetBatcher batcher = new SingleGetBatcher(transportClient, 10_000_000, 10);
+
+    CompletableFuture<TransportClientResponse> future1 = batcher.get(BATCH_GET_URL, "url1", 1, toBytes("key1"));
+    CompletableFuture<TransportClientResponse> future2 = batcher.get(BATCH_GET_URL, "url2", 1, toBytes("key2"));
+    // Keys of other replicas or versions are never batched together
+    CompletableFuture<TransportClientResponse> otherReplicaFuture =
+        batcher.get("https://host2:1234/storage/test_store_v1", "url3", 1, toBytes("key3"));
+    assertFalse(future1.isDone());
+
+    // Pending batches are sent when the batcher is closed
+    doReturn(new CompletableFuture<>()).when(transportClient).get("url3");
+    batcher.close();
+    verify(transportClient).post(eq(BATCH_GET_URL), anyMap(), any(byte[].class));
+    verify(transportClient).get("url3");
+    postFuture.completeExceptionally(new RuntimeException("Request failed"));
+    assertTrue(future1.isCompletedExceptionally());
+    assertTrue(future2.isCompletedExceptionally());
+    assertFalse(otherReplicaFuture.isDone());
+  }
+}
@@ -77,6 +77,31 @@ public class InstanceHealthMonitorTest {
     }
   }
 
+  @Test
+  public void testExpectedLatencyCost() throws Exception {
+    InstanceHealthMonitorConfig config =
+        InstanceHealthMonitorConfig.builder().setRoutingRequestDefaultTimeoutMS(10000l).build();
+    String anotherInstance = "https://another.test.host:1234";
+    try (InstanceHealthMonitor healthMonitor = new InstanceHealthMonitor(config)) {
+      double idleCost = healthMonitor.getExpectedLatencyCost(instance);
+      assertTrue(idleCost > 0);
+      assertEquals(healthMonitor.getExpectedLatencyCost(anotherInstance), idleCost);
+
+      // A pending request doubles the cost
+      ChainedCompletableFuture<Integer, Integer> chainedFuture =
+          healthMonitor.trackHealthBasedOnRequestToInstance(anotherInstance);
+      assertEquals(healthMonitor.getExpectedLatencyCost(anotherInstance), 2 * idleCost);
+
+      // A slow response raises the cost of the instance
+      Thread.sleep(10);
+      chainedFuture.getOriginalFuture().complete(SC_OK);
+      waitQuietly(chainedFuture.getResultFuture());
+      assertEquals(healthMonitor.getPendingRequestCounter(anotherInstance), 0);
+      assertTrue(healthMonitor.getExpectedLatencyCost(anotherInstance) > 10 * idleCost);
+      assertEquals(healthMonitor.getExpectedLatencyCost(instance), idleCost);
+    }
+  }
+
   private static class MockClient implements Client {
     private final Map<String, Long> requestPathToResponseDelayMap;
     private final Map<String, CompletableFuture<RestResponse>> requestPathToResponseFutureMap;
@@ -0,0 +1,76 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+
+public class LeastExpectedLatencyClientRoutingStrategyTest {
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+
+  private InstanceHealthMonitor mockInstanceHealthyMonitor(String[] instances, boolean[] allowed, double[] cost) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    if (instances.length != allowed.length || allowed.length != cost.length) {
+      throw new IllegalArgumentException("The length of each array param should be same");
+    }
+    for (int i = 0; i < instances.length; ++i) {
+      String instance = instances[i];
+      doReturn(allowed[i]).when(instanceHealthMonitor).isRequestAllowed(instance);
+      doReturn(cost[i]).when(instanceHealthMonitor).getExpectedLatencyCost(instance);
+    }
+    return instanceHealthMonitor;
+  }
+
+  @Test
+  public void testGetReplicasWithSameCost() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+    LeastExpectedLatencyClientRoutingStrategy strategy = new LeastExpectedLatencyClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { true, true, true }, new double[] { 1, 1, 1 }));
+    Set<String> selectedReplicas = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      selectedReplicas.add(strategy.getReplicas(i, -1, replicas));
+    }
+    // Every replica is picked for an even distribution
+    assertEquals(selectedReplicas, new HashSet<>(replicas));
+  }
+
+  @Test
+  public void testSlowReplicaIsAvoided() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+    LeastExpectedLatencyClientRoutingStrategy strategy = new LeastExpectedLatencyClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { true, true, true }, new double[] { 1, 100, 2 }));
+    for (int i = 0; i < 100; i++) {
+      // The slowest replica always loses against the other choice
+      assertNotEquals(strategy.getReplicas(i, -1, replicas), instance2);
+    }
+  }
+
+  @Test
+  public void testGetReplicasWithBlockedReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+    LeastExpectedLatencyClientRoutingStrategy strategy = new LeastExpectedLatencyClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, true, false }, new double[] { 1, 100, 1 }));
+    for (int i = 0; i < 10; i++) {
+      assertEquals(strategy.getReplicas(i, -1, replicas), instance2);
+    }
+
+    strategy = new LeastExpectedLatencyClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, false, false }, new double[] { 1, 1, 1 }));
+    assertNull(strategy.getReplicas(0, -1, replicas));
+    assertNull(strategy.getReplicas(0, -1, Collections.emptyList()));
+  }
+}
@@ -185,6 +185,10 @@ public abstract class AbstractInputRecordProcessor<INPUT_KEY, INPUT_VALUE> exten
               dataWriterTaskTracker.trackZstdCompressedValueSize(compressedRecordValue.length);
               break;
 
+            case LZ4:
+              // No dedicated counter for LZ4, its size is covered by trackCompressedValueSize when it's configured.
+              break;
+
             default:
               // NO_OP won't reach here as its collected already for all cases.
               // ZSTD won't reach here as its deprecated, so not initialized.
@@ -267,6 +271,13 @@ public abstract class AbstractInputRecordProcessor<INPUT_KEY, INPUT_VALUE> exten
             // deprecated
             break;
 
+          case LZ4:
+            // Only needed when it is the configured strategy since there is no dedicated metric for LZ4.
+            if (compressionStrategy == this.compressionStrategy) {
+              this.compressors[compressionStrategy.getValue()] = compressorFactory.getCompressor(compressionStrategy);
+            }
+            break;
+
           default: // defensive check
             throw new VeniceException(
                 "Support for compression Strategy: " + compressionStrategy.name() + " needs to be added");
@@ -10,6 +10,9 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.schema.SchemaAndToString;
 import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.predicate.FieldPredicateConverter;
+import com.linkedin.venice.client.store.predicate.IntPredicate;
+import com.linkedin.venice.client.store.predicate.LongPredicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
@@ -19,7 +22,9 @@ import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.FieldPredicate;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaReader;
@@ -27,9 +32,11 @@ import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.utils.SystemTime;
 import io.tehuti.utils.Time;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -78,6 +85,8 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   private List<DotProduct> dotProducts = new LinkedList<>();
   private List<CosineSimilarity> cosineSimilarities = new LinkedList<>();
   private List<HadamardProduct> hadamardProducts = new LinkedList<>();
+  private List<FieldPredicate> filters = new LinkedList<>();
+  private TopK topK = null;
 
   public AbstractAvroComputeRequestBuilder(AvroGenericReadComputeStoreClient storeClient, SchemaReader schemaReader) {
     this.latestValueSchemaId = schemaReader.getLatestValueSchemaId();
@@ -153,6 +162,103 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     return this;
   }
 
+  @Override
+  public ComputeRequestBuilder<K> filter(String fieldName, IntPredicate predicate) throws VeniceClientException {
+    checkFilterFieldValidity(fieldName, Schema.Type.INT);
+    filters.add(FieldPredicateConverter.toFieldPredicate(fieldName, predicate));
+    return this;
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> filter(String fieldName, LongPredicate predicate) throws VeniceClientException {
+    checkFilterFieldValidity(fieldName, Schema.Type.LONG);
+    filters.add(FieldPredicateConverter.toFieldPredicate(fieldName, predicate));
+    return this;
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> topK(String resultFieldName, int k) throws VeniceClientException {
+    if (topK != null) {
+      throw new VeniceClientException("Top K has already been specified on result field: " + topK.field);
+    }
+    if (k <= 0) {
+      throw new VeniceClientException("Top K size must be positive, got: " + k);
+    }
+    topK = new TopK();
+    topK.field = resultFieldName;
+    topK.k = k;
+    return this;
+  }
+
+  private void checkFilterFieldValidity(String fieldName, Schema.Type expectedType) {
+    Schema.Field field = latestValueSchema.getField(fieldName);
+    if (field == null) {
+      throw new VeniceClientException("Unknown filter field: " + fieldName);
+    }
+    Schema.Type fieldType = getNonNullSchema(field.schema()).getType();
+    if (fieldType != expectedType) {
+      throw new VeniceClientException(
+          "Filter field: " + fieldName + " isn't '" + expectedType + "' type. Got: " + fieldType);
+    }
+  }
+
+  private void checkTopKFieldValidity(Schema resultSchema) {
+    Schema.Field field = resultSchema.getField(topK.field.toString());
+    if (field == null) {
+      throw new VeniceClientException("Unknown top K result field: " + topK.field);
+    }
+    switch (getNonNullSchema(field.schema()).getType()) {
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return;
+      default:
+        throw new VeniceClientException(
+            "Top K result field: " + topK.field + " isn't numeric. Got: " + field.schema().getType());
+    }
+  }
+
+  /**
+   * @return the non-null branch of the given schema if it is a nullable union, or the given schema otherwise
+   */
+  private static Schema getNonNullSchema(Schema schema) {
+    if (schema.getType() != Schema.Type.UNION || schema.getTypes().size() != 2) {
+      return schema;
+    }
+    List<Schema> schemas = schema.getTypes();
+    if (schemas.get(0).getType() == Schema.Type.NULL) {
+      return schemas.get(1);
+    }
+    if (schemas.get(1).getType() == Schema.Type.NULL) {
+      return schemas.get(0);
+    }
+    return schema;
+  }
+
+  /**
+   * Each storage node returns its own top K, so only the top K of all the received results are kept, and the other
+   * keys are moved to the non-existing ones, to keep the response complete.
+   */
+  private void keepTopKResults(Map<K, ComputeGenericRecord> resultMap, Queue<K> nonExistingKeyList) {
+    if (resultMap.size() <= topK.k) {
+      return;
+    }
+    String fieldName = topK.field.toString();
+    List<Map.Entry<K, ComputeGenericRecord>> entries = new ArrayList<>(resultMap.entrySet());
+    entries.sort(Comparator.comparingDouble((Map.Entry<K, ComputeGenericRecord> entry) -> {
+      // Read by position, since reading a field which failed to be computed by name throws
+      ComputeGenericRecord record = entry.getValue();
+      Object score = record.get(record.getSchema().getField(fieldName).pos());
+      return score instanceof Number ? ((Number) score).doubleValue() : Double.NEGATIVE_INFINITY;
+    }).reversed());
+    for (int i = topK.k; i < entries.size(); i++) {
+      K key = entries.get(i).getKey();
+      resultMap.remove(key);
+      nonExistingKeyList.add(key);
+    }
+  }
+
   /**
    * Generate compute spec for projections, dot-product and cosine-similarity.
    * @return common compute spec
@@ -354,6 +460,9 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
         if (exception.isPresent()) {
           resultFuture.completeExceptionally(exception.get());
         } else {
+          if (topK != null) {
+            keepTopKResults(resultMap, nonExistingKeyList);
+          }
           boolean isFullResponse = resultMap.size() + nonExistingKeyList.size() == keys.size();
           resultFuture.complete(new VeniceResponseMapImpl(resultMap, nonExistingKeyList, isFullResponse));
         }
@@ -494,12 +603,17 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   }
 
   protected ComputeRequestWrapper generateComputeRequest(SchemaAndToString resultSchema, boolean originallyStreaming) {
+    if (topK != null) {
+      checkTopKFieldValidity(resultSchema.getSchema());
+    }
     return new ComputeRequestWrapper(
         latestValueSchemaId,
         latestValueSchema,
         resultSchema.getSchema(),
         resultSchema.getToString(),
         getComputeRequestOperations(),
+        filters,
+        topK,
         originallyStreaming);
   }
 }
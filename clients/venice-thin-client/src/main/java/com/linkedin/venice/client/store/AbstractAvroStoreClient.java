@@ -17,6 +17,7 @@ import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compute.ComputeFilter;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -458,6 +459,11 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
 
           @Override
           public void onRawRecordReceived(K key, GenericRecord value) {
+            ComputeFilter filter = computeRequest.getFilter();
+            if (value != null && filter != null && !filter.evaluate(value)) {
+              // Filtered out values are reported like missing keys, as the storage nodes do
+              value = null;
+            }
             if (value != null) {
               value = ComputeUtils.computeResult(
                   computeRequest.getOperations(),
@@ -512,7 +518,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         RequestHeadersProvider.getStreamingComputeHeaderMap(
             keyList.size(),
             computeRequest.getValueSchemaID(),
-            clientConfig.isRemoteComputationOnly()),
+            clientConfig.isRemoteComputationOnly(),
+            computeRequest.getProtocolVersion()),
         serializedRequest,
         callback,
         keyList.size());
@@ -45,8 +45,11 @@ public class AvroBlackHoleResponseStoreClientImpl<K, V> extends AvroGenericStore
 
     getTransportClient().streamPost(
         getComputeRequestPath(),
-        RequestHeadersProvider
-            .getStreamingComputeHeaderMap(keys.size(), computeRequestWrapper.getValueSchemaID(), false),
+        RequestHeadersProvider.getStreamingComputeHeaderMap(
+            keys.size(),
+            computeRequestWrapper.getValueSchemaID(),
+            false,
+            computeRequestWrapper.getProtocolVersion()),
         serializedComputeRequest,
         new BlackHoleStreamingCallback<>(keys.size(), DelegatingTrackingCallback.wrap(callback)),
         keys.size());
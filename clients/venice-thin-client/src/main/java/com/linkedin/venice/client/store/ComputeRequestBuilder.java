@@ -2,6 +2,8 @@ package com.linkedin.venice.client.store;
 
 import com.linkedin.venice.annotation.Experimental;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.predicate.IntPredicate;
+import com.linkedin.venice.client.store.predicate.LongPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
@@ -69,6 +71,43 @@ public interface ComputeRequestBuilder<K> extends ExecutableRequestBuilder<K, Ma
       List<Float> hadamardProductParam,
       String resultFieldName);
 
+  /**
+   * Only return the values whose given field satisfies the predicate. The predicate is evaluated by the storage nodes,
+   * so the values which don't match are neither computed nor sent back, and they are returned like missing keys.
+   * Several filters can be specified, in which case a value must satisfy all of them.
+   *
+   * This experimental feature is subject to backwards-incompatible changes in the future.
+   *
+   * @param fieldName : top-level 'INT' field in the value record
+   * @param predicate : predicate built by the factory methods of {@link IntPredicate}
+   * @return
+   */
+  @Experimental
+  ComputeRequestBuilder<K> filter(String fieldName, IntPredicate predicate);
+
+  /**
+   * Same as {@link #filter(String, IntPredicate)}, for a top-level 'LONG' field.
+   */
+  @Experimental
+  ComputeRequestBuilder<K> filter(String fieldName, LongPredicate predicate);
+
+  /**
+   * Only return the K results with the highest values of the given result field. The storage nodes only send back
+   * their own top K, and the other keys are returned like missing keys.
+   *
+   * N.B.: With the {@link #streamingExecute(Set, StreamingCallback)} API, the records are passed to the callback as
+   * soon as they are received, so it can receive up to K records per storage node, and it is up to the callback to
+   * keep the top K of them.
+   *
+   * This experimental feature is subject to backwards-incompatible changes in the future.
+   *
+   * @param resultFieldName : numeric field of the compute result, like the result field of a dot-product
+   * @param k : the number of results to return
+   * @return
+   */
+  @Experimental
+  ComputeRequestBuilder<K> topK(String resultFieldName, int k);
+
   /**
    * Send compute request to Venice, and this should be the last step of the compute specification.
    * The difference between this function and the previous {@link #execute(Set)} is that this function will return
@@ -0,0 +1,90 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.compute.protocol.request.FieldPredicate;
+import com.linkedin.venice.compute.protocol.request.enums.FieldPredicateType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Converts the {@link IntPredicate}s and {@link LongPredicate}s into the {@link FieldPredicate}s of the compute
+ * protocol, so that they can be evaluated by the storage nodes. The int operands are widened to long.
+ */
+public final class FieldPredicateConverter {
+  private FieldPredicateConverter() {
+  }
+
+  public static FieldPredicate toFieldPredicate(String fieldName, IntPredicate predicate) {
+    if (predicate instanceof IntEqualsPredicate) {
+      return create(fieldName, FieldPredicateType.EQUALS, ((IntEqualsPredicate) predicate).getExpectedValue());
+    } else if (predicate instanceof IntGreaterThanPredicate) {
+      return create(fieldName, FieldPredicateType.GREATER_THAN, ((IntGreaterThanPredicate) predicate).getThreshold());
+    } else if (predicate instanceof IntGreaterOrEqualsPredicate) {
+      return create(
+          fieldName,
+          FieldPredicateType.GREATER_OR_EQUALS,
+          ((IntGreaterOrEqualsPredicate) predicate).getThreshold());
+    } else if (predicate instanceof IntLowerThanPredicate) {
+      return create(fieldName, FieldPredicateType.LOWER_THAN, ((IntLowerThanPredicate) predicate).getThreshold());
+    } else if (predicate instanceof IntLowerOrEqualsPredicate) {
+      return create(
+          fieldName,
+          FieldPredicateType.LOWER_OR_EQUALS,
+          ((IntLowerOrEqualsPredicate) predicate).getThreshold());
+    } else if (predicate instanceof IntAnyOfPredicate) {
+      int[] expectedValues = ((IntAnyOfPredicate) predicate).getExpectedValues();
+      List<Long> operands = new ArrayList<>(expectedValues.length);
+      for (int expectedValue: expectedValues) {
+        operands.add((long) expectedValue);
+      }
+      return create(fieldName, FieldPredicateType.ANY_OF, operands);
+    }
+    throw new VeniceClientException(
+        "Predicate: " + predicate.getClass().getSimpleName() + " on field: " + fieldName
+            + " cannot be evaluated by the storage nodes");
+  }
+
+  public static FieldPredicate toFieldPredicate(String fieldName, LongPredicate predicate) {
+    if (predicate instanceof LongEqualsPredicate) {
+      return create(fieldName, FieldPredicateType.EQUALS, ((LongEqualsPredicate) predicate).getExpectedValue());
+    } else if (predicate instanceof LongGreaterThanPredicate) {
+      return create(fieldName, FieldPredicateType.GREATER_THAN, ((LongGreaterThanPredicate) predicate).getThreshold());
+    } else if (predicate instanceof LongGreaterOrEqualsPredicate) {
+      return create(
+          fieldName,
+          FieldPredicateType.GREATER_OR_EQUALS,
+          ((LongGreaterOrEqualsPredicate) predicate).getThreshold());
+    } else if (predicate instanceof LongLowerThanPredicate) {
+      return create(fieldName, FieldPredicateType.LOWER_THAN, ((LongLowerThanPredicate) predicate).getThreshold());
+    } else if (predicate instanceof LongLowerOrEqualsPredicate) {
+      return create(
+          fieldName,
+          FieldPredicateType.LOWER_OR_EQUALS,
+          ((LongLowerOrEqualsPredicate) predicate).getThreshold());
+    } else if (predicate instanceof LongAnyOfPredicate) {
+      long[] expectedValues = ((LongAnyOfPredicate) predicate).getExpectedValues();
+      List<Long> operands = new ArrayList<>(expectedValues.length);
+      for (long expectedValue: expectedValues) {
+        operands.add(expectedValue);
+      }
+      return create(fieldName, FieldPredicateType.ANY_OF, operands);
+    }
+    throw new VeniceClientException(
+        "Predicate: " + predicate.getClass().getSimpleName() + " on field: " + fieldName
+            + " cannot be evaluated by the storage nodes");
+  }
+
+  private static FieldPredicate create(String fieldName, FieldPredicateType predicateType, long operand) {
+    return create(fieldName, predicateType, Collections.singletonList(operand));
+  }
+
+  private static FieldPredicate create(String fieldName, FieldPredicateType predicateType, List<Long> operands) {
+    FieldPredicate fieldPredicate = new FieldPredicate();
+    fieldPredicate.field = fieldName;
+    fieldPredicate.predicateType = predicateType.getValue();
+    fieldPredicate.operands = operands;
+    return fieldPredicate;
+  }
+}
@@ -11,4 +11,8 @@ public class IntEqualsPredicate implements IntPredicate {
   public boolean evaluate(int value) {
     return value == expectedValue;
   }
+
+  int getExpectedValue() {
+    return expectedValue;
+  }
 }
@@ -22,4 +22,8 @@ public class LongAnyOfPredicate implements LongPredicate {
     }
     return false;
   }
+
+  long[] getExpectedValues() {
+    return expectedValues;
+  }
 }
@@ -11,4 +11,8 @@ public class LongGreaterOrEqualsPredicate implements LongPredicate {
   public boolean evaluate(long value) {
     return value >= threshold;
   }
+
+  long getThreshold() {
+    return threshold;
+  }
 }
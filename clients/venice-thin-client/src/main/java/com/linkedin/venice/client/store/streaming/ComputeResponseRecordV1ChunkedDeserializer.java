@@ -1,31 +1,23 @@
 package com.linkedin.venice.client.store.streaming;
 
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
-import java.nio.ByteBuffer;
 
 
 public class ComputeResponseRecordV1ChunkedDeserializer
     extends ReadEnvelopeChunkedDeserializer<ComputeResponseRecordV1> {
   @Override
-  public ValueContainer<ComputeResponseRecordV1> tryDeserializeRecord(int currentPos) throws NotEnoughBytesException {
-    int currentOffset = currentPos;
-
+  public ComputeResponseRecordV1 tryDeserializeRecord() throws NotEnoughBytesException {
     // keyIndex: int
-    ValueContainer<Integer> keyIndex = tryReadInt(currentOffset);
+    int keyIndex = readInt();
 
     // value: ByteBuffer
-    currentOffset += keyIndex.bytesUsed;
-    ValueContainer<Integer> bytesMeta = readBytesMeta(currentOffset);
-    int bytesStartOffset = currentOffset + bytesMeta.bytesUsed;
-    int bytesLen = bytesMeta.value;
-
-    byte[] value = readBytes(bytesStartOffset, bytesLen);
+    int bytesLen = readInt();
+    int bytesStartOffset = skipBytes(bytesLen);
 
-    int totalUsed = bytesStartOffset + bytesLen - currentPos;
     ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
-    record.keyIndex = keyIndex.value;
-    record.value = ByteBuffer.wrap(value);
+    record.keyIndex = keyIndex;
+    record.value = getBytes(bytesStartOffset, bytesLen);
 
-    return new ValueContainer<>(record, totalUsed);
+    return record;
   }
 }
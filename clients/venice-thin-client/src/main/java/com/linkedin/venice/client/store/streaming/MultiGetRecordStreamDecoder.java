@@ -1,5 +1,6 @@
 package com.linkedin.venice.client.store.streaming;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
@@ -13,9 +14,18 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.apache.avro.io.BinaryDecoder;
 
 
 public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecoder<MultiGetResponseRecordV1, K, V> {
+  private static final byte[] BINARY_DECODER_PARAM = new byte[16];
+  /**
+   * The values are deserialized in the deserialization executor, and each of its threads reuses the same decoder
+   * for all the values it deserializes, instead of allocating a new one per value.
+   */
+  private static final ThreadLocal<BinaryDecoder> THREAD_LOCAL_BINARY_DECODER = ThreadLocal.withInitial(
+      () -> AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null));
+
   private final Map<Integer, RecordDeserializer<V>> deserializerCache = new VeniceConcurrentHashMap<>();
   private final RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer;
   private final Function<Integer, RecordDeserializer<V>> valueDeserializerProvider;
@@ -57,7 +67,7 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
     RecordDeserializer<V> deserializer =
         deserializerCache.computeIfAbsent(envelope.schemaId, valueDeserializerProvider);
     ByteBuffer decompressedValue = decompressor.apply(compression, envelope.value);
-    return deserializer.deserialize(decompressedValue);
+    return deserializer.deserialize(null, decompressedValue, THREAD_LOCAL_BINARY_DECODER.get());
   }
 
   @Override
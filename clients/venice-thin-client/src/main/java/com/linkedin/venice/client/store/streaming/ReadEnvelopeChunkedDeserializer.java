@@ -4,11 +4,12 @@ import com.linkedin.data.ByteString;
 import com.linkedin.venice.exceptions.VeniceException;
 import java.nio.ByteBuffer;
 import java.nio.ReadOnlyBufferException;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import org.apache.avro.io.BinaryDecoder;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 
 /**
@@ -20,30 +21,47 @@ import org.apache.logging.log4j.Logger;
  * All the records can only be consumed once, and after the consumption, the underlying byte array
  * might be freed to reduce GC.
  *
+ * The derived classes read the fields of a record with {@link #readInt()}, {@link #skipBytes(int)} and
+ * {@link #getBytes(int, int)}, which move a read cursor over the written chunks without allocating any
+ * intermediate object, so a record only costs the envelope object itself, and its value is a view of the
+ * written chunk whenever the chunk is backed by an accessible array.
+ *
  * @param <V>
  */
 public abstract class ReadEnvelopeChunkedDeserializer<V> {
-  private static final Logger LOGGER = LogManager.getLogger(ReadEnvelopeChunkedDeserializer.class);
+  private static final byte[] EMPTY_BYTES = new byte[0];
 
-  // All available deserialized bytes
-  private final LinkedList<BytesContainer> buffers = new LinkedList<>();
-  // Current offset to deserialize
+  // All the chunks, which still contain bytes not deserialized yet
+  private final Deque<BytesContainer> buffers = new ArrayDeque<>();
+  // Global offset of the next record to deserialize
   private int currentOffset = 0;
+  // Global offset of the next byte to read for the record being deserialized
+  private int readOffset = 0;
   private int totalBytes = 0;
-  private List<V> currentAvailableRecords = new LinkedList<>();
+  // The chunk containing the last read byte, which is most likely to contain the next one as well
+  private BytesContainer lastReadBuffer = null;
+  private List<V> currentAvailableRecords = new ArrayList<>();
 
   private static class BytesContainer {
     final ByteBuffer bytes;
     // inclusive offset
-    int globalStartOffset;
+    final int globalStartOffset;
     // inclusive offset
-    int globalEndOffset;
+    final int globalEndOffset;
 
     public BytesContainer(ByteBuffer bytes, int globalStartOffset, int globalEndOffset) {
       this.bytes = bytes;
       this.globalStartOffset = globalStartOffset;
       this.globalEndOffset = globalEndOffset;
     }
+
+    boolean contains(int offset) {
+      return offset >= globalStartOffset && offset <= globalEndOffset;
+    }
+
+    byte get(int offset) {
+      return bytes.get(offset - globalStartOffset + bytes.position());
+    }
   }
 
   /**
@@ -57,10 +75,10 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
   public List<V> consume() {
     tryDeserializeRecords();
     if (currentAvailableRecords.isEmpty()) {
-      return currentAvailableRecords;
+      return Collections.emptyList();
     }
     List<V> returnedRecords = currentAvailableRecords;
-    currentAvailableRecords = new LinkedList<>();
+    currentAvailableRecords = new ArrayList<>();
 
     return returnedRecords;
   }
@@ -75,22 +93,17 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
 
   private void tryDeserializeRecords() {
     while (true) {
+      readOffset = currentOffset;
       try {
-        ValueContainer<V> record = tryDeserializeRecord(currentOffset);
-        currentAvailableRecords.add(record.value);
-        currentOffset += record.bytesUsed;
+        V record = tryDeserializeRecord();
+        currentAvailableRecords.add(record);
+        currentOffset = readOffset;
         // Remove useless chunks
-        int removedBytes = 0;
         while (buffers.peek() != null && buffers.peek().globalEndOffset < currentOffset) {
-          removedBytes = buffers.pop().globalEndOffset + 1;
+          if (buffers.pop() == lastReadBuffer) {
+            lastReadBuffer = null;
+          }
         }
-        final int finalRemovedBytes = removedBytes;
-        buffers.forEach(buffer -> {
-          buffer.globalStartOffset -= finalRemovedBytes;
-          buffer.globalEndOffset -= finalRemovedBytes;
-        });
-        totalBytes -= removedBytes;
-        currentOffset -= removedBytes;
       } catch (NotEnoughBytesException e) {
         // Hit partial record
         break;
@@ -98,31 +111,15 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
     }
   }
 
-  /**
-   * This class contains two fields:
-   * 1. value: deserialized value;
-   * 2. bytesUsed: byte length for the original serialized value;
-   * @param <V>
-   */
-  protected static class ValueContainer<V> {
-    V value;
-    int bytesUsed;
-
-    ValueContainer(V value, int bytesUsed) {
-      this.value = value;
-      this.bytesUsed = bytesUsed;
-    }
-  }
-
   /**
    * All the derived class will implement this function to provide the customized logic to deserialize
-   * a record, and when hitting partial record, it should throw {@link NotEnoughBytesException}.
+   * the record starting at the current read cursor, and when hitting partial record, it should throw
+   * {@link NotEnoughBytesException}.
    *
-   * @param currentPos : current global offset to deserialize
-   * @return
+   * @return the deserialized record
    * @throws NotEnoughBytesException
    */
-  protected abstract ValueContainer<V> tryDeserializeRecord(int currentPos) throws NotEnoughBytesException;
+  protected abstract V tryDeserializeRecord() throws NotEnoughBytesException;
 
   /**
    * Utility method to retrieve a byte with the given offset.
@@ -135,32 +132,37 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
     if (offset >= totalBytes) {
       throw NOT_ENOUGH_BYTES_EXCEPTION;
     }
+    if (lastReadBuffer != null && lastReadBuffer.contains(offset)) {
+      return lastReadBuffer.get(offset);
+    }
     for (BytesContainer bytesContainer: buffers) {
-      if (offset >= bytesContainer.globalStartOffset && offset <= bytesContainer.globalEndOffset) {
-        return bytesContainer.bytes.get(offset - bytesContainer.globalStartOffset + bytesContainer.bytes.position());
+      if (bytesContainer.contains(offset)) {
+        lastReadBuffer = bytesContainer;
+        return bytesContainer.get(offset);
       }
     }
     throw NOT_ENOUGH_BYTES_EXCEPTION;
   }
 
   /**
+   * Reads an int at the read cursor and moves the cursor past it.
+   *
    * The following implementation is equivalent to {@link BinaryDecoder#readIndex()}
    */
-  protected ValueContainer<Integer> tryReadInt(int currentOffset) throws NotEnoughBytesException {
-    int len = 1;
-    int b = getByte(currentOffset) & 0xff;
+  protected int readInt() throws NotEnoughBytesException {
+    int b = getByte(readOffset++) & 0xff;
     int n = b & 0x7f;
     if (b > 0x7f) {
-      b = getByte(currentOffset + len++) & 0xff;
+      b = getByte(readOffset++) & 0xff;
       n ^= (b & 0x7f) << 7;
       if (b > 0x7f) {
-        b = getByte(currentOffset + len++) & 0xff;
+        b = getByte(readOffset++) & 0xff;
         n ^= (b & 0x7f) << 14;
         if (b > 0x7f) {
-          b = getByte(currentOffset + len++) & 0xff;
+          b = getByte(readOffset++) & 0xff;
           n ^= (b & 0x7f) << 21;
           if (b > 0x7f) {
-            b = getByte(currentOffset + len++) & 0xff;
+            b = getByte(readOffset++) & 0xff;
             n ^= (b & 0x7f) << 28;
             if (b > 0x7f) {
               throw new VeniceException("Invalid int encoding");
@@ -169,61 +171,80 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
         }
       }
     }
-    int intRes = (n >>> 1) ^ -(n & 1); // back to two's-complement
-    return new ValueContainer<>(intRes, len);
+    return (n >>> 1) ^ -(n & 1); // back to two's-complement
   }
 
   /**
-   * Utility method to read bytes array metadata, which contains the byte length and the byte length
-   * to store the serialized byte-length.
+   * Utility method to skip a byte array of the given length at the read cursor, after verifying that all its bytes
+   * are available.
    *
-   * The reason to introduce this method is to avoid the unnecessary byte array copy until current record
+   * The reason to introduce this method is to avoid the unnecessary byte array access until current record
    * is a full record.
    *
-   * @param currentOffset
-   * @return
+   * @param bytesLen
+   * @return the global offset of the skipped bytes, to be used with {@link #getBytes(int, int)}
    * @throws NotEnoughBytesException
    */
-  protected ValueContainer<Integer> readBytesMeta(int currentOffset) throws NotEnoughBytesException {
-    // try read bytes length first
-    ValueContainer<Integer> intValueContainer = tryReadInt(currentOffset);
-    // check whether current buffers contain all the bytes
-    int bytesStartOffset = currentOffset + intValueContainer.bytesUsed;
-    int bytesLen = intValueContainer.value;
-    if (bytesLen == 0) {
-      return new ValueContainer(0, intValueContainer.bytesUsed);
+  protected int skipBytes(int bytesLen) throws NotEnoughBytesException {
+    if (bytesLen < 0) {
+      throw new VeniceException("Invalid bytes length: " + bytesLen);
     }
+    int bytesStartOffset = readOffset;
     // inclusive
     int bytesEndOffset = bytesStartOffset + bytesLen - 1;
     if (bytesEndOffset >= totalBytes) {
       throw NOT_ENOUGH_BYTES_EXCEPTION;
     }
-
-    return new ValueContainer<>(bytesLen, intValueContainer.bytesUsed);
+    readOffset += bytesLen;
+    return bytesStartOffset;
   }
 
   /**
-   * Utility method to read byte arrays.
+   * Utility method to read byte arrays, which must have been verified by {@link #skipBytes(int)}.
    *
-   * We could not reuse the underlying byte array even the requested bytes are fully contained by one single
-   * {@link BytesContainer} since the internal {@link ByteBuffer} is read-only since {@link ByteBuffer#array()}
-   * will throw {@link ReadOnlyBufferException}.
+   * When the requested bytes are fully contained by one single {@link BytesContainer} backed by an accessible
+   * array, the returned {@link ByteBuffer} is a view of that array without any byte copy. Otherwise, the bytes
+   * are copied, since the internal {@link ByteBuffer} might be read-only and {@link ByteBuffer#array()} would
+   * throw {@link ReadOnlyBufferException}.
    *
    * You could refer to {@link ByteString#asByteBuffer()} to find more details, which is being
    * used by {@link com.linkedin.venice.client.store.transport.D2TransportClient}.
    *
+   * Either way, the returned {@link ByteBuffer} starts at its position and is backed by an array whose offset is 0,
+   * which is what the deserializers and the decompressors expect.
+   *
    * @param bytesStartOffset
    * @param bytesLen
    * @return
    * @throws NotEnoughBytesException
    */
-  protected byte[] readBytes(int bytesStartOffset, int bytesLen) throws NotEnoughBytesException {
+  protected ByteBuffer getBytes(int bytesStartOffset, int bytesLen) throws NotEnoughBytesException {
+    if (bytesLen == 0) {
+      return ByteBuffer.wrap(EMPTY_BYTES);
+    }
     // inclusive
     int bytesEndOffset = bytesStartOffset + bytesLen - 1;
     if (bytesEndOffset >= totalBytes) {
       throw NOT_ENOUGH_BYTES_EXCEPTION;
     }
-    // read bytes
+    for (BytesContainer bytesContainer: buffers) {
+      if (bytesContainer.contains(bytesStartOffset)) {
+        ByteBuffer currentBuffer = bytesContainer.bytes;
+        if (bytesContainer.contains(bytesEndOffset) && currentBuffer.hasArray()) {
+          return ByteBuffer.wrap(
+              currentBuffer.array(),
+              currentBuffer.arrayOffset() + currentBuffer.position() + bytesStartOffset
+                  - bytesContainer.globalStartOffset,
+              bytesLen);
+        }
+        break;
+      }
+    }
+    return ByteBuffer.wrap(copyBytes(bytesStartOffset, bytesLen));
+  }
+
+  private byte[] copyBytes(int bytesStartOffset, int bytesLen) {
+    int bytesEndOffset = bytesStartOffset + bytesLen - 1;
     byte[] value = new byte[bytesLen];
     int copiedLen = 0;
     for (BytesContainer bytesContainer: buffers) {
@@ -241,11 +262,10 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
       int actualEnd = Math.min(currentEnd, bytesEndOffset);
       int copiedLenFromCurrentBuffer = actualEnd - actualStart + 1;
 
-      ByteBuffer currentBuffer = bytesContainer.bytes;
-      currentBuffer.mark();
+      // Use a duplicate to leave the position of the shared chunk untouched
+      ByteBuffer currentBuffer = bytesContainer.bytes.duplicate();
       currentBuffer.position(actualStart - currentStart + currentBuffer.position());
       currentBuffer.get(value, copiedLen, copiedLenFromCurrentBuffer);
-      currentBuffer.reset();
       copiedLen += copiedLenFromCurrentBuffer;
     }
 
@@ -1,5 +1,7 @@
 package com.linkedin.venice.client.store;
 
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V3;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME;
 import static com.linkedin.venice.client.store.predicate.Predicate.and;
 import static com.linkedin.venice.client.store.predicate.Predicate.equalTo;
@@ -11,8 +13,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.predicate.IntPredicate;
+import com.linkedin.venice.client.store.predicate.LongPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
@@ -27,10 +32,12 @@ import com.linkedin.venice.utils.Utils;
 import io.tehuti.utils.Time;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -482,6 +489,83 @@ public class AvroComputeRequestBuilderTest {
         });
   }
 
+  @Test
+  public void testFilterAndTopK() throws Exception {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    ArgumentCaptor<ComputeRequestWrapper> computeRequestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    ArgumentCaptor<Schema> resultSchemaCaptor = ArgumentCaptor.forClass(Schema.class);
+    ArgumentCaptor<StreamingCallback> callbackCaptor = ArgumentCaptor.forClass(StreamingCallback.class);
+    Set<String> keySet = new HashSet<>(Arrays.asList("key1", "key2", "key3"));
+
+    AvroComputeRequestBuilderV3<String> computeRequestBuilder =
+        new AvroComputeRequestBuilderV3<>(mockClient, mockClient.getSchemaReader());
+    CompletableFuture<VeniceResponseMap<String, ComputeGenericRecord>> future = computeRequestBuilder
+        .dotProduct("float_array_field1", dotProductParam, "dot_product_result")
+        .filter("int_field", IntPredicate.greaterThan(5))
+        .topK("dot_product_result", 2)
+        .streamingExecute(keySet);
+    verify(mockClient).compute(
+        computeRequestCaptor.capture(),
+        Mockito.any(),
+        resultSchemaCaptor.capture(),
+        callbackCaptor.capture(),
+        Mockito.anyLong());
+    ComputeRequestWrapper capturedComputeRequest = computeRequestCaptor.getValue();
+    Assert.assertEquals(capturedComputeRequest.getProtocolVersion(), COMPUTE_REQUEST_VERSION_V5);
+    Assert.assertNotNull(capturedComputeRequest.getFilter());
+    Assert.assertEquals(capturedComputeRequest.getTopK().field.toString(), "dot_product_result");
+    Assert.assertEquals(capturedComputeRequest.getTopK().k, 2);
+
+    // Each storage node returns its own top K, so the client only keeps the top K of all of them
+    Schema resultSchema = resultSchemaCaptor.getValue();
+    StreamingCallback<String, ComputeGenericRecord> callback = callbackCaptor.getValue();
+    float score = 1.0f;
+    for (String key: Arrays.asList("key1", "key2", "key3")) {
+      GenericRecord resultRecord = new GenericData.Record(resultSchema);
+      resultRecord.put("dot_product_result", score++);
+      callback.onRecordReceived(key, new ComputeGenericRecord(resultRecord, VALID_RECORD_SCHEMA));
+    }
+    callback.onCompletion(Optional.empty());
+    VeniceResponseMap<String, ComputeGenericRecord> response = future.get();
+    Assert.assertTrue(response.isFullResponse());
+    Assert.assertEquals(response.keySet(), new HashSet<>(Arrays.asList("key2", "key3")));
+    Assert.assertEquals(response.getNonExistingKeys(), Collections.singleton("key1"));
+
+    // The requests without filters nor top K keep using the version supported by all the routers and servers
+    AbstractAvroStoreClient mockClient2 = getMockClient(VALID_RECORD_SCHEMA);
+    new AvroComputeRequestBuilderV3<String>(mockClient2, mockClient2.getSchemaReader()).project("int_field")
+        .execute(keys);
+    verify(mockClient2).compute(
+        computeRequestCaptor.capture(),
+        Mockito.any(),
+        Mockito.any(),
+        Mockito.any(),
+        Mockito.anyLong());
+    Assert.assertEquals(computeRequestCaptor.getValue().getProtocolVersion(), COMPUTE_REQUEST_VERSION_V3);
+    Assert.assertNull(computeRequestCaptor.getValue().getFilter());
+  }
+
+  @Test
+  public void testInvalidFilterAndTopK() {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    AvroComputeRequestBuilderV3<String> computeRequestBuilder =
+        new AvroComputeRequestBuilderV3<>(mockClient, mockClient.getSchemaReader());
+    VeniceClientException e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> computeRequestBuilder.filter("float_field", IntPredicate.equalTo(1)));
+    Assert.assertEquals(e.getMessage(), "Filter field: float_field isn't 'INT' type. Got: FLOAT");
+    e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> computeRequestBuilder.filter("int_field", LongPredicate.equalTo(1L)));
+    Assert.assertEquals(e.getMessage(), "Filter field: int_field isn't 'LONG' type. Got: INT");
+    e = Assert.expectThrows(VeniceClientException.class, () -> computeRequestBuilder.topK("int_field", 0));
+    Assert.assertEquals(e.getMessage(), "Top K size must be positive, got: 0");
+
+    computeRequestBuilder.project("record_field").topK("record_field", 10);
+    e = Assert.expectThrows(VeniceClientException.class, () -> computeRequestBuilder.execute(keys));
+    Assert.assertEquals(e.getMessage(), "Top K result field: record_field isn't numeric. Got: RECORD");
+  }
+
   private AbstractAvroStoreClient getMockClient(Schema valueSchema) {
     AbstractAvroStoreClient mockClient = mock(AbstractAvroStoreClient.class);
     String storeName = Utils.getUniqueString("store_for_mock_client");
@@ -48,4 +48,55 @@ public class MultiGetResponseRecordV1ChunkedDeserializerTest {
     Assert.assertEquals(1, availableRecords.size());
     Assert.assertEquals(record2, availableRecords.get(0));
   }
+
+  private static List<MultiGetResponseRecordV1> createRecords(int recordCount) {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i % 3 == 0 ? -i : i;
+      record.value = ByteBuffer.wrap(i % 3 == 0 ? new byte[0] : ("value_" + i).getBytes());
+      record.schemaId = i % 3 == 0 ? -1 : 1;
+      records.add(record);
+    }
+    return records;
+  }
+
+  @Test
+  public void testValueIsNotCopiedWithinArrayBackedChunk() {
+    List<MultiGetResponseRecordV1> records = createRecords(100);
+    byte[] serializedBytes = new AvroSerializer<>(MultiGetResponseRecordV1.SCHEMA$).serializeObjects(records);
+    // Leave some bytes before the written chunk to verify the offset of the returned values
+    byte[] paddedBytes = new byte[serializedBytes.length + 10];
+    System.arraycopy(serializedBytes, 0, paddedBytes, 10, serializedBytes.length);
+
+    MultiGetResponseRecordV1ChunkedDeserializer chunkedDeserializer = new MultiGetResponseRecordV1ChunkedDeserializer();
+    chunkedDeserializer.write(ByteBuffer.wrap(paddedBytes, 10, serializedBytes.length).slice());
+    List<MultiGetResponseRecordV1> availableRecords = chunkedDeserializer.consume();
+    Assert.assertEquals(availableRecords, records);
+    for (MultiGetResponseRecordV1 record: availableRecords) {
+      if (record.value.hasRemaining()) {
+        Assert.assertSame(record.value.array(), paddedBytes);
+      }
+    }
+  }
+
+  @Test
+  public void testDeserializeFromReadOnlyChunks() {
+    List<MultiGetResponseRecordV1> records = createRecords(1000);
+    byte[] serializedBytes = new AvroSerializer<>(MultiGetResponseRecordV1.SCHEMA$).serializeObjects(records);
+
+    MultiGetResponseRecordV1ChunkedDeserializer chunkedDeserializer = new MultiGetResponseRecordV1ChunkedDeserializer();
+    List<MultiGetResponseRecordV1> availableRecords = new ArrayList<>();
+    int chunkSize = 7;
+    for (int offset = 0; offset < serializedBytes.length; offset += chunkSize) {
+      int length = Math.min(chunkSize, serializedBytes.length - offset);
+      chunkedDeserializer.write(ByteBuffer.wrap(serializedBytes, offset, length).asReadOnlyBuffer());
+      availableRecords.addAll(chunkedDeserializer.consume());
+    }
+    Assert.assertEquals(availableRecords, records);
+    for (MultiGetResponseRecordV1 record: availableRecords) {
+      // The values must be readable by the deserializers, which access the backing array
+      Assert.assertTrue(record.value.hasArray());
+    }
+  }
 }
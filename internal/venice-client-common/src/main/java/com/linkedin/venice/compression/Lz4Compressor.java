@@ -0,0 +1,191 @@
+package com.linkedin.venice.compression;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.commons.io.IOUtils;
+
+
+/**
+ * LZ4 block compression, which trades some compression ratio for much cheaper decompression compared to GZIP and ZSTD.
+ *
+ * The compressed payload is the LZ4 block prefixed with the size of the decompressed data as a 4-byte big-endian int,
+ * so that the decompression path can allocate the exact output buffer upfront:
+ * [decompressed size (4 bytes)][LZ4 block]
+ *
+ * Both {@link LZ4Compressor} and {@link LZ4SafeDecompressor} are stateless and thread-safe.
+ */
+public class Lz4Compressor extends VeniceCompressor {
+  private static final int DECOMPRESSED_SIZE_HEADER_LENGTH = ByteUtils.SIZE_OF_INT;
+  /**
+   * Each byte of an LZ4 block expands to at most 255 bytes, since the literal and match lengths are encoded in 255-byte
+   * increments. A decompressed size beyond that ratio means that the header is corrupted.
+   */
+  private static final int MAX_COMPRESSION_RATIO = 255;
+  /**
+   * The largest array most JVMs can allocate.
+   */
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+  private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+  private final LZ4Compressor compressor;
+  private final LZ4SafeDecompressor decompressor;
+
+  public Lz4Compressor() {
+    super(CompressionStrategy.LZ4);
+    this.compressor = LZ4_FACTORY.fastCompressor();
+    this.decompressor = LZ4_FACTORY.safeDecompressor();
+  }
+
+  @Override
+  protected byte[] compressInternal(byte[] data) {
+    int maxCompressedSize = compressor.maxCompressedLength(data.length);
+    byte[] output = new byte[DECOMPRESSED_SIZE_HEADER_LENGTH + maxCompressedSize];
+    ByteUtils.writeInt(output, data.length, 0);
+    int compressedSize =
+        compressor.compress(data, 0, data.length, output, DECOMPRESSED_SIZE_HEADER_LENGTH, maxCompressedSize);
+    return Arrays.copyOf(output, DECOMPRESSED_SIZE_HEADER_LENGTH + compressedSize);
+  }
+
+  @Override
+  protected ByteBuffer compressInternal(ByteBuffer data, int startPositionOfOutput) {
+    if (!data.hasArray() && !data.isDirect()) {
+      throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+    }
+    int decompressedSize = data.remaining();
+    int maxCompressedSize = compressor.maxCompressedLength(decompressedSize);
+    int blockStartPosition = startPositionOfOutput + DECOMPRESSED_SIZE_HEADER_LENGTH;
+    byte[] output = new byte[blockStartPosition + maxCompressedSize];
+    ByteUtils.writeInt(output, decompressedSize, startPositionOfOutput);
+    // The ByteBuffer API of lz4-java works with absolute offsets, so the position of the source buffer is untouched.
+    int compressedSize = compressor.compress(
+        data,
+        data.position(),
+        decompressedSize,
+        ByteBuffer.wrap(output),
+        blockStartPosition,
+        maxCompressedSize);
+    return ByteBuffer.wrap(output, startPositionOfOutput, DECOMPRESSED_SIZE_HEADER_LENGTH + compressedSize);
+  }
+
+  @Override
+  protected ByteBuffer decompressInternal(ByteBuffer data) throws IOException {
+    if (data.hasRemaining()) {
+      if (data.hasArray()) {
+        return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
+      } else if (data.isDirect()) {
+        validateCompressedSize(data.remaining());
+        int expectedSize = validateExpectedDecompressedSize(data.getInt(data.position()), data.remaining(), 0);
+        ByteBuffer output = ByteBuffer.allocate(expectedSize);
+        int actualSize = decompressor.decompress(
+            data,
+            data.position() + DECOMPRESSED_SIZE_HEADER_LENGTH,
+            data.remaining() - DECOMPRESSED_SIZE_HEADER_LENGTH,
+            output,
+            0,
+            expectedSize);
+        validateActualDecompressedSize(actualSize, expectedSize);
+        return output;
+      } else {
+        throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+      }
+    } else {
+      return data;
+    }
+  }
+
+  @Override
+  protected ByteBuffer decompressInternal(byte[] data, int offset, int length) {
+    return decompressInto(data, offset, length, 0);
+  }
+
+  @Override
+  protected ByteBuffer decompressAndPrependSchemaHeaderInternal(byte[] data, int offset, int length, int schemaHeader) {
+    ByteBuffer result = decompressInto(data, offset, length, SCHEMA_HEADER_LENGTH);
+    result.putInt(0, schemaHeader);
+    return result;
+  }
+
+  @Override
+  protected InputStream decompressInternal(InputStream inputStream) throws IOException {
+    byte[] compressedData = IOUtils.toByteArray(inputStream);
+    ByteBuffer decompressedData = decompressInternal(compressedData, 0, compressedData.length);
+    return new ByteArrayInputStream(decompressedData.array(), 0, decompressedData.remaining());
+  }
+
+  @Override
+  protected void closeInternal() {
+    // Nothing to release
+  }
+
+  /**
+   * Decompresses the given LZ4 payload into a new heap buffer, leaving {@param outputOffset} bytes in front of the
+   * decompressed data. The returned buffer is positioned at the beginning of the decompressed data.
+   */
+  private ByteBuffer decompressInto(byte[] data, int offset, int length, int outputOffset) {
+    validateCompressedSize(length);
+    int expectedSize = validateExpectedDecompressedSize(ByteUtils.readInt(data, offset), length, outputOffset);
+    byte[] output = new byte[outputOffset + expectedSize];
+    int actualSize = decompressor.decompress(
+        data,
+        offset + DECOMPRESSED_SIZE_HEADER_LENGTH,
+        length - DECOMPRESSED_SIZE_HEADER_LENGTH,
+        output,
+        outputOffset,
+        expectedSize);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    return ByteBuffer.wrap(output, outputOffset, expectedSize);
+  }
+
+  private void validateCompressedSize(int length) {
+    if (length < DECOMPRESSED_SIZE_HEADER_LENGTH) {
+      throw new IllegalStateException(
+          "The LZ4 payload size (" + length + ") is smaller than the header size: " + DECOMPRESSED_SIZE_HEADER_LENGTH);
+    }
+  }
+
+  /**
+   * Validates the decompressed size read from the header of a payload of {@param length} bytes before it is used to
+   * allocate the output buffer, so that a corrupted header can't force a huge allocation.
+   */
+  private int validateExpectedDecompressedSize(int expectedSize, int length, int outputOffset) {
+    if (expectedSize < 0) {
+      throw new IllegalStateException("The size of the decompressed payload cannot be negative: " + expectedSize);
+    }
+    long maxSize = Math.min(
+        (long) MAX_COMPRESSION_RATIO * (length - DECOMPRESSED_SIZE_HEADER_LENGTH),
+        MAX_ARRAY_SIZE - outputOffset);
+    if (expectedSize > maxSize) {
+      throw new IllegalStateException(
+          "The size of the decompressed payload (" + expectedSize + ") exceeds the max size (" + maxSize
+              + ") for an LZ4 payload of " + length + " bytes");
+    }
+    return expectedSize;
+  }
+
+  private void validateActualDecompressedSize(int actual, int expected) {
+    if (actual != expected) {
+      throw new IllegalStateException(
+          "The decompressed payload size (" + actual + ") is not as expected (" + expected + ").");
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    return o != null && o instanceof Lz4Compressor;
+  }
+}
@@ -0,0 +1,75 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.FieldPredicate;
+import com.linkedin.venice.compute.protocol.request.enums.FieldPredicateType;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * The conjunction of the {@link FieldPredicate}s of a compute request, which is evaluated against each value record
+ * before computing its result, so that the records which don't match are neither computed nor sent back.
+ *
+ * The predicates are only converted once per request, since the same filter is evaluated against all the values.
+ */
+public class ComputeFilter {
+  private final String[] fieldNames;
+  private final FieldPredicateType[] predicateTypes;
+  private final long[][] operands;
+
+  private ComputeFilter(List<FieldPredicate> predicates) {
+    int predicateCount = predicates.size();
+    this.fieldNames = new String[predicateCount];
+    this.predicateTypes = new FieldPredicateType[predicateCount];
+    this.operands = new long[predicateCount][];
+    for (int i = 0; i < predicateCount; i++) {
+      FieldPredicate predicate = predicates.get(i);
+      fieldNames[i] = predicate.field.toString();
+      predicateTypes[i] = FieldPredicateType.valueOf(predicate);
+      if (!predicateTypes[i].isValidOperandCount(predicate.operands.size())) {
+        throw new VeniceException(
+            "Invalid operand count: " + predicate.operands.size() + " for " + predicateTypes[i]
+                + " predicate on field: " + fieldNames[i]);
+      }
+      operands[i] = new long[predicate.operands.size()];
+      for (int j = 0; j < operands[i].length; j++) {
+        operands[i][j] = predicate.operands.get(j);
+      }
+    }
+  }
+
+  /**
+   * @return the filter of the given predicates, or null if there is none, in which case all the records match
+   */
+  public static ComputeFilter fromFieldPredicates(List<FieldPredicate> predicates) {
+    if (predicates == null || predicates.isEmpty()) {
+      return null;
+    }
+    return new ComputeFilter(predicates);
+  }
+
+  /**
+   * @return whether the given value record satisfies all the predicates; a record missing one of the fields, or with a
+   *         null or non-integral value in it, doesn't match
+   */
+  public boolean evaluate(GenericRecord valueRecord) {
+    Schema schema = valueRecord.getSchema();
+    for (int i = 0; i < fieldNames.length; i++) {
+      // The field is looked up by name, since the records might have been written with different value schemas
+      Schema.Field field = schema.getField(fieldNames[i]);
+      if (field == null) {
+        return false;
+      }
+      Object value = valueRecord.get(field.pos());
+      if (!(value instanceof Integer || value instanceof Long)) {
+        return false;
+      }
+      if (!predicateTypes[i].evaluate(((Number) value).longValue(), operands[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
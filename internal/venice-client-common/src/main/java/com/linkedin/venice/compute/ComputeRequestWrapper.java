@@ -1,12 +1,19 @@
 package com.linkedin.venice.compute;
 
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V3;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroGenericSerializer;
 
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
+import com.linkedin.venice.compute.protocol.request.FieldPredicate;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.serializer.RecordSerializer;
+import java.util.Collections;
 import java.util.List;
 import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
 
 
 /**
@@ -16,14 +23,24 @@ import org.apache.avro.Schema;
  * since all the versions were anyway compatible with one another. We are now keeping only the latest version
  * used on the wire, which is 3 (version 4 was never used as a wire protocol). We can always revisit this if
  * the need to evolve read compute comes into play.
+ *
+ * Version 5 appends the filters and the top K to version 3, so it is only used by the requests which specify either
+ * of them, and the other requests keep working against the routers and servers which don't support version 5 yet.
  */
 public class ComputeRequestWrapper {
   public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = 3;
 
-  private static final RecordSerializer<ComputeRequestV3> SERIALIZER =
+  private static final RecordSerializer<SpecificRecord> SERIALIZER =
       getFastAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+  private static final RecordSerializer<SpecificRecord> SERIALIZER_V5 =
+      getFastAvroGenericSerializer(ComputeRequestV5.SCHEMA$);
 
-  private final ComputeRequestV3 computeRequest;
+  private final SpecificRecord computeRequest;
+  private final int protocolVersion;
+  private final CharSequence resultSchemaStr;
+  private final List<ComputeOperation> operations;
+  private final ComputeFilter filter;
+  private final TopK topK;
   private final int valueSchemaId;
   private final Schema valueSchema;
   private final List<Schema.Field> operationResultFields;
@@ -36,21 +53,75 @@ public class ComputeRequestWrapper {
       String resultSchemaString,
       List<ComputeOperation> operations,
       boolean originallyStreaming) {
-    this.computeRequest = new ComputeRequestV3();
-    this.computeRequest.setResultSchemaStr(resultSchemaString);
-    this.computeRequest.setOperations((List) operations);
+    this(
+        valueSchemaId,
+        valueSchema,
+        resultSchema,
+        resultSchemaString,
+        operations,
+        Collections.emptyList(),
+        null,
+        originallyStreaming);
+  }
+
+  /**
+   * @param filters the predicates which the values must satisfy to be returned
+   * @param topK if not null, only the records with the highest values of the given result field are returned
+   */
+  public ComputeRequestWrapper(
+      int valueSchemaId,
+      Schema valueSchema,
+      Schema resultSchema,
+      String resultSchemaString,
+      List<ComputeOperation> operations,
+      List<FieldPredicate> filters,
+      TopK topK,
+      boolean originallyStreaming) {
+    if (filters.isEmpty() && topK == null) {
+      ComputeRequestV3 computeRequestV3 = new ComputeRequestV3();
+      computeRequestV3.setResultSchemaStr(resultSchemaString);
+      computeRequestV3.setOperations((List) operations);
+      this.computeRequest = computeRequestV3;
+      this.protocolVersion = COMPUTE_REQUEST_VERSION_V3;
+    } else {
+      ComputeRequestV5 computeRequestV5 = new ComputeRequestV5();
+      computeRequestV5.setResultSchemaStr(resultSchemaString);
+      computeRequestV5.setOperations((List) operations);
+      computeRequestV5.setFilters(filters);
+      computeRequestV5.setTopK(topK);
+      this.computeRequest = computeRequestV5;
+      this.protocolVersion = COMPUTE_REQUEST_VERSION_V5;
+    }
+    this.resultSchemaStr = resultSchemaString;
+    this.operations = operations;
+    this.filter = ComputeFilter.fromFieldPredicates(filters);
+    this.topK = topK;
     this.valueSchemaId = valueSchemaId;
     this.valueSchema = valueSchema;
     this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
     this.originallyStreaming = originallyStreaming;
   }
 
+  /**
+   * Version 4 was never used as a wire protocol, so it is rejected like the unknown versions.
+   */
+  public static boolean isSupportedProtocolVersion(int protocolVersion) {
+    return (protocolVersion > 0 && protocolVersion <= LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST)
+        || protocolVersion == COMPUTE_REQUEST_VERSION_V5;
+  }
+
   public byte[] serialize() {
-    return SERIALIZER.serialize(this.computeRequest);
+    RecordSerializer<SpecificRecord> serializer =
+        protocolVersion == COMPUTE_REQUEST_VERSION_V5 ? SERIALIZER_V5 : SERIALIZER;
+    return serializer.serialize(this.computeRequest);
+  }
+
+  public int getProtocolVersion() {
+    return this.protocolVersion;
   }
 
   public CharSequence getResultSchemaStr() {
-    return this.computeRequest.getResultSchemaStr();
+    return this.resultSchemaStr;
   }
 
   public int getValueSchemaID() {
@@ -62,13 +133,27 @@ public class ComputeRequestWrapper {
   }
 
   public List<ComputeOperation> getOperations() {
-    return (List) this.computeRequest.getOperations();
+    return this.operations;
   }
 
   public List<Schema.Field> getOperationResultFields() {
     return this.operationResultFields;
   }
 
+  /**
+   * @return the filter of the request, or null if all the values are returned
+   */
+  public ComputeFilter getFilter() {
+    return this.filter;
+  }
+
+  /**
+   * @return the top K of the request, or null if all the values are returned
+   */
+  public TopK getTopK() {
+    return this.topK;
+  }
+
   public boolean isRequestOriginallyStreaming() {
     return this.originallyStreaming;
   }
@@ -39,7 +39,8 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParam, valueVector);
+      float[] cosSimilarityParamFloats = ComputeUtils.getCachedFloatArray(cosSimilarityParam, context);
+      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParamFloats, valueVector);
       float valueVectorSquaredL2Norm = ComputeUtils.squaredL2Norm(valueVector);
       float cosSimilarityParamSquaredL2Norm;
       // Build the context as we go though all the computations
@@ -56,7 +57,8 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         cosSimilarityParamSquaredL2Norm = cachedResult;
       } else {
         // Cache the computed result
-        cosSimilarityParamSquaredL2Norm = ComputeUtils.squaredL2Norm(cosSimilarityParam);
+        cosSimilarityParamSquaredL2Norm =
+            ComputeUtils.squaredL2Norm(cosSimilarityParamFloats, cosSimilarityParamFloats.length);
         cachedSquareL2Norm.put(cosSimilarityParam, cosSimilarityParamSquaredL2Norm);
       }
 
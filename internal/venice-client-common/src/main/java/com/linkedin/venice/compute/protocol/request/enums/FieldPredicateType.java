@@ -0,0 +1,86 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.compute.protocol.request.FieldPredicate;
+import com.linkedin.venice.utils.EnumUtils;
+import com.linkedin.venice.utils.VeniceEnumValue;
+import java.util.List;
+
+
+/**
+ * The types of {@link FieldPredicate}, which compare the value of an int or long field with the operands of the
+ * predicate. The int fields are widened to long, so the same operands serve both field types.
+ */
+public enum FieldPredicateType implements VeniceEnumValue {
+  EQUALS(0) {
+    @Override
+    public boolean evaluate(long value, long[] operands) {
+      return value == operands[0];
+    }
+  },
+  GREATER_THAN(1) {
+    @Override
+    public boolean evaluate(long value, long[] operands) {
+      return value > operands[0];
+    }
+  },
+  GREATER_OR_EQUALS(2) {
+    @Override
+    public boolean evaluate(long value, long[] operands) {
+      return value >= operands[0];
+    }
+  },
+  LOWER_THAN(3) {
+    @Override
+    public boolean evaluate(long value, long[] operands) {
+      return value < operands[0];
+    }
+  },
+  LOWER_OR_EQUALS(4) {
+    @Override
+    public boolean evaluate(long value, long[] operands) {
+      return value <= operands[0];
+    }
+  },
+  ANY_OF(5) {
+    @Override
+    public boolean evaluate(long value, long[] operands) {
+      for (long operand: operands) {
+        if (value == operand) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public boolean isValidOperandCount(int operandCount) {
+      return true;
+    }
+  };
+
+  private final int value;
+  private static final List<FieldPredicateType> TYPES = EnumUtils.getEnumValuesList(FieldPredicateType.class);
+
+  FieldPredicateType(int value) {
+    this.value = value;
+  }
+
+  public abstract boolean evaluate(long value, long[] operands);
+
+  public boolean isValidOperandCount(int operandCount) {
+    return operandCount == 1;
+  }
+
+  public static FieldPredicateType valueOf(int value) {
+    return EnumUtils.valueOf(TYPES, value, FieldPredicateType.class);
+  }
+
+  public static FieldPredicateType valueOf(FieldPredicate predicate) {
+    return valueOf(predicate.predicateType);
+  }
+
+  @Override
+  public int getValue() {
+    return value;
+  }
+}
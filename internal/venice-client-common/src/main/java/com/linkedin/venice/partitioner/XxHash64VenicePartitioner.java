@@ -0,0 +1,148 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * A {@link VenicePartitioner} based on the non-cryptographic XXH64 hash function, which is much cheaper to compute
+ * than the MD5 digest used by {@link DefaultVenicePartitioner}, and doesn't need any per-thread state.
+ *
+ * It can be selected for a new store by setting its partitioner class to the fully qualified name of this class. It
+ * maps keys to different partitions than {@link DefaultVenicePartitioner}, so it must not be swapped in for an existing
+ * store version.
+ *
+ * The partitioning is defined as follows, so that it can be reproduced by clients written in other languages:
+ * <ol>
+ *   <li>Compute XXH64 over the serialized key bytes with a seed of 0, as defined by the reference implementation at
+ *   https://github.com/Cyan4973/xxHash (e.g. XXH64("", 0) = 0xEF46DB3751D8E999, XXH64("abc", 0) = 0x44BC2CF5AD770999).</li>
+ *   <li>Interpret the 64 bits of the hash as an unsigned integer.</li>
+ *   <li>The partition is the remainder of the division of that unsigned integer by the number of partitions.</li>
+ * </ol>
+ */
+public class XxHash64VenicePartitioner extends VenicePartitioner {
+  static final long SEED = 0;
+
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+  public XxHash64VenicePartitioner() {
+    super();
+  }
+
+  public XxHash64VenicePartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public XxHash64VenicePartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return (int) Long.remainderUnsigned(hash(keyBytes, offset, length, SEED), numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    if (keyByteBuffer.hasArray()) {
+      return getPartitionId(
+          keyByteBuffer.array(),
+          keyByteBuffer.arrayOffset() + keyByteBuffer.position(),
+          keyByteBuffer.remaining(),
+          numPartitions);
+    }
+    byte[] keyBytes = new byte[keyByteBuffer.remaining()];
+    keyByteBuffer.duplicate().get(keyBytes);
+    return getPartitionId(keyBytes, numPartitions);
+  }
+
+  /**
+   * Computes the XXH64 hash of the given range of bytes.
+   */
+  public static long hash(byte[] input, int offset, int length, long seed) {
+    int end = offset + length;
+    int pos = offset;
+    long h;
+
+    if (length >= 32) {
+      long v1 = seed + PRIME64_1 + PRIME64_2;
+      long v2 = seed + PRIME64_2;
+      long v3 = seed;
+      long v4 = seed - PRIME64_1;
+      int limit = end - 32;
+      do {
+        v1 = round(v1, readLongLE(input, pos));
+        v2 = round(v2, readLongLE(input, pos + 8));
+        v3 = round(v3, readLongLE(input, pos + 16));
+        v4 = round(v4, readLongLE(input, pos + 24));
+        pos += 32;
+      } while (pos <= limit);
+
+      h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      h = mergeRound(h, v1);
+      h = mergeRound(h, v2);
+      h = mergeRound(h, v3);
+      h = mergeRound(h, v4);
+    } else {
+      h = seed + PRIME64_5;
+    }
+
+    h += length;
+
+    while (pos + 8 <= end) {
+      h ^= round(0, readLongLE(input, pos));
+      h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+      pos += 8;
+    }
+    if (pos + 4 <= end) {
+      h ^= (readIntLE(input, pos) & 0xFFFFFFFFL) * PRIME64_1;
+      h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+      pos += 4;
+    }
+    while (pos < end) {
+      h ^= (input[pos] & 0xFF) * PRIME64_5;
+      h = Long.rotateLeft(h, 11) * PRIME64_1;
+      pos++;
+    }
+
+    // Final avalanche
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    h ^= h >>> 32;
+    return h;
+  }
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long val) {
+    acc ^= round(0, val);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+
+  private static long readLongLE(byte[] input, int pos) {
+    return (input[pos] & 0xFFL) | (input[pos + 1] & 0xFFL) << 8 | (input[pos + 2] & 0xFFL) << 16
+        | (input[pos + 3] & 0xFFL) << 24 | (input[pos + 4] & 0xFFL) << 32 | (input[pos + 5] & 0xFFL) << 40
+        | (input[pos + 6] & 0xFFL) << 48 | (input[pos + 7] & 0xFFL) << 56;
+  }
+
+  private static int readIntLE(byte[] input, int pos) {
+    return (input[pos] & 0xFF) | (input[pos + 1] & 0xFF) << 8 | (input[pos + 2] & 0xFF) << 16
+        | (input[pos + 3] & 0xFF) << 24;
+  }
+}
@@ -77,8 +77,27 @@ public class RequestHeadersProvider {
       int keyCount,
       int computeValueSchemaId,
       boolean isRemoteComputationOnly) {
+    return getStreamingComputeHeaderMap(
+        keyCount,
+        computeValueSchemaId,
+        isRemoteComputationOnly,
+        ReadAvroProtocolDefinition.COMPUTE_REQUEST_V3.getProtocolVersion());
+  }
+
+  /**
+   * @param computeRequestVersion the protocol version the compute request is encoded with, see
+   *                              {@link com.linkedin.venice.compute.ComputeRequestWrapper#getProtocolVersion()}
+   */
+  public static Map<String, String> getStreamingComputeHeaderMap(
+      int keyCount,
+      int computeValueSchemaId,
+      boolean isRemoteComputationOnly,
+      int computeRequestVersion) {
     Map<String, String> headers = new HashMap<>(STREAMING_COMPUTE_HEADER_MAP_V3.size() + 3);
     headers.putAll(STREAMING_COMPUTE_HEADER_MAP_V3);
+    if (computeRequestVersion != ReadAvroProtocolDefinition.COMPUTE_REQUEST_V3.getProtocolVersion()) {
+      headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequestVersion));
+    }
     headers.put(VENICE_KEY_COUNT, Integer.toString(keyCount));
     headers.put(VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(computeValueSchemaId));
     if (!isRemoteComputationOnly) {
@@ -0,0 +1,77 @@
+package com.linkedin.venice.utils;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This class estimates the response time of one replica with an exponentially weighted moving average, which is
+ * combined with the outstanding request count of the replica by {@link #getCost(long)} to pick the replica expected to
+ * respond first, in the style of power-of-two-choices and C3 replica selection.
+ *
+ * 1. Each response time moves the estimate by the smoothing factor, so a replica which turns slow is avoided after a
+ *    few responses, while a single slow response of a healthy replica is forgotten quickly.
+ * 2. The estimate decays while no response is recorded, so a replica which stopped receiving requests after being slow
+ *    is probed again eventually.
+ */
+public class LatencyEwmaEstimator {
+  /**
+   * The estimate never goes below this value in {@link #getCost(long)}, so the outstanding request count still matters
+   * for the replicas which haven't responded yet, or have been idle for a long time.
+   */
+  private static final double MIN_LATENCY_IN_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final double smoothingFactor;
+  private final double idleDecayTimeInNs;
+  private final Time time;
+  private double latencyInNs = 0;
+  private boolean hasLatency = false;
+  private long lastUpdateTimeInNs;
+
+  public LatencyEwmaEstimator(double smoothingFactor, long idleDecayTimeInMs) {
+    this(smoothingFactor, idleDecayTimeInMs, SystemTime.INSTANCE);
+  }
+
+  public LatencyEwmaEstimator(double smoothingFactor, long idleDecayTimeInMs, Time time) {
+    if (smoothingFactor <= 0 || smoothingFactor > 1) {
+      throw new IllegalArgumentException("The smoothing factor should be in (0, 1], but got: " + smoothingFactor);
+    }
+    if (idleDecayTimeInMs <= 0) {
+      throw new IllegalArgumentException("The idle decay time should be positive, but got: " + idleDecayTimeInMs);
+    }
+    this.smoothingFactor = smoothingFactor;
+    this.idleDecayTimeInNs = TimeUnit.MILLISECONDS.toNanos(idleDecayTimeInMs);
+    this.time = time;
+    this.lastUpdateTimeInNs = time.getNanoseconds();
+  }
+
+  public synchronized void recordLatency(long latencyInNs) {
+    long nowInNs = time.getNanoseconds();
+    if (hasLatency) {
+      double currentLatencyInNs = getDecayedLatencyInNs(nowInNs);
+      this.latencyInNs = currentLatencyInNs + smoothingFactor * (latencyInNs - currentLatencyInNs);
+    } else {
+      this.latencyInNs = latencyInNs;
+      hasLatency = true;
+    }
+    lastUpdateTimeInNs = nowInNs;
+  }
+
+  /**
+   * @return the estimated response time in nanoseconds, decayed by the time elapsed since the last response
+   */
+  public synchronized double getLatencyInNs() {
+    return getDecayedLatencyInNs(time.getNanoseconds());
+  }
+
+  /**
+   * @return the expected time for a new request to be served by this replica, assuming the given outstanding requests
+   *         are served before it
+   */
+  public double getCost(long outstandingRequestCount) {
+    return (Math.max(0, outstandingRequestCount) + 1) * Math.max(MIN_LATENCY_IN_NS, getLatencyInNs());
+  }
+
+  private double getDecayedLatencyInNs(long nowInNs) {
+    return latencyInNs * Math.exp(-Math.max(0, nowInNs - lastUpdateTimeInNs) / idleDecayTimeInNs);
+  }
+}
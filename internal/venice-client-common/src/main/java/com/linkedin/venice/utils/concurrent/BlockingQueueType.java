@@ -1,5 +1,9 @@
 package com.linkedin.venice.utils.concurrent;
 
 public enum BlockingQueueType {
-  LINKED_BLOCKING_QUEUE, ARRAY_BLOCKING_QUEUE
+  LINKED_BLOCKING_QUEUE, ARRAY_BLOCKING_QUEUE,
+  /**
+   * A preallocated lock-free ring buffer bounded by memory usage, which is only supported by the store writer buffer.
+   */
+  MEMORY_BOUND_RING_BUFFER
 }
@@ -10,9 +10,13 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 
 public final class ThreadPoolFactory {
+  private static final Logger LOGGER = LogManager.getLogger(ThreadPoolFactory.class);
+
   private ThreadPoolFactory() {
   }
 
@@ -47,6 +51,35 @@ public final class ThreadPoolFactory {
     return executor;
   }
 
+  /**
+   * Creates an executor running each task on its own virtual thread, with at most {@param maxConcurrency} tasks running
+   * at once, see {@link VirtualThreadPerTaskExecutor}. If the JVM does not support virtual threads, this falls back to
+   * a pool of {@param fallbackThreadCount} platform threads, i.e. the pool which would have been used without virtual
+   * threads.
+   */
+  public static ThreadPoolExecutor createVirtualThreadPerTaskExecutor(
+      int maxConcurrency,
+      int fallbackThreadCount,
+      String threadNamePrefix,
+      @Nullable Object logContext,
+      int capacity,
+      BlockingQueueType blockingQueueType) {
+    if (!VirtualThreadPerTaskExecutor.isSupported()) {
+      LOGGER.warn(
+          "Virtual threads are not supported by this JVM, falling back to {} platform threads for {}",
+          fallbackThreadCount,
+          threadNamePrefix);
+      return createThreadPool(fallbackThreadCount, threadNamePrefix, logContext, capacity, blockingQueueType);
+    }
+    ThreadPoolExecutor executor = new VirtualThreadPerTaskExecutor(
+        maxConcurrency,
+        threadNamePrefix,
+        logContext,
+        getExecutionQueue(capacity, blockingQueueType));
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
   private static BlockingQueue<Runnable> getExecutionQueue(int capacity, BlockingQueueType blockingQueueType) {
     switch (blockingQueueType) {
       case LINKED_BLOCKING_QUEUE:
@@ -0,0 +1,186 @@
+package com.linkedin.venice.utils.concurrent;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LogContext;
+import java.lang.reflect.Method;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+
+
+/**
+ * A {@link ThreadPoolExecutor} which runs each task on its own virtual thread (JDK 21+), instead of on a fixed set of
+ * platform threads. Blocking Java calls, such as network I/O or waiting on a lock, then park the virtual thread
+ * without holding up a platform thread, so that a burst of slow requests doesn't leave the CPU idle while the pool is
+ * saturated.
+ * N.B.: Native calls, such as the RocksDB reads of the storage engines, pin the carrier thread for their whole duration
+ * instead, so the virtual threads blocked on storage reads are still limited to roughly the number of cores.
+ *
+ * The number of concurrently running tasks is still bounded by a limiter. The tasks beyond that limit wait in the
+ * executor's queue, and once the queue is full, they are handed to the rejected execution handler, like for the pools
+ * created by {@link ThreadPoolFactory}. This keeps the queue length, submission wait time and request latency
+ * meaningful as load signals. {@link #getActiveCount()} and {@link #getPoolSize()} report the number of running tasks.
+ *
+ * Since Venice is compiled for Java 8, virtual threads are created via reflection. Use {@link #isSupported()} to check
+ * whether the current JVM supports them.
+ */
+public class VirtualThreadPerTaskExecutor extends ThreadPoolExecutor {
+  private static final Logger LOGGER = LogManager.getLogger(VirtualThreadPerTaskExecutor.class);
+  private static final Method OF_VIRTUAL_METHOD;
+  private static final Method BUILDER_NAME_METHOD;
+  private static final Method BUILDER_FACTORY_METHOD;
+
+  static {
+    Method ofVirtual = null;
+    Method builderName = null;
+    Method builderFactory = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builderName = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+    } catch (ReflectiveOperationException e) {
+      LOGGER.info("Virtual threads are not supported by this JVM: {}", System.getProperty("java.version"));
+      ofVirtual = null;
+    }
+    OF_VIRTUAL_METHOD = ofVirtual;
+    BUILDER_NAME_METHOD = builderName;
+    BUILDER_FACTORY_METHOD = builderFactory;
+  }
+
+  private final ThreadFactory virtualThreadFactory;
+  private final Object logContext;
+  private final Semaphore concurrencyLimiter;
+  private final AtomicInteger runningTaskCount = new AtomicInteger();
+
+  public VirtualThreadPerTaskExecutor(
+      int maxConcurrency,
+      String threadNamePrefix,
+      @Nullable Object logContext,
+      BlockingQueue<Runnable> pendingTaskQueue) {
+    // The platform threads of the parent class are never started, since all tasks are dispatched by execute()
+    super(
+        maxConcurrency,
+        maxConcurrency,
+        0,
+        TimeUnit.MILLISECONDS,
+        pendingTaskQueue,
+        new DaemonThreadFactory(threadNamePrefix, logContext));
+    if (!isSupported()) {
+      throw new VeniceException(
+          "Virtual threads require JDK 21+, current version: " + System.getProperty("java.version"));
+    }
+    this.virtualThreadFactory = createVirtualThreadFactory(threadNamePrefix + "-vt");
+    this.logContext = logContext;
+    this.concurrencyLimiter = new Semaphore(maxConcurrency);
+  }
+
+  public static boolean isSupported() {
+    return OF_VIRTUAL_METHOD != null;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (task == null) {
+      throw new NullPointerException();
+    }
+    if (isShutdown()) {
+      getRejectedExecutionHandler().rejectedExecution(task, this);
+      return;
+    }
+    if (concurrencyLimiter.tryAcquire()) {
+      start(task);
+      return;
+    }
+    if (!getQueue().offer(task)) {
+      getRejectedExecutionHandler().rejectedExecution(task, this);
+      return;
+    }
+    // A permit may have been released between the failed acquisition and the enqueuing
+    startPendingTasks();
+  }
+
+  @Override
+  public int getActiveCount() {
+    return runningTaskCount.get();
+  }
+
+  @Override
+  public int getPoolSize() {
+    return runningTaskCount.get();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return isShutdown() && runningTaskCount.get() == 0 && getQueue().isEmpty();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      if (System.nanoTime() >= deadline) {
+        return false;
+      }
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+    return true;
+  }
+
+  private void start(Runnable task) {
+    runningTaskCount.incrementAndGet();
+    Thread thread;
+    try {
+      thread = virtualThreadFactory.newThread(() -> run(task));
+    } catch (Throwable t) {
+      onTaskCompletion();
+      throw t;
+    }
+    thread.start();
+  }
+
+  private void run(Runnable task) {
+    LogContext.setLogContext(logContext);
+    try {
+      task.run();
+    } finally {
+      ThreadContext.clearAll(); // prevent context leakage across tasks
+      onTaskCompletion();
+    }
+  }
+
+  private void onTaskCompletion() {
+    runningTaskCount.decrementAndGet();
+    concurrencyLimiter.release();
+    startPendingTasks();
+  }
+
+  private void startPendingTasks() {
+    while (!getQueue().isEmpty() && concurrencyLimiter.tryAcquire()) {
+      Runnable pendingTask = getQueue().poll();
+      if (pendingTask == null) {
+        concurrencyLimiter.release();
+        return;
+      }
+      start(pendingTask);
+    }
+  }
+
+  private static ThreadFactory createVirtualThreadFactory(String threadNamePrefix) {
+    try {
+      Object builder = OF_VIRTUAL_METHOD.invoke(null);
+      builder = BUILDER_NAME_METHOD.invoke(builder, threadNamePrefix, 0L);
+      return (ThreadFactory) BUILDER_FACTORY_METHOD.invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new VeniceException("Failed to create a virtual thread factory", e);
+    }
+  }
+}
@@ -17,6 +17,7 @@ public class CompressionStrategyTest extends VeniceEnumValueTest<CompressionStra
         .put(1, CompressionStrategy.GZIP)
         .put(2, CompressionStrategy.ZSTD)
         .put(3, CompressionStrategy.ZSTD_WITH_DICT)
+        .put(4, CompressionStrategy.LZ4)
         .build();
   }
 }
@@ -47,12 +47,19 @@ public class TestVeniceCompressor {
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, 0 },
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
-        { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT } };
+        { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.NON_DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.BYTE_ARRAY, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT } };
   }
 
   @DataProvider(name = "CompressionStrategy")
   public static Object[] compressionStrategyProvider() {
-    return new Object[] { CompressionStrategy.NO_OP, CompressionStrategy.GZIP, CompressionStrategy.ZSTD_WITH_DICT };
+    return new Object[] { CompressionStrategy.NO_OP, CompressionStrategy.GZIP, CompressionStrategy.ZSTD_WITH_DICT,
+        CompressionStrategy.LZ4 };
   }
 
   private VeniceCompressor getCompressor(CompressionStrategy strategy) {
@@ -188,10 +195,10 @@ public class TestVeniceCompressor {
   public void testCompressorEqual() {
     VeniceCompressor[] compressors1 = new VeniceCompressor[] { new NoopCompressor(), new GzipCompressor(),
         new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel()),
-        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()) };
+        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()), new Lz4Compressor() };
     VeniceCompressor[] compressors2 = new VeniceCompressor[] { new NoopCompressor(), new GzipCompressor(),
         new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel()),
-        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()) };
+        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()), new Lz4Compressor() };
     for (int i = 0; i < compressors1.length; ++i) {
       for (int j = 0; j < compressors1.length; ++j) {
         if (i == j) {
@@ -212,6 +219,23 @@ public class TestVeniceCompressor {
     }
   }
 
+  @Test
+  public void testLz4RejectsCorruptedDecompressedSize() throws IOException {
+    try (Lz4Compressor compressor = new Lz4Compressor()) {
+      byte[] compressed = compressor.compress("Hello World".getBytes());
+      // The decompressed size header claims far more data than the LZ4 block could possibly expand to
+      ByteUtils.writeInt(compressed, Integer.MAX_VALUE, 0);
+      IllegalStateException exception =
+          expectThrows(IllegalStateException.class, () -> compressor.decompress(compressed, 0, compressed.length));
+      assertTrue(exception.getMessage().contains("exceeds the max size"));
+
+      ByteBuffer directCompressed = ByteBuffer.allocateDirect(compressed.length);
+      directCompressed.put(compressed);
+      directCompressed.flip();
+      expectThrows(IllegalStateException.class, () -> compressor.decompress(directCompressed));
+    }
+  }
+
   @Test
   public void testCompressorClose() throws IOException {
     VeniceCompressor compressor = new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel());
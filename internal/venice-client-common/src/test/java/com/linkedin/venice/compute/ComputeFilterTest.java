@@ -0,0 +1,80 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compute.protocol.request.FieldPredicate;
+import com.linkedin.venice.compute.protocol.request.enums.FieldPredicateType;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.annotations.Test;
+
+
+public class ComputeFilterTest {
+  private static final Schema VALUE_SCHEMA = SchemaBuilder.record("Value")
+      .fields()
+      .requiredInt("intField")
+      .optionalLong("longField")
+      .requiredString("stringField")
+      .endRecord();
+
+  private static FieldPredicate createPredicate(String field, FieldPredicateType type, Long... operands) {
+    FieldPredicate predicate = new FieldPredicate();
+    predicate.field = field;
+    predicate.predicateType = type.getValue();
+    predicate.operands = Arrays.asList(operands);
+    return predicate;
+  }
+
+  private static GenericRecord createRecord(int intValue, Long longValue) {
+    GenericRecord record = new GenericData.Record(VALUE_SCHEMA);
+    record.put("intField", intValue);
+    record.put("longField", longValue);
+    record.put("stringField", "value");
+    return record;
+  }
+
+  @Test
+  public void testEvaluate() {
+    assertNull(ComputeFilter.fromFieldPredicates(null));
+    assertNull(ComputeFilter.fromFieldPredicates(Collections.emptyList()));
+
+    List<FieldPredicate> predicates = Arrays.asList(
+        createPredicate("intField", FieldPredicateType.GREATER_OR_EQUALS, 10L),
+        createPredicate("longField", FieldPredicateType.ANY_OF, 1L, 2L, 3L));
+    ComputeFilter filter = ComputeFilter.fromFieldPredicates(predicates);
+    assertTrue(filter.evaluate(createRecord(10, 2L)));
+    assertTrue(filter.evaluate(createRecord(Integer.MAX_VALUE, 3L)));
+    assertFalse(filter.evaluate(createRecord(9, 2L)));
+    assertFalse(filter.evaluate(createRecord(10, 4L)));
+    // A null value never matches
+    assertFalse(filter.evaluate(createRecord(10, null)));
+
+    // Neither does a field which is missing, or which is not an int or a long
+    for (String field: Arrays.asList("unknownField", "stringField")) {
+      List<FieldPredicate> fieldPredicates =
+          Collections.singletonList(createPredicate(field, FieldPredicateType.EQUALS, 1L));
+      assertFalse(ComputeFilter.fromFieldPredicates(fieldPredicates).evaluate(createRecord(1, 1L)));
+    }
+  }
+
+  @Test
+  public void testInvalidOperandCount() {
+    assertThrows(
+        VeniceException.class,
+        () -> ComputeFilter.fromFieldPredicates(
+            Collections.singletonList(createPredicate("intField", FieldPredicateType.LOWER_THAN))));
+    assertThrows(
+        VeniceException.class,
+        () -> ComputeFilter.fromFieldPredicates(
+            Collections.singletonList(createPredicate("intField", FieldPredicateType.EQUALS, 1L, 2L))));
+  }
+}
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
@@ -162,6 +163,49 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testFloatArrayOperations() {
+    Random random = new Random(123);
+    Map<String, Object> context = new HashMap<>();
+    // Cover the sizes which are not a multiple of the unrolling factor
+    for (int size = 1; size <= 67; size += 3) {
+      List<Float> list1 = new ArrayList<>(size);
+      float[] floats2 = new float[size];
+      for (int i = 0; i < size; i++) {
+        list1.add(random.nextFloat());
+        floats2[i] = random.nextFloat();
+      }
+      PrimitiveFloatList list2 = createPrimitiveFloatList(floats2);
+
+      float[] cachedFloats1 = ComputeUtils.getCachedFloatArray(list1, context);
+      Assert.assertSame(ComputeUtils.getCachedFloatArray(list1, context), cachedFloats1);
+      Assert.assertEquals(cachedFloats1.length, size);
+
+      // The results are exactly the same whether the vectors are read from arrays or from the lists
+      Assert.assertEquals(ComputeUtils.dotProduct(cachedFloats1, list2), ComputeUtils.dotProduct(list1, list2));
+      Assert.assertEquals(
+          ComputeUtils.dotProduct(cachedFloats1, floats2, size),
+          ComputeUtils.dotProduct(list1, list2));
+      Assert.assertEquals(
+          ComputeUtils.dotProduct(cachedFloats1, new ArrayList<>(list2)),
+          ComputeUtils.dotProduct(list1, list2));
+      Assert.assertEquals(
+          ComputeUtils.hadamardProduct(cachedFloats1, list2),
+          ComputeUtils.hadamardProduct(list1, list2));
+      Assert.assertEquals(
+          ComputeUtils.hadamardProduct(cachedFloats1, floats2, size),
+          ComputeUtils.hadamardProduct(list1, list2));
+      Assert.assertEquals(ComputeUtils.squaredL2Norm(floats2, size), ComputeUtils.squaredL2Norm(list2));
+      Assert.assertEquals(ComputeUtils.squaredL2Norm(list1), ComputeUtils.dotProduct(list1, list1));
+
+      float expectedDotProduct = 0.0f;
+      for (int i = 0; i < size; i++) {
+        expectedDotProduct += list1.get(i) * floats2[i];
+      }
+      Assert.assertEquals(ComputeUtils.dotProduct(list1, list2), expectedDotProduct, 1e-4f);
+    }
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
@@ -0,0 +1,24 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.utils.CollectionUtils;
+import com.linkedin.venice.utils.VeniceEnumValueTest;
+import java.util.Map;
+
+
+public class FieldPredicateTypeTest extends VeniceEnumValueTest<FieldPredicateType> {
+  public FieldPredicateTypeTest() {
+    super(FieldPredicateType.class);
+  }
+
+  @Override
+  protected Map<Integer, FieldPredicateType> expectedMapping() {
+    return CollectionUtils.<Integer, FieldPredicateType>mapBuilder()
+        .put(0, FieldPredicateType.EQUALS)
+        .put(1, FieldPredicateType.GREATER_THAN)
+        .put(2, FieldPredicateType.GREATER_OR_EQUALS)
+        .put(3, FieldPredicateType.LOWER_THAN)
+        .put(4, FieldPredicateType.LOWER_OR_EQUALS)
+        .put(5, FieldPredicateType.ANY_OF)
+        .build();
+  }
+}
@@ -0,0 +1,62 @@
+package com.linkedin.venice.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class LatencyEwmaEstimatorTest {
+  private static final double SMOOTHING_FACTOR = 0.5;
+  private static final long IDLE_DECAY_TIME_IN_MS = 1000;
+  private static final long FAST_LATENCY_IN_NS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW_LATENCY_IN_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Test
+  public void testMovingAverage() {
+    TestMockTime time = new TestMockTime();
+    LatencyEwmaEstimator estimator = new LatencyEwmaEstimator(SMOOTHING_FACTOR, IDLE_DECAY_TIME_IN_MS, time);
+    // The first response time is used as is
+    estimator.recordLatency(FAST_LATENCY_IN_NS);
+    assertEquals(estimator.getLatencyInNs(), (double) FAST_LATENCY_IN_NS);
+
+    estimator.recordLatency(SLOW_LATENCY_IN_NS);
+    assertEquals(estimator.getLatencyInNs(), (FAST_LATENCY_IN_NS + SLOW_LATENCY_IN_NS) / 2.0);
+
+    // The estimate converges after a few fast responses
+    for (int i = 0; i < 20; i++) {
+      estimator.recordLatency(FAST_LATENCY_IN_NS);
+    }
+    assertEquals(estimator.getLatencyInNs(), FAST_LATENCY_IN_NS, FAST_LATENCY_IN_NS * 0.01);
+  }
+
+  @Test
+  public void testIdleEstimateDecays() {
+    TestMockTime time = new TestMockTime();
+    LatencyEwmaEstimator estimator = new LatencyEwmaEstimator(SMOOTHING_FACTOR, IDLE_DECAY_TIME_IN_MS, time);
+    estimator.recordLatency(SLOW_LATENCY_IN_NS);
+    time.addMilliseconds(IDLE_DECAY_TIME_IN_MS);
+    assertEquals(estimator.getLatencyInNs(), SLOW_LATENCY_IN_NS / Math.E, 1);
+    time.addMilliseconds(100 * IDLE_DECAY_TIME_IN_MS);
+    assertTrue(estimator.getLatencyInNs() < 1);
+  }
+
+  @Test
+  public void testCost() {
+    TestMockTime time = new TestMockTime();
+    LatencyEwmaEstimator estimator = new LatencyEwmaEstimator(SMOOTHING_FACTOR, IDLE_DECAY_TIME_IN_MS, time);
+    // Replicas without any response are only compared by their outstanding requests
+    assertTrue(estimator.getCost(0) > 0);
+    assertEquals(estimator.getCost(1), 2 * estimator.getCost(0));
+
+    estimator.recordLatency(SLOW_LATENCY_IN_NS);
+    assertEquals(estimator.getCost(0), (double) SLOW_LATENCY_IN_NS);
+    assertEquals(estimator.getCost(3), 4.0 * SLOW_LATENCY_IN_NS);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidSmoothingFactor() {
+    new LatencyEwmaEstimator(0, IDLE_DECAY_TIME_IN_MS);
+  }
+}
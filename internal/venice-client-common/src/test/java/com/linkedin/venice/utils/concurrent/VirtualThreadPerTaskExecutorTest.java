@@ -0,0 +1,117 @@
+package com.linkedin.venice.utils.concurrent;
+
+import static com.linkedin.venice.utils.concurrent.BlockingQueueType.LINKED_BLOCKING_QUEUE;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class VirtualThreadPerTaskExecutorTest {
+  @Test
+  public void testFallbackToPlatformThreads() {
+    ThreadPoolExecutor executor = ThreadPoolFactory.createVirtualThreadPerTaskExecutor(
+        4,
+        2,
+        "VirtualThreadPool",
+        null,
+        10,
+        LINKED_BLOCKING_QUEUE);
+    Assert.assertEquals(executor instanceof VirtualThreadPerTaskExecutor, VirtualThreadPerTaskExecutor.isSupported());
+    if (!VirtualThreadPerTaskExecutor.isSupported()) {
+      // The fallback pool has the thread count of the platform thread pool, rather than the max concurrency
+      Assert.assertEquals(executor.getMaximumPoolSize(), 2);
+    }
+    Assert.assertTrue(executor.getQueue() instanceof LinkedBlockingQueue);
+    executor.shutdownNow();
+
+    if (!VirtualThreadPerTaskExecutor.isSupported()) {
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> new VirtualThreadPerTaskExecutor(4, "VirtualThreadPool", null, new LinkedBlockingQueue<>()));
+    }
+  }
+
+  @Test(timeOut = 10_000)
+  public void testConcurrencyLimit() throws InterruptedException {
+    skipIfUnsupported();
+    ThreadPoolExecutor executor = ThreadPoolFactory.createVirtualThreadPerTaskExecutor(
+        2,
+        2,
+        "VirtualThreadPool",
+        null,
+        10,
+        LINKED_BLOCKING_QUEUE);
+    CountDownLatch startedTasks = new CountDownLatch(2);
+    CountDownLatch releaseTasks = new CountDownLatch(1);
+    CountDownLatch completedTasks = new CountDownLatch(5);
+    AtomicInteger maxRunningTaskCount = new AtomicInteger();
+    AtomicInteger runningTaskCount = new AtomicInteger();
+    for (int i = 0; i < 5; i++) {
+      executor.execute(() -> {
+        maxRunningTaskCount.accumulateAndGet(runningTaskCount.incrementAndGet(), Math::max);
+        Assert.assertTrue(Thread.currentThread().getName().startsWith("VirtualThreadPool"));
+        startedTasks.countDown();
+        try {
+          releaseTasks.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        runningTaskCount.decrementAndGet();
+        completedTasks.countDown();
+      });
+    }
+
+    startedTasks.await();
+    Assert.assertEquals(executor.getActiveCount(), 2);
+    Assert.assertEquals(executor.getQueue().size(), 3);
+
+    releaseTasks.countDown();
+    completedTasks.await();
+    Assert.assertEquals(maxRunningTaskCount.get(), 2);
+
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    Assert.assertEquals(executor.getActiveCount(), 0);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testCallerRunsWhenQueueIsFull() throws InterruptedException {
+    skipIfUnsupported();
+    ThreadPoolExecutor executor =
+        ThreadPoolFactory.createVirtualThreadPerTaskExecutor(1, 1, "VirtualThreadPool", null, 1, LINKED_BLOCKING_QUEUE);
+    CountDownLatch startedTask = new CountDownLatch(1);
+    CountDownLatch releaseTask = new CountDownLatch(1);
+    executor.execute(() -> {
+      startedTask.countDown();
+      try {
+        releaseTask.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    startedTask.await();
+    executor.execute(() -> {});
+
+    AtomicReference<Thread> rejectedTaskThread = new AtomicReference<>();
+    executor.execute(() -> rejectedTaskThread.set(Thread.currentThread()));
+    Assert.assertEquals(rejectedTaskThread.get(), Thread.currentThread());
+
+    releaseTask.countDown();
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+  }
+
+  private static void skipIfUnsupported() {
+    if (!VirtualThreadPerTaskExecutor.isSupported()) {
+      throw new SkipException("Virtual threads are not supported by this JVM");
+    }
+  }
+}
@@ -631,6 +631,13 @@ public class ConfigKeys {
   public static final String KME_REGISTRATION_FROM_MESSAGE_HEADER_ENABLED =
       "kme.registration.from.message.header.enabled";
 
+  /**
+   * Whether the server only deserializes the {@link com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope} of a
+   * consumed record when the ingestion task accesses it, rather than in the consumer thread. The records which are
+   * skipped by the ingestion task then never pay for it. Default is false.
+   */
+  public static final String SERVER_LAZY_KME_DESERIALIZATION_ENABLED = "server.lazy.kme.deserialization.enabled";
+
   /**
    * The following config is to control whether to turn on disabled replica enabler service.
    */
@@ -666,6 +673,51 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+  /**
+   * The type of the queue buffering the records of each drainer of the
+   * {@link com.linkedin.davinci.kafka.consumer.StoreBufferService}, among the values of
+   * {@literal com.linkedin.venice.utils.concurrent.BlockingQueueType}: LINKED_BLOCKING_QUEUE for a linked list guarded
+   * by a lock, or MEMORY_BOUND_RING_BUFFER for a preallocated lock-free ring buffer. Both are bounded by
+   * {@link #STORE_WRITER_BUFFER_MEMORY_CAPACITY}.
+   */
+  public static final String STORE_WRITER_BUFFER_QUEUE_TYPE = "store.writer.buffer.queue.type";
+  /**
+   * The max number of records buffered by each ring buffer, when {@link #STORE_WRITER_BUFFER_QUEUE_TYPE} is
+   * MEMORY_BOUND_RING_BUFFER, which is rounded up to the next power of two.
+   */
+  public static final String STORE_WRITER_BUFFER_SLOT_COUNT = "store.writer.buffer.slot.count";
+  /**
+   * Whether each drainer of the {@link com.linkedin.davinci.kafka.consumer.StoreBufferService} hands out the buffered
+   * records of the different stores with weighted deficit round-robin scheduling, so that a store with a deep backlog
+   * can't starve the others sharing the drainer. When enabled, {@link #STORE_WRITER_BUFFER_QUEUE_TYPE} is ignored and
+   * {@link #STORE_WRITER_BUFFER_MEMORY_CAPACITY} bounds the buffered records of each store in a drainer, so a
+   * backlogged store can only block its own producers.
+   */
+  public static final String STORE_WRITER_BUFFER_WEIGHTED_FAIR_SCHEDULING_ENABLED =
+      "store.writer.buffer.weighted.fair.scheduling.enabled";
+  /**
+   * The bytes drained per round-robin turn by a store of weight 1, when
+   * {@link #STORE_WRITER_BUFFER_WEIGHTED_FAIR_SCHEDULING_ENABLED} is true.
+   */
+  public static final String STORE_WRITER_BUFFER_WEIGHTED_FAIR_QUANTUM = "store.writer.buffer.weighted.fair.quantum";
+  /**
+   * The weights of the stores for {@link #STORE_WRITER_BUFFER_WEIGHTED_FAIR_SCHEDULING_ENABLED}, e.g.
+   * "store1:4,store2:2", so that a backlogged store drains a share of the bytes proportional to its weight. The stores
+   * not in the map have a weight of 1.
+   */
+  public static final String STORE_WRITER_BUFFER_STORE_WEIGHT_MAP = "store.writer.buffer.store.weight.map";
+  /**
+   * How often the {@link com.linkedin.davinci.kafka.consumer.StoreBufferService} moves topic-partitions from its
+   * busiest drainer to its least busy one. A non-positive value disables the rebalancing, so that each topic-partition
+   * stays on the drainer its hash maps to.
+   */
+  public static final String STORE_WRITER_REBALANCE_INTERVAL_MS = "store.writer.rebalance.interval.ms";
+  /**
+   * The minimum utilization gap between the busiest and the least busy drainers, as a fraction of time, for a
+   * topic-partition to be moved between them.
+   */
+  public static final String STORE_WRITER_REBALANCE_UTILIZATION_THRESHOLD =
+      "store.writer.rebalance.utilization.threshold";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -869,6 +921,57 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether batch-get and compute requests should look up their keys with batched storage engine MultiGet calls, one
+   * per partition, instead of one lookup per key.
+   */
+  public static final String SERVER_STORAGE_MULTI_GET_ENABLED = "server.storage.multi.get.enabled";
+
+  /**
+   * Max number of keys looked up by each storage engine MultiGet call.
+   */
+  public static final String SERVER_STORAGE_MULTI_GET_BATCH_SIZE = "server.storage.multi.get.batch.size";
+
+  /**
+   * Whether single-get lookups of non-chunked values should be read by the storage engine straight into a pooled
+   * direct buffer, which is then handed over to Netty as the response body, instead of going through a heap byte array.
+   */
+  public static final String SERVER_SINGLE_GET_DIRECT_BUFFER_ENABLED = "server.single.get.direct.buffer.enabled";
+
+  /**
+   * Initial size of the pooled direct buffer used by the single-get direct buffer path. Values larger than this fall
+   * back to a heap buffer, so it should be set above the typical value size of the hosted stores.
+   */
+  public static final String SERVER_SINGLE_GET_DIRECT_BUFFER_SIZE = "server.single.get.direct.buffer.size";
+
+  /**
+   * Whether the storage execution, compute and gRPC worker pools should run each request on its own virtual thread,
+   * instead of on a fixed set of platform threads. Requires JDK 21+, otherwise the regular thread pools are used.
+   * Storage reads are JNI calls which pin the carrier thread, so this mostly helps the requests blocking in Java code,
+   * while the requests blocked on disk reads still hold up to one carrier thread per core.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_EXECUTOR_ENABLED = "server.virtual.thread.executor.enabled";
+
+  /**
+   * Max number of requests running concurrently in each virtual-thread pool. The requests beyond that limit wait in the
+   * pool's queue, so that the queue length and wait time remain meaningful as load signals.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_MAX_CONCURRENCY = "server.virtual.thread.max.concurrency";
+
+  /**
+   * Comma-separated list of the stores whose compute results should be cached by the server, keyed by the store
+   * version, the key and the compute request. It only pays off for the stores serving the same compute request for a
+   * small set of hot keys, since the cached results are invalidated by every write to the key.
+   */
+  public static final String SERVER_COMPUTE_RESULT_CACHE_STORE_ALLOWLIST =
+      "server.compute.result.cache.store.allowlist";
+
+  /**
+   * Max size of the serialized compute results cached by the server, across all the allowlisted stores.
+   */
+  public static final String SERVER_COMPUTE_RESULT_CACHE_CAPACITY_IN_BYTES =
+      "server.compute.result.cache.capacity.in.bytes";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -1221,6 +1324,14 @@ public class ConfigKeys {
    */
   public static final String ROUTER_MULTI_KEY_ROUTING_STRATEGY = "router.multi.key.routing.strategy";
 
+  /**
+   * Whether to pick the replica expected to respond first, based on both the pending request count and the recent
+   * response times of each replica, instead of the replica with the least pending requests. This applies to single get
+   * requests and to the multi-key requests when {@literal VeniceMultiKeyRoutingStrategy#LEAST_LOADED_ROUTING} is used.
+   */
+  public static final String ROUTER_LATENCY_AWARE_REPLICA_SELECTION_ENABLED =
+      "router.latency.aware.replica.selection.enabled";
+
   /**
    * Helix group selection strategy when Helix assisted routing is enabled.
    * Available strategies listed here: {@literal HelixGroupSelectionStrategyEnum}.
@@ -2445,6 +2556,53 @@ public class ConfigKeys {
   public static final String SERVER_CONSUMER_POOL_SIZE_FOR_NON_CURRENT_VERSION_NON_AA_WC_LEADER =
       "server.consumer.pool.size.for.non.current.version.non.aa.wc.leader";
 
+  /**
+   * Whether to resize the consumer pools at runtime based on their offset lag. When enabled, each pool can grow up to
+   * {@link #SERVER_ELASTIC_CONSUMER_POOL_MAX_SIZE} consumers, and the configured pool size is only the initial number
+   * of consumers which get partition assignments. The thread of a consumer is only started once it gets activated.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_ENABLED = "server.elastic.consumer.pool.enabled";
+
+  /**
+   * The number of consumers below which an elastic consumer pool won't shrink. Pools configured with fewer consumers
+   * start with their configured size.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_MIN_SIZE = "server.elastic.consumer.pool.min.size";
+
+  /**
+   * The number of consumers above which an elastic consumer pool won't grow. Pools configured with more consumers
+   * never grow.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_MAX_SIZE = "server.elastic.consumer.pool.max.size";
+
+  /**
+   * The interval between two resizing decisions of the elastic consumer pools. Each decision adds or retires at most
+   * one consumer per pool.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_RESIZE_INTERVAL_SECOND =
+      "server.elastic.consumer.pool.resize.interval.second";
+
+  /**
+   * The offset lag per consumer above which an elastic consumer pool grows. It shrinks once the lag per consumer would
+   * remain below half of this threshold with one consumer less.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_LAG_THRESHOLD_PER_CONSUMER =
+      "server.elastic.consumer.pool.lag.threshold.per.consumer";
+
+  /**
+   * The maximum number of partitions resubscribed by each resizing decision of an elastic consumer pool, either to move
+   * the most lagging partitions to a new consumer, or to move the partitions off the retired consumers.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_MAX_PARTITIONS_MOVED_PER_RESIZE =
+      "server.elastic.consumer.pool.max.partitions.moved.per.resize";
+
+  /**
+   * The maximum number of consumers that all the elastic consumer pools of a host can add on top of their configured
+   * sizes, across all the Kafka clusters.
+   */
+  public static final String SERVER_ELASTIC_CONSUMER_POOL_MAX_EXTRA_CONSUMERS_PER_HOST =
+      "server.elastic.consumer.pool.max.extra.consumers.per.host";
+
   /**
    * A string of comma separated number to specify different factors multiplying basic throttling limit
    * KAFKA_FETCH_QUOTA_RECORDS_PER_SECOND, the factors will be comma separated numbers with ascending order,
@@ -2532,6 +2690,23 @@ public class ConfigKeys {
    */
   public static final String ROUTER_RETRY_MANAGER_CORE_POOL_SIZE = "router.retry.manager.core.pool.size";
 
+  /**
+   * The stores whose single-get responses are cached by router. The response cache is disabled when it is empty.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_STORE_ALLOWLIST = "router.response.cache.store.allowlist";
+
+  /**
+   * The total size of the keys and values held by the router response cache, which is shared by all the allowlisted
+   * stores.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_CAPACITY_IN_BYTES = "router.response.cache.capacity.in.bytes";
+
+  /**
+   * How long the cached responses of hybrid stores, and of stores with incremental push, are served by router, since
+   * their values can change within a version. Those stores are not cached when it is not positive.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS = "router.response.cache.hybrid.store.ttl.ms";
+
   /**
    * Server configs to enable the topic partition re-subscription during ingestion to let bottom ingestion service aware
    * of store version's ingestion context changed (workload type {#@link PartitionReplicaIngestionContext.WorkloadType} or
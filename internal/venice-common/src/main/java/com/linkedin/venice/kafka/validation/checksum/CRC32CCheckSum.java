@@ -0,0 +1,216 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.zip.Checksum;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Running checksum implementation based on CRC32C (Castagnoli), which is much cheaper than {@link MD5CheckSum}.
+ *
+ * On Java 9+, it is backed by {@code java.util.zip.CRC32C}, which the JIT compiles into the CRC32C instructions of
+ * the CPU (SSE 4.2 on x86, and the CRC32 extension on ARM). Since Venice still targets Java 8, the class is looked up
+ * at runtime, and a table-driven implementation is used when it is not available.
+ *
+ * Unlike {@link CRC32CheckSum}, it supports checkpointing: the encoded state is the checksum of the bytes consumed so
+ * far, and the checksum of the bytes consumed after the restoration is appended to it with the CRC combination of
+ * zlib's {@code crc32_combine}, since the JDK implementation cannot be initialized with a previous value.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  private static final Logger LOGGER = LogManager.getLogger(CRC32CCheckSum.class);
+  /** Reversed representation of the Castagnoli polynomial */
+  private static final int POLYNOMIAL = 0x82F63B78;
+  private static final MethodHandle JDK_CRC32C_CONSTRUCTOR = getJdkCRC32CConstructor();
+
+  private final Checksum checkSumGenerator;
+  /** The checksum of the bytes consumed before the checkpoint this instance was restored from */
+  private int checkpointedValue;
+  /** The number of bytes consumed by {@link #checkSumGenerator} since the checkpoint */
+  private long lengthSinceCheckpoint;
+
+  public CRC32CCheckSum() {
+    this.checkSumGenerator = newCRC32C();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this();
+    this.checkpointedValue = (int) ByteUtils.readLong(encodedState, 0);
+  }
+
+  private static MethodHandle getJdkCRC32CConstructor() {
+    try {
+      Class<?> crc32cClass = Class.forName("java.util.zip.CRC32C");
+      return MethodHandles.publicLookup()
+          .findConstructor(crc32cClass, MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Checksum.class));
+    } catch (ReflectiveOperationException e) {
+      LOGGER.info(
+          "java.util.zip.CRC32C is not available, so {} will use a table-driven implementation",
+          CheckSumType.CRC32C);
+      return null;
+    }
+  }
+
+  static Checksum newCRC32C() {
+    if (JDK_CRC32C_CONSTRUCTOR != null) {
+      try {
+        return (Checksum) JDK_CRC32C_CONSTRUCTOR.invokeExact();
+      } catch (Throwable e) {
+        throw new IllegalStateException("Failed to create java.util.zip.CRC32C", e);
+      }
+    }
+    return new PureJavaCRC32C();
+  }
+
+  private int getValue() {
+    int value = (int) checkSumGenerator.getValue();
+    return checkpointedValue == 0 ? value : combine(checkpointedValue, value, lengthSinceCheckpoint);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    byte[] returnedCheckSum = new byte[ByteUtils.SIZE_OF_LONG];
+    ByteUtils.writeLong(returnedCheckSum, Integer.toUnsignedLong(getValue()), 0);
+    return returnedCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    lengthSinceCheckpoint += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    checkpointedValue = 0;
+    lengthSinceCheckpoint = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    return getFinalCheckSum();
+  }
+
+  /**
+   * @return the CRC32C of the concatenation of two byte sequences, given their CRC32Cs and the length of the second one
+   */
+  static int combine(int crc1, int crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    // The operator which appends one zero bit to the CRC register
+    int[] odd = new int[32];
+    int[] even = new int[32];
+    odd[0] = POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    // Two zero bits, then four zero bits
+    squareMatrix(even, odd);
+    squareMatrix(odd, even);
+    // Apply the operators appending one zero byte, two zero bytes, four zero bytes and so on, for each bit of length2
+    do {
+      squareMatrix(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(even, crc1);
+      }
+      length2 >>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      squareMatrix(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(odd, crc1);
+      }
+      length2 >>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static int multiplyMatrix(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void squareMatrix(int[] square, int[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = multiplyMatrix(matrix, matrix[n]);
+    }
+  }
+
+  /**
+   * Slicing-by-8 implementation of CRC32C, which is only used on Java 8.
+   */
+  static class PureJavaCRC32C implements Checksum {
+    private static final int[][] TABLES = createTables();
+
+    private int crc = 0xFFFFFFFF;
+
+    private static int[][] createTables() {
+      int[][] tables = new int[8][256];
+      for (int n = 0; n < 256; n++) {
+        int c = n;
+        for (int k = 0; k < 8; k++) {
+          c = (c & 1) != 0 ? (c >>> 1) ^ POLYNOMIAL : c >>> 1;
+        }
+        tables[0][n] = c;
+      }
+      for (int n = 0; n < 256; n++) {
+        for (int k = 1; k < 8; k++) {
+          int previous = tables[k - 1][n];
+          tables[k][n] = (previous >>> 8) ^ tables[0][previous & 0xFF];
+        }
+      }
+      return tables;
+    }
+
+    @Override
+    public void update(int b) {
+      crc = (crc >>> 8) ^ TABLES[0][(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+      int[][] t = TABLES;
+      int c = crc;
+      while (len >= 8) {
+        c ^= (b[off] & 0xFF) | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | (b[off + 3] & 0xFF) << 24;
+        c = t[7][c & 0xFF] ^ t[6][(c >>> 8) & 0xFF] ^ t[5][(c >>> 16) & 0xFF] ^ t[4][c >>> 24]
+            ^ t[3][b[off + 4] & 0xFF] ^ t[2][b[off + 5] & 0xFF] ^ t[1][b[off + 6] & 0xFF] ^ t[0][b[off + 7] & 0xFF];
+        off += 8;
+        len -= 8;
+      }
+      while (len-- > 0) {
+        c = (c >>> 8) ^ t[0][(c ^ b[off++]) & 0xFF];
+      }
+      crc = c;
+    }
+
+    @Override
+    public long getValue() {
+      return Integer.toUnsignedLong(~crc);
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
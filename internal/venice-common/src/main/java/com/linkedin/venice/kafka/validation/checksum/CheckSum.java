@@ -134,6 +134,8 @@ public abstract class CheckSum {
         return new MD5CheckSum();
       case ADHASH:
         return new AdHash();
+      case CRC32C:
+        return new CRC32CCheckSum();
       default:
         return null;
     }
@@ -148,6 +150,8 @@ public abstract class CheckSum {
           return new MD5CheckSum(encodedState);
         case ADHASH:
           return new AdHash(encodedState);
+        case CRC32C:
+          return new CRC32CCheckSum(encodedState);
         default:
           return null;
       }
@@ -0,0 +1,137 @@
+package com.linkedin.venice.pubsub;
+
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.memory.ClassSizeEstimator;
+import com.linkedin.venice.memory.InstanceSizeEstimator;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+
+/**
+ * A {@link DefaultPubSubMessage} which only deserializes its {@link KafkaMessageEnvelope} the first time
+ * {@link #getValue()} is called, so that the records which are filtered out based on their key, topic-partition or
+ * position never pay for it, and so that the deserialization happens in the thread processing the record, rather than
+ * in the consumer thread shared by many partitions.
+ *
+ * N.B.: An exception thrown by the deserialization surfaces in {@link #getValue()}, instead of in the consumer poll.
+ */
+public class LazyPubSubMessage implements DefaultPubSubMessage {
+  private static final int SHALLOW_CLASS_OVERHEAD = ClassSizeEstimator.getClassOverhead(LazyPubSubMessage.class);
+  /**
+   * The overhead of the deserialized envelope of a put, excluding its value which is a slice of {@link #valueBytes}
+   * when using {@link com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer}. It is accounted for even
+   * before the deserialization, so that {@link #getHeapSize()} doesn't change while the message is buffered.
+   */
+  private static final int ENVELOPE_OVERHEAD = ClassSizeEstimator.getClassOverhead(KafkaMessageEnvelope.class)
+      + ClassSizeEstimator.getClassOverhead(ProducerMetadata.class) + ClassSizeEstimator.getClassOverhead(GUID.class)
+      + InstanceSizeEstimator.getByteArraySizeByLength(GUID.getClassSchema().getFixedSize())
+      + ClassSizeEstimator.getClassOverhead(Put.class) + ClassSizeEstimator.getClassOverhead(ByteBuffer.class);
+
+  private final KafkaKey key;
+  private final byte[] valueBytes;
+  private final PubSubMessageDeserializer deserializer;
+  private final PubSubTopicPartition topicPartition;
+  private final PubSubPosition pubSubPosition;
+  private final long timestamp;
+  private final int payloadSize;
+  private final PubSubMessageHeaders pubSubMessageHeaders;
+  private volatile KafkaMessageEnvelope value;
+
+  public LazyPubSubMessage(
+      KafkaKey key,
+      byte[] valueBytes,
+      PubSubMessageDeserializer deserializer,
+      PubSubTopicPartition topicPartition,
+      PubSubPosition pubSubPosition,
+      long timestamp,
+      int payloadSize,
+      PubSubMessageHeaders pubSubMessageHeaders) {
+    this.key = key;
+    this.valueBytes = Objects.requireNonNull(valueBytes);
+    this.deserializer = Objects.requireNonNull(deserializer);
+    this.topicPartition = Objects.requireNonNull(topicPartition);
+    this.pubSubPosition = pubSubPosition;
+    this.timestamp = timestamp;
+    this.payloadSize = payloadSize;
+    this.pubSubMessageHeaders = pubSubMessageHeaders;
+  }
+
+  @Override
+  public KafkaKey getKey() {
+    return key;
+  }
+
+  @Override
+  public KafkaMessageEnvelope getValue() {
+    KafkaMessageEnvelope envelope = value;
+    if (envelope == null) {
+      synchronized (this) {
+        envelope = value;
+        if (envelope == null) {
+          envelope = deserializer.deserializeValue(key, valueBytes, pubSubMessageHeaders);
+          value = envelope;
+        }
+      }
+    }
+    return envelope;
+  }
+
+  /**
+   * @return whether the {@link KafkaMessageEnvelope} has been deserialized yet
+   */
+  public boolean isValueDeserialized() {
+    return value != null;
+  }
+
+  @Override
+  public PubSubTopicPartition getTopicPartition() {
+    return topicPartition;
+  }
+
+  @Override
+  public PubSubPosition getPosition() {
+    return pubSubPosition;
+  }
+
+  @Override
+  public long getPubSubMessageTime() {
+    return timestamp;
+  }
+
+  @Override
+  public int getPayloadSize() {
+    return payloadSize;
+  }
+
+  @Override
+  public boolean isEndOfBootstrap() {
+    return false;
+  }
+
+  @Override
+  public PubSubMessageHeaders getPubSubMessageHeaders() {
+    return pubSubMessageHeaders;
+  }
+
+  @Override
+  public String toString() {
+    return "PubSubMessage{" + topicPartition + ", position=" + pubSubPosition + ", timestamp=" + timestamp + '}';
+  }
+
+  @Override
+  public int getHeapSize() {
+    /** The {@link #topicPartition} and the {@link #deserializer} are shared instances, and are therefore ignored. */
+    return SHALLOW_CLASS_OVERHEAD + InstanceSizeEstimator.getObjectSize(key)
+        + InstanceSizeEstimator.getSize(valueBytes) + ENVELOPE_OVERHEAD
+        + InstanceSizeEstimator.getObjectSize(pubSubPosition);
+  }
+}
@@ -7,6 +7,7 @@ import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.LazyPubSubMessage;
 import com.linkedin.venice.serialization.KafkaKeySerializer;
 import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
@@ -27,14 +28,28 @@ public class PubSubMessageDeserializer {
   private final KafkaValueSerializer valueSerializer;
   private final ObjectPool<KafkaMessageEnvelope> putEnvelopePool;
   private final ObjectPool<KafkaMessageEnvelope> updateEnvelopePool;
+  private final boolean lazyValueDeserialization;
 
   public PubSubMessageDeserializer(
       KafkaValueSerializer valueSerializer,
       ObjectPool<KafkaMessageEnvelope> putEnvelopePool,
       ObjectPool<KafkaMessageEnvelope> updateEnvelopePool) {
+    this(valueSerializer, putEnvelopePool, updateEnvelopePool, false);
+  }
+
+  /**
+   * @param lazyValueDeserialization whether to return {@link LazyPubSubMessage}s, whose {@link KafkaMessageEnvelope} is
+   *                                 only deserialized when it is accessed
+   */
+  public PubSubMessageDeserializer(
+      KafkaValueSerializer valueSerializer,
+      ObjectPool<KafkaMessageEnvelope> putEnvelopePool,
+      ObjectPool<KafkaMessageEnvelope> updateEnvelopePool,
+      boolean lazyValueDeserialization) {
     this.valueSerializer = valueSerializer;
     this.putEnvelopePool = putEnvelopePool;
     this.updateEnvelopePool = updateEnvelopePool;
+    this.lazyValueDeserialization = lazyValueDeserialization;
   }
 
   /**
@@ -57,6 +72,32 @@ public class PubSubMessageDeserializer {
       Long timestamp) {
     // TODO: Put the key in an object pool as well
     KafkaKey key = keySerializer.deserialize(null, keyBytes);
+    int payloadSize = keyBytes.length + valueBytes.length;
+    if (lazyValueDeserialization) {
+      return new LazyPubSubMessage(
+          key,
+          valueBytes,
+          this,
+          topicPartition,
+          pubSubPosition,
+          timestamp,
+          payloadSize,
+          headers);
+    }
+    KafkaMessageEnvelope value = deserializeValue(key, valueBytes, headers);
+    // TODO: Put the message container in an object pool as well
+    return new ImmutablePubSubMessage(key, value, topicPartition, pubSubPosition, timestamp, payloadSize, headers);
+  }
+
+  /**
+   * Deserialize the value of a message, which is done by {@link #deserialize} unless the value deserialization is lazy.
+   *
+   * @param key the deserialized key of the message
+   * @param valueBytes the value bytes of the message
+   * @param headers the headers of the message
+   * @return the deserialized {@link KafkaMessageEnvelope}
+   */
+  public KafkaMessageEnvelope deserializeValue(KafkaKey key, byte[] valueBytes, PubSubMessageHeaders headers) {
     KafkaMessageEnvelope value = null;
     if (key.isControlMessage()) {
       for (PubSubMessageHeader header: headers) {
@@ -81,15 +122,7 @@ public class PubSubMessageDeserializer {
     if (value == null) {
       value = valueSerializer.deserialize(valueBytes, getEnvelope(key.getKeyHeaderByte()));
     }
-    // TODO: Put the message container in an object pool as well
-    return new ImmutablePubSubMessage(
-        key,
-        value,
-        topicPartition,
-        pubSubPosition,
-        timestamp,
-        keyBytes.length + valueBytes.length,
-        headers);
+    return value;
   }
 
   private KafkaMessageEnvelope getEnvelope(byte keyHeaderByte) {
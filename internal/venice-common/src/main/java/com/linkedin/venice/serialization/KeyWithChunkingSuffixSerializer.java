@@ -37,6 +37,13 @@ public class KeyWithChunkingSuffixSerializer {
     return serialize(key, serializedNonChunkKeySuffix);
   }
 
+  /**
+   * @return the standard suffix appended to non-chunked keys, which must not be modified
+   */
+  public byte[] getSerializedNonChunkKeySuffix() {
+    return serializedNonChunkKeySuffix;
+  }
+
   public byte[] serializeNonChunkedKey(byte[] key) {
     return serializeNonChunkedKeyAsByteBuffer(key).array();
   }
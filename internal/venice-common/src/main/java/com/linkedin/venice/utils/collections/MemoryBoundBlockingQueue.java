@@ -8,7 +8,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
@@ -45,7 +44,7 @@ import org.apache.logging.log4j.Logger;
  *
  * @param <T>
  */
-public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQueue<T> {
+public class MemoryBoundBlockingQueue<T extends Measurable> implements MemoryBoundQueue<T> {
   private static final Logger LOGGER = LogManager.getLogger(MemoryBoundBlockingQueue.class);
   /**
    * Considering the node implementation: {@link java.util.LinkedList.Node}, the overhead is three references.
@@ -78,10 +77,12 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     this.remainingMemoryCapacityInByte = new AtomicLong(this.memoryCapacityInByte);
   }
 
+  @Override
   public long getMemoryUsage() {
     return memoryCapacityInByte - remainingMemoryCapacityInByte();
   }
 
+  @Override
   public long remainingMemoryCapacityInByte() {
     return remainingMemoryCapacityInByte.get();
   }
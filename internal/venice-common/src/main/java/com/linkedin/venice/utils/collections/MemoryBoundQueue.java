@@ -0,0 +1,15 @@
+package com.linkedin.venice.utils.collections;
+
+import com.linkedin.venice.memory.Measurable;
+import java.util.concurrent.BlockingQueue;
+
+
+/**
+ * A {@link BlockingQueue} bounded by the heap size of the {@link Measurable} objects buffered inside, rather than by
+ * their count, so that {@link #put(Object)} blocks until enough memory has been freed by {@link #take()}.
+ */
+public interface MemoryBoundQueue<T extends Measurable> extends BlockingQueue<T> {
+  long getMemoryUsage();
+
+  long remainingMemoryCapacityInByte();
+}
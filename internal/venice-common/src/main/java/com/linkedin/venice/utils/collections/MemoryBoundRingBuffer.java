@@ -0,0 +1,344 @@
+package com.linkedin.venice.utils.collections;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.memory.Measurable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A multi-producer, single-consumer ring buffer, which is bounded by the memory usage of each {@link Measurable} object
+ * buffered inside like {@link MemoryBoundBlockingQueue}, but without any lock nor per-record allocation:
+ * 1. The slots are preallocated, and each producer reserves the memory of its record with a CAS on
+ * {@link #remainingMemoryCapacityInByte}, then claims the next slot with a CAS on {@link #tail}, which is only done
+ * once that slot is free, so that a producer waiting for room never owns a sequence and can be interrupted;
+ * 2. A record is published by setting its slot, and the consumer takes it by clearing the slot and advancing
+ * {@link #head}, which is only ever written by the consumer, so it needs no atomic read-modify-write;
+ * 3. A thread which has to wait, because the buffer is full or empty, spins for a little while before parking, and the
+ * producers only unpark the consumer when it is actually parked.
+ *
+ * The freed memory is handed back to the producers once it exceeds {@link #notifyDeltaInByte}, to give the big records
+ * a chance to be buffered when the buffer is full, as explained in {@link MemoryBoundBlockingQueue}. On top of the
+ * memory bound, the number of buffered records is bounded by the number of slots.
+ *
+ * N.B.: {@link #take()} must not be called concurrently, since there is a single consumer.
+ *
+ * @param <T>
+ */
+public class MemoryBoundRingBuffer<T extends Measurable> implements MemoryBoundQueue<T> {
+  private static final Logger LOGGER = LogManager.getLogger(MemoryBoundRingBuffer.class);
+  private static final int MAX_SLOT_COUNT = 1 << 30;
+  private static final int SPIN_COUNT = 100;
+  /**
+   * The producers are not unparked by the consumer, since they are only waiting when the buffer is full, in which case
+   * a short delay doesn't matter.
+   */
+  private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  /**
+   * The consumer is unparked by the producers, so this is only a safety net.
+   */
+  private static final long CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final AtomicReferenceArray<T> slots;
+  private final int slotCount;
+  private final int slotIndexMask;
+  private final long memoryCapacityInByte;
+  private final long notifyDeltaInByte;
+  private final AtomicLong remainingMemoryCapacityInByte;
+  // The sequence of the next slot to be claimed by a producer
+  private final AtomicLong tail = new AtomicLong();
+  // The sequence of the next slot to be taken by the consumer
+  private final AtomicLong head = new AtomicLong();
+  private volatile Thread parkedConsumer;
+  // Accumulated free memory since last notification, which is only accessed by the consumer
+  private long currentFreedMemoryInBytes = 0;
+
+  /**
+   * @param slotCount the max number of buffered records, which is rounded up to the next power of two
+   */
+  public MemoryBoundRingBuffer(int slotCount, long memoryCapacityInByte, long notifyDeltaInByte) {
+    if (slotCount <= 0 || slotCount > MAX_SLOT_COUNT) {
+      throw new IllegalArgumentException(
+          "Param slotCount: " + slotCount + " should be positive and not bigger than " + MAX_SLOT_COUNT);
+    }
+    if (notifyDeltaInByte > memoryCapacityInByte) {
+      throw new IllegalArgumentException(
+          "Param notifyDeltaInByte: " + notifyDeltaInByte + " should not be bigger than param memoryCapacityInByte: "
+              + memoryCapacityInByte);
+    }
+    this.slotCount = slotCount == 1 ? 1 : Integer.highestOneBit(slotCount - 1) << 1;
+    this.slotIndexMask = this.slotCount - 1;
+    this.slots = new AtomicReferenceArray<>(this.slotCount);
+    this.memoryCapacityInByte = memoryCapacityInByte;
+    this.notifyDeltaInByte = notifyDeltaInByte;
+    this.remainingMemoryCapacityInByte = new AtomicLong(memoryCapacityInByte);
+  }
+
+  public int getSlotCount() {
+    return slotCount;
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    return memoryCapacityInByte - remainingMemoryCapacityInByte();
+  }
+
+  @Override
+  public long remainingMemoryCapacityInByte() {
+    return remainingMemoryCapacityInByte.get();
+  }
+
+  private int getSlotIndex(long sequence) {
+    return (int) sequence & slotIndexMask;
+  }
+
+  @Override
+  public void put(T record) throws InterruptedException {
+    long recordSize = record.getHeapSize();
+    if (recordSize > notifyDeltaInByte) {
+      LOGGER.warn(
+          "Record size of record: " + record + " is " + recordSize + ", which exceeds notifyDeltaInByte: "
+              + notifyDeltaInByte + ", and it could potentially be blocked when the buffer is full.");
+    }
+    reserveMemory(recordSize);
+    long sequence;
+    try {
+      sequence = claimSlot();
+    } catch (InterruptedException e) {
+      remainingMemoryCapacityInByte.getAndAdd(recordSize);
+      throw e;
+    }
+    // The consumer waits for the claimed sequence, so the record must be published right away
+    slots.set(getSlotIndex(sequence), record);
+    Thread consumer = parkedConsumer;
+    if (consumer != null) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  /**
+   * @return the claimed sequence, whose slot is free, since the record put in it one lap earlier has been taken
+   */
+  private long claimSlot() throws InterruptedException {
+    int spins = 0;
+    while (true) {
+      long sequence = tail.get();
+      if (sequence - head.get() < slotCount) {
+        if (tail.compareAndSet(sequence, sequence + 1)) {
+          return sequence;
+        }
+        // Another producer claimed this sequence in the meantime, so the next one might still be free
+        continue;
+      }
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      backOff(spins++);
+    }
+  }
+
+  private void reserveMemory(long recordSize) throws InterruptedException {
+    int spins = 0;
+    while (true) {
+      long remainingMemory = remainingMemoryCapacityInByte.get();
+      if (remainingMemory >= recordSize) {
+        if (remainingMemoryCapacityInByte.compareAndSet(remainingMemory, remainingMemory - recordSize)) {
+          return;
+        }
+        // Another producer reserved some memory in the meantime, so there might still be enough of it
+        continue;
+      }
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      backOff(spins++);
+    }
+  }
+
+  private void backOff(int spins) {
+    if (spins < SPIN_COUNT) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    long sequence = head.get();
+    int slotIndex = getSlotIndex(sequence);
+    T record;
+    int spins = 0;
+    while ((record = slots.get(slotIndex)) == null) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      if (spins++ < SPIN_COUNT) {
+        Thread.yield();
+        continue;
+      }
+      parkedConsumer = Thread.currentThread();
+      // Check again once visible to the producers, since the record might have been published just before
+      if (slots.get(slotIndex) == null) {
+        LockSupport.parkNanos(this, CONSUMER_PARK_NANOS);
+      }
+      parkedConsumer = null;
+    }
+    // The slot must be cleared before the producers can see it as free
+    slots.lazySet(slotIndex, null);
+    head.lazySet(sequence + 1);
+
+    currentFreedMemoryInBytes += record.getHeapSize();
+    /**
+     * It won't notify the blocked {@link #put(Measurable)} threads until the freed memory exceeds pre-defined
+     * {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+      remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
+      currentFreedMemoryInBytes = 0;
+    }
+    return record;
+  }
+
+  /**
+   * @return a snapshot of the buffered records, which might miss the records being put or taken concurrently
+   */
+  private List<T> snapshot() {
+    long from = head.get();
+    long to = tail.get();
+    List<T> records = new ArrayList<>((int) Math.min(Math.max(to - from, 0), slotCount));
+    for (long sequence = from; sequence < to && sequence - from < slotCount; sequence++) {
+      T record = slots.get(getSlotIndex(sequence));
+      if (record != null) {
+        records.add(record);
+      }
+    }
+    return records;
+  }
+
+  @Override
+  public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean add(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean offer(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T remove() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T element() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T peek() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int remainingCapacity() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return snapshot().containsAll(c);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public void clear() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  /**
+   * @return the number of buffered records, including the ones being put
+   */
+  @Override
+  public int size() {
+    return (int) Math.max(tail.get() - head.get(), 0);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return snapshot().contains(o);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return snapshot().iterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return snapshot().toArray();
+  }
+
+  @Override
+  public <T1> T1[] toArray(T1[] a) {
+    return snapshot().toArray(a);
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c, int maxElements) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+}
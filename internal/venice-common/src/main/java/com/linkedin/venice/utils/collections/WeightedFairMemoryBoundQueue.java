@@ -0,0 +1,365 @@
+package com.linkedin.venice.utils.collections;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.memory.Measurable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A memory bound blocking queue which buffers the records of each flow in a separate FIFO queue, and hands them out
+ * with deficit round-robin (DRR) scheduling across the flows, so that a flow with a deep backlog can't starve the
+ * others sharing the queue.
+ *
+ * On each turn of the round-robin, a flow earns {@link #quantumInByte} multiplied by its weight in credit, and may hand
+ * out records as long as its accumulated credit covers their size. The credit left over is carried to its next turn,
+ * and reset once the flow runs out of records. Over time, each backlogged flow thus drains a share of the bytes which
+ * is proportional to its weight, regardless of the size of its records. The order of the records within a flow is
+ * preserved.
+ *
+ * Each flow has its own memory bound, so that a backlogged flow only blocks the producers of that flow, and can't fill
+ * up the queue for the others. The bound, including the {@link #notifyDeltaInByte} semantic, works the same way as in
+ * {@link MemoryBoundBlockingQueue}, and the memory of a flow is entirely handed back once it runs out of records. The
+ * memory usage of the whole queue is thus bounded by {@link #memoryCapacityPerFlowInByte} times the number of flows.
+ *
+ * @param <T>
+ */
+public class WeightedFairMemoryBoundQueue<T extends Measurable> implements MemoryBoundQueue<T> {
+  private static final Logger LOGGER = LogManager.getLogger(WeightedFairMemoryBoundQueue.class);
+
+  private final Map<String, Flow<T>> flows = new HashMap<>();
+  /**
+   * The flows with buffered records, in round-robin order. The flow at the head is the one whose turn it is.
+   */
+  private final ArrayDeque<Flow<T>> activeFlows = new ArrayDeque<>();
+  private final long memoryCapacityPerFlowInByte;
+  private final long notifyDeltaInByte;
+  private final long quantumInByte;
+  private final Function<T, String> flowKeyFunction;
+  private final ToIntFunction<String> weightFunction;
+  // The memory used by all the flows, including the freed memory which hasn't been handed back yet
+  private final AtomicLong memoryUsageInByte = new AtomicLong();
+  private final Lock memoryLock = new ReentrantLock();
+  private final Condition notEmpty = memoryLock.newCondition();
+  private int size = 0;
+
+  /**
+   * @param memoryCapacityPerFlowInByte the memory bound of each flow
+   * @param quantumInByte the credit earned by a flow of weight 1 on each turn
+   * @param flowKeyFunction maps a record to the flow it belongs to
+   * @param weightFunction maps a flow to its weight, where weights lower than 1 are treated as 1
+   */
+  public WeightedFairMemoryBoundQueue(
+      long memoryCapacityPerFlowInByte,
+      long notifyDeltaInByte,
+      long quantumInByte,
+      Function<T, String> flowKeyFunction,
+      ToIntFunction<String> weightFunction) {
+    if (notifyDeltaInByte > memoryCapacityPerFlowInByte) {
+      throw new IllegalArgumentException(
+          "Param notifyDeltaInByte: " + notifyDeltaInByte
+              + " should not be bigger than param memoryCapacityPerFlowInByte: " + memoryCapacityPerFlowInByte);
+    }
+    if (quantumInByte <= 0) {
+      throw new IllegalArgumentException("Param quantumInByte: " + quantumInByte + " should be positive");
+    }
+    this.memoryCapacityPerFlowInByte = memoryCapacityPerFlowInByte;
+    this.notifyDeltaInByte = notifyDeltaInByte;
+    this.quantumInByte = quantumInByte;
+    this.flowKeyFunction = flowKeyFunction;
+    this.weightFunction = weightFunction;
+  }
+
+  /**
+   * @return the memory used by all the flows
+   */
+  @Override
+  public long getMemoryUsage() {
+    return memoryUsageInByte.get();
+  }
+
+  /**
+   * @return the remaining memory capacity of the flow which uses the most memory, i.e. the closest one to be blocked
+   */
+  @Override
+  public long remainingMemoryCapacityInByte() {
+    memoryLock.lock();
+    try {
+      long maxFlowMemoryUsage = 0;
+      for (Flow<T> flow: flows.values()) {
+        maxFlowMemoryUsage = Math.max(maxFlowMemoryUsage, flow.memoryUsageInByte);
+      }
+      return memoryCapacityPerFlowInByte - maxFlowMemoryUsage;
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  @Override
+  public void put(T record) throws InterruptedException {
+    long recordSize = record.getHeapSize();
+    if (recordSize > notifyDeltaInByte) {
+      LOGGER.warn(
+          "Record size of record: " + record + " is " + recordSize + ", which exceeds notifyDeltaInByte: "
+              + notifyDeltaInByte + ", and it could potentially be blocked when the buffer is full.");
+    }
+    String flowKey = flowKeyFunction.apply(record);
+    memoryLock.lock();
+    try {
+      Flow<T> flow;
+      while (true) {
+        // The flow is looked up again after waiting, since it is dropped once it runs out of records
+        flow = flows.computeIfAbsent(flowKey, key -> new Flow<>(key, memoryLock.newCondition()));
+        if (memoryCapacityPerFlowInByte - flow.memoryUsageInByte >= recordSize) {
+          break;
+        }
+        flow.hasEnoughMemory.await();
+      }
+      if (flow.records.isEmpty()) {
+        activeFlows.addLast(flow);
+      }
+      flow.records.addLast(record);
+      flow.memoryUsageInByte += recordSize;
+      size++;
+      memoryUsageInByte.getAndAdd(recordSize);
+      notEmpty.signal();
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    T record;
+    long recordSize;
+
+    this.memoryLock.lock();
+    try {
+      while (activeFlows.isEmpty()) {
+        notEmpty.await();
+      }
+      while (true) {
+        Flow<T> flow = activeFlows.peekFirst();
+        if (!flow.hasTurn) {
+          flow.hasTurn = true;
+          flow.deficitInByte += quantumInByte * Math.max(1, weightFunction.applyAsInt(flow.key));
+        }
+        recordSize = flow.records.peekFirst().getHeapSize();
+        if (flow.deficitInByte >= recordSize) {
+          record = flow.records.pollFirst();
+          flow.deficitInByte -= recordSize;
+          flow.freedMemoryInByte += recordSize;
+          if (flow.records.isEmpty()) {
+            // An idle flow doesn't get to accumulate credit, and hands back all its memory
+            activeFlows.pollFirst();
+            flows.remove(flow.key);
+            releaseFreedMemory(flow);
+          } else if (flow.freedMemoryInByte >= notifyDeltaInByte) {
+            /**
+             * It won't notify the blocked {@link #put(Measurable)} threads of the flow until its freed memory exceeds
+             * pre-defined {@link #notifyDeltaInByte}.
+             */
+            releaseFreedMemory(flow);
+          }
+          break;
+        }
+        // The credit of this turn is used up, so the flow moves to the back of the round-robin
+        activeFlows.pollFirst();
+        flow.hasTurn = false;
+        activeFlows.addLast(flow);
+      }
+      size--;
+    } finally {
+      memoryLock.unlock();
+    }
+
+    return record;
+  }
+
+  private void releaseFreedMemory(Flow<T> flow) {
+    flow.memoryUsageInByte -= flow.freedMemoryInByte;
+    memoryUsageInByte.getAndAdd(-flow.freedMemoryInByte);
+    flow.freedMemoryInByte = 0;
+    flow.hasEnoughMemory.signalAll();
+  }
+
+  /**
+   * @return a snapshot of the buffered records, in no particular order across the flows
+   */
+  private List<T> snapshot() {
+    memoryLock.lock();
+    try {
+      List<T> records = new ArrayList<>(size);
+      for (Flow<T> flow: activeFlows) {
+        records.addAll(flow.records);
+      }
+      return records;
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean add(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean offer(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T remove() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T element() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T peek() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int remainingCapacity() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return snapshot().containsAll(c);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public void clear() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int size() {
+    memoryLock.lock();
+    try {
+      return size;
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    memoryLock.lock();
+    try {
+      for (Flow<T> flow: activeFlows) {
+        if (flow.records.contains(o)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return snapshot().iterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return snapshot().toArray();
+  }
+
+  @Override
+  public <T1> T1[] toArray(T1[] a) {
+    return snapshot().toArray(a);
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c, int maxElements) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  private static final class Flow<T> {
+    private final String key;
+    private final ArrayDeque<T> records = new ArrayDeque<>();
+    private final Condition hasEnoughMemory;
+    private long deficitInByte = 0;
+    /**
+     * Whether the flow has already earned its credit for the current turn.
+     */
+    private boolean hasTurn = false;
+    // The memory used by the flow, including its freed memory which hasn't been handed back yet
+    private long memoryUsageInByte = 0;
+    // Accumulated free memory of the flow since last notification
+    private long freedMemoryInByte = 0;
+
+    private Flow(String key, Condition hasEnoughMemory) {
+      this.key = key;
+      this.hasEnoughMemory = hasEnoughMemory;
+    }
+  }
+}
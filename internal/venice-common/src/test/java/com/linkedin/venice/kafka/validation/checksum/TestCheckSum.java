@@ -3,6 +3,7 @@ package com.linkedin.venice.kafka.validation.checksum;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.DataProviderUtils;
 import java.util.Arrays;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -28,4 +29,33 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test(dataProvider = "CheckpointingSupported-CheckSum-Types", dataProviderClass = DataProviderUtils.class)
+  public void testCheckSumRestoredFromEncodedState(CheckSumType checkSumType) {
+    byte[] input = new byte[1000];
+    new Random(1).nextBytes(input);
+    CheckSum checkSum = CheckSum.getInstance(checkSumType);
+    checkSum.update(input, 0, 300);
+    CheckSum restoredCheckSum = CheckSum.getInstance(checkSumType, checkSum.getEncodedState());
+    Assert.assertEquals(restoredCheckSum.getType(), checkSumType);
+
+    // The restored checksum must end up with the same value as the one which consumed all the input
+    checkSum.update(input, 300, 700);
+    restoredCheckSum.update(input, 300, 700);
+    Assert.assertEquals(restoredCheckSum.getCheckSum(), checkSum.getCheckSum());
+  }
+
+  @Test
+  public void testCRC32C() {
+    byte[] input = "123456789".getBytes();
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C);
+    checkSum.update(input);
+    // The standard check value of CRC32C
+    Assert.assertEquals(checkSum.getCheckSum(), new byte[] { 0, 0, 0, 0, (byte) 0xE3, 0x06, (byte) 0x92, (byte) 0x83 });
+
+    CRC32CCheckSum.PureJavaCRC32C pureJavaCRC32C = new CRC32CCheckSum.PureJavaCRC32C();
+    pureJavaCRC32C.update(input, 0, input.length);
+    Assert.assertEquals(pureJavaCRC32C.getValue(), 0xE3069283L);
+    Assert.assertEquals(CheckSumType.valueOf(CheckSumType.CRC32C.getValue()), CheckSumType.CRC32C);
+  }
 }
@@ -1,6 +1,9 @@
 package com.linkedin.venice.partitioner;
 
+import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -68,4 +71,46 @@ public class TestVenicePartitioner {
     partition2 = sumPartitioner.getPartitionId(keyBytes2, 16);
     Assert.assertEquals(partition1, partition2);
   }
+
+  @Test
+  public void testXxHash64MatchesReferenceImplementation() {
+    // Test vectors from the reference implementation, covering the short and the 32-byte stripe paths
+    Assert.assertEquals(hash(""), 0xEF46DB3751D8E999L);
+    Assert.assertEquals(hash("a"), 0xD24EC4F1A98C6E5BL);
+    Assert.assertEquals(hash("abc"), 0x44BC2CF5AD770999L);
+    Assert.assertEquals(hash("Nobody inspects the spammish repetition"), 0xFBCEA83C8A378BF1L);
+  }
+
+  @Test
+  public void testXxHash64PartitionerConsistency() {
+    VenicePartitioner vp = PartitionUtils
+        .getVenicePartitioner(XxHash64VenicePartitioner.class.getName(), VeniceProperties.empty());
+    Assert.assertTrue(vp instanceof XxHash64VenicePartitioner);
+
+    int numPartitions = 7;
+    for (int i = 0; i < 100; i++) {
+      byte[] keyBytes = ("key_" + i + "_with_some_padding_to_cross_the_stripe_size").getBytes(StandardCharsets.UTF_8);
+      int expected = (int) Long
+          .remainderUnsigned(XxHash64VenicePartitioner.hash(keyBytes, 0, keyBytes.length, 0), numPartitions);
+      Assert.assertEquals(vp.getPartitionId(keyBytes, numPartitions), expected);
+
+      byte[] paddedKeyBytes = new byte[keyBytes.length + 3];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 2, keyBytes.length);
+      Assert.assertEquals(vp.getPartitionId(paddedKeyBytes, 2, keyBytes.length, numPartitions), expected);
+      Assert.assertEquals(
+          vp.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 2, keyBytes.length).slice(), numPartitions),
+          expected);
+
+      ByteBuffer directKeyBuffer = ByteBuffer.allocateDirect(keyBytes.length);
+      directKeyBuffer.put(keyBytes);
+      directKeyBuffer.flip();
+      Assert.assertEquals(vp.getPartitionId(directKeyBuffer, numPartitions), expected);
+      Assert.assertEquals(directKeyBuffer.remaining(), keyBytes.length);
+    }
+  }
+
+  private static long hash(String input) {
+    byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+    return XxHash64VenicePartitioner.hash(bytes, 0, bytes.length, XxHash64VenicePartitioner.SEED);
+  }
 }
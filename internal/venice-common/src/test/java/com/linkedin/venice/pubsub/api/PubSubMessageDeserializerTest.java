@@ -3,6 +3,10 @@ package com.linkedin.venice.pubsub.api;
 import static com.linkedin.venice.pubsub.api.PubSubMessageHeaders.VENICE_TRANSPORT_PROTOCOL_HEADER;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
 import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.kafka.protocol.GUID;
@@ -11,6 +15,7 @@ import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.LazyPubSubMessage;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.serialization.KafkaKeySerializer;
@@ -132,6 +137,40 @@ public class PubSubMessageDeserializerTest {
     assertEquals(message.getPosition(), position);
   }
 
+  @Test
+  public void testLazyDeserializer() {
+    PubSubMessageDeserializer lazyDeserializer = new PubSubMessageDeserializer(
+        new OptimizedKafkaValueSerializer(),
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+        true);
+    KafkaKey key = new KafkaKey(MessageType.PUT, "key".getBytes());
+    KafkaMessageEnvelope value = getDummyValue();
+    byte[] keyBytes = keySerializer.serialize("test", key);
+    byte[] valueBytes = valueSerializer.serialize("test", value);
+    DefaultPubSubMessage message =
+        lazyDeserializer.deserialize(topicPartition, keyBytes, valueBytes, new PubSubMessageHeaders(), position, 12L);
+
+    // The value is only deserialized when accessed, and the heap size must not change when it is
+    assertTrue(message instanceof LazyPubSubMessage);
+    LazyPubSubMessage lazyMessage = (LazyPubSubMessage) message;
+    assertFalse(lazyMessage.isValueDeserialized());
+    assertEquals(message.getKey().getKey(), key.getKey());
+    assertEquals(message.getPosition(), position);
+    assertEquals(message.getPayloadSize(), keyBytes.length + valueBytes.length);
+    int heapSize = message.getHeapSize();
+    assertEquals(message.getValue(), value);
+    assertTrue(lazyMessage.isValueDeserialized());
+    assertSame(message.getValue(), message.getValue());
+    assertEquals(message.getHeapSize(), heapSize);
+
+    // An invalid value only fails when accessed
+    DefaultPubSubMessage invalidMessage = lazyDeserializer
+        .deserialize(topicPartition, keyBytes, "value".getBytes(), new PubSubMessageHeaders(), position, 12L);
+    assertThrows(VeniceMessageException.class, invalidMessage::getValue);
+    lazyDeserializer.close();
+  }
+
   private KafkaMessageEnvelope getDummyValue() {
     KafkaMessageEnvelope value = new KafkaMessageEnvelope();
     value.producerMetadata = new ProducerMetadata();
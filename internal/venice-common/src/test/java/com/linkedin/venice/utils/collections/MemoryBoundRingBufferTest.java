@@ -0,0 +1,239 @@
+package com.linkedin.venice.utils.collections;
+
+import com.linkedin.venice.memory.Measurable;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MemoryBoundRingBufferTest {
+  private static class MeasurableObject implements Measurable {
+    public static final int SIZE = 10;
+    private final int producerId;
+    private final int sequence;
+
+    MeasurableObject() {
+      this(0, 0);
+    }
+
+    MeasurableObject(int producerId, int sequence) {
+      this.producerId = producerId;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int getHeapSize() {
+      return SIZE;
+    }
+  }
+
+  private static Thread startProducer(MemoryBoundRingBuffer<MeasurableObject> buffer) {
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          buffer.put(new MeasurableObject());
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+    return t;
+  }
+
+  @Test
+  public void testSlotCount() {
+    Assert.assertEquals(new MemoryBoundRingBuffer<>(1, 5000, 1000).getSlotCount(), 1);
+    Assert.assertEquals(new MemoryBoundRingBuffer<>(100, 5000, 1000).getSlotCount(), 128);
+    Assert.assertEquals(new MemoryBoundRingBuffer<>(128, 5000, 1000).getSlotCount(), 128);
+    Assert.assertThrows(IllegalArgumentException.class, () -> new MemoryBoundRingBuffer<>(0, 5000, 1000));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new MemoryBoundRingBuffer<>(16, 5000, 6000));
+  }
+
+  @Test
+  public void testPut() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(1024, memoryCap, 1000);
+    Thread t = startProducer(buffer);
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), memoryCap / MeasurableObject.SIZE);
+        Assert.assertEquals(buffer.getMemoryUsage(), memoryCap);
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testPutBoundedBySlotCount() throws InterruptedException {
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(16, 5000, 1000);
+    Thread t = startProducer(buffer);
+    try {
+      // The producer waiting for a free slot has already reserved the memory of its record
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.toArray().length, 16);
+        Assert.assertEquals(buffer.getMemoryUsage(), 17 * MeasurableObject.SIZE);
+      });
+      buffer.take();
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(buffer.toArray().length, 16);
+        Assert.assertEquals(buffer.getMemoryUsage(), 18 * MeasurableObject.SIZE);
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testPutInterruptedWhileFull() throws InterruptedException {
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(16, 5000, 1000);
+    Thread t = startProducer(buffer);
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(buffer.size(), 16);
+        Assert.assertEquals(buffer.getMemoryUsage(), 17 * MeasurableObject.SIZE);
+      });
+      // The producer waiting for a free slot doesn't own a sequence yet, so it can give up its record
+      t.interrupt();
+      t.join(TimeUnit.SECONDS.toMillis(5));
+      Assert.assertFalse(t.isAlive());
+      Assert.assertEquals(buffer.size(), 16);
+      Assert.assertEquals(buffer.getMemoryUsage(), 16 * MeasurableObject.SIZE);
+      for (int i = 0; i < 16; i++) {
+        buffer.take();
+      }
+      Assert.assertTrue(buffer.isEmpty());
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testTake() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(1024, memoryCap, 1000);
+    int objectCnt = memoryCap / MeasurableObject.SIZE;
+    for (int i = 0; i < objectCnt; ++i) {
+      buffer.put(new MeasurableObject());
+    }
+    AtomicInteger objectTakenNum = new AtomicInteger(0);
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          buffer.take();
+          objectTakenNum.addAndGet(1);
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(objectTakenNum.get(), objectCnt);
+        Assert.assertEquals(buffer.size(), 0);
+        Assert.assertTrue(buffer.isEmpty());
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testThrottling() throws InterruptedException {
+    int memoryCap = 5000;
+    int notifyDelta = 1000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(1024, memoryCap, notifyDelta);
+    int objectCntAtMost = memoryCap / MeasurableObject.SIZE;
+    Thread t = startProducer(buffer);
+
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), objectCntAtMost);
+      });
+
+      int previousSize = buffer.size();
+      // Here we need to take out some objects to allow more put
+      int objectCntTakenAtLeast = notifyDelta / MeasurableObject.SIZE;
+      for (int i = 1; i < objectCntTakenAtLeast; ++i) {
+        buffer.take();
+        Assert.assertEquals(buffer.size(), previousSize - 1);
+        --previousSize;
+      }
+      // This will hand the freed memory back, which will allow more puts
+      buffer.take();
+
+      TestUtils.waitForNonDeterministicAssertion(3, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), objectCntAtMost);
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testMultipleProducers() throws InterruptedException {
+    int producerCnt = 8;
+    int objectCntPerProducer = 10000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(64, 1000, 100);
+    List<Thread> producers = new ArrayList<>(producerCnt);
+    for (int producerId = 0; producerId < producerCnt; ++producerId) {
+      int id = producerId;
+      Thread t = new Thread(() -> {
+        try {
+          for (int sequence = 0; sequence < objectCntPerProducer; ++sequence) {
+            buffer.put(new MeasurableObject(id, sequence));
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      t.start();
+      producers.add(t);
+    }
+
+    try {
+      // Each producer's records must be taken exactly once, in the order they were put
+      int[] nextSequences = new int[producerCnt];
+      for (int i = 0; i < producerCnt * objectCntPerProducer; ++i) {
+        MeasurableObject object = buffer.take();
+        Assert.assertEquals(object.sequence, nextSequences[object.producerId]++);
+      }
+      for (int producerId = 0; producerId < producerCnt; ++producerId) {
+        Assert.assertEquals(nextSequences[producerId], objectCntPerProducer);
+      }
+      Assert.assertEquals(buffer.size(), 0);
+    } finally {
+      for (Thread t: producers) {
+        TestUtils.shutdownThread(t);
+      }
+    }
+  }
+
+  @Test
+  public void testContains() throws InterruptedException {
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(16, 5000, 1000);
+    MeasurableObject first = new MeasurableObject();
+    MeasurableObject second = new MeasurableObject();
+    buffer.put(first);
+    buffer.put(second);
+    Assert.assertTrue(buffer.contains(first));
+    Assert.assertTrue(buffer.contains(second));
+
+    Assert.assertSame(buffer.take(), first);
+    Assert.assertFalse(buffer.contains(first));
+    Assert.assertTrue(buffer.contains(second));
+    Assert.assertEquals(buffer.size(), 1);
+  }
+}
@@ -0,0 +1,197 @@
+package com.linkedin.venice.utils.collections;
+
+import com.linkedin.venice.memory.Measurable;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class WeightedFairMemoryBoundQueueTest {
+  private static class MeasurableObject implements Measurable {
+    private final String flow;
+    private final int sequence;
+    private final int size;
+
+    MeasurableObject(String flow, int sequence, int size) {
+      this.flow = flow;
+      this.sequence = sequence;
+      this.size = size;
+    }
+
+    @Override
+    public int getHeapSize() {
+      return size;
+    }
+  }
+
+  private static WeightedFairMemoryBoundQueue<MeasurableObject> createQueue(
+      long memoryCap,
+      long quantum,
+      Map<String, Integer> weights) {
+    return new WeightedFairMemoryBoundQueue<>(
+        memoryCap,
+        10,
+        quantum,
+        record -> record.flow,
+        flow -> weights.getOrDefault(flow, 1));
+  }
+
+  @Test
+  public void testInvalidParams() {
+    Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> new WeightedFairMemoryBoundQueue<MeasurableObject>(100, 200, 10, r -> r.flow, f -> 1));
+    Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> new WeightedFairMemoryBoundQueue<MeasurableObject>(100, 10, 0, r -> r.flow, f -> 1));
+  }
+
+  @Test
+  public void testSharesAreProportionalToWeights() throws InterruptedException {
+    Map<String, Integer> weights = new HashMap<>();
+    weights.put("heavy", 3);
+    WeightedFairMemoryBoundQueue<MeasurableObject> queue = createQueue(100000, 10, weights);
+    // The backlog of the first flow is queued entirely before the others
+    for (int i = 0; i < 100; i++) {
+      queue.put(new MeasurableObject("backlog", i, 10));
+    }
+    for (int i = 0; i < 100; i++) {
+      queue.put(new MeasurableObject("heavy", i, 10));
+      queue.put(new MeasurableObject("light", i, 10));
+    }
+    Assert.assertEquals(queue.size(), 300);
+
+    Map<String, Integer> taken = new HashMap<>();
+    Map<String, Integer> lastSequence = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      MeasurableObject record = queue.take();
+      taken.merge(record.flow, 1, Integer::sum);
+      // The order within each flow is preserved
+      Assert.assertEquals(record.sequence, lastSequence.getOrDefault(record.flow, -1) + 1);
+      lastSequence.put(record.flow, record.sequence);
+    }
+    Assert.assertEquals((int) taken.get("backlog"), 20);
+    Assert.assertEquals((int) taken.get("heavy"), 60);
+    Assert.assertEquals((int) taken.get("light"), 20);
+  }
+
+  @Test
+  public void testSharesAreInBytes() throws InterruptedException {
+    WeightedFairMemoryBoundQueue<MeasurableObject> queue = createQueue(100000, 100, new HashMap<>());
+    for (int i = 0; i < 100; i++) {
+      queue.put(new MeasurableObject("large", i, 100));
+      queue.put(new MeasurableObject("small", i, 10));
+    }
+    long largeBytes = 0, smallBytes = 0;
+    for (int i = 0; i < 55; i++) {
+      MeasurableObject record = queue.take();
+      if (record.flow.equals("large")) {
+        largeBytes += record.getHeapSize();
+      } else {
+        smallBytes += record.getHeapSize();
+      }
+    }
+    Assert.assertEquals(largeBytes, 500);
+    Assert.assertEquals(smallBytes, 500);
+  }
+
+  @Test
+  public void testFlowRejoinsAtTheBackOfTheRoundRobin() throws InterruptedException {
+    Map<String, Integer> weights = new HashMap<>();
+    weights.put("a", 5);
+    WeightedFairMemoryBoundQueue<MeasurableObject> queue = createQueue(100000, 10, weights);
+    queue.put(new MeasurableObject("a", 0, 10));
+    Assert.assertEquals(queue.take().flow, "a");
+    for (int i = 0; i < 2; i++) {
+      queue.put(new MeasurableObject("b", i, 10));
+    }
+    queue.put(new MeasurableObject("a", 1, 10));
+    queue.put(new MeasurableObject("a", 2, 10));
+    // The flow "a" ran out of records, so it rejoins the round-robin behind "b"
+    Assert.assertEquals(queue.take().flow, "b");
+    Assert.assertEquals(queue.take().flow, "a");
+    Assert.assertEquals(queue.take().flow, "a");
+    Assert.assertEquals(queue.take().flow, "b");
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testContains() throws InterruptedException {
+    WeightedFairMemoryBoundQueue<MeasurableObject> queue = createQueue(100000, 10, new HashMap<>());
+    MeasurableObject record = new MeasurableObject("a", 0, 10);
+    queue.put(record);
+    queue.put(new MeasurableObject("b", 0, 10));
+    Assert.assertTrue(queue.contains(record));
+    Assert.assertEquals(queue.toArray().length, 2);
+    Assert.assertSame(queue.take(), record);
+    Assert.assertFalse(queue.contains(record));
+  }
+
+  @Test
+  public void testPutBoundedByMemory() throws InterruptedException {
+    WeightedFairMemoryBoundQueue<MeasurableObject> queue = createQueue(100, 10, new HashMap<>());
+    Thread t = new Thread(() -> {
+      int sequence = 0;
+      while (true) {
+        try {
+          queue.put(new MeasurableObject("a", sequence++, 10));
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(queue.size(), 10);
+        Assert.assertEquals(queue.getMemoryUsage(), 100);
+      });
+      // Taking a record frees up enough memory for the producer to queue another one
+      Assert.assertEquals(queue.take().sequence, 0);
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(queue.size(), 10);
+        Assert.assertEquals(queue.getMemoryUsage(), 100);
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testBackloggedFlowOnlyBlocksItself() throws InterruptedException {
+    WeightedFairMemoryBoundQueue<MeasurableObject> queue = createQueue(100, 10, new HashMap<>());
+    Thread t = new Thread(() -> {
+      int sequence = 0;
+      while (true) {
+        try {
+          queue.put(new MeasurableObject("backlog", sequence++, 10));
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(queue.size(), 10);
+        Assert.assertEquals(queue.remainingMemoryCapacityInByte(), 0);
+      });
+      // The memory bound of the backlogged flow doesn't apply to the others
+      queue.put(new MeasurableObject("other", 0, 10));
+      Assert.assertEquals(queue.size(), 11);
+      Assert.assertEquals(queue.getMemoryUsage(), 110);
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+    // A flow hands back all its memory once it runs out of records
+    while (!queue.isEmpty()) {
+      queue.take();
+    }
+    Assert.assertEquals(queue.getMemoryUsage(), 0);
+  }
+}
@@ -0,0 +1,93 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the cost of the {@link CheckSumType}s used by the Data Integrity Validation, which updates the checksum of
+ * the segment with the message type, key, schema id and value of every record, like
+ * {@link com.linkedin.venice.kafka.validation.Segment#addToCheckSum}.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class CheckSumBenchmark {
+  private static final int KEY_SIZE = 32;
+
+  @Param({ "MD5", "ADHASH", "CRC32", "ADLER32", "CRC32C" })
+  protected CheckSumType checkSumType;
+
+  /**
+   * Testing with different value sizes: 100 bytes (small records), 1KB and 10KB (typical batch pushes), 100KB (large
+   * records)
+   */
+  @Param({ "100", "1024", "10240", "102400" })
+  protected int valueSize;
+
+  private CheckSum checkSum;
+  private byte[] key;
+  private byte[] value;
+
+  @Setup
+  public void setUp() {
+    checkSum = CheckSum.getInstance(checkSumType);
+    Random random = new Random(0);
+    key = new byte[KEY_SIZE];
+    random.nextBytes(key);
+    value = new byte[valueSize];
+    random.nextBytes(value);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void addRecordToCheckSum() {
+    checkSum.update(0);
+    checkSum.update(key);
+    checkSum.update(1);
+    checkSum.update(value, 0, value.length);
+  }
+
+  /**
+   * Finalizes the checksum after a segment of 100 records, since some types, like {@link CheckSumType#MD5}, do part of
+   * their work at the end of the segment.
+   */
+  @Benchmark
+  public void checkSumOfSegment(Blackhole bh) {
+    checkSum.reset();
+    for (int i = 0; i < 100; i++) {
+      addRecordToCheckSum();
+    }
+    bh.consume(checkSum.getCheckSum());
+  }
+}
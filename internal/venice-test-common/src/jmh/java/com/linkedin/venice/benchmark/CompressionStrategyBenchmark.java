@@ -0,0 +1,113 @@
+package com.linkedin.venice.benchmark;
+
+import com.github.luben.zstd.Zstd;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the decompression throughput of every {@link CompressionStrategy} available on the read path.
+ *
+ * Unlike {@link ZstdDecompressionBenchmark}, the payloads are built out of a small vocabulary of tokens, so that they
+ * are compressible like typical Avro records. The compression ratio of each strategy is printed during setup.
+ */
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompressionStrategyBenchmark {
+  private static final int NUMBER_OF_PAYLOADS = 10_000;
+  private static final int VOCABULARY_SIZE = 256;
+  private static final int TOKEN_SIZE = 8;
+
+  @Param({ "GZIP", "ZSTD_WITH_DICT", "LZ4" })
+  private String compressionStrategy;
+
+  @Param({ "500", "65536" })
+  private int payloadSize;
+
+  private CompressorFactory compressorFactory;
+  private VeniceCompressor compressor;
+  private ByteBuffer[] compressedPayloads;
+  private final Random rd = new Random(0);
+
+  @Setup
+  public void setUp() throws Exception {
+    this.compressorFactory = new CompressorFactory();
+    CompressionStrategy strategy = CompressionStrategy.valueOf(compressionStrategy);
+    if (strategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      this.compressor = compressorFactory.createCompressorWithDictionary(
+          ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData(),
+          Zstd.maxCompressionLevel());
+    } else {
+      this.compressor = compressorFactory.getCompressor(strategy);
+    }
+
+    byte[][] vocabulary = new byte[VOCABULARY_SIZE][TOKEN_SIZE];
+    for (byte[] token: vocabulary) {
+      rd.nextBytes(token);
+    }
+    this.compressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
+    long totalCompressedSize = 0;
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
+      byte[] data = new byte[payloadSize];
+      for (int offset = 0; offset < payloadSize; offset += TOKEN_SIZE) {
+        byte[] token = vocabulary[rd.nextInt(VOCABULARY_SIZE)];
+        System.arraycopy(token, 0, data, offset, Math.min(TOKEN_SIZE, payloadSize - offset));
+      }
+      this.compressedPayloads[i] = compressor.compress(ByteBuffer.wrap(data), 0);
+      totalCompressedSize += compressedPayloads[i].remaining();
+    }
+    System.out.printf(
+        "%nCompression ratio for %s with payload size %d: %.3f%n",
+        compressionStrategy,
+        payloadSize,
+        (double) payloadSize * NUMBER_OF_PAYLOADS / totalCompressedSize);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    compressor.close();
+    compressorFactory.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureDecompression(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
+      bh.consume(compressor.decompress(compressedPayloads[i]));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CompressionStrategyBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -1,14 +1,19 @@
 package com.linkedin.venice.benchmark;
 
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.SERVER_LAZY_KME_DESERIALIZATION_ENABLED;
 import static com.linkedin.venice.integration.utils.ServiceFactory.getGenericAvroDaVinciClient;
 
 import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.davinci.client.DaVinciConfig;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.integration.utils.DaVinciTestContext;
 import com.linkedin.venice.integration.utils.ServiceFactory;
 import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -25,6 +30,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -38,14 +44,19 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 
+/**
+ * Each operation is the ingestion of one record, so that the time and the allocation ("gc.alloc.rate.norm") reported
+ * with the {@link GCProfiler} are per record.
+ */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 @Fork(value = 1)
 @Warmup(iterations = 1)
 @Measurement(iterations = 10)
+@OperationsPerInvocation(IngestionBenchmarkInSingleProcess.NUM_RECORDS)
 public class IngestionBenchmarkInSingleProcess {
-  private static final int NUM_RECORDS = 100_000;
+  static final int NUM_RECORDS = 100_000;
   private static final String FLOAT_VECTOR_VALUE_SCHEMA = "{" + "  \"namespace\" : \"example.avro\",  "
       + "  \"type\": \"record\",   " + "  \"name\": \"FloatVector\",     " + "  \"fields\": [           "
       + "       { \"name\": \"value\", \"type\": {\"type\": \"array\", \"items\": \"float\"} }  " + "  ] " + " } ";
@@ -59,6 +70,12 @@ public class IngestionBenchmarkInSingleProcess {
   @Param({ "FLOAT_VECTOR" })
   protected String valueType;
 
+  /**
+   * Whether the {@link com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope} of each record is deserialized lazily
+   */
+  @Param({ "false", "true" })
+  protected boolean lazyKMEDeserialization;
+
   @Setup
   public void setUp() throws Exception {
     Utils.thisIsLocalhost();
@@ -87,8 +104,12 @@ public class IngestionBenchmarkInSingleProcess {
     try {
       // Delete and recreate data base folder.
       FileUtils.deleteDirectory(dataBasePath);
+      VeniceProperties backendConfig = DaVinciTestContext.getDaVinciPropertyBuilder(cluster.getZk().getAddress())
+          .put(DATA_BASE_PATH, dataBasePath.toString())
+          .put(SERVER_LAZY_KME_DESERIALIZATION_ENABLED, lazyKMEDeserialization)
+          .build();
       DaVinciClient<Long, GenericRecord> client =
-          getGenericAvroDaVinciClient(storeName, cluster, dataBasePath.toString());
+          getGenericAvroDaVinciClient(storeName, cluster, new DaVinciConfig(), backendConfig);
       // Ingest data to local folder.
       client.subscribeAll().get(60, TimeUnit.SECONDS);
       client.close();
@@ -0,0 +1,153 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.memory.Measurable;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.collections.MemoryBoundBlockingQueue;
+import com.linkedin.venice.utils.collections.MemoryBoundQueue;
+import com.linkedin.venice.utils.collections.MemoryBoundRingBuffer;
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the {@link MemoryBoundQueue} implementations used by the drainers of
+ * {@link com.linkedin.davinci.kafka.consumer.StoreBufferService}, with 1 to 32 producer threads putting records into
+ * a single queue, which is drained by a single consumer thread like a drainer.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class MemoryBoundQueueBenchmark {
+  private static final long MEMORY_CAPACITY_IN_BYTE = 100 * 1024 * 1024;
+  private static final long NOTIFY_DELTA_IN_BYTE = 10 * 1024 * 1024;
+  private static final int SLOT_COUNT = 16 * 1024;
+
+  /**
+   * {@link BlockingQueueType#LINKED_BLOCKING_QUEUE} for {@link MemoryBoundBlockingQueue}, and
+   * {@link BlockingQueueType#MEMORY_BOUND_RING_BUFFER} for {@link MemoryBoundRingBuffer}
+   */
+  @Param({ "LINKED_BLOCKING_QUEUE", "MEMORY_BOUND_RING_BUFFER" })
+  protected BlockingQueueType queueType;
+
+  /**
+   * Testing with different record sizes: 100 bytes (small puts), 10KB (big puts, which hit the memory bound sooner)
+   */
+  @Param({ "100", "10240" })
+  protected int recordSize;
+
+  private MemoryBoundQueue<Record> queue;
+  private Record record;
+  private Thread consumer;
+  private final AtomicLong consumedCount = new AtomicLong();
+
+  private static class Record implements Measurable {
+    private final int size;
+
+    Record(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public int getHeapSize() {
+      return size;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    if (queueType == BlockingQueueType.MEMORY_BOUND_RING_BUFFER) {
+      queue = new MemoryBoundRingBuffer<>(SLOT_COUNT, MEMORY_CAPACITY_IN_BYTE, NOTIFY_DELTA_IN_BYTE);
+    } else {
+      queue = new MemoryBoundBlockingQueue<>(MEMORY_CAPACITY_IN_BYTE, NOTIFY_DELTA_IN_BYTE);
+    }
+    record = new Record(recordSize);
+    consumer = new Thread(() -> {
+      try {
+        while (true) {
+          queue.take();
+          consumedCount.incrementAndGet();
+        }
+      } catch (InterruptedException e) {
+        // Stopped by the tear down
+      }
+    }, "memory-bound-queue-consumer");
+    consumer.start();
+  }
+
+  @TearDown
+  public void cleanUp() throws InterruptedException {
+    TestUtils.shutdownThread(consumer);
+    System.out.println();
+    System.out.println(
+        "Queue type: " + queueType + "; Record size: " + recordSize + "; Consumed records: " + consumedCount.get());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(MemoryBoundQueueBenchmark.class.getSimpleName())
+            // .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void putWithProducerCount_01() throws InterruptedException {
+    queue.put(record);
+  }
+
+  @Benchmark
+  @Threads(2)
+  public void putWithProducerCount_02() throws InterruptedException {
+    queue.put(record);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void putWithProducerCount_04() throws InterruptedException {
+    queue.put(record);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void putWithProducerCount_08() throws InterruptedException {
+    queue.put(record);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void putWithProducerCount_16() throws InterruptedException {
+    queue.put(record);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void putWithProducerCount_32() throws InterruptedException {
+    queue.put(record);
+  }
+}
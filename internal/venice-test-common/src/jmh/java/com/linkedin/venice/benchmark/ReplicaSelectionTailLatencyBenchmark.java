@@ -0,0 +1,124 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.fastclient.meta.AbstractClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.ClientRoutingStrategyType;
+import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
+import com.linkedin.venice.fastclient.meta.InstanceHealthMonitorConfig;
+import com.linkedin.venice.fastclient.meta.LeastExpectedLatencyClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.LeastLoadedClientRoutingStrategy;
+import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the latency distribution of the replica selection strategies of the fast client, when one of the replicas
+ * is much slower than the others, like a storage node with a noisy neighbor or a long GC pause. Each replica is
+ * simulated by a fixed number of workers sleeping for the service time, so the requests queue up on a replica once all
+ * its workers are busy, and the percentiles reported by the sample time mode show how often the slow replica is picked.
+ *
+ * The router picks the replicas with the same {@link com.linkedin.venice.utils.LatencyEwmaEstimator} when
+ * {@link com.linkedin.venice.ConfigKeys#ROUTER_LATENCY_AWARE_REPLICA_SELECTION_ENABLED} is enabled.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class ReplicaSelectionTailLatencyBenchmark {
+  private static final int REPLICA_COUNT = 5;
+  private static final int WORKER_COUNT_PER_REPLICA = 4;
+  private static final long SERVICE_TIME_MICROS = 500;
+  private static final int HTTP_STATUS_OK = 200;
+
+  @Param({ "LEAST_LOADED", "LEAST_EXPECTED_LATENCY" })
+  private ClientRoutingStrategyType strategyType;
+
+  /**
+   * How many times slower the slow replica is than the other replicas.
+   */
+  @Param({ "10" })
+  private int slowdownFactor;
+
+  private final List<String> replicas = new ArrayList<>();
+  private final Map<String, Semaphore> replicaWorkers = new HashMap<>();
+  private final Map<String, Long> replicaServiceTimes = new HashMap<>();
+  private final AtomicLong requestId = new AtomicLong();
+  private InstanceHealthMonitor instanceHealthMonitor;
+  private AbstractClientRoutingStrategy routingStrategy;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < REPLICA_COUNT; i++) {
+      String replica = "https://replica" + i + ":1234";
+      replicas.add(replica);
+      replicaWorkers.put(replica, new Semaphore(WORKER_COUNT_PER_REPLICA));
+      replicaServiceTimes.put(replica, i == 0 ? SERVICE_TIME_MICROS * slowdownFactor : SERVICE_TIME_MICROS);
+    }
+    // No replica should be blocked or timed out, so only the selection strategy matters
+    InstanceHealthMonitorConfig config = InstanceHealthMonitorConfig.builder()
+        .setRoutingRequestDefaultTimeoutMS(TimeUnit.MINUTES.toMillis(1))
+        .setRoutingPendingRequestCounterInstanceBlockThreshold(Integer.MAX_VALUE)
+        .build();
+    instanceHealthMonitor = new InstanceHealthMonitor(config);
+    switch (strategyType) {
+      case LEAST_LOADED:
+        routingStrategy = new LeastLoadedClientRoutingStrategy(instanceHealthMonitor);
+        break;
+      case LEAST_EXPECTED_LATENCY:
+        routingStrategy = new LeastExpectedLatencyClientRoutingStrategy(instanceHealthMonitor);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported routing strategy type: " + strategyType);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    instanceHealthMonitor.close();
+  }
+
+  @Benchmark
+  public void measureRequestLatency() throws InterruptedException {
+    // The strategies might reorder the given replicas
+    String replica = routingStrategy.getReplicas(requestId.incrementAndGet(), -1, new ArrayList<>(replicas));
+    ChainedCompletableFuture<Integer, Integer> requestFuture =
+        instanceHealthMonitor.trackHealthBasedOnRequestToInstance(replica);
+    Semaphore workers = replicaWorkers.get(replica);
+    workers.acquire();
+    try {
+      TimeUnit.MICROSECONDS.sleep(replicaServiceTimes.get(replica));
+    } finally {
+      workers.release();
+    }
+    requestFuture.getOriginalFuture().complete(HTTP_STATUS_OK);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ReplicaSelectionTailLatencyBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,131 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_CONCURRENT_WRITE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.RocksDBThrottler;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Measures the write throughput of a single {@link RocksDBStoragePartition} with an increasing number of writer
+ * threads, comparing the default synchronized write path against the concurrent write mode enabled by
+ * {@link RocksDBServerConfig#ROCKSDB_CONCURRENT_WRITE_ENABLED}.
+ *
+ * Each writer thread works on its own key range, which mirrors the per-key ordering provided by the key-level locks
+ * in the ingestion path.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RocksDBConcurrentWriteBenchmark {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final int KEY_SPACE_PER_THREAD = 1_000_000;
+  private static final int VALUE_SIZE = 200;
+
+  @Param({ "false", "true" })
+  private boolean concurrentWriteEnabled;
+
+  private RocksDBStoragePartition storagePartition;
+  private String storeDir;
+
+  @State(Scope.Thread)
+  public static class WriterState {
+    private final byte[] value = new byte[VALUE_SIZE];
+    private int keyOffset;
+    private int cursor = 0;
+
+    @Setup
+    public void setUp() {
+      ThreadLocalRandom.current().nextBytes(value);
+      keyOffset = ThreadLocalRandom.current().nextInt(1024) * KEY_SPACE_PER_THREAD;
+    }
+
+    byte[] nextKey() {
+      cursor = (cursor + 1) % KEY_SPACE_PER_THREAD;
+      return ("key_" + (keyOffset + cursor)).getBytes();
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    RocksDB.loadLibrary();
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    storeDir = new File(DATA_BASE_DIR, storeName).getAbsolutePath();
+    if (!new File(storeDir).mkdirs()) {
+      throw new VeniceException("Failed to mkdirs for path: " + storeDir);
+    }
+    Properties properties = new Properties();
+    properties.put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString());
+    properties.put(ROCKSDB_CONCURRENT_WRITE_ENABLED, Boolean.toString(concurrentWriteEnabled));
+    VeniceProperties veniceServerProperties =
+        RocksDBLookupApiBenchmark.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    partitionConfig.setDeferredWrite(false);
+    storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties)),
+        DATA_BASE_DIR,
+        null,
+        new RocksDBThrottler(3),
+        new RocksDBServerConfig(veniceServerProperties));
+  }
+
+  @TearDown
+  public void tearDown() {
+    storagePartition.drop();
+    File file = new File(storeDir);
+    if (file.exists() && !file.delete()) {
+      throw new VeniceException("Failed to remove path: " + storeDir);
+    }
+  }
+
+  @Benchmark
+  public void measurePut(WriterState writerState, Blackhole bh) {
+    byte[] key = writerState.nextKey();
+    storagePartition.put(key, writerState.value);
+    bh.consume(key);
+  }
+
+  public static void main(String[] args) throws Exception {
+    for (int threads: new int[] { 1, 2, 4, 8, 16 }) {
+      Options opt = new OptionsBuilder().include(RocksDBConcurrentWriteBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+      new Runner(opt).run();
+    }
+  }
+}
@@ -1,5 +1,13 @@
 package com.linkedin.venice.benchmark;
 
+import com.linkedin.venice.client.store.streaming.MultiGetResponseRecordV1ChunkedDeserializer;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -40,6 +48,12 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 public class SerdeBenchmark {
   private static final int NUM_QUERIES = 100_000;
   private static final int NUM_THREADS = 1;
+  private static final int MULTI_GET_KEY_COUNT = 1_000;
+  // The size of the chunks returned by the transport layer for streaming responses
+  private static final int MULTI_GET_RESPONSE_CHUNK_SIZE = 8 * 1024;
+  private static final RecordDeserializer<MultiGetResponseRecordV1> MULTI_GET_RESPONSE_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class);
 
   /**
    * Testing with different value size
@@ -57,8 +71,29 @@ public class SerdeBenchmark {
     return valueSize + (serializeOnce ? "_serializeOnce" : "") + (accessData ? "_accessData" : "");
   }
 
+  private byte[] serializedMultiGetResponse;
+  private List<ByteBuffer> multiGetResponseChunks;
+
   @Setup
   public void setUp() {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(MULTI_GET_KEY_COUNT);
+    for (int i = 0; i < MULTI_GET_KEY_COUNT; i++) {
+      byte[] value = new byte[valueSize];
+      ThreadLocalRandom.current().nextBytes(value);
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.value = ByteBuffer.wrap(value);
+      record.schemaId = 1;
+      records.add(record);
+    }
+    serializedMultiGetResponse = FastSerializerDeserializerFactory
+        .getFastAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$)
+        .serializeObjects(records);
+    multiGetResponseChunks = new ArrayList<>();
+    for (int offset = 0; offset < serializedMultiGetResponse.length; offset += MULTI_GET_RESPONSE_CHUNK_SIZE) {
+      int length = Math.min(MULTI_GET_RESPONSE_CHUNK_SIZE, serializedMultiGetResponse.length - offset);
+      multiGetResponseChunks.add(ByteBuffer.wrap(serializedMultiGetResponse, offset, length).slice());
+    }
   }
 
   @TearDown
@@ -91,4 +126,52 @@ public class SerdeBenchmark {
         NUM_QUERIES,
         NUM_THREADS);
   }
+
+  /**
+   * Decodes a streaming multi-get response from array-backed chunks, like the ones received by the fast client.
+   */
+  @Benchmark
+  @OperationsPerInvocation(MULTI_GET_KEY_COUNT)
+  public void multiGetResponseChunkedDecodingBenchmarkTest(Blackhole bh) {
+    decodeMultiGetResponseChunks(false, bh);
+  }
+
+  /**
+   * Decodes a streaming multi-get response from read-only chunks, like the ones received through R2, whose values
+   * have to be copied.
+   */
+  @Benchmark
+  @OperationsPerInvocation(MULTI_GET_KEY_COUNT)
+  public void multiGetResponseReadOnlyChunkedDecodingBenchmarkTest(Blackhole bh) {
+    decodeMultiGetResponseChunks(true, bh);
+  }
+
+  /**
+   * Baseline deserializing the whole multi-get response at once with fast-avro.
+   */
+  @Benchmark
+  @OperationsPerInvocation(MULTI_GET_KEY_COUNT)
+  public void multiGetResponseFullDeserializationBenchmarkTest(Blackhole bh) {
+    for (MultiGetResponseRecordV1 record: MULTI_GET_RESPONSE_DESERIALIZER
+        .deserializeObjects(serializedMultiGetResponse)) {
+      consumeMultiGetResponseRecord(record, bh);
+    }
+  }
+
+  private void decodeMultiGetResponseChunks(boolean readOnly, Blackhole bh) {
+    MultiGetResponseRecordV1ChunkedDeserializer chunkedDeserializer = new MultiGetResponseRecordV1ChunkedDeserializer();
+    for (ByteBuffer chunk: multiGetResponseChunks) {
+      chunkedDeserializer.write(readOnly ? chunk.asReadOnlyBuffer() : chunk.duplicate());
+      for (MultiGetResponseRecordV1 record: chunkedDeserializer.consume()) {
+        consumeMultiGetResponseRecord(record, bh);
+      }
+    }
+  }
+
+  private void consumeMultiGetResponseRecord(MultiGetResponseRecordV1 record, Blackhole bh) {
+    if (accessData) {
+      bh.consume(record.value.get(record.value.position()));
+    }
+    bh.consume(record);
+  }
 }
@@ -0,0 +1,132 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.utils.concurrent.BlockingQueueType.LINKED_BLOCKING_QUEUE;
+
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import com.linkedin.venice.utils.concurrent.VirtualThreadPerTaskExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the latency distribution of a fixed pool of platform threads against the virtual-thread executor enabled by
+ * {@link com.linkedin.venice.ConfigKeys#SERVER_VIRTUAL_THREAD_EXECUTOR_ENABLED}, under a mix of short CPU-bound
+ * requests and requests blocking on a simulated disk read, like the storage execution pool serving a partially cached
+ * data set. The percentiles reported by the sample time mode show how the blocking requests hold up the CPU-bound ones.
+ *
+ * The storage reads are RocksDB JNI calls, which pin the carrier thread of a virtual thread for their whole duration,
+ * rather than unmounting it like a blocking Java call does. The simulated disk read therefore busy-waits, so that it
+ * holds a carrier thread just like a real read would, and the virtual threads serving disk reads are limited to roughly
+ * the number of carrier threads, i.e. the number of cores.
+ *
+ * The virtual-thread executor requires JDK 21+, and falls back to platform threads otherwise.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+public class ServerExecutorTailLatencyBenchmark {
+  private static final int PLATFORM_THREAD_COUNT = 16;
+  private static final int VIRTUAL_THREAD_MAX_CONCURRENCY = 256;
+  private static final int QUEUE_CAPACITY = 1_000_000;
+  private static final long DISK_READ_MICROS = 500;
+  private static final int CPU_WORK_ITERATIONS = 2_000;
+
+  @Param({ "PLATFORM", "VIRTUAL" })
+  private String executorType;
+
+  /**
+   * Percentage of the requests blocking on a simulated disk read.
+   */
+  @Param({ "10", "50" })
+  private int diskBoundPercentage;
+
+  private ThreadPoolExecutor executor;
+
+  @Setup
+  public void setUp() {
+    if (executorType.equals("VIRTUAL") && !VirtualThreadPerTaskExecutor.isSupported()) {
+      throw new IllegalStateException("Virtual threads require JDK 21+");
+    }
+    executor = executorType.equals("VIRTUAL")
+        ? ThreadPoolFactory.createVirtualThreadPerTaskExecutor(
+            VIRTUAL_THREAD_MAX_CONCURRENCY,
+            PLATFORM_THREAD_COUNT,
+            "BenchmarkVirtualThread",
+            null,
+            QUEUE_CAPACITY,
+            LINKED_BLOCKING_QUEUE)
+        : ThreadPoolFactory.createThreadPool(
+            PLATFORM_THREAD_COUNT,
+            "BenchmarkPlatformThread",
+            null,
+            QUEUE_CAPACITY,
+            LINKED_BLOCKING_QUEUE);
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void measureRequestLatency(Blackhole bh) {
+    boolean diskBound = ThreadLocalRandom.current().nextInt(100) < diskBoundPercentage;
+    CompletableFuture<Long> response = CompletableFuture.supplyAsync(() -> {
+      if (diskBound) {
+        simulateDiskRead();
+      }
+      return simulateCpuWork();
+    }, executor);
+    bh.consume(response.join());
+  }
+
+  /**
+   * Busy-waits rather than sleeping, since a sleeping virtual thread would release its carrier thread, which a RocksDB
+   * JNI call doesn't.
+   */
+  private static void simulateDiskRead() {
+    long deadlineNs = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(DISK_READ_MICROS);
+    while (System.nanoTime() < deadlineNs) {
+      // Pin the current thread, like a native call would
+    }
+  }
+
+  private static long simulateCpuWork() {
+    long hash = ThreadLocalRandom.current().nextLong();
+    for (int i = 0; i < CPU_WORK_ITERATIONS; i++) {
+      hash ^= hash << 13;
+      hash ^= hash >>> 7;
+      hash ^= hash << 17;
+    }
+    return hash;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ServerExecutorTailLatencyBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,129 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Compares the single-get lookup path reading values into heap byte arrays against the one reading them into pooled
+ * direct buffers, which is enabled by {@link com.linkedin.venice.ConfigKeys#SERVER_SINGLE_GET_DIRECT_BUFFER_ENABLED}.
+ *
+ * The bytes allocated per request are reported as "gc.alloc.rate.norm" by the {@link GCProfiler}. The direct buffer
+ * is released after each lookup, like Netty does once the response is written out.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SingleGetDirectBufferBenchmark {
+  private static final int PARTITION = 0;
+  private static final int ROW_CNT = 100_000;
+  private static final int DIRECT_BUFFER_SIZE = 16 * 1024;
+
+  @Param({ "100", "1000", "10000" })
+  private int valueSize;
+
+  private RocksDBStorageEngineFactory storageEngineFactory;
+  private StorageEngine storageEngine;
+  private byte[][] keys;
+
+  @State(Scope.Thread)
+  public static class ReaderState {
+    private int cursor = 0;
+
+    byte[] nextKey(byte[][] keys) {
+      cursor = (cursor + 1) % keys.length;
+      return keys[cursor];
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    RocksDB.loadLibrary();
+    String storeVersionName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    Properties properties = new Properties();
+    properties.put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString());
+    VeniceProperties veniceServerProperties =
+        RocksDBLookupApiBenchmark.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    storageEngineFactory = new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    storageEngine = storageEngineFactory
+        .getStorageEngine(new VeniceStoreVersionConfig(storeVersionName, veniceServerProperties));
+    storageEngine.addStoragePartition(PARTITION);
+
+    keys = new byte[ROW_CNT][];
+    byte[] value = new byte[valueSize];
+    for (int i = 0; i < ROW_CNT; ++i) {
+      keys[i] = ("key_" + i).getBytes();
+      ThreadLocalRandom.current().nextBytes(value);
+      storageEngine.put(PARTITION, keys[i], ValueRecord.create(1, value).serialize());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    storageEngine.drop();
+    storageEngineFactory.close();
+  }
+
+  @Benchmark
+  public void measureHeapSingleGet(ReaderState readerState, Blackhole bh) {
+    ValueRecord valueRecord = SingleGetChunkingAdapter
+        .get(storageEngine, PARTITION, readerState.nextKey(keys), false, NoOpReadResponseStats.SINGLETON);
+    bh.consume(valueRecord.getData());
+  }
+
+  @Benchmark
+  public void measureDirectBufferSingleGet(ReaderState readerState, Blackhole bh) {
+    ValueRecord valueRecord = SingleGetChunkingAdapter.getIntoDirectBuffer(
+        storageEngine,
+        PARTITION,
+        readerState.nextKey(keys),
+        PooledByteBufAllocator.DEFAULT,
+        DIRECT_BUFFER_SIZE,
+        NoOpReadResponseStats.SINGLETON);
+    bh.consume(valueRecord.getData());
+    valueRecord.getData().release();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(SingleGetDirectBufferBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
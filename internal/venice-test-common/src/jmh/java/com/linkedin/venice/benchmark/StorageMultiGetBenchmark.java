@@ -0,0 +1,132 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.MultiGetDirectBuffers;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Compares looking up the keys of a batch get one by one against looking them up with batched storage engine
+ * MultiGet calls, which is enabled by {@link com.linkedin.venice.ConfigKeys#SERVER_STORAGE_MULTI_GET_ENABLED}.
+ *
+ * Each invocation looks up a random set of keys of a single partition, like the server does after grouping the keys of
+ * a request by partition.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StorageMultiGetBenchmark {
+  private static final int PARTITION = 0;
+  private static final int ROW_CNT = 1_000_000;
+  private static final int VALUE_SIZE = 200;
+  private static final int MULTI_GET_BATCH_SIZE = 64;
+
+  @Param({ "10", "100", "500" })
+  private int keyCount;
+
+  private RocksDBStorageEngineFactory storageEngineFactory;
+  private StorageEngine storageEngine;
+
+  @State(Scope.Thread)
+  public static class ReaderState {
+    final MultiGetDirectBuffers directBuffers = new MultiGetDirectBuffers();
+    final List<ByteBuffer> keys = new ArrayList<>();
+
+    List<ByteBuffer> nextKeys(int keyCount) {
+      keys.clear();
+      for (int i = 0; i < keyCount; i++) {
+        keys.add(ByteBuffer.wrap(("key_" + ThreadLocalRandom.current().nextInt(ROW_CNT)).getBytes()));
+      }
+      return keys;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    RocksDB.loadLibrary();
+    String storeVersionName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    Properties properties = new Properties();
+    properties.put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString());
+    VeniceProperties veniceServerProperties =
+        RocksDBLookupApiBenchmark.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    storageEngineFactory = new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    storageEngine = storageEngineFactory
+        .getStorageEngine(new VeniceStoreVersionConfig(storeVersionName, veniceServerProperties));
+    storageEngine.addStoragePartition(PARTITION);
+
+    byte[] value = new byte[VALUE_SIZE];
+    for (int i = 0; i < ROW_CNT; ++i) {
+      ThreadLocalRandom.current().nextBytes(value);
+      storageEngine.put(PARTITION, ("key_" + i).getBytes(), ValueRecord.create(1, value).serialize());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    storageEngine.drop();
+    storageEngineFactory.close();
+  }
+
+  @Benchmark
+  public void measurePerKeyLookup(ReaderState readerState, Blackhole bh) {
+    for (ByteBuffer key: readerState.nextKeys(keyCount)) {
+      bh.consume(
+          BatchGetChunkingAdapter.get(storageEngine, PARTITION, key, false, NoOpReadResponseStats.SINGLETON));
+    }
+  }
+
+  @Benchmark
+  public void measureMultiGetLookup(ReaderState readerState, Blackhole bh) {
+    BatchGetChunkingAdapter.getInBatch(
+        storageEngine,
+        PARTITION,
+        readerState.nextKeys(keyCount),
+        false,
+        MULTI_GET_BATCH_SIZE,
+        readerState.directBuffers,
+        NoOpReadResponseStats.SINGLETON,
+        (record, index) -> bh.consume(record));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(StorageMultiGetBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
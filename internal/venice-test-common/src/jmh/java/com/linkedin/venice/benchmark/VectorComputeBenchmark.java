@@ -0,0 +1,186 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.ReadComputeOperator;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the read compute operators on float vectors, as evaluated by the server for each key of a compute request.
+ * The value vector is either a primitive list, as decoded by the fast-avro deserializers, or a list of boxed floats,
+ * as decoded by the vanilla Avro deserializers. The context is shared by all the invocations, like it is shared by all
+ * the keys of a request, so the request parameter is only converted into an array once.
+ *
+ * {@link #measureComputeWithValueCopy} evaluates the same operation after copying the value vector into a reused
+ * array first, which is the cost the operators avoid by reading the value vector in place.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorComputeBenchmark {
+  private static final String VECTOR_FIELD_NAME = "embedding";
+  private static final String RESULT_FIELD_NAME = "result";
+
+  @Param({ "64", "256", "1024" })
+  private int vectorSize;
+
+  @Param({ "DOT_PRODUCT", "COSINE_SIMILARITY", "HADAMARD_PRODUCT" })
+  private ComputeOperationType operationType;
+
+  @Param({ "true", "false" })
+  private boolean primitiveValueVector;
+
+  private final Map<String, Object> context = new HashMap<>();
+  private final Map<String, String> computationErrorMap = new HashMap<>();
+  private ComputeOperation computeOperation;
+  private ReadComputeOperator operator;
+  private Schema.Field operatorInputField;
+  private Schema.Field resultField;
+  private GenericRecord valueRecord;
+  private GenericRecord resultRecord;
+  private List<Float> valueVector;
+  private float[] paramFloats;
+  private float[] valueVectorCopy;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    List<Float> param = new ArrayList<>(vectorSize);
+    valueVector = primitiveValueVector ? new PrimitiveFloatArrayList(vectorSize) : new ArrayList<>();
+    for (int i = 0; i < vectorSize; i++) {
+      param.add(random.nextFloat());
+      valueVector.add(random.nextFloat());
+    }
+    paramFloats = ComputeUtils.toFloatArray(param);
+    valueVectorCopy = new float[vectorSize];
+
+    Schema valueSchema = SchemaBuilder.record("Value")
+        .fields()
+        .name(VECTOR_FIELD_NAME)
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .endRecord();
+    valueRecord = new GenericData.Record(valueSchema);
+    valueRecord.put(VECTOR_FIELD_NAME, valueVector);
+    operatorInputField = valueSchema.getField(VECTOR_FIELD_NAME);
+
+    SchemaBuilder.FieldAssembler<Schema> resultFields = SchemaBuilder.record("Result").fields();
+    Schema resultSchema = operationType == ComputeOperationType.HADAMARD_PRODUCT
+        ? resultFields.name(RESULT_FIELD_NAME).type().array().items().floatType().noDefault().endRecord()
+        : resultFields.name(RESULT_FIELD_NAME).type().floatType().noDefault().endRecord();
+    resultRecord = new GenericData.Record(resultSchema);
+    resultField = resultSchema.getField(RESULT_FIELD_NAME);
+
+    computeOperation = new ComputeOperation();
+    computeOperation.operationType = operationType.getValue();
+    switch (operationType) {
+      case DOT_PRODUCT:
+        DotProduct dotProduct = new DotProduct();
+        dotProduct.field = VECTOR_FIELD_NAME;
+        dotProduct.resultFieldName = RESULT_FIELD_NAME;
+        dotProduct.dotProductParam = param;
+        computeOperation.operation = dotProduct;
+        break;
+      case COSINE_SIMILARITY:
+        CosineSimilarity cosineSimilarity = new CosineSimilarity();
+        cosineSimilarity.field = VECTOR_FIELD_NAME;
+        cosineSimilarity.resultFieldName = RESULT_FIELD_NAME;
+        cosineSimilarity.cosSimilarityParam = param;
+        computeOperation.operation = cosineSimilarity;
+        break;
+      case HADAMARD_PRODUCT:
+        HadamardProduct hadamardProduct = new HadamardProduct();
+        hadamardProduct.field = VECTOR_FIELD_NAME;
+        hadamardProduct.resultFieldName = RESULT_FIELD_NAME;
+        hadamardProduct.hadamardProductParam = param;
+        computeOperation.operation = hadamardProduct;
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported compute operation type: " + operationType);
+    }
+    operator = operationType.getOperator();
+  }
+
+  @Benchmark
+  public void measureCompute(Blackhole blackhole) {
+    operator.compute(
+        computeOperation,
+        operatorInputField,
+        resultField,
+        valueRecord,
+        resultRecord,
+        computationErrorMap,
+        context);
+    blackhole.consume(resultRecord.get(0));
+  }
+
+  @Benchmark
+  public void measureComputeWithValueCopy(Blackhole blackhole) {
+    if (valueVector instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) valueVector;
+      for (int i = 0; i < vectorSize; i++) {
+        valueVectorCopy[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < vectorSize; i++) {
+        valueVectorCopy[i] = valueVector.get(i);
+      }
+    }
+    switch (operationType) {
+      case DOT_PRODUCT:
+        blackhole.consume(ComputeUtils.dotProduct(paramFloats, valueVectorCopy, vectorSize));
+        break;
+      case COSINE_SIMILARITY:
+        blackhole.consume(ComputeUtils.dotProduct(paramFloats, valueVectorCopy, vectorSize));
+        blackhole.consume(ComputeUtils.squaredL2Norm(valueVectorCopy, vectorSize));
+        break;
+      case HADAMARD_PRODUCT:
+        blackhole.consume(ComputeUtils.hadamardProduct(paramFloats, valueVectorCopy, vectorSize));
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported compute operation type: " + operationType);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(VectorComputeBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -2,12 +2,18 @@ package com.linkedin.venice.benchmark;
 
 import static com.linkedin.venice.integration.utils.ServiceFactory.getVeniceCluster;
 
+import com.linkedin.d2.balancer.D2Client;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.D2.D2ClientUtils;
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
 import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
+import com.linkedin.venice.fastclient.utils.ClientTestUtils;
+import com.linkedin.venice.integration.utils.D2TestUtils;
 import com.linkedin.venice.integration.utils.VeniceClusterCreateOptions;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceRouterWrapper;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import java.util.ArrayList;
@@ -26,10 +32,12 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.profile.GCProfiler;
@@ -51,16 +59,24 @@ public class VeniceClientBenchmark {
   protected int[] keys = new int[KEY_COUNT];
 
   protected VeniceClusterWrapper cluster;
+  protected String storeName;
   protected AvroGenericStoreClient client;
 
   @Setup
   public void setUp() throws Exception {
     Utils.thisIsLocalhost();
-    VeniceClusterCreateOptions options =
-        new VeniceClusterCreateOptions.Builder().numberOfControllers(1).numberOfServers(1).numberOfRouters(1).build();
+    VeniceClusterCreateOptions options = new VeniceClusterCreateOptions.Builder().numberOfControllers(1)
+        .numberOfServers(1)
+        .numberOfRouters(1)
+        .sslToStorageNodes(true)
+        .build();
     cluster = getVeniceCluster(options);
-    String storeName = buildStore(cluster);
-    cluster.useControllerClient(c -> c.updateStore(storeName, new UpdateStoreQueryParams().setReadQuotaInCU(10000)));
+    storeName = buildStore(cluster);
+    // The storage node read quota is required by the fast client
+    cluster.useControllerClient(
+        c -> c.updateStore(
+            storeName,
+            new UpdateStoreQueryParams().setReadQuotaInCU(10000).setStorageNodeReadQuotaEnabled(true)));
     client = ClientFactory.getAndStartGenericAvroClient(
         ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(cluster.getRandomRouterURL()));
 
@@ -106,4 +122,48 @@ public class VeniceClientBenchmark {
       blackhole.consume(client.get(keys[i]).get());
     }
   }
+
+  /**
+   * Compares the throughput and the latency of concurrent single gets sent by the fast client for different single
+   * get batching windows, and 0 means the single gets are not batched.
+   */
+  @Benchmark
+  @Threads(32)
+  @BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void runFastClientSingleGets(FastClientState state, Blackhole blackhole)
+      throws ExecutionException, InterruptedException {
+    blackhole.consume(state.client.get(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]).get());
+  }
+
+  @State(Scope.Benchmark)
+  public static class FastClientState {
+    @Param({ "0", "50", "200", "1000" })
+    protected int singleGetBatchingWindowInMicroSeconds;
+
+    protected Client r2Client;
+    protected D2Client d2Client;
+    protected AvroGenericStoreClient client;
+
+    @Setup
+    public void setUp(VeniceClientBenchmark benchmark) throws Exception {
+      r2Client = ClientTestUtils.getR2Client();
+      d2Client = D2TestUtils.getAndStartHttpsD2Client(benchmark.cluster.getZk().getAddress());
+      com.linkedin.venice.fastclient.ClientConfig.ClientConfigBuilder clientConfigBuilder =
+          new com.linkedin.venice.fastclient.ClientConfig.ClientConfigBuilder<>().setStoreName(benchmark.storeName)
+              .setR2Client(r2Client)
+              .setD2Client(d2Client)
+              .setClusterDiscoveryD2Service(VeniceRouterWrapper.CLUSTER_DISCOVERY_D2_SERVICE_NAME)
+              .setSingleGetBatchingWindowInMicroSeconds(singleGetBatchingWindowInMicroSeconds);
+      client = com.linkedin.venice.fastclient.factory.ClientFactory
+          .getAndStartGenericStoreClient(clientConfigBuilder.build());
+    }
+
+    @TearDown
+    public void cleanUp() {
+      client.close();
+      r2Client.shutdown(null);
+      D2ClientUtils.shutdownClient(d2Client);
+    }
+  }
 }
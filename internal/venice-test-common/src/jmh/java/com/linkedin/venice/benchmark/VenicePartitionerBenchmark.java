@@ -0,0 +1,76 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the cost of mapping keys to partitions between the MD5-based {@link DefaultVenicePartitioner} and the
+ * {@link XxHash64VenicePartitioner}. The key sizes cover typical serialized Avro keys, from a single long up to a
+ * composite record key.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VenicePartitionerBenchmark {
+  private static final int NUMBER_OF_KEYS = 1_000;
+  private static final int NUMBER_OF_PARTITIONS = 64;
+
+  @Param({ "DEFAULT", "XXHASH64" })
+  private String partitionerType;
+
+  @Param({ "8", "32", "128", "512" })
+  private int keySize;
+
+  private VenicePartitioner partitioner;
+  private byte[][] keys;
+
+  @Setup
+  public void setUp() {
+    if (partitionerType.equals("DEFAULT")) {
+      partitioner = new DefaultVenicePartitioner();
+    } else {
+      partitioner = new XxHash64VenicePartitioner();
+    }
+    Random random = new Random(0);
+    keys = new byte[NUMBER_OF_KEYS][keySize];
+    for (byte[] key: keys) {
+      random.nextBytes(key);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_KEYS)
+  public void measureGetPartitionId(Blackhole bh) {
+    for (byte[] key: keys) {
+      bh.consume(partitioner.getPartitionId(key, NUMBER_OF_PARTITIONS));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(VenicePartitionerBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
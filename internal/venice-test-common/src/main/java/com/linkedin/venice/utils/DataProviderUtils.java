@@ -1,6 +1,7 @@
 package com.linkedin.venice.utils;
 
 import static com.linkedin.venice.compression.CompressionStrategy.GZIP;
+import static com.linkedin.venice.compression.CompressionStrategy.LZ4;
 import static com.linkedin.venice.compression.CompressionStrategy.NO_OP;
 import static com.linkedin.venice.compression.CompressionStrategy.ZSTD_WITH_DICT;
 
@@ -27,10 +28,10 @@ public class DataProviderUtils {
   public static final Object[] BOOLEAN = { false, true };
   public static final Object[] BOOLEAN_FALSE = { false };
   public static final Object[] OPTIONAL_BOOLEAN = { false, true, null };
-  public static final Object[] COMPRESSION_STRATEGIES = { NO_OP, GZIP, ZSTD_WITH_DICT };
+  public static final Object[] COMPRESSION_STRATEGIES = { NO_OP, GZIP, ZSTD_WITH_DICT, LZ4 };
   public static final Object[] PARTITION_COUNTS = { 1, 2, 3, 4, 8, 10, 16, 19, 92, 128 };
 
-  public static final Object[] CHECKSUM_TYPES = { CheckSumType.MD5, CheckSumType.ADHASH };
+  public static final Object[] CHECKSUM_TYPES = { CheckSumType.MD5, CheckSumType.ADHASH, CheckSumType.CRC32C };
 
   /**
    * To use these data providers, add (dataProvider = "<provider_name>", dataProviderClass = DataProviderUtils.class)
@@ -78,7 +79,7 @@ public class DataProviderUtils {
 
   @DataProvider(name = "CheckpointingSupported-CheckSum-Types")
   public static Object[][] checkpointingSupportedCheckSumTypes() {
-    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH } };
+    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH }, { CheckSumType.CRC32C } };
   }
 
   @DataProvider(name = "dv-client-config-provider")
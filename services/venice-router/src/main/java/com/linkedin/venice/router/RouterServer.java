@@ -50,6 +50,7 @@ import com.linkedin.venice.router.api.MetaStoreShadowReader;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterHeartbeat;
 import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.RouterResponseCache;
 import com.linkedin.venice.router.api.VeniceDelegateMode;
 import com.linkedin.venice.router.api.VeniceDispatcher;
 import com.linkedin.venice.router.api.VeniceHostFinder;
@@ -95,6 +96,7 @@ import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.ReflectUtils;
 import com.linkedin.venice.utils.RetryUtils;
 import com.linkedin.venice.utils.SslUtils;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
@@ -525,6 +527,9 @@ public class RouterServer extends AbstractVeniceService {
 
     VeniceHostHealth healthMonitor =
         new VeniceHostHealth(liveInstanceMonitor, storageNodeClient, config, routeHttpRequestStats, aggHostHealthStats);
+    Optional<RouterResponseCache> responseCache = config.isResponseCacheEnabled()
+        ? Optional.of(new RouterResponseCache(config, metadataRepository, routerStats, new SystemTime()))
+        : Optional.empty();
     dispatcher = new VeniceDispatcher(
         config,
         metadataRepository,
@@ -533,7 +538,8 @@ public class RouterServer extends AbstractVeniceService {
         storageNodeClient,
         routeHttpRequestStats,
         aggHostHealthStats,
-        routerStats);
+        routerStats,
+        responseCache);
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
 
     if (config.isRouterHeartBeatEnabled()) {
@@ -570,7 +576,8 @@ public class RouterServer extends AbstractVeniceService {
         config.getClusterToD2Map(),
         config.getClusterName(),
         compressorFactory,
-        metricsRepository);
+        metricsRepository,
+        responseCache);
 
     retryManagerExecutorService = Executors.newScheduledThreadPool(
         config.getRetryManagerCorePoolSize(),
@@ -59,6 +59,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP_CLIENT_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_IDLE_CONNECTION_TO_SERVER_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_IDLE_CONNECTION_TO_SERVER_CLEANUP_THRESHOLD_MINS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_IO_WORKER_COUNT;
+import static com.linkedin.venice.ConfigKeys.ROUTER_LATENCY_AWARE_REPLICA_SELECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LEAKED_FUTURE_CLEANUP_POLL_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LEAKED_FUTURE_CLEANUP_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_BUDGET_ENFORCEMENT_WINDOW_MS;
@@ -83,6 +84,9 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFE
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_QUEUE_CAPACITY;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_CAPACITY_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_STORE_ALLOWLIST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_THREADS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
@@ -197,6 +201,7 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final int ioThreadCountInPoolMode;
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final HelixGroupSelectionStrategyEnum helixGroupSelectionStrategy;
+  private final boolean latencyAwareReplicaSelectionEnabled;
   private final String systemSchemaClusterName;
   private final int maxConcurrentSslHandshakes;
   private final int resolveThreads;
@@ -226,6 +231,9 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final double multiKeyLongTailRetryBudgetPercentDecimal;
   private final long longTailRetryBudgetEnforcementWindowInMs;
   private final int retryManagerCorePoolSize;
+  private final List<String> responseCacheStoreAllowlist;
+  private final long responseCacheCapacityInBytes;
+  private final long responseCacheHybridStoreTtlMs;
   private final int nameRepoMaxEntryCount;
   private final int aclInMemoryCacheTTLMs;
 
@@ -368,6 +376,7 @@ public class VeniceRouterConfig implements RouterRetryConfig {
         multiKeyRoutingStrategyEnum = LEAST_LOADED_ROUTING;
       }
       multiKeyRoutingStrategy = multiKeyRoutingStrategyEnum;
+      latencyAwareReplicaSelectionEnabled = props.getBoolean(ROUTER_LATENCY_AWARE_REPLICA_SELECTION_ENABLED, false);
       String helixGroupSelectionStrategyStr =
           props.getString(ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY, LEAST_LOADED.name());
       try {
@@ -408,6 +417,9 @@ public class VeniceRouterConfig implements RouterRetryConfig {
       longTailRetryBudgetEnforcementWindowInMs =
           props.getLong(ROUTER_LONG_TAIL_RETRY_BUDGET_ENFORCEMENT_WINDOW_MS, Time.MS_PER_MINUTE);
       retryManagerCorePoolSize = props.getInt(ROUTER_RETRY_MANAGER_CORE_POOL_SIZE, 5);
+      responseCacheStoreAllowlist = props.getList(ROUTER_RESPONSE_CACHE_STORE_ALLOWLIST, Collections.emptyList());
+      responseCacheCapacityInBytes = props.getSizeInBytes(ROUTER_RESPONSE_CACHE_CAPACITY_IN_BYTES, 256 * 1024 * 1024);
+      responseCacheHybridStoreTtlMs = props.getLong(ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS, Time.MS_PER_SECOND);
       this.nameRepoMaxEntryCount =
           props.getInt(NAME_REPOSITORY_MAX_ENTRY_COUNT, NameRepository.DEFAULT_MAXIMUM_ENTRY_COUNT);
       aclInMemoryCacheTTLMs = props.getInt(ACL_IN_MEMORY_CACHE_TTL_MS, -1); // acl caching is disabled by default
@@ -703,6 +715,10 @@ public class VeniceRouterConfig implements RouterRetryConfig {
     return helixGroupSelectionStrategy;
   }
 
+  public boolean isLatencyAwareReplicaSelectionEnabled() {
+    return latencyAwareReplicaSelectionEnabled;
+  }
+
   public String getSystemSchemaClusterName() {
     return systemSchemaClusterName;
   }
@@ -888,6 +904,22 @@ public class VeniceRouterConfig implements RouterRetryConfig {
     return retryManagerCorePoolSize;
   }
 
+  public boolean isResponseCacheEnabled() {
+    return !responseCacheStoreAllowlist.isEmpty();
+  }
+
+  public List<String> getResponseCacheStoreAllowlist() {
+    return responseCacheStoreAllowlist;
+  }
+
+  public long getResponseCacheCapacityInBytes() {
+    return responseCacheCapacityInBytes;
+  }
+
+  public long getResponseCacheHybridStoreTtlMs() {
+    return responseCacheHybridStoreTtlMs;
+  }
+
   public int getNameRepoMaxEntryCount() {
     return this.nameRepoMaxEntryCount;
   }
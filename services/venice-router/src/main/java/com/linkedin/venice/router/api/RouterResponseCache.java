@@ -0,0 +1,351 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A bounded cache of single-get responses for the stores which opted in via
+ * {@link com.linkedin.venice.ConfigKeys#ROUTER_RESPONSE_CACHE_STORE_ALLOWLIST}, so that the hot keys of those stores
+ * are served by the router without a round trip to the storage nodes.
+ *
+ * The cache key is the resource name (store version) plus the key bytes, so a lookup never returns a value of a
+ * version other than the one the request was routed to, and {@link VeniceVersionFinder} calls {@link #invalidate}
+ * whenever it moves the current version of a store, to reclaim the entries of the previous version right away.
+ * The values of batch-only stores are immutable within a version, while the values of hybrid stores, or of stores
+ * with incremental push, can change, so those entries expire after
+ * {@link com.linkedin.venice.ConfigKeys#ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS}.
+ *
+ * The values are copied into direct buffers, and the cache is bounded by the total size of the keys and values, with
+ * LRU eviction. To limit lock contention, the entries are spread across several independently locked segments.
+ */
+public class RouterResponseCache {
+  private static final Logger LOGGER = LogManager.getLogger(RouterResponseCache.class);
+  private static final int SEGMENT_COUNT = 16;
+  /**
+   * Rough estimation of the heap overhead of each entry, so that the cache stays bounded even for tiny values.
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+
+  private final Set<String> enabledStores;
+  private final ReadOnlyStoreRepository storeRepository;
+  private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final long hybridStoreTtlMs;
+  private final Time time;
+  private final Segment[] segments;
+  /**
+   * Whether the values of a store can change within a version. It is only refreshed on version swap, since turning a
+   * batch-only store into a hybrid store, or enabling incremental push, only takes effect with a new version.
+   */
+  private final Map<String, Boolean> storeToMutability = new VeniceConcurrentHashMap<>();
+
+  public RouterResponseCache(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      Time time) {
+    this.enabledStores = new HashSet<>(config.getResponseCacheStoreAllowlist());
+    this.storeRepository = storeRepository;
+    this.routerStats = routerStats;
+    this.hybridStoreTtlMs = config.getResponseCacheHybridStoreTtlMs();
+    this.time = time;
+    long segmentCapacityInBytes = Math.max(1, config.getResponseCacheCapacityInBytes() / SEGMENT_COUNT);
+    this.segments = new Segment[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(segmentCapacityInBytes);
+    }
+    LOGGER.info(
+        "Router response cache is enabled for stores: {}, with capacity: {} bytes and hybrid store TTL: {} ms",
+        enabledStores,
+        config.getResponseCacheCapacityInBytes(),
+        hybridStoreTtlMs);
+  }
+
+  public boolean isEnabled(VenicePath path) {
+    return path.getRequestType() == RequestType.SINGLE_GET && enabledStores.contains(path.getStoreName());
+  }
+
+  /**
+   * @return a response backed by the cached content, or null if there is no usable entry for the key of the given
+   *         single-get path. The content of the returned response needs to be released by the caller, which the
+   *         Netty pipeline takes care of once the response is written.
+   */
+  public FullHttpResponse get(VenicePath path) {
+    CacheKey key = new CacheKey(path.getResourceName(), path.getPartitionKey());
+    String storeName = path.getStoreName();
+    AggRouterHttpRequestStats stats = routerStats.getStatsByType(RequestType.SINGLE_GET);
+    Segment segment = getSegment(key);
+    FullHttpResponse response = null;
+    boolean expired = false;
+    synchronized (segment) {
+      CacheEntry entry = segment.map.get(key);
+      if (entry != null) {
+        if (entry.expirationTimeMs <= time.getMilliseconds()) {
+          segment.remove(key);
+          expired = true;
+        } else if (path.getResponseDecompressor().canPassThroughResponse(entry.compressionStrategy)) {
+          // The content is only released under the segment lock, so it can be safely retained here
+          response = entry.toResponse();
+        }
+      }
+    }
+    if (expired) {
+      stats.recordResponseCacheEviction(storeName);
+    }
+    if (response == null) {
+      stats.recordResponseCacheMiss(storeName);
+    } else {
+      stats.recordResponseCacheHit(storeName);
+    }
+    return response;
+  }
+
+  /**
+   * Caches a copy of the given successful response of the given single-get path. Other responses are ignored.
+   */
+  public void put(VenicePath path, FullHttpResponse response) {
+    if (!response.status().equals(HttpResponseStatus.OK)) {
+      return;
+    }
+    String storeName = path.getStoreName();
+    long expirationTimeMs = Long.MAX_VALUE;
+    if (isMutable(storeName)) {
+      if (hybridStoreTtlMs <= 0) {
+        return;
+      }
+      expirationTimeMs = time.getMilliseconds() + hybridStoreTtlMs;
+    }
+
+    HttpHeaders headers = response.headers();
+    ByteBuf content = response.content();
+    int contentSize = content.readableBytes();
+    ByteBuf contentCopy = Unpooled.directBuffer(contentSize).writeBytes(content, content.readerIndex(), contentSize);
+    CacheKey key = new CacheKey(path.getResourceName(), path.getPartitionKey());
+    CacheEntry entry = new CacheEntry(
+        storeName,
+        contentCopy,
+        headers.get(HttpHeaderNames.CONTENT_TYPE),
+        headers.get(HttpConstants.VENICE_SCHEMA_ID),
+        CompressionStrategy.valueOf(headers.getInt(HttpConstants.VENICE_COMPRESSION_STRATEGY, 0)),
+        headers.get(HttpConstants.VENICE_REQUEST_RCU),
+        expirationTimeMs,
+        key.getSizeInBytes() + contentSize + ENTRY_OVERHEAD_IN_BYTES);
+
+    Segment segment = getSegment(key);
+    List<String> evictedEntryStoreNames;
+    synchronized (segment) {
+      evictedEntryStoreNames = segment.put(key, entry);
+    }
+    if (!evictedEntryStoreNames.isEmpty()) {
+      AggRouterHttpRequestStats stats = routerStats.getStatsByType(RequestType.SINGLE_GET);
+      evictedEntryStoreNames.forEach(stats::recordResponseCacheEviction);
+    }
+  }
+
+  /**
+   * Drops all the entries of the given store, and refreshes whether its values can change within a version.
+   */
+  public void invalidate(String storeName) {
+    if (!enabledStores.contains(storeName)) {
+      return;
+    }
+    storeToMutability.remove(storeName);
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = segment.map.entrySet().iterator();
+        while (iterator.hasNext()) {
+          CacheEntry entry = iterator.next().getValue();
+          if (entry.storeName.equals(storeName)) {
+            iterator.remove();
+            segment.release(entry);
+          }
+        }
+      }
+    }
+  }
+
+  public long getSizeInBytes() {
+    long sizeInBytes = 0;
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        sizeInBytes += segment.sizeInBytes;
+      }
+    }
+    return sizeInBytes;
+  }
+
+  public void clear() {
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        segment.map.values().forEach(segment::release);
+        segment.map.clear();
+      }
+    }
+  }
+
+  private boolean isMutable(String storeName) {
+    return storeToMutability.computeIfAbsent(storeName, s -> {
+      Store store = storeRepository.getStore(s);
+      // Be conservative for unknown stores
+      return store == null || store.isHybrid() || store.isIncrementalPushEnabled();
+    });
+  }
+
+  private Segment getSegment(CacheKey key) {
+    return segments[(key.hashCode() & Integer.MAX_VALUE) % SEGMENT_COUNT];
+  }
+
+  private static class Segment {
+    private final long capacityInBytes;
+    private final LinkedHashMap<CacheKey, CacheEntry> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes = 0;
+
+    Segment(long capacityInBytes) {
+      this.capacityInBytes = capacityInBytes;
+    }
+
+    /**
+     * @return the store names of the entries evicted to make room for the new one
+     */
+    List<String> put(CacheKey key, CacheEntry entry) {
+      remove(key);
+      map.put(key, entry);
+      sizeInBytes += entry.sizeInBytes;
+      List<String> evictedEntryStoreNames = Collections.emptyList();
+      Iterator<CacheEntry> iterator = map.values().iterator();
+      // The new entry is the most recently used one, so it is only evicted if it exceeds the capacity by itself
+      while (sizeInBytes > capacityInBytes && iterator.hasNext()) {
+        CacheEntry eldest = iterator.next();
+        iterator.remove();
+        release(eldest);
+        if (eldest != entry) {
+          if (evictedEntryStoreNames.isEmpty()) {
+            evictedEntryStoreNames = new ArrayList<>();
+          }
+          evictedEntryStoreNames.add(eldest.storeName);
+        }
+      }
+      return evictedEntryStoreNames;
+    }
+
+    void remove(CacheKey key) {
+      CacheEntry entry = map.remove(key);
+      if (entry != null) {
+        release(entry);
+      }
+    }
+
+    void release(CacheEntry entry) {
+      sizeInBytes -= entry.sizeInBytes;
+      entry.content.release();
+    }
+  }
+
+  private static class CacheKey {
+    private final String resourceName;
+    private final RouterKey key;
+    private final int hashCode;
+
+    CacheKey(String resourceName, RouterKey key) {
+      this.resourceName = resourceName;
+      this.key = key;
+      this.hashCode = 31 * resourceName.hashCode() + key.hashCode();
+    }
+
+    int getSizeInBytes() {
+      return resourceName.length() + key.getKeyBuffer().remaining();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return hashCode == other.hashCode && resourceName.equals(other.resourceName) && key.equals(other.key);
+    }
+  }
+
+  private static class CacheEntry {
+    private final String storeName;
+    private final ByteBuf content;
+    private final String contentType;
+    private final String schemaId;
+    private final CompressionStrategy compressionStrategy;
+    private final String requestRcu;
+    private final long expirationTimeMs;
+    private final long sizeInBytes;
+
+    CacheEntry(
+        String storeName,
+        ByteBuf content,
+        String contentType,
+        String schemaId,
+        CompressionStrategy compressionStrategy,
+        String requestRcu,
+        long expirationTimeMs,
+        long sizeInBytes) {
+      this.storeName = storeName;
+      this.content = content;
+      this.contentType = contentType;
+      this.schemaId = schemaId;
+      this.compressionStrategy = compressionStrategy;
+      this.requestRcu = requestRcu;
+      this.expirationTimeMs = expirationTimeMs;
+      this.sizeInBytes = sizeInBytes;
+    }
+
+    FullHttpResponse toResponse() {
+      ByteBuf responseContent = content.retainedDuplicate();
+      VeniceFullHttpResponse response =
+          new VeniceFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, responseContent, 0);
+      HttpHeaders headers = response.headers();
+      headers.set(HttpHeaderNames.CONTENT_LENGTH, responseContent.readableBytes())
+          .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, compressionStrategy.getValue());
+      setIfPresent(headers, HttpHeaderNames.CONTENT_TYPE, contentType);
+      setIfPresent(headers, HttpConstants.VENICE_SCHEMA_ID, schemaId);
+      setIfPresent(headers, HttpConstants.VENICE_REQUEST_RCU, requestRcu);
+      return response;
+    }
+
+    private static void setIfPresent(HttpHeaders headers, CharSequence name, String value) {
+      if (value != null) {
+        headers.set(name, value);
+      }
+    }
+  }
+}
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nonnull;
 
 
@@ -90,6 +91,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final boolean latencyAwareReplicaSelectionEnabled;
 
   public VeniceDelegateMode(
       VeniceRouterConfig config,
@@ -99,6 +101,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.routerStats = routerStats;
     this.routeHttpRequestStats = routeHttpRequestStats;
     this.multiKeyRoutingStrategy = config.getMultiKeyRoutingStrategy();
+    this.latencyAwareReplicaSelectionEnabled = config.isLatencyAwareReplicaSelectionEnabled();
     switch (this.multiKeyRoutingStrategy) {
       case GROUP_BY_PRIMARY_HOST_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = GROUP_BY_PRIMARY_HOST_MODE_FOR_MULTI_KEY_REQUEST;
@@ -312,16 +315,20 @@ public class VeniceDelegateMode extends ScatterGatherMode {
   // Select host with the least pending queue depth.
   private <H> H selectLeastLoadedHost(List<H> hosts, VenicePath path) throws RouterException {
     H host;
-    long minCount = Long.MAX_VALUE;
     H minHost = null;
-    for (H h: hosts) {
-      Instance node = (Instance) h;
-      if (!path.canRequestStorageNode(node.getNodeId()))
-        continue;
-      long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(node.getNodeId());
-      if (pendingRequestCount < minCount) {
-        minCount = pendingRequestCount;
-        minHost = h;
+    if (latencyAwareReplicaSelectionEnabled) {
+      minHost = selectHostWithLeastExpectedLatency(hosts, path);
+    } else {
+      long minCount = Long.MAX_VALUE;
+      for (H h: hosts) {
+        Instance node = (Instance) h;
+        if (!path.canRequestStorageNode(node.getNodeId()))
+          continue;
+        long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(node.getNodeId());
+        if (pendingRequestCount < minCount) {
+          minCount = pendingRequestCount;
+          minHost = h;
+        }
       }
     }
     if (minHost == null) {
@@ -346,6 +353,47 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     return host;
   }
 
+  /**
+   * Picks two random replicas which can serve the request, and returns the one expected to respond first according to
+   * {@link RouteHttpRequestStats#getExpectedLatencyCost(String)} (power of two choices), so a slow replica is avoided
+   * even when the pending request counts are too low to tell the replicas apart.
+   */
+  private <H> H selectHostWithLeastExpectedLatency(List<H> hosts, VenicePath path) {
+    H firstHost = null;
+    H secondHost = null;
+    int candidateCount = 0;
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    // Reservoir sampling of the two choices, which avoids collecting the candidates
+    for (H h: hosts) {
+      Instance node = (Instance) h;
+      if (!path.canRequestStorageNode(node.getNodeId())) {
+        continue;
+      }
+      ++candidateCount;
+      if (candidateCount == 1) {
+        firstHost = h;
+      } else if (candidateCount == 2) {
+        secondHost = h;
+      } else {
+        int index = random.nextInt(candidateCount);
+        if (index == 0) {
+          firstHost = h;
+        } else if (index == 1) {
+          secondHost = h;
+        }
+      }
+    }
+    if (secondHost == null) {
+      return firstHost;
+    }
+    double firstCost = routeHttpRequestStats.getExpectedLatencyCost(((Instance) firstHost).getNodeId());
+    double secondCost = routeHttpRequestStats.getExpectedLatencyCost(((Instance) secondHost).getNodeId());
+    if (firstCost == secondCost) {
+      return random.nextBoolean() ? firstHost : secondHost;
+    }
+    return firstCost < secondCost ? firstHost : secondHost;
+  }
+
   /**
    * This mode route the request to the least loaded replica for single get.
    */
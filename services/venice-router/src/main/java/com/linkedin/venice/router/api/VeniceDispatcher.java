@@ -44,6 +44,7 @@ import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -90,6 +91,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private final Optional<RouterResponseCache> responseCache;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -99,6 +102,28 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       RouteHttpRequestStats routeHttpRequestStats,
       AggHostHealthStats aggHostHealthStats,
       RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this(
+        config,
+        storeRepository,
+        perStoreStatsByType,
+        metricsRepository,
+        storageNodeClient,
+        routeHttpRequestStats,
+        aggHostHealthStats,
+        routerStats,
+        Optional.empty());
+  }
+
+  public VeniceDispatcher(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      RouterStats<AggRouterHttpRequestStats> perStoreStatsByType,
+      MetricsRepository metricsRepository,
+      StorageNodeClient storageNodeClient,
+      RouteHttpRequestStats routeHttpRequestStats,
+      AggHostHealthStats aggHostHealthStats,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      Optional<RouterResponseCache> responseCache) {
     this.routerConfig = config;
     this.routerUnhealthyPendingConnThresholdPerRoute = routerConfig.getRouterUnhealthyPendingConnThresholdPerRoute();
     this.isStatefulHealthCheckEnabled = routerConfig.isStatefulRouterHealthCheckEnabled();
@@ -113,6 +138,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -141,6 +167,15 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    boolean isResponseCacheEnabled = responseCache.isPresent() && responseCache.get().isEnabled(path);
+    if (isResponseCacheEnabled) {
+      FullHttpResponse cachedResponse = responseCache.get().get(path);
+      if (cachedResponse != null) {
+        responseFuture.setSuccess(Collections.singletonList(cachedResponse));
+        return;
+      }
+    }
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
     sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
       try {
@@ -161,7 +196,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        FullHttpResponse fullHttpResponse = buildResponse(path, response);
+        if (isResponseCacheEnabled) {
+          responseCache.get().put(path, fullHttpResponse);
+        }
+        responseFuture.setSuccess(Collections.singletonList(fullHttpResponse));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -244,6 +283,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats
             .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        routeHttpRequestStats.recordResponseTime(storageNode.getNodeId(), System.nanoTime() - startTime);
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -355,6 +395,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   public void stop() {
     this.leakedCompletableFutureCleanupService.interrupt();
+    responseCache.ifPresent(RouterResponseCache::clear);
   }
 
   /**
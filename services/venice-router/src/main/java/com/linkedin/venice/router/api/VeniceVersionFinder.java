@@ -52,6 +52,8 @@ public class VeniceVersionFinder {
 
   private final MetricsRepository metricsRepository;
 
+  private final Optional<RouterResponseCache> responseCache;
+
   public VeniceVersionFinder(
       ReadOnlyStoreRepository metadataRepository,
       HelixBaseRoutingRepository routingDataRepository,
@@ -61,6 +63,28 @@ public class VeniceVersionFinder {
       String clusterName,
       CompressorFactory compressorFactory,
       MetricsRepository metricsRepository) {
+    this(
+        metadataRepository,
+        routingDataRepository,
+        stats,
+        storeConfigRepo,
+        clusterToD2Map,
+        clusterName,
+        compressorFactory,
+        metricsRepository,
+        Optional.empty());
+  }
+
+  public VeniceVersionFinder(
+      ReadOnlyStoreRepository metadataRepository,
+      HelixBaseRoutingRepository routingDataRepository,
+      StaleVersionStats stats,
+      ReadOnlyStoreConfigRepository storeConfigRepo,
+      Map<String, String> clusterToD2Map,
+      String clusterName,
+      CompressorFactory compressorFactory,
+      MetricsRepository metricsRepository,
+      Optional<RouterResponseCache> responseCache) {
     this.metadataRepository = metadataRepository;
     this.routingDataRepository = routingDataRepository;
     this.stats = stats;
@@ -69,6 +93,7 @@ public class VeniceVersionFinder {
     this.clusterName = clusterName;
     this.compressorFactory = compressorFactory;
     this.metricsRepository = metricsRepository;
+    this.responseCache = responseCache;
   }
 
   public int getVersion(String storeName, BasicFullHttpRequest request) throws VeniceException {
@@ -141,6 +166,8 @@ public class VeniceVersionFinder {
       storeStats.computeIfAbsent(storeName, metric -> new RouterCurrentVersionStats(metricsRepository, storeName))
           .updateCurrentVersion(metadataCurrentVersionNumber);
       lastCurrentVersionMap.put(storeName, metadataCurrentVersionNumber);
+      // The cached responses of the previous version will never be served again
+      responseCache.ifPresent(cache -> cache.invalidate(storeName));
       return metadataCurrentVersionNumber;
     }
 
@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api.path;
 
 import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_COMPUTE_TRUE;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_COMPUTE;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -9,7 +10,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.meta.StoreVersionName;
@@ -50,6 +53,14 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
       Collections.emptyList());
   private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD =
       ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA));
+  private static final Schema EMPTY_RECORD_SCHEMA_V5 = Schema.createRecord(
+      ComputeRequestV5.class.getSimpleName(),
+      "no-op",
+      ComputeRequestV5.class.getPackage().getName(),
+      false,
+      Collections.emptyList());
+  private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD_V5 =
+      ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA_V5));
 
   /**
    * N.B. This deserializer takes V3 as the writer schema, but the reader schema is just an empty record.
@@ -68,9 +79,15 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    *    in the future, we keep evolving the compute request protocol, we need to reevaluate if the evolution will
    *    require passing in the precise writer schema used. For example, if adding a new field, we would need to start
    *    using the correct writer schema (either V3 or the newer one).
+   *
+   * 3. V5 adds the filters and top K fields, so the requests encoded with it are skipped with
+   *    {@link #COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER} instead.
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
+  private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroGenericDeserializer(ComputeRequestV5.SCHEMA$, EMPTY_RECORD_SCHEMA_V5);
   private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
           ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
@@ -78,8 +95,12 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
-  private static void skipOverComputeRequest(BinaryDecoder decoder) {
-    COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+  private static void skipOverComputeRequest(int computeRequestVersion, BinaryDecoder decoder) {
+    if (computeRequestVersion == COMPUTE_REQUEST_VERSION_V5) {
+      COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD_V5.get(), decoder);
+    } else {
+      COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+    }
   }
 
   private final byte[] requestContent;
@@ -103,13 +124,14 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     // Get API version
     this.computeRequestVersionHeader = request.headers().get(HttpConstants.VENICE_API_VERSION);
     int computeRequestVersion = Integer.parseInt(this.computeRequestVersionHeader);
-    if (computeRequestVersion <= 0 || computeRequestVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
+    if (!ComputeRequestWrapper.isSupportedProtocolVersion(computeRequestVersion)) {
       throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
           getStoreName(),
           getRequestType(),
           BAD_REQUEST,
           "Compute API version " + computeRequestVersion + " is invalid. Latest version is "
-              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST + ", or " + COMPUTE_REQUEST_VERSION_V5
+              + " for the requests with filters or top K");
     }
 
     requestContent = new byte[request.content().readableBytes()];
@@ -122,7 +144,7 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
      */
     BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
-    skipOverComputeRequest(decoder);
+    skipOverComputeRequest(computeRequestVersion, decoder);
     try {
       // record the length of the serialized ComputeRequest
       computeRequestLengthInBytes = requestContent.length - decoder.inputStream().available();
@@ -173,6 +173,21 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     }
   }
 
+  public void recordResponseCacheHit(String storeName) {
+    totalStats.recordResponseCacheHit();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordResponseCacheHit);
+  }
+
+  public void recordResponseCacheMiss(String storeName) {
+    totalStats.recordResponseCacheMiss();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordResponseCacheMiss);
+  }
+
+  public void recordResponseCacheEviction(String storeName) {
+    totalStats.recordResponseCacheEviction();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordResponseCacheEviction);
+  }
+
   public void recordFanoutRequestCount(String storeName, int count) {
     totalStats.recordFanoutRequestCount(count);
     recordStoreStats(storeName, stats -> stats.recordFanoutRequestCount(count));
@@ -3,6 +3,7 @@ package com.linkedin.venice.router.stats;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.StatsUtils;
+import com.linkedin.venice.utils.LatencyEwmaEstimator;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
@@ -12,6 +13,7 @@ import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.SampledTotal;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 
@@ -20,6 +22,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * to {@link RouteHttpStats} which stores only per type stats.
  */
 public class RouteHttpRequestStats {
+  private static final double LATENCY_ESTIMATOR_SMOOTHING_FACTOR = 0.3;
+  private static final long LATENCY_ESTIMATOR_IDLE_DECAY_TIME_MS = TimeUnit.SECONDS.toMillis(10);
+
   private final MetricsRepository metricsRepository;
   private final StorageNodeClient storageNodeClient;
   private final Map<String, InternalHostStats> routeStatsMap = new VeniceConcurrentHashMap<>();
@@ -39,6 +44,11 @@ public class RouteHttpRequestStats {
     stats.recordFinishedRequestCount();
   }
 
+  public void recordResponseTime(String hostName, long responseTimeInNs) {
+    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
+    stats.latencyEstimator.recordLatency(responseTimeInNs);
+  }
+
   public void recordUnhealthyQueueDuration(String hostName, double duration) {
     InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
     stats.recordUnhealthyQueueDuration(duration);
@@ -52,11 +62,22 @@ public class RouteHttpRequestStats {
     return stat.pendingRequestCount.get();
   }
 
+  /**
+   * @return the expected time for a new request to be served by the given host, which is estimated from its recent
+   *         response times and its pending request count
+   */
+  public double getExpectedLatencyCost(String hostName) {
+    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
+    return stats.latencyEstimator.getCost(stats.pendingRequestCount.get());
+  }
+
   static class InternalHostStats extends AbstractVeniceStats {
     // private final Sensor pendingRequestCountSensor;
     private final Sensor unhealthyPendingQueueDuration;
     private final Sensor unhealthyPendingRateSensor;
     private AtomicLong pendingRequestCount;
+    private final LatencyEwmaEstimator latencyEstimator =
+        new LatencyEwmaEstimator(LATENCY_ESTIMATOR_SMOOTHING_FACTOR, LATENCY_ESTIMATOR_IDLE_DECAY_TIME_MS);
 
     public InternalHostStats(MetricsRepository metricsRepository, String hostName) {
       super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
@@ -124,6 +124,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor unavailableReplicaStreamingRequestSensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor responseCacheHitSensor;
+  private final Sensor responseCacheMissSensor;
+  private final Sensor responseCacheEvictionSensor;
   private Sensor keySizeSensor;
 
   /** TODO: Need to clarify the usage and add new OTel metrics or add it as a part of existing ones */
@@ -378,6 +381,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
     fanoutRequestCountSensor = registerSensor("fanout_request_count", new Avg(), new Max(0));
 
+    responseCacheHitSensor = registerSensor("response_cache_hit", new OccurrenceRate());
+    responseCacheMissSensor = registerSensor("response_cache_miss", new OccurrenceRate());
+    responseCacheEvictionSensor = registerSensor("response_cache_eviction", new OccurrenceRate());
+
     routerResponseWaitingTimeSensor = registerSensor(
         "response_waiting_time",
         TehutiUtils.getPercentileStat(getName(), getFullMetricName("response_waiting_time")));
@@ -601,6 +608,18 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     requestThrottledByRouterCapacitySensor.record();
   }
 
+  public void recordResponseCacheHit() {
+    responseCacheHitSensor.record();
+  }
+
+  public void recordResponseCacheMiss() {
+    responseCacheMissSensor.record();
+  }
+
+  public void recordResponseCacheEviction() {
+    responseCacheEvictionSensor.record();
+  }
+
   public void recordFanoutRequestCount(int count) {
     if (!getRequestType().equals(RequestType.SINGLE_GET)) {
       fanoutRequestCountSensor.record(count);
@@ -62,6 +62,22 @@ public class RouteHttpRequestStatsTest {
     Assert.assertEquals(stats.getPendingRequestCount("my_host2"), 0);
   }
 
+  @Test
+  public void expectedLatencyCostTest() {
+    double idleCost = stats.getExpectedLatencyCost("my_host3");
+    Assert.assertTrue(idleCost > 0);
+
+    // A pending request doubles the cost
+    stats.recordPendingRequest("my_host3");
+    Assert.assertEquals(stats.getExpectedLatencyCost("my_host3"), 2 * idleCost);
+
+    // A slow response raises the cost
+    stats.recordResponseTime("my_host3", TimeUnit.MILLISECONDS.toNanos(100));
+    stats.recordFinishedRequest("my_host3");
+    Assert.assertTrue(stats.getExpectedLatencyCost("my_host3") > 100 * idleCost);
+    Assert.assertTrue(stats.getExpectedLatencyCost("my_host4") < stats.getExpectedLatencyCost("my_host3"));
+  }
+
   @Test
   public void routerInFlightMetricTest() {
     routerHttpRequestStats.recordIncomingRequest();
@@ -0,0 +1,195 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.TestMockTime;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestRouterResponseCache {
+  private static final String BATCH_STORE = "batch_store";
+  private static final String HYBRID_STORE = "hybrid_store";
+
+  private final AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+  private final TestMockTime time = new TestMockTime();
+
+  private RouterResponseCache createCache(long capacityInBytes, long hybridStoreTtlMs) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(Arrays.asList(BATCH_STORE, HYBRID_STORE)).when(config).getResponseCacheStoreAllowlist();
+    doReturn(capacityInBytes).when(config).getResponseCacheCapacityInBytes();
+    doReturn(hybridStoreTtlMs).when(config).getResponseCacheHybridStoreTtlMs();
+
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store batchStore = mock(Store.class);
+    doReturn(batchStore).when(storeRepository).getStore(BATCH_STORE);
+    Store hybridStore = mock(Store.class);
+    doReturn(true).when(hybridStore).isHybrid();
+    doReturn(hybridStore).when(storeRepository).getStore(HYBRID_STORE);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    return new RouterResponseCache(config, storeRepository, routerStats, time);
+  }
+
+  private static VenicePath createPath(String storeName, int version, String key) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(storeName).when(path).getStoreName();
+    doReturn(storeName + "_v" + version).when(path).getResourceName();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(RouterKey.fromString(key)).when(path).getPartitionKey();
+    VeniceResponseDecompressor decompressor = mock(VeniceResponseDecompressor.class);
+    doReturn(true).when(decompressor).canPassThroughResponse(CompressionStrategy.NO_OP);
+    doReturn(decompressor).when(path).getResponseDecompressor();
+    return path;
+  }
+
+  private static FullHttpResponse createResponse(HttpResponseStatus status, String value) {
+    FullHttpResponse response = new VeniceFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        status,
+        Unpooled.wrappedBuffer(value.getBytes(StandardCharsets.UTF_8)),
+        0);
+    response.headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, HttpConstants.AVRO_BINARY)
+        .set(HttpConstants.VENICE_SCHEMA_ID, 1)
+        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, CompressionStrategy.NO_OP.getValue());
+    return response;
+  }
+
+  private static String readAndRelease(FullHttpResponse response) {
+    ByteBuf content = response.content();
+    String value = content.toString(StandardCharsets.UTF_8);
+    content.release();
+    return value;
+  }
+
+  @Test
+  public void testHitAndMiss() {
+    RouterResponseCache cache = createCache(1024 * 1024, 1000);
+    VenicePath path = createPath(BATCH_STORE, 1, "key");
+    Assert.assertTrue(cache.isEnabled(path));
+    Assert.assertFalse(cache.isEnabled(createPath("other_store", 1, "key")));
+
+    Assert.assertNull(cache.get(path));
+    FullHttpResponse response = createResponse(HttpResponseStatus.OK, "value");
+    cache.put(path, response);
+    // The cache keeps its own copy of the content
+    response.release();
+
+    FullHttpResponse cachedResponse = cache.get(createPath(BATCH_STORE, 1, "key"));
+    Assert.assertNotNull(cachedResponse);
+    Assert.assertEquals(cachedResponse.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(cachedResponse.headers().get(HttpConstants.VENICE_SCHEMA_ID), "1");
+    Assert.assertEquals(readAndRelease(cachedResponse), "value");
+    Assert.assertEquals(readAndRelease(cache.get(path)), "value");
+
+    // Other keys, other versions and not found responses are not served from the cache
+    Assert.assertNull(cache.get(createPath(BATCH_STORE, 1, "other_key")));
+    Assert.assertNull(cache.get(createPath(BATCH_STORE, 2, "key")));
+    VenicePath notFoundPath = createPath(BATCH_STORE, 1, "missing_key");
+    cache.put(notFoundPath, createResponse(HttpResponseStatus.NOT_FOUND, ""));
+    Assert.assertNull(cache.get(notFoundPath));
+
+    // Compressed values are only served to the clients which can decompress them
+    VenicePath compressedPath = createPath(BATCH_STORE, 1, "compressed_key");
+    FullHttpResponse compressedResponse = createResponse(HttpResponseStatus.OK, "compressed");
+    compressedResponse.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, CompressionStrategy.GZIP.getValue());
+    cache.put(compressedPath, compressedResponse);
+    Assert.assertNull(cache.get(compressedPath));
+    doReturn(true).when(compressedPath.getResponseDecompressor()).canPassThroughResponse(CompressionStrategy.GZIP);
+    Assert.assertEquals(readAndRelease(cache.get(compressedPath)), "compressed");
+
+    verify(stats, times(3)).recordResponseCacheHit(BATCH_STORE);
+    verify(stats, times(5)).recordResponseCacheMiss(BATCH_STORE);
+    cache.clear();
+    Assert.assertEquals(cache.getSizeInBytes(), 0);
+  }
+
+  @Test
+  public void testInvalidateOnVersionSwap() {
+    RouterResponseCache cache = createCache(1024 * 1024, 1000);
+    VenicePath batchPath = createPath(BATCH_STORE, 1, "key");
+    VenicePath hybridPath = createPath(HYBRID_STORE, 1, "key");
+    cache.put(batchPath, createResponse(HttpResponseStatus.OK, "batch"));
+    cache.put(hybridPath, createResponse(HttpResponseStatus.OK, "hybrid"));
+
+    cache.invalidate(BATCH_STORE);
+    Assert.assertNull(cache.get(batchPath));
+    Assert.assertEquals(readAndRelease(cache.get(hybridPath)), "hybrid");
+    cache.invalidate(HYBRID_STORE);
+    Assert.assertNull(cache.get(hybridPath));
+    Assert.assertEquals(cache.getSizeInBytes(), 0);
+  }
+
+  @Test
+  public void testHybridStoreTtl() {
+    RouterResponseCache cache = createCache(1024 * 1024, 1000);
+    VenicePath batchPath = createPath(BATCH_STORE, 1, "key");
+    VenicePath hybridPath = createPath(HYBRID_STORE, 1, "key");
+    cache.put(batchPath, createResponse(HttpResponseStatus.OK, "batch"));
+    cache.put(hybridPath, createResponse(HttpResponseStatus.OK, "hybrid"));
+    Assert.assertEquals(readAndRelease(cache.get(hybridPath)), "hybrid");
+
+    time.addMilliseconds(1000);
+    Assert.assertNull(cache.get(hybridPath));
+    verify(stats).recordResponseCacheEviction(HYBRID_STORE);
+    // The values of batch-only stores never change within a version
+    Assert.assertEquals(readAndRelease(cache.get(batchPath)), "batch");
+
+    // Hybrid stores are not cached without a TTL
+    RouterResponseCache cacheWithoutTtl = createCache(1024 * 1024, 0);
+    cacheWithoutTtl.put(hybridPath, createResponse(HttpResponseStatus.OK, "hybrid"));
+    Assert.assertNull(cacheWithoutTtl.get(hybridPath));
+    Assert.assertEquals(cacheWithoutTtl.getSizeInBytes(), 0);
+  }
+
+  @Test
+  public void testEviction() {
+    // Each of the 16 segments can only hold one entry
+    RouterResponseCache cache = createCache(16 * 300, 1000);
+    int keyCount = 1000;
+    for (int i = 0; i < keyCount; i++) {
+      cache.put(createPath(BATCH_STORE, 1, "key_" + i), createResponse(HttpResponseStatus.OK, "value_" + i));
+    }
+    Assert.assertTrue(cache.getSizeInBytes() <= 16 * 300);
+    int hitCount = 0;
+    for (int i = 0; i < keyCount; i++) {
+      FullHttpResponse response = cache.get(createPath(BATCH_STORE, 1, "key_" + i));
+      if (response != null) {
+        Assert.assertEquals(readAndRelease(response), "value_" + i);
+        hitCount++;
+      }
+    }
+    Assert.assertTrue(hitCount > 0 && hitCount <= 16, "Unexpected hit count: " + hitCount);
+    verify(stats, times(keyCount - hitCount)).recordResponseCacheEviction(BATCH_STORE);
+    cache.clear();
+    Assert.assertEquals(cache.getSizeInBytes(), 0);
+
+    // A value larger than a segment is not kept
+    VenicePath largePath = createPath(BATCH_STORE, 1, "large_key");
+    cache.put(largePath, createResponse(HttpResponseStatus.OK, new String(new char[1000])));
+    Assert.assertNull(cache.get(largePath));
+    Assert.assertEquals(cache.getSizeInBytes(), 0);
+  }
+}
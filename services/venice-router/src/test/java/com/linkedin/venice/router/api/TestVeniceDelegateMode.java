@@ -47,6 +47,7 @@ import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.Utils;
 import io.netty.handler.codec.http.HttpMethod;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -308,6 +309,56 @@ public class TestVeniceDelegateMode {
     verify(retryManager, times(1)).isRetryAllowed(anyInt());
   }
 
+  @Test
+  public void testScatterWithSingleGetWithLatencyAwareReplicaSelection() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+    RouterKey key = new RouterKey("key_1".getBytes());
+    List<RouterKey> keys = new ArrayList<>();
+    keys.add(key);
+    String requestMethod = HttpMethod.GET.name();
+    Map<RouterKey, String> keyPartitionMap = new HashMap<>();
+    String partitionName = resourceName + "_1";
+    keyPartitionMap.put(key, partitionName);
+    PartitionFinder partitionFinder = getPartitionFinder(keyPartitionMap, 2);
+    Instance instance1 = new Instance("host1_123", "host1", 123);
+    Instance instance2 = new Instance("host2_123", "host2", 123);
+    Instance instance3 = new Instance("host3_123", "host3", 123);
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(LEAST_LOADED_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    doReturn(true).when(config).isLatencyAwareReplicaSelectionEnabled();
+    // The second replica is much slower than the others
+    RouteHttpRequestStats routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    doReturn(1.0).when(routeHttpRequestStats).getExpectedLatencyCost(instance1.getNodeId());
+    doReturn(100.0).when(routeHttpRequestStats).getExpectedLatencyCost(instance2.getNodeId());
+    doReturn(2.0).when(routeHttpRequestStats).getExpectedLatencyCost(instance3.getNodeId());
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+
+    Set<Instance> selectedHosts = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      VenicePath path = getVenicePath(resourceName, RequestType.SINGLE_GET, keys);
+      Scatter<Instance, VenicePath, RouterKey> scatter = new Scatter(path, getPathParser(), VeniceRole.REPLICA);
+      Map<String, List<Instance>> partitionInstanceMap = new HashMap<>();
+      partitionInstanceMap.put(partitionName, new ArrayList<>(Arrays.asList(instance1, instance2, instance3)));
+      Scatter<Instance, VenicePath, RouterKey> finalScatter = scatterMode.scatter(
+          scatter,
+          requestMethod,
+          resourceName,
+          partitionFinder,
+          getHostFinder(partitionInstanceMap),
+          getHostHealthMonitor(),
+          VeniceRole.REPLICA);
+      List<Instance> hosts = finalScatter.getOnlineRequests().iterator().next().getHosts();
+      Assert.assertEquals(hosts.size(), 1, "There should be only one chose host");
+      selectedHosts.add(hosts.get(0));
+    }
+    // The slowest replica always loses against the other choice
+    Assert.assertEquals(selectedHosts, new HashSet<>(Arrays.asList(instance1, instance3)));
+  }
+
   @Test(expectedExceptions = RouterException.class, expectedExceptionsMessageRegExp = ".*not available to serve request of type: SINGLE_GET")
   public void testScatterWithSingleGetWithNotAvailablePartition() throws RouterException {
     String storeName = Utils.getUniqueString("test_store");
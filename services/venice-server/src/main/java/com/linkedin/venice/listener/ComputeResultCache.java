@@ -0,0 +1,306 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A bounded cache of the serialized compute results of the stores which opted in via
+ * {@link com.linkedin.venice.ConfigKeys#SERVER_COMPUTE_RESULT_CACHE_STORE_ALLOWLIST}, so that the same compute request
+ * on a hot key is served without reading, deserializing and computing the value again.
+ *
+ * The cache key is the resource name (store version) plus the key as stored in the storage engine, and each entry
+ * holds the results of the different compute requests on that key. The compute requests are identified by
+ * {@link #getRequestId}, which interns them together with the value schema they are evaluated against, so the
+ * potentially large request bodies are not kept by each entry.
+ *
+ * The entries of a key are dropped by every write to that key, through the listener registered on the storage engine
+ * by {@link #registerStorageEngine}. A result computed from a value read before a concurrent write must not be cached
+ * after the invalidation of that write, so the callers capture {@link #getInvalidationStamp} before reading the value,
+ * and {@link #put} ignores the result if any write to a key of the same stripe happened in the meantime.
+ *
+ * The cache is bounded by the total size of the keys and results, with LRU eviction, which is also how the entries of
+ * the retired versions are reclaimed. To limit lock contention, the entries are spread across several independently
+ * locked segments.
+ */
+public class ComputeResultCache {
+  private static final Logger LOGGER = LogManager.getLogger(ComputeResultCache.class);
+  private static final int SEGMENT_COUNT = 16;
+  /**
+   * Each stripe belongs to a single segment, so that the stamps are only bumped under the lock of that segment.
+   */
+  private static final int INVALIDATION_STRIPE_COUNT = SEGMENT_COUNT * 64;
+  /**
+   * Rough estimation of the heap overhead of each result, so that the cache stays bounded even for tiny results.
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+  /**
+   * Max number of distinct compute requests to intern. Once reached, the ids are reset, and the entries of the
+   * previous ids age out of the cache.
+   */
+  private static final int MAX_REQUEST_ID_COUNT = 1024;
+
+  private final Set<String> enabledStores;
+  private final Segment[] segments;
+  private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STRIPE_COUNT);
+  private final Map<RequestKey, Long> requestIds = new VeniceConcurrentHashMap<>();
+  private final AtomicLong nextRequestId = new AtomicLong();
+
+  public ComputeResultCache(Set<String> enabledStores, long capacityInBytes) {
+    this.enabledStores = enabledStores;
+    long segmentCapacityInBytes = Math.max(1, capacityInBytes / SEGMENT_COUNT);
+    this.segments = new Segment[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(segmentCapacityInBytes);
+    }
+    LOGGER.info(
+        "Compute result cache is enabled for stores: {}, with capacity: {} bytes",
+        enabledStores,
+        capacityInBytes);
+  }
+
+  public boolean isEnabled(String storeName) {
+    return enabledStores.contains(storeName);
+  }
+
+  /**
+   * Invalidates the cached results of each key written to the given storage engine from now on.
+   */
+  public void registerStorageEngine(StorageEngine storageEngine) {
+    String resourceName = storageEngine.getStoreVersionName();
+    storageEngine.setKeyWriteListener(key -> invalidate(resourceName, key));
+  }
+
+  /**
+   * @return the id of the given compute request evaluated against the given value schema, which is the same for all
+   *         the equal requests until the ids are reset
+   */
+  public long getRequestId(int valueSchemaId, ComputeRequest computeRequest) {
+    RequestKey requestKey = new RequestKey(valueSchemaId, computeRequest);
+    Long requestId = requestIds.get(requestKey);
+    if (requestId == null) {
+      if (requestIds.size() >= MAX_REQUEST_ID_COUNT) {
+        requestIds.clear();
+      }
+      requestId = requestIds.computeIfAbsent(requestKey, k -> nextRequestId.getAndIncrement());
+    }
+    return requestId;
+  }
+
+  /**
+   * @return the stamp to pass to {@link #put}, which needs to be captured before reading the value of the given key
+   */
+  public long getInvalidationStamp(byte[] key) {
+    return invalidationStamps.get(getStripe(Arrays.hashCode(key)));
+  }
+
+  /**
+   * @return the cached result of the given compute request on the given key, or null if there is none
+   */
+  public byte[] get(String resourceName, byte[] key, long requestId) {
+    CacheKey cacheKey = new CacheKey(resourceName, key);
+    Segment segment = getSegment(cacheKey);
+    synchronized (segment) {
+      CacheEntry entry = segment.map.get(cacheKey);
+      return entry == null ? null : entry.results.get(requestId);
+    }
+  }
+
+  /**
+   * Caches the result of the given compute request on the given key, unless a key of the same stripe was written
+   * since the given stamp was captured.
+   */
+  public void put(String resourceName, byte[] key, long requestId, byte[] result, long invalidationStamp) {
+    CacheKey cacheKey = new CacheKey(resourceName, key);
+    Segment segment = getSegment(cacheKey);
+    synchronized (segment) {
+      if (invalidationStamps.get(getStripe(cacheKey.keyHashCode)) != invalidationStamp) {
+        return;
+      }
+      segment.put(cacheKey, requestId, result);
+    }
+  }
+
+  /**
+   * Drops the cached results of the given key, which must be called after the new value is visible to the readers.
+   */
+  public void invalidate(String resourceName, byte[] key) {
+    CacheKey cacheKey = new CacheKey(resourceName, key);
+    Segment segment = getSegment(cacheKey);
+    synchronized (segment) {
+      invalidationStamps.incrementAndGet(getStripe(cacheKey.keyHashCode));
+      segment.remove(cacheKey);
+    }
+  }
+
+  /**
+   * Drops all the cached results of the given resource.
+   */
+  public void invalidate(String resourceName) {
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = segment.map.entrySet().iterator();
+        while (iterator.hasNext()) {
+          Map.Entry<CacheKey, CacheEntry> entry = iterator.next();
+          if (entry.getKey().resourceName.equals(resourceName)) {
+            iterator.remove();
+            segment.sizeInBytes -= entry.getValue().sizeInBytes;
+          }
+        }
+      }
+    }
+  }
+
+  public long getSizeInBytes() {
+    long sizeInBytes = 0;
+    for (Segment segment: segments) {
+      synchronized (segment) {
+        sizeInBytes += segment.sizeInBytes;
+      }
+    }
+    return sizeInBytes;
+  }
+
+  private static int getStripe(int keyHashCode) {
+    return (keyHashCode & Integer.MAX_VALUE) % INVALIDATION_STRIPE_COUNT;
+  }
+
+  private Segment getSegment(CacheKey key) {
+    // Consistent with the stripes, since the stripe count is a multiple of the segment count
+    return segments[(key.keyHashCode & Integer.MAX_VALUE) % SEGMENT_COUNT];
+  }
+
+  private static class Segment {
+    private final long capacityInBytes;
+    private final LinkedHashMap<CacheKey, CacheEntry> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes = 0;
+
+    Segment(long capacityInBytes) {
+      this.capacityInBytes = capacityInBytes;
+    }
+
+    void put(CacheKey key, long requestId, byte[] result) {
+      CacheEntry entry = map.get(key);
+      if (entry == null) {
+        entry = new CacheEntry(key.getSizeInBytes());
+        map.put(key, entry);
+        sizeInBytes += entry.sizeInBytes;
+      }
+      long sizeDelta = entry.put(requestId, result);
+      sizeInBytes += sizeDelta;
+      Iterator<CacheEntry> iterator = map.values().iterator();
+      // The updated entry is the most recently used one, so it is only evicted if it exceeds the capacity by itself
+      while (sizeInBytes > capacityInBytes && iterator.hasNext()) {
+        CacheEntry eldest = iterator.next();
+        iterator.remove();
+        sizeInBytes -= eldest.sizeInBytes;
+      }
+    }
+
+    void remove(CacheKey key) {
+      CacheEntry entry = map.remove(key);
+      if (entry != null) {
+        sizeInBytes -= entry.sizeInBytes;
+      }
+    }
+  }
+
+  private static class CacheKey {
+    private final String resourceName;
+    private final byte[] key;
+    private final int keyHashCode;
+    private final int hashCode;
+
+    CacheKey(String resourceName, byte[] key) {
+      this.resourceName = resourceName;
+      this.key = key;
+      this.keyHashCode = Arrays.hashCode(key);
+      this.hashCode = 31 * resourceName.hashCode() + keyHashCode;
+    }
+
+    int getSizeInBytes() {
+      return resourceName.length() + key.length + ENTRY_OVERHEAD_IN_BYTES;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return hashCode == other.hashCode && Arrays.equals(key, other.key) && resourceName.equals(other.resourceName);
+    }
+  }
+
+  /**
+   * The results of the different compute requests on the same key, which are invalidated together.
+   */
+  private static class CacheEntry {
+    private final Map<Long, byte[]> results = new HashMap<>(4);
+    private long sizeInBytes;
+
+    CacheEntry(long keySizeInBytes) {
+      this.sizeInBytes = keySizeInBytes;
+    }
+
+    /**
+     * @return the change of the size of this entry
+     */
+    long put(long requestId, byte[] result) {
+      byte[] previousResult = results.put(requestId, result);
+      long sizeDelta = result.length + (previousResult == null ? ENTRY_OVERHEAD_IN_BYTES : -previousResult.length);
+      sizeInBytes += sizeDelta;
+      return sizeDelta;
+    }
+  }
+
+  private static class RequestKey {
+    private final int valueSchemaId;
+    private final ComputeRequest computeRequest;
+    private final int hashCode;
+
+    RequestKey(int valueSchemaId, ComputeRequest computeRequest) {
+      this.valueSchemaId = valueSchemaId;
+      this.computeRequest = computeRequest;
+      this.hashCode = 31 * valueSchemaId + computeRequest.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof RequestKey)) {
+        return false;
+      }
+      RequestKey other = (RequestKey) o;
+      return hashCode == other.hashCode && valueSchemaId == other.valueSchemaId
+          && Objects.equals(computeRequest, other.computeRequest);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.linkedin.venice.listener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Selects the K items with the highest scores among the ones added to it. The selected items are kept in a min-heap,
+ * so that an item which cannot make it into the top K is rejected by a single comparison with the lowest selected
+ * score, before paying for its serialization.
+ *
+ * This class is not thread-safe, since each compute task uses its own instance.
+ */
+public class ComputeTopKSelector<T> {
+  private final int k;
+  private final PriorityQueue<ScoredItem<T>> heap;
+
+  public ComputeTopKSelector(int k) {
+    if (k <= 0) {
+      throw new IllegalArgumentException("K must be positive, got: " + k);
+    }
+    this.k = k;
+    this.heap = new PriorityQueue<>(k, Comparator.comparingDouble(item -> item.score));
+  }
+
+  /**
+   * @return whether an item with the given score would be selected, as of now
+   */
+  public boolean isCandidate(double score) {
+    if (Double.isNaN(score)) {
+      return false;
+    }
+    return heap.size() < k || score > heap.peek().score;
+  }
+
+  /**
+   * @return the item which is not selected anymore, which is either the given item if it is not a candidate, or the
+   *         item with the lowest score if the given item took its place, or null if no item was dropped
+   */
+  public T add(double score, T item) {
+    if (!isCandidate(score)) {
+      return item;
+    }
+    T droppedItem = heap.size() < k ? null : heap.poll().item;
+    heap.add(new ScoredItem<>(score, item));
+    return droppedItem;
+  }
+
+  /**
+   * @return the selected items, in no particular order
+   */
+  public List<T> getItems() {
+    List<T> items = new ArrayList<>(heap.size());
+    for (ScoredItem<T> scoredItem: heap) {
+      items.add(scoredItem.item);
+    }
+    return items;
+  }
+
+  public int size() {
+    return heap.size();
+  }
+
+  private static class ScoredItem<T> {
+    final double score;
+    final T item;
+
+    ScoredItem(double score, T item) {
+      this.score = score;
+      this.item = item;
+    }
+  }
+}
@@ -85,13 +85,13 @@ public class ListenerService extends AbstractVeniceService {
     this.isGrpcEnabled = serverConfig.isGrpcEnabled();
     this.grpcPort = serverConfig.getGrpcPort();
 
-    executor = createThreadPool(
+    executor = createRequestThreadPool(
         serverConfig.getRestServiceStorageThreadNum(),
         "StorageExecutionThread",
         serverConfig.getDatabaseLookupQueueCapacity());
     new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
 
-    computeExecutor = createThreadPool(
+    computeExecutor = createRequestThreadPool(
         serverConfig.getServerComputeThreadNum(),
         "StorageComputeThread",
         serverConfig.getComputeQueueCapacity());
@@ -165,7 +165,8 @@ public class ListenerService extends AbstractVeniceService {
     if (isGrpcEnabled && grpcServer == null) {
       List<ServerInterceptor> interceptors = channelInitializer.initGrpcInterceptors();
       VeniceServerGrpcRequestProcessor requestProcessor = channelInitializer.initGrpcRequestProcessor();
-      grpcExecutor = createThreadPool(serverConfig.getGrpcWorkerThreadCount(), "GrpcWorkerThread", nettyBacklogSize);
+      grpcExecutor =
+          createRequestThreadPool(serverConfig.getGrpcWorkerThreadCount(), "GrpcWorkerThread", nettyBacklogSize);
 
       VeniceGrpcServerConfig.Builder grpcServerBuilder = new VeniceGrpcServerConfig.Builder().setPort(grpcPort)
           .addService(new VeniceReadServiceImpl(requestProcessor))
@@ -225,6 +226,24 @@ public class ListenerService extends AbstractVeniceService {
         serverConfig.getBlockingQueueType());
   }
 
+  /**
+   * Creates a pool serving read requests, which runs each request on its own virtual thread when
+   * {@link VeniceServerConfig#isVirtualThreadExecutorEnabled()} is set, or on {@param threadCount} platform threads
+   * otherwise.
+   */
+  protected ThreadPoolExecutor createRequestThreadPool(int threadCount, String threadNamePrefix, int capacity) {
+    if (!serverConfig.isVirtualThreadExecutorEnabled()) {
+      return createThreadPool(threadCount, threadNamePrefix, capacity);
+    }
+    return ThreadPoolFactory.createVirtualThreadPerTaskExecutor(
+        serverConfig.getVirtualThreadMaxConcurrency(),
+        threadCount,
+        threadNamePrefix,
+        serverConfig.getRegionName(),
+        capacity,
+        serverConfig.getBlockingQueueType());
+  }
+
   protected StorageReadRequestHandler createRequestHandler(
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
@@ -66,6 +66,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
           body = obj.getResponseBody();
           schemaIdHeader = obj.getResponseSchemaIdHeader();
           statsContext.setResponseSize(body.readableBytes());
+          statsContext.setDirectResponseBuffer(body.isDirect());
         } else {
           body = Unpooled.EMPTY_BUFFER;
           responseStatus = NOT_FOUND;
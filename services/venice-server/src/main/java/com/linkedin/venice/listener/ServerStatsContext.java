@@ -74,6 +74,11 @@ public class ServerStatsContext {
   private boolean isMisroutedStoreVersion = false;
   private double flushLatency = -1;
   private int responseSize = -1;
+  /**
+   * Whether the response body is backed by a direct buffer, such as the pooled buffers used by the single-get direct
+   * buffer path, as opposed to heap memory allocated for the request.
+   */
+  private boolean isDirectResponseBuffer = false;
 
   public boolean isNewRequest() {
     return newRequest;
@@ -118,6 +123,7 @@ public class ServerStatsContext {
     isMisroutedStoreVersion = false;
     flushLatency = -1;
     responseSize = -1;
+    isDirectResponseBuffer = false;
 
     newRequest = false;
   }
@@ -220,6 +226,10 @@ public class ServerStatsContext {
     this.responseSize = size;
   }
 
+  public void setDirectResponseBuffer(boolean isDirectResponseBuffer) {
+    this.isDirectResponseBuffer = isDirectResponseBuffer;
+  }
+
   public void recordBasicMetrics(ServerHttpRequestStats serverHttpRequestStats) {
     if (serverHttpRequestStats != null) {
       if (this.responseStatsRecorder != null) {
@@ -245,6 +255,9 @@ public class ServerStatsContext {
       if (responseSize >= 0) {
         serverHttpRequestStats.recordResponseSize(responseSize);
       }
+      if (responseSize > 0) {
+        serverHttpRequestStats.recordResponseBufferAllocation(responseSize, isDirectResponseBuffer);
+      }
     }
   }
 
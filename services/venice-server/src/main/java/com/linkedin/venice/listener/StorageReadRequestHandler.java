@@ -15,16 +15,20 @@ import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.MultiGetDirectBuffers;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeFilter;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
@@ -76,12 +80,15 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.StoreVersionStateUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +99,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -123,12 +131,20 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
   private final int parallelBatchGetChunkSize;
+  private final boolean singleGetDirectBufferEnabled;
+  private final int singleGetDirectBufferSize;
+  private final boolean storageMultiGetEnabled;
+  private final int storageMultiGetBatchSize;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
       new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Consumer<String> resourceReadUsageTracker;
+  /**
+   * Null if no store has the compute result cache enabled.
+   */
+  private final ComputeResultCache computeResultCache;
 
   /**
    * The function handles below are used to drive the K/V size profiling, which is enabled (or not) by an immutable
@@ -185,6 +201,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
 
     final Map<String, Object> computeContext = new HashMap<>();
+
+    final MultiGetDirectBuffers multiGetDirectBuffers = new MultiGetDirectBuffers();
   }
 
   private final ThreadLocal<ReusableObjects> threadLocalReusableObjects = ThreadLocal.withInitial(ReusableObjects::new);
@@ -252,6 +270,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         : SerializerDeserializerFactory::getAvroGenericSerializer;
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetChunkSize = serverConfig.getParallelBatchGetChunkSize();
+    this.singleGetDirectBufferEnabled = serverConfig.isSingleGetDirectBufferEnabled();
+    this.singleGetDirectBufferSize = serverConfig.getSingleGetDirectBufferSize();
+    this.storageMultiGetEnabled = serverConfig.isStorageMultiGetEnabled();
+    this.storageMultiGetBatchSize = serverConfig.getStorageMultiGetBatchSize();
     if (serverConfig.isEnableParallelBatchGet()) {
       this.multiGetHandler = this::handleMultiGetRequestInParallel;
       this.computeHandler = this::handleComputeRequestInParallel;
@@ -263,6 +285,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.computeResponseProvider = computeResponseProvider;
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
+    this.computeResultCache = serverConfig.getComputeResultCacheStoreAllowlist().isEmpty()
+        ? null
+        : new ComputeResultCache(
+            serverConfig.getComputeResultCacheStoreAllowlist(),
+            serverConfig.getComputeResultCacheCapacityInBytes());
     if (optionalResourceReadUsageTracker.isPresent()) {
       ResourceReadUsageTracker tracker = optionalResourceReadUsageTracker.get();
       this.resourceReadUsageTracker = tracker::recordReadUsage;
@@ -439,6 +466,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
        * the {@link storageEngineRepository}.
        */
       s.storageEngine = getStorageEngineOrThrow(storeVersion);
+      if (isComputeResultCacheEnabled(storeVersion)) {
+        // The writes to the new engine before this point were not seen by the cache
+        computeResultCache.registerStorageEngine(s.storageEngine);
+        computeResultCache.invalidate(storeVersion);
+      }
     }
     return s;
   }
@@ -449,9 +481,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     StoreDeserializerCache<GenericRecord> storeDeserializerCache = storeDeserializerCacheMap.computeIfAbsent(
         storeName,
         s -> new AvroStoreDeserializerCache<>(this.schemaRepository, s, this.fastAvroEnabled));
+    if (isComputeResultCacheEnabled(storeVersion)) {
+      computeResultCache.registerStorageEngine(storageEngine);
+    }
     return new PerStoreVersionState(storageEngine, storeDeserializerCache);
   }
 
+  private boolean isComputeResultCacheEnabled(String storeVersion) {
+    return computeResultCache != null
+        && computeResultCache.isEnabled(Version.parseStoreFromKafkaTopicName(storeVersion));
+  }
+
   private StorageEngine getStorageEngineOrThrow(String storeVersion) {
     StorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(storeVersion);
     if (storageEngine == null) {
@@ -480,8 +520,19 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       SingleGetResponseWrapper response = new SingleGetResponseWrapper();
       response.setCompressionStrategy(StoreVersionStateUtils.getCompressionStrategy(svs));
 
-      ValueRecord valueRecord =
-          SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
+      ValueRecord valueRecord;
+      if (singleGetDirectBufferEnabled && !isChunked) {
+        valueRecord = SingleGetChunkingAdapter.getIntoDirectBuffer(
+            storageEngine,
+            request.getPartition(),
+            key,
+            PooledByteBufAllocator.DEFAULT,
+            singleGetDirectBufferSize,
+            response.getStats());
+      } else {
+        valueRecord =
+            SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
+      }
       response.setValueRecord(valueRecord);
 
       response.getStats().addKeySize(key.length);
@@ -568,31 +619,39 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       List<MultiGetRouterRequestKeyV1> keys,
       RequestContext requestContext,
       MultiGetResponseWrapper response) {
-    MultiGetRouterRequestKeyV1 key;
-    MultiGetResponseRecordV1 record;
-    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
-      key = keys.get(subChunkCur);
-      response.getStats().addKeySize(key.getKeyBytes().remaining());
-      record = BatchGetChunkingAdapter.get(
-          requestContext.storeVersion.storageEngine,
-          key.partitionId,
-          key.keyBytes,
-          requestContext.isChunked,
-          response.getStats());
-      if (record == null) {
-        if (requestContext.isStreaming) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-          response.addRecord(record);
+    if (this.storageMultiGetEnabled) {
+      MultiGetDirectBuffers directBuffers = threadLocalReusableObjects.get().multiGetDirectBuffers;
+      Map<Integer, List<MultiGetRouterRequestKeyV1>> keysByPartition =
+          groupKeysByPartition(startPos, endPos, keys, MultiGetRouterRequestKeyV1::getPartitionId);
+      for (Map.Entry<Integer, List<MultiGetRouterRequestKeyV1>> entry: keysByPartition.entrySet()) {
+        List<MultiGetRouterRequestKeyV1> partitionKeys = entry.getValue();
+        List<ByteBuffer> keyBytes = new ArrayList<>(partitionKeys.size());
+        for (MultiGetRouterRequestKeyV1 key: partitionKeys) {
+          response.getStats().addKeySize(key.getKeyBytes().remaining());
+          keyBytes.add(key.getKeyBytes());
         }
-      } else {
-        record.keyIndex = key.keyIndex;
-        response.addRecord(record);
+        BatchGetChunkingAdapter.getInBatch(
+            requestContext.storeVersion.storageEngine,
+            entry.getKey(),
+            keyBytes,
+            requestContext.isChunked,
+            this.storageMultiGetBatchSize,
+            directBuffers,
+            response.getStats(),
+            (record, index) -> addMultiGetRecord(partitionKeys.get(index), record, requestContext, response));
+      }
+    } else {
+      MultiGetRouterRequestKeyV1 key;
+      for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+        key = keys.get(subChunkCur);
+        response.getStats().addKeySize(key.getKeyBytes().remaining());
+        MultiGetResponseRecordV1 record = BatchGetChunkingAdapter.get(
+            requestContext.storeVersion.storageEngine,
+            key.partitionId,
+            key.keyBytes,
+            requestContext.isChunked,
+            response.getStats());
+        addMultiGetRecord(key, record, requestContext, response);
       }
     }
 
@@ -600,6 +659,47 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     response.getResponseBody();
   }
 
+  private static void addMultiGetRecord(
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record,
+      RequestContext requestContext,
+      MultiGetResponseWrapper response) {
+    if (record == null) {
+      if (requestContext.isStreaming) {
+        // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+        // non-existing keys in the response if the response is partial.
+        record = new MultiGetResponseRecordV1();
+        // Negative key index to indicate the non-existing keys
+        record.keyIndex = Math.negateExact(key.keyIndex);
+        record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+        record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+        response.addRecord(record);
+      }
+    } else {
+      record.keyIndex = key.keyIndex;
+      response.addRecord(record);
+    }
+  }
+
+  /**
+   * Groups the keys within [startPos, endPos) by partition, so that each group can be looked up with batched storage
+   * engine calls. The relative order of the keys is preserved within each group. The response records do not need to
+   * follow the request order, since each of them carries the index of its key.
+   */
+  private static <K> Map<Integer, List<K>> groupKeysByPartition(
+      int startPos,
+      int endPos,
+      List<K> keys,
+      ToIntFunction<K> partitionGetter) {
+    Map<Integer, List<K>> keysByPartition = new HashMap<>();
+    K key;
+    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      key = keys.get(subChunkCur);
+      keysByPartition.computeIfAbsent(partitionGetter.applyAsInt(key), p -> new ArrayList<>()).add(key);
+    }
+    return keysByPartition;
+  }
+
   public CompletableFuture<ReadResponse> handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     final int queueLen = this.executor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
@@ -702,6 +802,23 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     final RecordSerializer<GenericRecord> resultSerializer;
     final List<ComputeOperation> operations;
     final List<Schema.Field> operationResultFields;
+    final String resourceName;
+    /**
+     * Null if all the values are computed.
+     */
+    final ComputeFilter filter;
+    /**
+     * The number of results to return, and the position of the result field they are ranked by, or -1 if all the
+     * results are returned.
+     */
+    final int topKSize;
+    final int topKFieldPosition;
+    /**
+     * Null if the compute result cache is not enabled for the store, or if the results depend on the other values of
+     * the request, as is the case with a top K.
+     */
+    final ComputeResultCache resultCache;
+    final long resultCacheRequestId;
 
     ComputeRequestContext(ComputeRouterRequestWrapper request, StorageReadRequestHandler handler) {
       super(request, handler);
@@ -714,6 +831,43 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           handler.serverConfig.getZstdDictCompressionLevel());
       this.operations = request.getComputeRequest().getOperations();
       this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+      this.resourceName = request.getResourceName();
+      this.filter = ComputeFilter.fromFieldPredicates(request.getComputeRequest().getFilters());
+      TopK topK = request.getComputeRequest().getTopK();
+      if (topK == null) {
+        this.topKSize = -1;
+        this.topKFieldPosition = -1;
+      } else {
+        Schema.Field topKField = resultSchema.getField(topK.getField().toString());
+        if (topKField == null) {
+          throw new VeniceException("Top K field: " + topK.getField() + " is not part of the compute result schema");
+        }
+        if (topK.getK() <= 0) {
+          throw new VeniceException("Top K size must be positive, got: " + topK.getK());
+        }
+        this.topKSize = topK.getK();
+        this.topKFieldPosition = topKField.pos();
+      }
+      if (handler.isComputeResultCacheEnabled(resourceName) && filter == null && topK == null) {
+        this.resultCache = handler.computeResultCache;
+        this.resultCacheRequestId = resultCache.getRequestId(valueSchemaEntry.getId(), request.getComputeRequest());
+      } else {
+        this.resultCache = null;
+        this.resultCacheRequestId = -1;
+      }
+    }
+  }
+
+  /**
+   * The key of a value missing from the compute result cache, and the invalidation stamp captured before reading it.
+   */
+  private static class PendingComputeResult {
+    final byte[] cacheKey;
+    final long invalidationStamp;
+
+    PendingComputeResult(byte[] cacheKey, long invalidationStamp) {
+      this.cacheKey = cacheKey;
+      this.invalidationStamp = invalidationStamp;
     }
   }
 
@@ -734,54 +888,99 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         reusableObjects.resultRecordMap.computeIfAbsent(requestContext.resultSchema, GenericData.Record::new);
     reusableObjects.computeContext.clear();
 
+    Map<ComputeRouterRequestKeyV1, PendingComputeResult> pendingResults = null;
+    if (requestContext.resultCache != null) {
+      pendingResults = new IdentityHashMap<>(endPos - startPos);
+      keys = addCachedComputeRecords(startPos, endPos, keys, requestContext, pendingResults, response);
+      startPos = 0;
+      endPos = keys.size();
+    }
+    Map<ComputeRouterRequestKeyV1, PendingComputeResult> finalPendingResults = pendingResults;
+    /**
+     * The top K is selected among the keys of this task only, so a parallel request returns up to K results per task,
+     * and the client keeps the top K of all the results it receives.
+     */
+    ComputeTopKSelector<ComputeResponseRecordV1> topKSelector =
+        requestContext.topKSize > 0 ? new ComputeTopKSelector<>(requestContext.topKSize) : null;
+
     int hits = 0;
-    long serializeStartTimeInNS, computeStartTimeInNS;
-    ComputeRouterRequestKeyV1 key;
-    ComputeResponseRecordV1 record;
-    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
-      key = keys.get(subChunkCur);
-      response.getStats().addKeySize(key.getKeyBytes().remaining());
-      AvroRecordUtils.clearRecord(reusableResultRecord);
-      reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
-          requestContext.storeVersion.storageEngine,
-          key.getPartitionId(),
-          ByteUtils.extractByteArray(key.getKeyBytes()),
-          reusableObjects.byteBuffer,
-          reusableValueRecord,
-          reusableObjects.binaryDecoder,
-          requestContext.isChunked,
-          response.getStats(),
-          requestContext.valueSchemaEntry.getId(),
-          requestContext.storeVersion.storeDeserializerCache,
-          requestContext.compressor);
-      if (reusableValueRecord != null) {
-        computeStartTimeInNS = System.nanoTime();
-        reusableResultRecord = ComputeUtils.computeResult(
-            requestContext.operations,
-            requestContext.operationResultFields,
-            reusableObjects.computeContext,
+    if (this.storageMultiGetEnabled) {
+      // Each value is deserialized before the next one is copied, so they can all share the reusable buffer
+      IntFunction<byte[]> valueArrayProvider = size -> size <= reusableObjects.byteBuffer.capacity()
+          ? reusableObjects.byteBuffer.array()
+          : new byte[size];
+      int[] hitCounter = new int[1];
+      Map<Integer, List<ComputeRouterRequestKeyV1>> keysByPartition =
+          groupKeysByPartition(startPos, endPos, keys, ComputeRouterRequestKeyV1::getPartitionId);
+      for (Map.Entry<Integer, List<ComputeRouterRequestKeyV1>> entry: keysByPartition.entrySet()) {
+        List<ComputeRouterRequestKeyV1> partitionKeys = entry.getValue();
+        List<ByteBuffer> keyBytes = new ArrayList<>(partitionKeys.size());
+        for (ComputeRouterRequestKeyV1 key: partitionKeys) {
+          response.getStats().addKeySize(key.getKeyBytes().remaining());
+          keyBytes.add(key.getKeyBytes());
+        }
+        GenericRecordChunkingAdapter.INSTANCE.getInBatch(
+            requestContext.storeVersion.storageEngine,
+            entry.getKey(),
+            keyBytes,
+            requestContext.isChunked,
+            this.storageMultiGetBatchSize,
+            reusableObjects.multiGetDirectBuffers,
+            valueArrayProvider,
             reusableValueRecord,
-            reusableResultRecord);
-
-        serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
-        record = new ComputeResponseRecordV1();
-        record.keyIndex = key.getKeyIndex();
-        record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(reusableResultRecord));
-
-        response.getStats()
-            .addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
-        response.getStats()
-            .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
-        response.getStats().addReadComputeOutputSize(record.value.remaining());
+            reusableObjects.binaryDecoder,
+            response.getStats(),
+            requestContext.valueSchemaEntry.getId(),
+            requestContext.storeVersion.storeDeserializerCache,
+            requestContext.compressor,
+            (valueRecord, index) -> {
+              if (addComputeRecord(
+                  partitionKeys.get(index),
+                  valueRecord,
+                  reusableResultRecord,
+                  reusableObjects,
+                  requestContext,
+                  finalPendingResults,
+                  topKSelector,
+                  response)) {
+                hitCounter[0]++;
+              }
+            });
+      }
+      hits = hitCounter[0];
+    } else {
+      ComputeRouterRequestKeyV1 key;
+      for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+        key = keys.get(subChunkCur);
+        response.getStats().addKeySize(key.getKeyBytes().remaining());
+        reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
+            requestContext.storeVersion.storageEngine,
+            key.getPartitionId(),
+            ByteUtils.extractByteArray(key.getKeyBytes()),
+            reusableObjects.byteBuffer,
+            reusableValueRecord,
+            reusableObjects.binaryDecoder,
+            requestContext.isChunked,
+            response.getStats(),
+            requestContext.valueSchemaEntry.getId(),
+            requestContext.storeVersion.storeDeserializerCache,
+            requestContext.compressor);
+        if (addComputeRecord(
+            key,
+            reusableValueRecord,
+            reusableResultRecord,
+            reusableObjects,
+            requestContext,
+            pendingResults,
+            topKSelector,
+            response)) {
+          hits++;
+        }
+      }
+    }
 
-        response.addRecord(record);
-        hits++;
-      } else if (requestContext.isStreaming) {
-        // For streaming, we need to send back non-existing keys
-        record = new ComputeResponseRecordV1();
-        // Negative key index to indicate non-existing key
-        record.keyIndex = Math.negateExact(key.getKeyIndex());
-        record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    if (topKSelector != null) {
+      for (ComputeResponseRecordV1 record: topKSelector.getItems()) {
         response.addRecord(record);
       }
     }
@@ -792,6 +991,138 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     incrementOperatorCounters(response.getStats(), requestContext.operations, hits);
   }
 
+  /**
+   * Adds the cached results of the given keys to the response, and captures the invalidation stamps of the others
+   * before their values are read, so that their results can be cached once computed.
+   *
+   * @return the keys missing from the cache
+   */
+  private static List<ComputeRouterRequestKeyV1> addCachedComputeRecords(
+      int startPos,
+      int endPos,
+      List<ComputeRouterRequestKeyV1> keys,
+      ComputeRequestContext requestContext,
+      Map<ComputeRouterRequestKeyV1, PendingComputeResult> pendingResults,
+      ComputeResponseWrapper response) {
+    ComputeResultCache resultCache = requestContext.resultCache;
+    List<ComputeRouterRequestKeyV1> missedKeys = new ArrayList<>(endPos - startPos);
+    for (int i = startPos; i < endPos; i++) {
+      ComputeRouterRequestKeyV1 key = keys.get(i);
+      // The writes go through the storage engine with the chunking suffix for chunked stores
+      byte[] cacheKey = requestContext.isChunked
+          ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key.getKeyBytes()).array()
+          : ByteUtils.extractByteArray(key.getKeyBytes());
+      long invalidationStamp = resultCache.getInvalidationStamp(cacheKey);
+      byte[] result = resultCache.get(requestContext.resourceName, cacheKey, requestContext.resultCacheRequestId);
+      if (result == null) {
+        pendingResults.put(key, new PendingComputeResult(cacheKey, invalidationStamp));
+        missedKeys.add(key);
+        continue;
+      }
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = key.getKeyIndex();
+      // The cached array is never modified, so it can be shared by the responses
+      record.value = ByteBuffer.wrap(result);
+      response.addRecord(record);
+    }
+    response.getStats().incrementComputeResultCacheHitCount(endPos - startPos - missedKeys.size());
+    response.getStats().incrementComputeResultCacheMissCount(missedKeys.size());
+    return missedKeys;
+  }
+
+  /**
+   * Computes the result for the given value record, if any, and adds it to the response. The values which don't match
+   * the filter, and the results which are not part of the top K, are handled like missing keys, so that they are never
+   * serialized nor sent back.
+   *
+   * @param pendingResults the keys whose result should be cached, or null if the cache is disabled
+   * @param topKSelector the selector which the results are added to instead of the response, or null if there is no
+   *                     top K
+   * @return whether the result was computed
+   */
+  private static boolean addComputeRecord(
+      ComputeRouterRequestKeyV1 key,
+      GenericRecord valueRecord,
+      GenericRecord reusableResultRecord,
+      ReusableObjects reusableObjects,
+      ComputeRequestContext requestContext,
+      Map<ComputeRouterRequestKeyV1, PendingComputeResult> pendingResults,
+      ComputeTopKSelector<ComputeResponseRecordV1> topKSelector,
+      ComputeResponseWrapper response) {
+    ComputeResponseRecordV1 record;
+    if (valueRecord != null && requestContext.filter != null && !requestContext.filter.evaluate(valueRecord)) {
+      addMissingComputeRecord(key.getKeyIndex(), requestContext, response);
+      return false;
+    }
+    if (valueRecord != null) {
+      AvroRecordUtils.clearRecord(reusableResultRecord);
+      long computeStartTimeInNS = System.nanoTime();
+      GenericRecord resultRecord = ComputeUtils.computeResult(
+          requestContext.operations,
+          requestContext.operationResultFields,
+          reusableObjects.computeContext,
+          valueRecord,
+          reusableResultRecord);
+
+      double score = Double.NaN;
+      if (topKSelector != null) {
+        Object scoreValue = resultRecord.get(requestContext.topKFieldPosition);
+        score = scoreValue instanceof Number ? ((Number) scoreValue).doubleValue() : Double.NaN;
+        if (!topKSelector.isCandidate(score)) {
+          addMissingComputeRecord(key.getKeyIndex(), requestContext, response);
+          return true;
+        }
+      }
+
+      long serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
+      record = new ComputeResponseRecordV1();
+      record.keyIndex = key.getKeyIndex();
+      byte[] result = requestContext.resultSerializer.serialize(resultRecord);
+      record.value = ByteBuffer.wrap(result);
+
+      response.getStats()
+          .addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
+      response.getStats()
+          .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
+      response.getStats().addReadComputeOutputSize(record.value.remaining());
+
+      if (topKSelector != null) {
+        ComputeResponseRecordV1 droppedRecord = topKSelector.add(score, record);
+        if (droppedRecord != null) {
+          addMissingComputeRecord(droppedRecord.keyIndex, requestContext, response);
+        }
+        return true;
+      }
+      response.addRecord(record);
+      if (pendingResults != null) {
+        PendingComputeResult pendingResult = pendingResults.get(key);
+        requestContext.resultCache.put(
+            requestContext.resourceName,
+            pendingResult.cacheKey,
+            requestContext.resultCacheRequestId,
+            result,
+            pendingResult.invalidationStamp);
+      }
+      return true;
+    }
+    addMissingComputeRecord(key.getKeyIndex(), requestContext, response);
+    return false;
+  }
+
+  private static void addMissingComputeRecord(
+      int keyIndex,
+      ComputeRequestContext requestContext,
+      ComputeResponseWrapper response) {
+    if (requestContext.isStreaming) {
+      // For streaming, we need to send back non-existing keys
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      // Negative key index to indicate non-existing key
+      record.keyIndex = Math.negateExact(keyIndex);
+      record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+      response.addRecord(record);
+    }
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = ingestionMetadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
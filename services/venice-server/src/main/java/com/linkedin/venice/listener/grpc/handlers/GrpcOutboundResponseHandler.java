@@ -41,6 +41,8 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
 
       byte[] array = new byte[body.readableBytes()];
       body.getBytes(body.readerIndex(), array);
+      // The body is copied into the gRPC response, so it needs to be released here like Netty does on the HTTP path
+      body.release();
       veniceServerResponseBuilder.setData(ByteString.copyFrom(array))
           .setCompressionStrategy(compressionStrategy.getValue());
 
@@ -1,8 +1,10 @@
 package com.linkedin.venice.listener.request;
 
+import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
 import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
 
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
@@ -53,10 +55,11 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
       throw new VeniceException("Header: " + HttpConstants.VENICE_API_VERSION + " is missing");
     }
     int apiVersion = Integer.parseInt(apiVersionStr);
-    if (apiVersion <= 0 || apiVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
+    if (!ComputeRequestWrapper.isSupportedProtocolVersion(apiVersion)) {
       throw new VeniceException(
           "Compute API version " + apiVersion + " is invalid. " + "Latest version is "
-              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST + ", or " + COMPUTE_REQUEST_VERSION_V5
+              + " for the requests with filters or top K");
     }
 
     // TODO: xplore the possibility of streaming in the request bytes, and processing it in pipelined fashion
@@ -65,7 +68,7 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
 
     BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
-    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(decoder, null);
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(apiVersion, decoder, null);
 
     List<ComputeRouterRequestKeyV1> keys = DESERIALIZER.deserializeObjects(decoder);
     String schemaId = httpRequest.headers().get(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID);
@@ -143,4 +143,14 @@ public abstract class AbstractReadResponseStats implements ReadResponseStats, Re
   public void incrementHadamardProductCount(int count) {
     throwUnsupportedMetric();
   }
+
+  @Override
+  public void incrementComputeResultCacheHitCount(int count) {
+    throwUnsupportedMetric();
+  }
+
+  @Override
+  public void incrementComputeResultCacheMissCount(int count) {
+    throwUnsupportedMetric();
+  }
 }
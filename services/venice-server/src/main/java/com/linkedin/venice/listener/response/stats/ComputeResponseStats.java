@@ -16,6 +16,8 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
   private int cosineSimilarityCount = 0;
   private int hadamardProductCount = 0;
   private int countOperatorCount = 0;
+  private int computeResultCacheHitCount = 0;
+  private int computeResultCacheMissCount = 0;
 
   @Override
   public void addValueSize(int size) {
@@ -62,6 +64,16 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
     this.hadamardProductCount += count;
   }
 
+  @Override
+  public void incrementComputeResultCacheHitCount(int count) {
+    this.computeResultCacheHitCount += count;
+  }
+
+  @Override
+  public void incrementComputeResultCacheMissCount(int count) {
+    this.computeResultCacheMissCount += count;
+  }
+
   @Override
   public void recordMetrics(ServerHttpRequestStats stats) {
     super.recordMetrics(stats);
@@ -70,6 +82,8 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
     consumeIntIfAbove(stats::recordCountOperator, this.countOperatorCount, 0);
     consumeIntIfAbove(stats::recordDotProductCount, this.dotProductCount, 0);
     consumeIntIfAbove(stats::recordHadamardProduct, this.hadamardProductCount, 0);
+    consumeIntIfAbove(stats::recordComputeResultCacheHitCount, this.computeResultCacheHitCount, 0);
+    consumeIntIfAbove(stats::recordComputeResultCacheMissCount, this.computeResultCacheMissCount, 0);
     boolean isAssembledMultiChunkLargeValue = isAssembledMultiChunkLargeValue();
     consumeDoubleAndBooleanIfAbove(
         stats::recordReadComputeDeserializationLatency,
@@ -105,6 +119,8 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
       this.cosineSimilarityCount += otherStats.cosineSimilarityCount;
       this.hadamardProductCount += otherStats.hadamardProductCount;
       this.countOperatorCount += otherStats.countOperatorCount;
+      this.computeResultCacheHitCount += otherStats.computeResultCacheHitCount;
+      this.computeResultCacheMissCount += otherStats.computeResultCacheMissCount;
     }
   }
 }
@@ -48,6 +48,8 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor cosineSimilaritySensor;
   private final Sensor hadamardProductSensor;
   private final Sensor countOperatorSensor;
+  private final Sensor computeResultCacheHitCountSensor;
+  private final Sensor computeResultCacheMissCountSensor;
 
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
 
@@ -56,10 +58,12 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
 
   // Ratio sensors are not directly written to, but they still get their state updated indirectly
   @SuppressWarnings("unused")
-  private final Sensor successRequestKeyRatioSensor, successRequestRatioSensor;
+  private final Sensor successRequestKeyRatioSensor, successRequestRatioSensor, computeResultCacheHitRatioSensor;
   private final Sensor misroutedStoreVersionSensor;
   private final Sensor flushLatencySensor;
   private final Sensor responseSizeSensor;
+  private final Sensor heapResponseBufferBytesSensor;
+  private final Sensor directResponseBufferBytesSensor;
 
   private static final MetricsRepository dummySystemStoreMetricRepo = new MetricsRepository();
 
@@ -289,6 +293,25 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         () -> totalStats.countOperatorSensor,
         avgAndTotal());
 
+    /**
+     * Only recorded for the stores with the compute result cache enabled, in number of keys.
+     */
+    Rate computeResultCacheHit = new Rate();
+    Rate computeResultCacheMiss = new Rate();
+    computeResultCacheHitCountSensor = registerPerStoreAndTotal(
+        "compute_result_cache_hit_count",
+        totalStats,
+        () -> totalStats.computeResultCacheHitCountSensor,
+        computeResultCacheHit);
+    computeResultCacheMissCountSensor = registerPerStoreAndTotal(
+        "compute_result_cache_miss_count",
+        totalStats,
+        () -> totalStats.computeResultCacheMissCountSensor,
+        computeResultCacheMiss);
+    computeResultCacheHitRatioSensor = registerSensor(
+        "compute_result_cache_hit_ratio",
+        new TehutiUtils.RatioStat(computeResultCacheHit, computeResultCacheMiss, "compute_result_cache_hit_ratio"));
+
     earlyTerminatedEarlyRequestCountSensor = registerPerStoreAndTotal(
         "early_terminated_request_count",
         totalStats,
@@ -337,6 +360,22 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         totalStats,
         () -> totalStats.responseSizeSensor,
         TehutiUtils.getPercentileStat(getName(), getFullMetricName("response_size")));
+    /**
+     * Bytes of response bodies allocated on heap for each request vs. served out of pooled direct buffers, which
+     * helps to evaluate how much young-gen pressure the read path generates.
+     */
+    heapResponseBufferBytesSensor = registerPerStoreAndTotal(
+        "heap_response_buffer_bytes",
+        totalStats,
+        () -> totalStats.heapResponseBufferBytesSensor,
+        new Rate(),
+        new Avg());
+    directResponseBufferBytesSensor = registerPerStoreAndTotal(
+        "direct_response_buffer_bytes",
+        totalStats,
+        () -> totalStats.directResponseBufferBytesSensor,
+        new Rate(),
+        new Avg());
   }
 
   private Sensor registerPerStoreAndTotal(
@@ -450,6 +489,14 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     countOperatorSensor.record(count);
   }
 
+  public void recordComputeResultCacheHitCount(int count) {
+    computeResultCacheHitCountSensor.record(count);
+  }
+
+  public void recordComputeResultCacheMissCount(int count) {
+    computeResultCacheMissCountSensor.record(count);
+  }
+
   public void recordEarlyTerminatedEarlyRequest() {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
@@ -473,4 +520,12 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   public void recordResponseSize(int size) {
     responseSizeSensor.record(size);
   }
+
+  public void recordResponseBufferAllocation(int size, boolean isDirect) {
+    if (isDirect) {
+      directResponseBufferBytesSensor.record(size);
+    } else {
+      heapResponseBufferBytesSensor.record(size);
+    }
+  }
 }
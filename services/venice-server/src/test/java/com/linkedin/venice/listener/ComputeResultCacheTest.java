@@ -0,0 +1,98 @@
+package com.linkedin.venice.listener;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import java.util.Collections;
+import org.apache.avro.util.Utf8;
+import org.testng.annotations.Test;
+
+
+public class ComputeResultCacheTest {
+  private static final String STORE_NAME = "test-store";
+  private static final String RESOURCE_NAME = "test-store_v1";
+  private static final byte[] KEY = "key".getBytes();
+  private static final byte[] RESULT = "result".getBytes();
+
+  private static ComputeRequest createComputeRequest(String resultSchemaStr) {
+    ComputeRequest computeRequest = new ComputeRequest();
+    computeRequest.resultSchemaStr = new Utf8(resultSchemaStr);
+    computeRequest.operations = Collections.emptyList();
+    return computeRequest;
+  }
+
+  @Test
+  public void testGetAndPut() {
+    ComputeResultCache cache = new ComputeResultCache(Collections.singleton(STORE_NAME), 1024 * 1024);
+    assertTrue(cache.isEnabled(STORE_NAME));
+    assertFalse(cache.isEnabled("other-store"));
+
+    long requestId = cache.getRequestId(1, createComputeRequest("schema"));
+    // Equal requests share the same id, while the same request on another value schema doesn't
+    assertEquals(cache.getRequestId(1, createComputeRequest("schema")), requestId);
+    assertNotEquals(cache.getRequestId(2, createComputeRequest("schema")), requestId);
+    long otherRequestId = cache.getRequestId(1, createComputeRequest("other-schema"));
+    assertNotEquals(otherRequestId, requestId);
+
+    assertNull(cache.get(RESOURCE_NAME, KEY, requestId));
+    cache.put(RESOURCE_NAME, KEY, requestId, RESULT, cache.getInvalidationStamp(KEY));
+    assertEquals(cache.get(RESOURCE_NAME, "key".getBytes(), requestId), RESULT);
+    assertNull(cache.get(RESOURCE_NAME, KEY, otherRequestId));
+    assertNull(cache.get("test-store_v2", KEY, requestId));
+    assertTrue(cache.getSizeInBytes() > RESULT.length);
+
+    cache.invalidate(RESOURCE_NAME);
+    assertNull(cache.get(RESOURCE_NAME, KEY, requestId));
+    assertEquals(cache.getSizeInBytes(), 0);
+  }
+
+  @Test
+  public void testInvalidation() {
+    ComputeResultCache cache = new ComputeResultCache(Collections.singleton(STORE_NAME), 1024 * 1024);
+    long requestId = cache.getRequestId(1, createComputeRequest("schema"));
+    long otherRequestId = cache.getRequestId(1, createComputeRequest("other-schema"));
+    cache.put(RESOURCE_NAME, KEY, requestId, RESULT, cache.getInvalidationStamp(KEY));
+    cache.put(RESOURCE_NAME, KEY, otherRequestId, RESULT, cache.getInvalidationStamp(KEY));
+
+    // A write drops the results of all the compute requests on the key
+    cache.invalidate(RESOURCE_NAME, KEY);
+    assertNull(cache.get(RESOURCE_NAME, KEY, requestId));
+    assertNull(cache.get(RESOURCE_NAME, KEY, otherRequestId));
+    assertEquals(cache.getSizeInBytes(), 0);
+
+    // A result computed from a value read before a write is not cached after that write
+    long invalidationStamp = cache.getInvalidationStamp(KEY);
+    cache.invalidate(RESOURCE_NAME, KEY);
+    cache.put(RESOURCE_NAME, KEY, requestId, RESULT, invalidationStamp);
+    assertNull(cache.get(RESOURCE_NAME, KEY, requestId));
+  }
+
+  @Test
+  public void testEviction() {
+    // Each segment can only hold a single entry
+    ComputeResultCache cache = new ComputeResultCache(Collections.singleton(STORE_NAME), 16 * 300);
+    long requestId = cache.getRequestId(1, createComputeRequest("schema"));
+    int keyCount = 1000;
+    for (int i = 0; i < keyCount; i++) {
+      byte[] key = ("key" + i).getBytes();
+      cache.put(RESOURCE_NAME, key, requestId, RESULT, cache.getInvalidationStamp(key));
+    }
+    assertTrue(cache.getSizeInBytes() <= 16 * 300);
+    int cachedKeyCount = 0;
+    for (int i = 0; i < keyCount; i++) {
+      if (cache.get(RESOURCE_NAME, ("key" + i).getBytes(), requestId) != null) {
+        cachedKeyCount++;
+      }
+    }
+    assertTrue(cachedKeyCount > 0 && cachedKeyCount <= 16, "Unexpected cached key count: " + cachedKeyCount);
+
+    // A result larger than a segment is never cached
+    byte[] largeResult = new byte[1024];
+    cache.put(RESOURCE_NAME, KEY, requestId, largeResult, cache.getInvalidationStamp(KEY));
+    assertNull(cache.get(RESOURCE_NAME, KEY, requestId));
+  }
+}
@@ -0,0 +1,34 @@
+package com.linkedin.venice.listener;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import org.testng.annotations.Test;
+
+
+public class ComputeTopKSelectorTest {
+  @Test
+  public void testSelection() {
+    ComputeTopKSelector<String> selector = new ComputeTopKSelector<>(2);
+    assertNull(selector.add(1.0, "a"));
+    assertNull(selector.add(3.0, "b"));
+    assertEquals(selector.size(), 2);
+
+    // Only the items with a higher score than the lowest selected one are candidates
+    assertFalse(selector.isCandidate(1.0));
+    assertFalse(selector.isCandidate(Double.NaN));
+    assertTrue(selector.isCandidate(2.0));
+    assertEquals(selector.add(0.5, "c"), "c");
+    assertEquals(selector.add(2.0, "d"), "a");
+    assertEquals(selector.add(4.0, "e"), "d");
+    assertEquals(selector.size(), 2);
+    assertEquals(new HashSet<>(selector.getItems()), new HashSet<>(Arrays.asList("b", "e")));
+
+    assertThrows(IllegalArgumentException.class, () -> new ComputeTopKSelector<>(0));
+  }
+}
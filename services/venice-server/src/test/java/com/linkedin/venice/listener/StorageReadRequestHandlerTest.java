@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -107,11 +108,13 @@ import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.streaming.StreamingUtils;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.ValueSize;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -136,6 +139,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
@@ -295,6 +299,48 @@ public class StorageReadRequestHandlerTest {
     assertEquals(responseObject.getValueRecord().getSchemaId(), schemaId);
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testSingleGetWithDirectBuffer(boolean valueFitsInDirectBuffer) throws Exception {
+    String keyString = "test-key";
+    String valueString = "test-value";
+    int schemaId = 1;
+    int partition = 2;
+    byte[] valueBytes = ValueRecord.create(schemaId, valueString.getBytes()).serialize();
+    doReturn(true).when(serverConfig).isSingleGetDirectBufferEnabled();
+    doReturn(valueFitsInDirectBuffer ? 1024 : valueBytes.length - 1).when(serverConfig).getSingleGetDirectBufferSize();
+    // Mimic the storage engine contract: populate the direct buffer if the value fits, otherwise return a heap buffer
+    doAnswer(invocation -> {
+      ByteBuffer valueToBePopulated = invocation.getArgument(2);
+      if (valueBytes.length > valueToBePopulated.remaining()) {
+        return ByteBuffer.wrap(valueBytes);
+      }
+      int position = valueToBePopulated.position();
+      valueToBePopulated.put(valueBytes);
+      valueToBePopulated.position(position);
+      valueToBePopulated.limit(position + valueBytes.length);
+      return valueToBePopulated;
+    }).when(storageEngine).get(eq(partition), eq(keyString.getBytes()), any(ByteBuffer.class));
+
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/" + keyString;
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    GetRouterRequest request =
+        GetRouterRequest.parseGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(httpRequest.uri())));
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    SingleGetResponseWrapper responseObject = (SingleGetResponseWrapper) argumentCaptor.getValue();
+    assertEquals(responseObject.getValueRecord().getDataInBytes(), valueString.getBytes());
+    assertEquals(responseObject.getValueRecord().getSchemaId(), schemaId);
+    ByteBuf body = responseObject.getResponseBody();
+    assertEquals(body.isDirect(), valueFitsInDirectBuffer);
+    // Netty releases the body once written, which should return the pooled buffer
+    body.release();
+    assertEquals(body.refCnt(), 0);
+    verify(storageEngine, never()).get(eq(partition), any(ByteBuffer.class));
+  }
+
   @Test
   public void testDiskHealthCheckService() throws Exception {
     doReturn(true).when(healthCheckService).isDiskHealthy();
@@ -490,6 +536,105 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testMultiGetWithStorageMultiGet(boolean isStreaming) throws Exception {
+    StoreVersionState svs = mock(StoreVersionState.class);
+    doReturn(false).when(svs).getChunked();
+    doReturn(svs).when(storageEngine).getStoreVersionState();
+    doReturn(true).when(serverConfig).isStorageMultiGetEnabled();
+    // Smaller than the number of keys per partition, to exercise several batches
+    doReturn(2).when(serverConfig).getStorageMultiGetBatchSize();
+
+    int schemaId = 1;
+    int partitionCount = 3;
+    int recordCount = 20;
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    Map<Integer, String> expectedValues = new HashMap<>();
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(("key_" + i).getBytes());
+      requestKey.keyIndex = i;
+      requestKey.partitionId = i % partitionCount;
+      keys.add(requestKey);
+      // Every other key is missing
+      if (i % 2 == 0) {
+        // Some values are larger than the initial direct buffers, to exercise the re-lookup into a larger buffer
+        String valueString = i % 4 == 0 ? "value_" + i : new String(new char[2000]).replace('\0', 'v') + i;
+        storedValues.put(requestKey.keyBytes, ValueRecord.create(schemaId, valueString.getBytes()).serialize());
+        expectedValues.put(i, valueString);
+      }
+    }
+
+    // Mimic the storage engine contract: populate the value buffers which are large enough, and return a new buffer
+    // otherwise
+    doAnswer(invocation -> {
+      List<ByteBuffer> keyBuffers = invocation.getArgument(1);
+      List<ByteBuffer> valueBuffers = invocation.getArgument(2);
+      assertTrue(keyBuffers.size() <= 2);
+      List<ByteBuffer> values = new ArrayList<>(keyBuffers.size());
+      for (int i = 0; i < keyBuffers.size(); i++) {
+        assertTrue(keyBuffers.get(i).isDirect());
+        byte[] value = storedValues.get(keyBuffers.get(i));
+        if (value == null) {
+          values.add(null);
+        } else if (value.length > valueBuffers.get(i).remaining()) {
+          ByteBuffer largerBuffer = ByteBuffer.allocateDirect(value.length);
+          largerBuffer.put(value).flip();
+          values.add(largerBuffer);
+        } else {
+          ByteBuffer valueBuffer = valueBuffers.get(i);
+          valueBuffer.put(value).flip();
+          values.add(valueBuffer);
+        }
+      }
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), any(), any());
+
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        uri,
+        Unpooled.wrappedBuffer(serializer.serializeObjects(keys)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    if (isStreaming) {
+      httpRequest.headers().set(HttpConstants.VENICE_STREAMING, "1");
+    }
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper
+        .parseMultiGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(httpRequest.uri())));
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    AbstractReadResponse response = (AbstractReadResponse) argumentCaptor.getValue();
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    byte[] responseBytes = new byte[response.getResponseBody().readableBytes()];
+    response.getResponseBody().getBytes(0, responseBytes);
+    Map<Integer, String> results = new HashMap<>();
+    Set<Integer> missingKeyIndexes = new HashSet<>();
+    for (MultiGetResponseRecordV1 record: deserializer.deserializeObjects(responseBytes)) {
+      if (record.keyIndex < 0) {
+        missingKeyIndexes.add(-record.keyIndex);
+      } else {
+        assertEquals(record.schemaId, schemaId);
+        results.put(record.keyIndex, new String(ByteUtils.extractByteArray(record.value), StandardCharsets.UTF_8));
+      }
+    }
+    assertEquals(results, expectedValues);
+    for (int i = 0; i < recordCount; i++) {
+      assertEquals(missingKeyIndexes.contains(i), isStreaming && !expectedValues.containsKey(i));
+    }
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
   @Test
   public void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -773,6 +918,92 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test
+  public void testComputeResultCache() throws Exception {
+    doReturn(true).when(storeRepository).isReadComputationEnabled(any());
+    doReturn(Collections.singleton("test-store")).when(serverConfig).getComputeResultCacheStoreAllowlist();
+    doReturn(1024L * 1024L).when(serverConfig).getComputeResultCacheCapacityInBytes();
+    doReturn(version.kafkaTopicName()).when(storageEngine).getStoreVersionName();
+
+    String keyString = "test-key";
+    GenericRecord valueRecord = new GenericData.Record(
+        SchemaBuilder.record("SampleSchema")
+            .fields()
+            .name("listField")
+            .type()
+            .array()
+            .items()
+            .floatType()
+            .noDefault()
+            .endRecord());
+    valueRecord.put("listField", Collections.singletonList(1.0f));
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueRecord.getSchema());
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(any());
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    int partition = 1;
+    AvroSerializer valueSerializer = new AvroSerializer<>(valueRecord.getSchema());
+    byte[] valueBytes = ValueRecord.create(schemaEntry.getId(), valueSerializer.serialize(valueRecord)).serialize();
+    doAnswer(invocation -> ByteBuffer.wrap(valueBytes)).when(storageEngine)
+        .get(eq(partition), eq(keyString.getBytes()), any());
+
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn("test-store").when(storeClient).getStoreName();
+    Schema keySchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation("\"string\"");
+    new AvroComputeRequestBuilderV3<>(storeClient, getMockSchemaReader(keySchema, valueRecord.getSchema()))
+        .dotProduct("listField", Collections.singletonList(4.0f), "dotProduct")
+        .execute(Collections.singleton(keyString));
+    ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    verify(storeClient, times(1)).compute(requestCaptor.capture(), any(), any(), any(), anyLong());
+    byte[] serializedComputeRequest = requestCaptor.getValue().serialize();
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    ArgumentCaptor<Consumer<byte[]>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+    int[] expectedStorageLookups = { 1, 1, 2 };
+    for (int i = 0; i < expectedStorageLookups.length; i++) {
+      // Each request carries its own deserialized compute request, like the real ones
+      ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+          OptimizedBinaryDecoderFactory.defaultFactory()
+              .createOptimizedBinaryDecoder(ByteBuffer.wrap(serializedComputeRequest)),
+          null);
+      ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+      doReturn(RequestType.COMPUTE).when(request).getRequestType();
+      doReturn(schemaEntry.getId()).when(request).getValueSchemaId();
+      doReturn(computeRequest).when(request).getComputeRequest();
+      doReturn(version.kafkaTopicName()).when(request).getResourceName();
+      doReturn(version.kafkaTopicName()).when(request).getStoreName();
+      ComputeRouterRequestKeyV1 key =
+          new ComputeRouterRequestKeyV1(0, ByteBuffer.wrap(keyString.getBytes()), partition);
+      doReturn(Collections.singletonList(key)).when(request).getKeys();
+      doReturn(1).when(request).getKeyCount();
+
+      requestHandler.channelRead(context, request);
+
+      verify(context, times(i + 1)).writeAndFlush(argumentCaptor.capture());
+      ComputeResponseWrapper computeResponse = (ComputeResponseWrapper) argumentCaptor.getValue();
+      RecordDeserializer<ComputeResponseRecordV1> responseDeserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+      List<ComputeResponseRecordV1> records =
+          responseDeserializer.deserializeObjects(computeResponse.getResponseBody().array());
+      assertEquals(records.size(), 1);
+      assertEquals(records.get(0).getKeyIndex(), 0);
+      verify(storageEngine, times(expectedStorageLookups[i])).get(eq(partition), eq(keyString.getBytes()), any());
+
+      ServerHttpRequestStats stats = mock(ServerHttpRequestStats.class);
+      computeResponse.getStatsRecorder().recordMetrics(stats);
+      boolean isCacheHit = i == 1;
+      verify(stats, times(isCacheHit ? 1 : 0)).recordComputeResultCacheHitCount(1);
+      verify(stats, times(isCacheHit ? 0 : 1)).recordComputeResultCacheMissCount(1);
+      verify(stats, times(isCacheHit ? 0 : 1)).recordDotProductCount(1);
+
+      if (i == 1) {
+        // A write to the key drops the cached result
+        verify(storageEngine).setKeyWriteListener(listenerCaptor.capture());
+        listenerCaptor.getValue().accept(keyString.getBytes());
+      }
+    }
+  }
+
   /**
    * There was a regression where the "perStoreVersionStateMap" inside {@link StorageReadRequestHandler} could be stale
    * during rebalance. In the following rebalance scenario, the storage engine reference in the map would be stale: